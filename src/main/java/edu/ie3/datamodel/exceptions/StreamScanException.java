@@ -0,0 +1,21 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.exceptions;
+
+/**
+ * Unchecked exception, that is thrown by a lazily scanned stream of tries, if failures occurred
+ * while consuming it. The combined exception of all failures is provided as the cause.
+ */
+public class StreamScanException extends TryException {
+  public StreamScanException(Exception failure) {
+    super(failure.getMessage(), failure);
+  }
+
+  /** Returns the combined exception of all failures, that occurred while scanning the stream */
+  public Exception getFailure() {
+    return (Exception) getCause();
+  }
+}
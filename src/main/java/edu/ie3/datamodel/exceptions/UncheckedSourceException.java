@@ -0,0 +1,22 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.exceptions;
+
+/**
+ * Unchecked exception, that wraps a {@link SourceException}, if the signature of a method does not
+ * allow to throw it, e.g. when looking up values of a time series source.
+ */
+public class UncheckedSourceException extends RuntimeException {
+  public UncheckedSourceException(SourceException cause) {
+    super(cause.getMessage(), cause);
+  }
+
+  /** Returns the wrapped {@link SourceException} */
+  @Override
+  public synchronized SourceException getCause() {
+    return (SourceException) super.getCause();
+  }
+}
@@ -9,14 +9,22 @@ import edu.ie3.datamodel.exceptions.ConnectorException;
 import edu.ie3.datamodel.io.IoUtil;
 import edu.ie3.datamodel.io.csv.BufferedCsvWriter;
 import edu.ie3.datamodel.io.csv.CsvFileDefinition;
+import edu.ie3.datamodel.io.csv.CsvWriterPool;
+import edu.ie3.datamodel.io.csv.MappedCsvFile;
+import edu.ie3.datamodel.io.file.FileType;
 import edu.ie3.datamodel.models.Entity;
 import edu.ie3.datamodel.models.timeseries.TimeSeries;
 import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
 import edu.ie3.datamodel.models.value.Value;
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -32,53 +40,122 @@ import org.slf4j.LoggerFactory;
 public class CsvFileConnector extends FileConnector {
   private static final Logger log = LoggerFactory.getLogger(CsvFileConnector.class);
 
-  private final Map<Class<? extends Entity>, BufferedCsvWriter> entityWriters = new HashMap<>();
-  private final Map<UUID, BufferedCsvWriter> timeSeriesWriters = new HashMap<>();
+  /*
+   * Registry of writers, that is accessed concurrently. Each file has its own slot, so that threads
+   * initialising or writing different files never contend.
+   */
+  private final Map<Class<? extends Entity>, WriterSlot> entityWriters = new ConcurrentHashMap<>();
+  private final Map<UUID, WriterSlot> timeSeriesWriters = new ConcurrentHashMap<>();
   private static final String FILE_ENDING = ".csv";
 
+  /** Whether files are memory mapped and read in parallel byte ranges */
+  private final boolean memoryMapped;
+
+  /** Background writer threads, if files are written asynchronously, else {@code null} */
+  private final CsvWriterPool writerPool;
+
+  /** The type of written files, either plain or gzip compressed csv files */
+  private final FileType writtenFileType;
+
   public CsvFileConnector(Path baseDirectory) {
+    this(baseDirectory, false);
+  }
+
+  /**
+   * Creates a new connector, that writes files of the given type. Compressed files ({@link
+   * FileType#CSV_GZ}) are compressed in parallel blocks by a {@link
+   * edu.ie3.datamodel.io.file.ParallelGzipOutputStream}.
+   *
+   * @param baseDirectory the base directory of all files
+   * @param writtenFileType the type of written files
+   * @param asyncWriting the configuration of asynchronous writing or {@code null} to write files
+   *     synchronously
+   */
+  public CsvFileConnector(
+      Path baseDirectory, FileType writtenFileType, CsvWriterPool.Config asyncWriting) {
+    super(baseDirectory);
+    if (!writtenFileType.isCsv())
+      throw new IllegalArgumentException(
+          "The file type '" + writtenFileType + "' is not a csv file type.");
+    this.memoryMapped = false;
+    this.writerPool = asyncWriting == null ? null : new CsvWriterPool(asyncWriting);
+    this.writtenFileType = writtenFileType;
+  }
+
+  /**
+   * Creates a new connector, that writes files asynchronously. Rows are handed over to per-file
+   * queues, that are drained in batches by background threads. See {@link CsvWriterPool} for
+   * details.
+   *
+   * @param baseDirectory the base directory of all files
+   * @param asyncWriting the configuration of asynchronous writing
+   */
+  public CsvFileConnector(Path baseDirectory, CsvWriterPool.Config asyncWriting) {
+    this(baseDirectory, FileType.CSV, asyncWriting);
+  }
+
+  /**
+   * Creates a new connector.
+   *
+   * @param baseDirectory the base directory of all files
+   * @param memoryMapped if true, files are memory mapped and their records are read in parallel
+   *     byte ranges by {@link #initRecordReader(Path)}
+   */
+  public CsvFileConnector(Path baseDirectory, boolean memoryMapped) {
     super(baseDirectory);
+    this.memoryMapped = memoryMapped;
+    this.writerPool = null;
+    this.writtenFileType = FileType.CSV;
   }
 
   public CsvFileConnector(Path baseDirectory, Function<String, InputStream> customInputStream) {
     super(baseDirectory, customInputStream);
+    this.memoryMapped = false;
+    this.writerPool = null;
+    this.writtenFileType = FileType.CSV;
   }
 
-  public synchronized BufferedCsvWriter getOrInitWriter(
+  /**
+   * Returns the writer for the given entity class or initialises it, if it does not exist yet. The
+   * writer is initialised once, even if multiple threads request it at the same time. Threads, that
+   * request writers of different classes, do not block each other.
+   *
+   * @param clz the class of entities, that are written
+   * @param fileDefinition the definition of the file to write to
+   * @return the writer of the given class
+   * @throws ConnectorException if the writer cannot be initialised
+   */
+  public BufferedCsvWriter getOrInitWriter(
       Class<? extends Entity> clz, CsvFileDefinition fileDefinition) throws ConnectorException {
-    /* Try to the right writer */
-    BufferedCsvWriter predefinedWriter = entityWriters.get(clz);
-    if (predefinedWriter != null) return predefinedWriter;
-
-    /* If it is not available, build and register one */
-    try {
-      BufferedCsvWriter newWriter = initWriter(baseDirectory, fileDefinition);
-
-      entityWriters.put(clz, newWriter);
-      return newWriter;
-    } catch (ConnectorException | IOException e) {
-      throw new ConnectorException(
-          "Can neither find suitable writer nor build the correct one in CsvFileConnector.", e);
-    }
+    return getOrInit(entityWriters.computeIfAbsent(clz, key -> new WriterSlot()), fileDefinition);
   }
 
-  public synchronized <
+  /**
+   * Returns the writer for the given time series or initialises it, if it does not exist yet. The
+   * writer is initialised once, even if multiple threads request it at the same time. Threads, that
+   * request writers of different time series, do not block each other.
+   *
+   * @param timeSeries the time series, that is written
+   * @param fileDefinition the definition of the file to write to
+   * @return the writer of the given time series
+   * @throws ConnectorException if the writer cannot be initialised
+   */
+  public <
           T extends TimeSeries<E, V, R>,
           E extends TimeSeriesEntry<V>,
           V extends Value,
           R extends Value>
       BufferedCsvWriter getOrInitWriter(T timeSeries, CsvFileDefinition fileDefinition)
           throws ConnectorException {
-    /* Try to the right writer */
-    BufferedCsvWriter predefinedWriter = timeSeriesWriters.get(timeSeries.getUuid());
-    if (predefinedWriter != null) return predefinedWriter;
+    return getOrInit(
+        timeSeriesWriters.computeIfAbsent(timeSeries.getUuid(), key -> new WriterSlot()),
+        fileDefinition);
+  }
 
-    /* If it is not available, build and register one */
+  private BufferedCsvWriter getOrInit(WriterSlot slot, CsvFileDefinition fileDefinition)
+      throws ConnectorException {
     try {
-      BufferedCsvWriter newWriter = initWriter(baseDirectory, fileDefinition);
-
-      timeSeriesWriters.put(timeSeries.getUuid(), newWriter);
-      return newWriter;
+      return slot.getOrInit(() -> initWriter(baseDirectory, fileDefinition));
     } catch (ConnectorException | IOException e) {
       throw new ConnectorException(
           "Can neither find suitable writer nor build the correct one in CsvFileConnector.", e);
@@ -86,18 +163,104 @@ public class CsvFileConnector extends FileConnector {
   }
 
   /**
-   * Initializes a reader for the given file name.
+   * Initializes a reader for the given file name. If there is no plain csv file, but a gzip
+   * compressed one ({@code .csv.gz}), the compressed file is decompressed transparently.
    *
    * @param filePath path of file starting from base folder, including file name but not file
    *     extension
    * @return the reader that contains information about the file to be read in
    * @throws FileNotFoundException if no file with the provided file name can be found
+   * @throws IOException if the compressed file cannot be opened
    */
-  public BufferedReader initReader(Path filePath) throws FileNotFoundException {
+  public BufferedReader initReader(Path filePath) throws IOException {
     InputStream inputStream = openInputStream(filePath);
     return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 16384);
   }
 
+  /**
+   * Initializes a reader for the records of the given file. If this connector is set up for memory
+   * mapped reading, the file is split into byte ranges aligned to record boundaries, which are
+   * decoded and parsed in parallel. Otherwise, or if the file does not reside on the default file
+   * system (e.g. jar-embedded resources) or is compressed, the records are read by a {@link
+   * BufferedReader}.
+   *
+   * @param filePath path of file starting from base folder, including file name but not file
+   *     extension
+   * @return the headline and a parallel stream of the remaining records, that should be closed
+   *     after consumption
+   * @throws FileNotFoundException if no file with the provided file name can be found
+   * @throws IOException if the file cannot be read
+   */
+  public CsvRecords initRecordReader(Path filePath) throws IOException {
+    Path fullPath = resolveFilePath(filePath);
+
+    if (memoryMapped
+        && !hasCustomInputStream()
+        && !isCompressed(fullPath)
+        && fullPath.getFileSystem() == FileSystems.getDefault()) {
+      if (!Files.isRegularFile(fullPath))
+        throw new FileNotFoundException("File '" + fullPath + "' does not exist.");
+
+      MappedCsvFile mappedFile = MappedCsvFile.open(fullPath);
+      return new CsvRecords(mappedFile.getHeadline(), mappedFile.records());
+    }
+
+    BufferedReader reader = initReader(filePath);
+    try {
+      String headline = reader.readLine();
+      return new CsvRecords(headline, reader.lines().parallel().onClose(() -> close(reader)));
+    } catch (IOException e) {
+      close(reader);
+      throw e;
+    }
+  }
+
+  /**
+   * Checks whether the given file can be opened for random read access via {@link
+   * #initFileChannel(Path)}, i.e. it is neither compressed nor opened by a custom input stream
+   * factory.
+   *
+   * @param filePath path of file starting from base folder, including file name but not file
+   *     extension
+   * @return true, if random access is supported
+   */
+  public boolean supportsRandomAccess(Path filePath) {
+    return !hasCustomInputStream() && !isCompressed(resolveFilePath(filePath));
+  }
+
+  /**
+   * Opens a channel for random read access to the given file. Random access is not supported for
+   * files, that are opened by a custom input stream factory, or for compressed files.
+   *
+   * @param filePath path of file starting from base folder, including file name but not file
+   *     extension
+   * @return a readable channel of the file, that should be closed after usage
+   * @throws FileNotFoundException if no file with the provided file name can be found
+   * @throws IOException if the file cannot be opened for random access
+   */
+  public FileChannel initFileChannel(Path filePath) throws IOException {
+    if (hasCustomInputStream())
+      throw new IOException(
+          "Random access to file '" + filePath + "' is not supported by custom input streams.");
+
+    Path fullPath = resolveFilePath(filePath);
+    if (!Files.isRegularFile(fullPath))
+      throw new FileNotFoundException("File '" + fullPath + "' does not exist.");
+    if (isCompressed(fullPath))
+      throw new IOException(
+          "Random access to compressed file '" + fullPath + "' is not supported.");
+
+    return FileChannel.open(fullPath, StandardOpenOption.READ);
+  }
+
+  private static void close(Closeable closeable) {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Initializes a writer with the given base folder and file definition
    *
@@ -113,6 +276,8 @@ public class CsvFileConnector extends FileConnector {
     Path baseDirectoryHarmonized = IoUtil.harmonizeFileSeparator(baseDirectory);
     Path fullDirectoryPath = baseDirectoryHarmonized.resolve(fileDefinition.getDirectoryPath());
     Path fullPath = baseDirectoryHarmonized.resolve(fileDefinition.getFilePath());
+    if (writtenFileType.isCompressed())
+      fullPath = fullPath.resolveSibling(fullPath.getFileName() + GZIP_ENDING);
 
     /* Create missing directories */
     File directories = fullDirectoryPath.toFile();
@@ -122,8 +287,11 @@ public class CsvFileConnector extends FileConnector {
       throw new IOException("Unable to create directory tree '" + directories + "'");
 
     BufferedCsvWriter writer =
-        new BufferedCsvWriter(
-            fullPath, fileDefinition.headLineElements(), fileDefinition.csvSep(), false);
+        writerPool == null
+            ? new BufferedCsvWriter(
+                fullPath, fileDefinition.headLineElements(), fileDefinition.csvSep(), false)
+            : writerPool.open(
+                fullPath, fileDefinition.headLineElements(), fileDefinition.csvSep(), false);
     writer.writeFileHeader();
 
     return writer;
@@ -135,11 +303,11 @@ public class CsvFileConnector extends FileConnector {
    * @param uuid identifier of time series, whose writer is meant to be closed
    * @throws IOException If closing of writer fails.
    */
-  public synchronized void closeTimeSeriesWriter(UUID uuid) throws IOException {
-    Optional<BufferedCsvWriter> maybeWriter = Optional.ofNullable(timeSeriesWriters.get(uuid));
-    if (maybeWriter.isPresent()) {
+  public void closeTimeSeriesWriter(UUID uuid) throws IOException {
+    WriterSlot slot = timeSeriesWriters.remove(uuid);
+    if (slot != null) {
       log.debug("Remove reference to time series writer for UUID '{}'.", uuid);
-      timeSeriesWriters.remove(uuid).close();
+      slot.close();
     } else {
       log.warn("No writer found for time series '{}'.", uuid);
     }
@@ -152,20 +320,29 @@ public class CsvFileConnector extends FileConnector {
    * @param <C> Type of class
    * @throws IOException If closing of writer fails.
    */
-  public synchronized <C extends Entity> void closeEntityWriter(Class<C> clz) throws IOException {
-    Optional<BufferedCsvWriter> maybeWriter = Optional.ofNullable(entityWriters.get(clz));
-    if (maybeWriter.isPresent()) {
+  public <C extends Entity> void closeEntityWriter(Class<C> clz) throws IOException {
+    WriterSlot slot = entityWriters.remove(clz);
+    if (slot != null) {
       log.debug("Remove reference to entity writer for class '{}'.", clz);
-      entityWriters.remove(clz).close();
+      slot.close();
     } else {
       log.warn("No writer found for class '{}'.", clz);
     }
   }
 
+  /**
+   * Flushes all open writers. If files are written asynchronously, this blocks until all rows,
+   * that have been handed over so far, are written.
+   *
+   * @throws IOException If flushing any of the writers fails
+   */
+  public void flush() throws IOException {
+    for (BufferedCsvWriter writer : openWriters()) writer.flush();
+  }
+
   @Override
   public void shutdown() {
-    Stream.of(entityWriters.values(), timeSeriesWriters.values())
-        .flatMap(Collection::stream)
+    openWriters()
         .forEach(
             bufferedWriter -> {
               try {
@@ -174,10 +351,85 @@ public class CsvFileConnector extends FileConnector {
                 log.error("Error during CsvFileConnector shutdown process.", e);
               }
             });
+    if (writerPool != null) writerPool.close();
+  }
+
+  private List<BufferedCsvWriter> openWriters() {
+    return Stream.of(entityWriters.values(), timeSeriesWriters.values())
+        .flatMap(Collection::stream)
+        .map(WriterSlot::writer)
+        .filter(Objects::nonNull)
+        .toList();
   }
 
   @Override
   protected String getFileEnding() {
     return FILE_ENDING;
   }
+
+  /**
+   * Resolves the path of a csv file. Paths, that already denote a compressed file, are kept. If
+   * there is no plain csv file, but a gzip compressed one, the path of the compressed file is used.
+   */
+  @Override
+  protected Path resolveFilePath(Path filePath) {
+    if (filePath.toString().endsWith(FileType.CSV_GZ.fileEnding))
+      return baseDirectory.resolve(filePath);
+
+    Path fullPath = super.resolveFilePath(filePath);
+    if (hasCustomInputStream() || Files.exists(fullPath)) return fullPath;
+
+    Path compressedPath = fullPath.resolveSibling(fullPath.getFileName() + GZIP_ENDING);
+    return Files.exists(compressedPath) ? compressedPath : fullPath;
+  }
+
+  /** Factory of a writer, that is called at most once per {@link WriterSlot} */
+  @FunctionalInterface
+  private interface WriterFactory {
+    BufferedCsvWriter create() throws ConnectorException, IOException;
+  }
+
+  /**
+   * Holds the writer of one file. The writer is initialised lazily under the slot's own lock, so
+   * that initialising one file does not block the look-up or initialisation of others. Once it is
+   * initialised, it is read without any locking.
+   */
+  private static final class WriterSlot {
+    private volatile BufferedCsvWriter writer;
+    private boolean closed = false;
+
+    BufferedCsvWriter getOrInit(WriterFactory factory) throws ConnectorException, IOException {
+      BufferedCsvWriter current = writer;
+      if (current != null) return current;
+      synchronized (this) {
+        if (writer == null) {
+          if (closed) throw new IOException("The writer has already been closed.");
+          writer = factory.create();
+        }
+        return writer;
+      }
+    }
+
+    BufferedCsvWriter writer() {
+      return writer;
+    }
+
+    synchronized void close() throws IOException {
+      closed = true;
+      if (writer != null) writer.close();
+    }
+  }
+
+  /**
+   * The records of a csv file
+   *
+   * @param headline the first record of the file or {@code null}, if the file is empty
+   * @param records a parallel stream of all remaining records
+   */
+  public record CsvRecords(String headline, Stream<String> records) implements AutoCloseable {
+    @Override
+    public void close() {
+      records.close();
+    }
+  }
 }
@@ -6,14 +6,18 @@
 package edu.ie3.datamodel.io.connectors;
 
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
 
 /** Base connector for file-based sources and sinks. */
 public abstract class FileConnector implements DataConnector {
 
+  /** File ending of gzip compressed files, that is appended to the actual file ending */
+  protected static final String GZIP_ENDING = ".gz";
+
   protected final Path baseDirectory;
 
   /**
@@ -37,14 +41,31 @@ public abstract class FileConnector implements DataConnector {
 
   /**
    * Open an {@link InputStream} to the given file path (without file ending) relative to the base
-   * directory.
+   * directory. Gzip compressed files (ending with {@code .gz}) are decompressed transparently.
    */
-  protected InputStream openInputStream(Path filePath) throws FileNotFoundException {
+  protected InputStream openInputStream(Path filePath) throws IOException {
     Path fullPath = resolveFilePath(filePath);
-    if (customInputStream != null) {
-      return customInputStream.apply(fullPath.toString());
+    InputStream inputStream =
+        customInputStream != null
+            ? customInputStream.apply(fullPath.toString())
+            : new FileInputStream(fullPath.toFile());
+    if (!isCompressed(fullPath)) return inputStream;
+    try {
+      return new GZIPInputStream(inputStream, 65536);
+    } catch (IOException e) {
+      inputStream.close();
+      throw e;
     }
-    return new FileInputStream(fullPath.toFile());
+  }
+
+  /** Returns true, if the file at the given path is gzip compressed. */
+  protected static boolean isCompressed(Path path) {
+    return path.getFileName() != null && path.getFileName().toString().endsWith(GZIP_ENDING);
+  }
+
+  /** Returns true, if files are opened by a custom input stream factory. */
+  protected boolean hasCustomInputStream() {
+    return customInputStream != null;
   }
 
   /** Resolve the path including the file ending relative to the base directory. */
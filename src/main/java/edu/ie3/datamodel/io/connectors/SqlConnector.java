@@ -8,7 +8,12 @@ package edu.ie3.datamodel.io.connectors;
 import edu.ie3.util.StringUtils;
 import edu.ie3.util.TimeUtil;
 import java.sql.*;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
@@ -18,6 +23,14 @@ import org.slf4j.LoggerFactory;
  * Implements a DataConnector for a native SQL connection to a relational database. It was
  * implemented with a PostgreSQL database in mind, so there might be dialect issues if used with
  * other databases.
+ *
+ * <p>Besides the shared connection of {@link #getConnection()}, the connector holds a pool of
+ * connections for explicit transactions via {@link #inTransaction(Transaction)}. Each thread, that
+ * runs a transaction, is bound to its own pooled connection until the transaction ends, hence up to
+ * pool size transactions may run in parallel.
+ *
+ * <p>The tables and columns of each schema are loaded once and shared by all sources, that use this
+ * connector, see {@link #getSchemaMetadata(String)}.
  */
 public class SqlConnector implements DataConnector {
   public static final Logger log = LoggerFactory.getLogger(SqlConnector.class);
@@ -26,6 +39,30 @@ public class SqlConnector implements DataConnector {
   private final Properties connectionProps;
   private Connection connection;
 
+  private final int poolSize;
+  private final Semaphore poolPermits;
+  private final Queue<Connection> idleConnections = new ConcurrentLinkedQueue<>();
+
+  /** True, once the connector is shut down, hence no further pooled connections are handed out */
+  private volatile boolean poolClosed = false;
+
+  /** The connection of the transaction, that is currently run by a thread */
+  private final ThreadLocal<Connection> transactionConnection = new ThreadLocal<>();
+
+  /** The metadata of all schemas, that have been accessed, by their name */
+  private final Map<String, SqlSchemaMetadata> schemaMetadata = new ConcurrentHashMap<>();
+
+  /**
+   * Work to be done within a transaction
+   *
+   * @param <T> type of the result
+   * @param <E> type of further exceptions, that may be thrown by the work
+   */
+  @FunctionalInterface
+  public interface Transaction<T, E extends Exception> {
+    T apply(Connection connection) throws SQLException, E;
+  }
+
   /**
    * Initializes a SqlConnector with the given JDBC url, username, password and time util
    *
@@ -35,7 +72,24 @@ public class SqlConnector implements DataConnector {
    * @param password Password for the role
    */
   public SqlConnector(String jdbcUrl, String userName, String password) {
+    this(jdbcUrl, userName, password, 1);
+  }
+
+  /**
+   * Initializes a SqlConnector with the given JDBC url, username, password and a pool of
+   * connections for parallel transactions
+   *
+   * @param jdbcUrl the JDBC url, should start with "jdbc:postgresql://" and contain the database
+   *     name
+   * @param userName Name of the role used for authentication
+   * @param password Password for the role
+   * @param poolSize the maximum number of transactions, that run in parallel
+   */
+  public SqlConnector(String jdbcUrl, String userName, String password, int poolSize) {
+    if (poolSize <= 0) throw new IllegalArgumentException("The pool size has to be positive.");
     this.jdbcUrl = jdbcUrl;
+    this.poolSize = poolSize;
+    this.poolPermits = new Semaphore(poolSize, true);
 
     // setup properties
     this.connectionProps = new Properties();
@@ -58,13 +112,14 @@ public class SqlConnector implements DataConnector {
     } catch (SQLException e) {
       throw new SQLException(String.format("Error at execution of query \"%1.127s\": ", query), e);
     } finally {
-      // commits any changes made and unlocks database
-      getConnection().commit();
+      // commits any changes made and unlocks database, if not within a transaction
+      if (transactionConnection.get() == null) getConnection().commit();
     }
   }
 
   /**
-   * Executes an update query
+   * Executes an update query. Within a transaction, the update is committed together with the
+   * transaction, otherwise it is committed right away.
    *
    * @param query the query to execute
    * @return The number of updates or a negative number if the execution failed
@@ -76,20 +131,118 @@ public class SqlConnector implements DataConnector {
       throw new SQLException(
           String.format("Error at execution of query, SQLReason: '%s'", e.getMessage()), e);
     } finally {
-      // commits any changes made and unlocks database
-      getConnection().commit();
+      // commits any changes made and unlocks database, if not within a transaction
+      if (transactionConnection.get() == null) getConnection().commit();
+    }
+  }
+
+  /**
+   * Runs the given work within a transaction on a pooled connection, that is bound to the current
+   * thread meanwhile. The transaction is committed, if the work succeeds, and rolled back
+   * otherwise. Transactions, that are started within a transaction of the same thread, join the
+   * surrounding transaction. Blocks, while all pooled connections are in use.
+   *
+   * @param work the work to do
+   * @param <T> type of the result
+   * @param <E> type of further exceptions, that may be thrown by the work
+   * @return the result of the work
+   * @throws SQLException if the work fails or the transaction cannot be committed
+   * @throws E if the work fails
+   */
+  public <T, E extends Exception> T inTransaction(Transaction<T, E> work) throws SQLException, E {
+    Connection bound = transactionConnection.get();
+    if (bound != null) return work.apply(bound);
+
+    Connection pooled = acquire();
+    transactionConnection.set(pooled);
+    try {
+      T result = work.apply(pooled);
+      pooled.commit();
+      return result;
+    } catch (Exception e) {
+      try {
+        pooled.rollback();
+      } catch (SQLException rollbackException) {
+        e.addSuppressed(rollbackException);
+      }
+      throw e;
+    } finally {
+      transactionConnection.remove();
+      release(pooled);
+    }
+  }
+
+  /**
+   * @return true, if the current thread runs a transaction
+   */
+  public boolean isInTransaction() {
+    return transactionConnection.get() != null;
+  }
+
+  /**
+   * @return the maximum number of transactions, that run in parallel
+   */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  private Connection acquire() throws SQLException {
+    if (poolClosed) throw new SQLException("The connector has already been shut down.");
+    try {
+      poolPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a pooled connection.", e);
+    }
+    try {
+      if (poolClosed) throw new SQLException("The connector has already been shut down.");
+      Connection pooled = idleConnections.poll();
+      while (pooled != null && pooled.isClosed()) pooled = idleConnections.poll();
+      return pooled != null ? pooled : newConnection();
+    } catch (SQLException | RuntimeException e) {
+      poolPermits.release();
+      throw e;
+    }
+  }
+
+  private void release(Connection pooled) {
+    idleConnections.offer(pooled);
+    poolPermits.release();
+    // a connection, that is released after shutdown, is closed right away
+    if (poolClosed) closeIdleConnections();
+  }
+
+  private void closeIdleConnections() {
+    Connection pooled;
+    while ((pooled = idleConnections.poll()) != null) {
+      try {
+        pooled.close();
+      } catch (SQLException e) {
+        log.error("Unable to close pooled connection '{}' during shutdown.", pooled, e);
+      }
+    }
+  }
+
+  private Connection newConnection() throws SQLException {
+    try {
+      Connection newConnection = DriverManager.getConnection(jdbcUrl, connectionProps);
+      newConnection.setAutoCommit(false);
+      return newConnection;
+    } catch (SQLException e) {
+      throw new SQLException("Could not establish connection: ", e);
     }
   }
 
   /**
    * Establishes and returns a database connection. If a connection has not been established yet, a
-   * new one is created.
+   * new one is created. Within a transaction, the connection of the transaction is returned.
    *
    * @return the connection object
    * @throws SQLException if the connection could not be established
    */
   public Connection getConnection() throws SQLException {
-    return getConnection(true);
+    Connection bound = transactionConnection.get();
+    return bound != null ? bound : getConnection(true);
   }
 
   /**
@@ -101,27 +254,96 @@ public class SqlConnector implements DataConnector {
    * @return the connection object
    * @throws SQLException if the connection could not be established
    */
-  public Connection getConnection(boolean reuseConnection) throws SQLException {
+  public synchronized Connection getConnection(boolean reuseConnection) throws SQLException {
     if (!reuseConnection || connection == null || connection.isClosed()) {
-      try {
-        if (connection != null) connection.close();
-
-        connection = DriverManager.getConnection(jdbcUrl, connectionProps);
-        connection.setAutoCommit(false);
-      } catch (SQLException e) {
-        throw new SQLException("Could not establish connection: ", e);
-      }
+      if (connection != null) connection.close();
+      connection = newConnection();
     }
     return connection;
   }
 
+  /**
+   * Opens a new connection, that is neither shared nor pooled, e.g. for reading in a background
+   * thread. The {@link Connection#getAutoCommit()} is set to {@code false}. The caller has to close
+   * the connection.
+   *
+   * @return the new connection
+   * @throws SQLException if the connection could not be established
+   */
+  public Connection openConnection() throws SQLException {
+    return newConnection();
+  }
+
+  /**
+   * Returns the tables and columns of the given schema. The metadata is loaded on first access and
+   * shared afterwards, hence changes to the schema are only visible after {@link
+   * #refreshSchemaMetadata(String)}.
+   *
+   * @param schemaName the name of the schema
+   * @return the metadata of the schema
+   * @throws SQLException if the metadata cannot be loaded
+   */
+  public SqlSchemaMetadata getSchemaMetadata(String schemaName) throws SQLException {
+    SqlSchemaMetadata metadata = schemaMetadata.get(schemaName);
+    if (metadata != null) return metadata;
+    // concurrent first accesses wait for a single load
+    synchronized (schemaMetadata) {
+      metadata = schemaMetadata.get(schemaName);
+      return metadata != null ? metadata : refreshSchemaMetadata(schemaName);
+    }
+  }
+
+  /**
+   * Reloads the tables and columns of the given schema
+   *
+   * @param schemaName the name of the schema
+   * @return the reloaded metadata of the schema
+   * @throws SQLException if the metadata cannot be loaded
+   */
+  public SqlSchemaMetadata refreshSchemaMetadata(String schemaName) throws SQLException {
+    SqlSchemaMetadata metadata = SqlSchemaMetadata.load(getConnection().getMetaData(), schemaName);
+    schemaMetadata.put(schemaName, metadata);
+    return metadata;
+  }
+
+  /** Drops the metadata of all schemas, so that it is reloaded on next access */
+  public void clearSchemaMetadata() {
+    schemaMetadata.clear();
+  }
+
+  /**
+   * Shuts down the connector without waiting for running transactions, see {@link
+   * #shutdown(Duration)}.
+   */
   @Override
   public void shutdown() {
+    shutdown(Duration.ZERO);
+  }
+
+  /**
+   * Shuts down the connector. Afterwards, no further transactions are started. Running transactions
+   * are awaited up to the given timeout. The connections of transactions, that end later on, are
+   * closed as soon as they are released.
+   *
+   * @param timeout the maximum time to wait for running transactions
+   */
+  public void shutdown(Duration timeout) {
+    poolClosed = true;
     try {
       if (Objects.nonNull(connection)) connection.close();
     } catch (SQLException throwables) {
       log.error("Unable to close connection '{}' during shutdown.", connection, throwables);
     }
+
+    try {
+      if (poolPermits.tryAcquire(poolSize, timeout.toNanos(), TimeUnit.NANOSECONDS))
+        poolPermits.release(poolSize);
+      else log.warn("Shutting down while transactions are still running.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for running transactions during shutdown.", e);
+    }
+    closeIdleConnections();
   }
 
   /**
@@ -152,13 +374,17 @@ public class SqlConnector implements DataConnector {
   }
 
   /**
-   * Returns an {@link Iterator} for the given {@link ResultSet}.
+   * Returns an {@link Iterator} for the given {@link ResultSet}. The rows are provided as typed
+   * {@link SqlRow}s, whereas the columns are resolved only once.
    *
    * @param rs given result set
    * @return an iterator
    */
   public Iterator<Map<String, String>> getSqlIterator(ResultSet rs) {
     return new Iterator<>() {
+      /** The columns of the result set, that are resolved on first row */
+      private SqlHeader header;
+
       @Override
       public boolean hasNext() {
         try {
@@ -179,7 +405,8 @@ public class SqlConnector implements DataConnector {
             throw new NoSuchElementException(
                 "There is no more element to iterate to in the ResultSet.");
 
-          return extractFieldMap(rs);
+          if (header == null) header = SqlHeader.of(rs.getMetaData());
+          return SqlRow.read(header, rs);
         } catch (SQLException e) {
           log.error("Exception at extracting ResultSet: ", e);
           closeResultSet(null, rs);
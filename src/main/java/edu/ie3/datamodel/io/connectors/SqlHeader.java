@@ -0,0 +1,148 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.connectors;
+
+import edu.ie3.util.StringUtils;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * The columns of a query result, that are resolved once per query. It holds the camel case field
+ * names, a case-insensitive index from field name to column position and the way each column is
+ * read from the {@link ResultSet}. It is shared by all {@link SqlRow}s of the same query.
+ *
+ * <p>Just like {@link SqlConnector#extractFieldMap(ResultSet)}, a column shadows all former columns
+ * with the same field name.
+ */
+public final class SqlHeader {
+  private enum ColumnKind {
+    DOUBLE,
+    TIMESTAMP,
+    UUID,
+    OBJECT
+  }
+
+  private final String[] fieldNames;
+  private final int[] resultColumns;
+  private final ColumnKind[] columnKinds;
+  private final Map<String, Integer> columnIndex;
+
+  private SqlHeader(
+      String[] fieldNames,
+      int[] resultColumns,
+      ColumnKind[] columnKinds,
+      Map<String, Integer> columnIndex) {
+    this.fieldNames = fieldNames;
+    this.resultColumns = resultColumns;
+    this.columnKinds = columnKinds;
+    this.columnIndex = columnIndex;
+  }
+
+  /**
+   * Resolves the columns of a query result
+   *
+   * @param metaData the meta data of the result set
+   * @return the resolved header
+   * @throws SQLException if the meta data cannot be accessed
+   */
+  public static SqlHeader of(ResultSetMetaData metaData) throws SQLException {
+    int columnCount = metaData.getColumnCount();
+    String[] names = new String[columnCount];
+    Map<String, Integer> lastColumns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (int i = 0; i < columnCount; i++) {
+      names[i] = StringUtils.snakeCaseToCamelCase(metaData.getColumnName(i + 1));
+      lastColumns.put(names[i], i);
+    }
+
+    int size = lastColumns.size();
+    String[] fieldNames = new String[size];
+    int[] resultColumns = new int[size];
+    ColumnKind[] columnKinds = new ColumnKind[size];
+    Map<String, Integer> columnIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    int column = 0;
+    for (int i = 0; i < columnCount; i++) {
+      if (lastColumns.get(names[i]) != i) continue;
+      fieldNames[column] = names[i];
+      resultColumns[column] = i + 1;
+      columnKinds[column] =
+          kindOf(metaData.getColumnType(i + 1), metaData.getColumnTypeName(i + 1));
+      columnIndex.put(names[i], column);
+      column++;
+    }
+
+    return new SqlHeader(fieldNames, resultColumns, columnKinds, columnIndex);
+  }
+
+  private static ColumnKind kindOf(int sqlType, String typeName) {
+    return switch (sqlType) {
+      case Types.DOUBLE, Types.FLOAT -> ColumnKind.DOUBLE;
+      case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> ColumnKind.TIMESTAMP;
+      default -> "uuid".equalsIgnoreCase(typeName) ? ColumnKind.UUID : ColumnKind.OBJECT;
+    };
+  }
+
+  /** Returns the number of columns */
+  public int size() {
+    return fieldNames.length;
+  }
+
+  /**
+   * Returns the camel case field name of a column
+   *
+   * @param column position of the column
+   * @return the field name
+   */
+  public String getFieldName(int column) {
+    return fieldNames[column];
+  }
+
+  /**
+   * Determines the position of the column with the given field name. The look-up is
+   * case-insensitive and the field name is expected to be in camel case.
+   *
+   * @param fieldName the name of the field
+   * @return the position of the column or {@code -1}, if there is no such column
+   */
+  public int indexOf(String fieldName) {
+    Integer column = columnIndex.get(fieldName);
+    return column == null ? -1 : column;
+  }
+
+  /**
+   * Reads the typed values of the current row of the result set. Doubles, timestamps and uuids are
+   * read by their dedicated getters, all other values as objects.
+   *
+   * @param rs the result set, that is positioned at a row
+   * @return the values in the order of this header, whereas SQL {@code NULL} is {@code null}
+   * @throws SQLException if a value cannot be read
+   */
+  Object[] readValues(ResultSet rs) throws SQLException {
+    Object[] values = new Object[fieldNames.length];
+    for (int column = 0; column < values.length; column++) {
+      int resultColumn = resultColumns[column];
+      values[column] =
+          switch (columnKinds[column]) {
+            case DOUBLE -> {
+              double value = rs.getDouble(resultColumn);
+              yield rs.wasNull() ? null : value;
+            }
+            case TIMESTAMP -> rs.getTimestamp(resultColumn);
+            case UUID -> rs.getObject(resultColumn, UUID.class);
+            case OBJECT -> rs.getObject(resultColumn);
+          };
+    }
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    return "SqlHeader{" + "fieldNames=" + Arrays.toString(fieldNames) + '}';
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.connectors;
+
+import edu.ie3.util.TimeUtil;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * A typed, case-insensitive view on a single row of a query result. The values are read once by
+ * their typed getters and held in the order of the columns, whereas the mapping from field name to
+ * column is provided by the {@link SqlHeader}, that is shared by all rows of a query.
+ *
+ * <p>The row fulfills the {@link Map} contract with the same string representation as {@link
+ * SqlConnector#extractFieldMap(ResultSet)}, so it can be handed to the factories just like any
+ * other field to value mapping. The string representation of a value is only created on access.
+ * Factories, that know about typed rows, take the values via {@link #getDouble(String)}, {@link
+ * #getUUID(String)} and {@link #getZonedDateTime(String, TimeUtil)} without parsing any string.
+ */
+public final class SqlRow extends AbstractMap<String, String> {
+  private final SqlHeader header;
+  private final Object[] values;
+
+  /** String representations of the values, that have been created already */
+  private String[] strings;
+
+  /** Columns, that have been removed from this row. Only initialized on first removal. */
+  private BitSet removed;
+
+  private TreeMap<String, String> additionalFields;
+
+  private Set<Map.Entry<String, String>> entrySet;
+
+  private SqlRow(SqlHeader header, Object[] values) {
+    this.header = header;
+    this.values = values;
+  }
+
+  private SqlRow(SqlRow other) {
+    this.header = other.header;
+    this.values = other.values.clone();
+    if (other.strings != null) this.strings = other.strings.clone();
+    if (other.removed != null) this.removed = (BitSet) other.removed.clone();
+    if (other.additionalFields != null)
+      this.additionalFields = new TreeMap<>(other.additionalFields);
+  }
+
+  /**
+   * Reads the current row of the given result set
+   *
+   * @param header the header of the query result
+   * @param rs the result set, that is positioned at a row
+   * @return the row
+   * @throws SQLException if a value cannot be read
+   */
+  public static SqlRow read(SqlHeader header, ResultSet rs) throws SQLException {
+    return new SqlRow(header, header.readValues(rs));
+  }
+
+  /** Returns a modifiable copy of this row, that shares the header with this row */
+  public SqlRow copy() {
+    return new SqlRow(this);
+  }
+
+  public SqlHeader getHeader() {
+    return header;
+  }
+
+  /**
+   * Returns the value of the given field as double, if it has been read as a number, that converts
+   * to a double exactly
+   *
+   * @param field the name of the field
+   * @return the value or an empty optional, if the field is not present, {@code NULL} or not such a
+   *     number
+   */
+  public Optional<Double> getDouble(String field) {
+    Object value = typedValue(field);
+    if (value instanceof Double doubleValue) return Optional.of(doubleValue);
+    // floats and decimals are excluded, as their string representation may parse to another double
+    if (value instanceof Integer || value instanceof Long || value instanceof Short)
+      return Optional.of(((Number) value).doubleValue());
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the value of the given field as uuid, if it has been read as such
+   *
+   * @param field the name of the field
+   * @return the value or an empty optional, if the field is not present, {@code NULL} or no uuid
+   */
+  public Optional<UUID> getUUID(String field) {
+    return typedValue(field) instanceof UUID value ? Optional.of(value) : Optional.empty();
+  }
+
+  /**
+   * Returns the value of the given field as time in the time zone of the given {@link TimeUtil},
+   * if it has been read as timestamp
+   *
+   * @param field the name of the field
+   * @param timeUtil the time util, whose time zone is applied
+   * @return the value or an empty optional, if the field is not present, {@code NULL}, no timestamp
+   *     or the time util does not provide a time zone
+   */
+  public Optional<ZonedDateTime> getZonedDateTime(String field, TimeUtil timeUtil) {
+    ZoneId zone = timeUtil.getDateTimeFormatter().getZone();
+    if (zone != null && typedValue(field) instanceof Timestamp value)
+      return Optional.of(value.toInstant().atZone(zone));
+    return Optional.empty();
+  }
+
+  /** Returns the typed value of a present column or {@code null} */
+  private Object typedValue(String field) {
+    int column = header.indexOf(field);
+    return column >= 0 && isPresent(column) ? values[column] : null;
+  }
+
+  @Override
+  public int size() {
+    return header.size()
+        - (removed == null ? 0 : removed.cardinality())
+        + (additionalFields == null ? 0 : additionalFields.size());
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (!(key instanceof String fieldName)) return false;
+    int column = header.indexOf(fieldName);
+    if (column >= 0) return isPresent(column);
+    return additionalFields != null && additionalFields.containsKey(fieldName);
+  }
+
+  @Override
+  public String get(Object key) {
+    if (!(key instanceof String fieldName)) return null;
+    int column = header.indexOf(fieldName);
+    if (column >= 0) return isPresent(column) ? stringValue(column) : null;
+    return additionalFields == null ? null : additionalFields.get(fieldName);
+  }
+
+  @Override
+  public String put(String key, String value) {
+    int column = header.indexOf(key);
+    if (column >= 0) {
+      String previous = isPresent(column) ? stringValue(column) : null;
+      setColumn(column, value);
+      if (removed != null) removed.clear(column);
+      return previous;
+    }
+    if (additionalFields == null) additionalFields = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    return additionalFields.put(key, value);
+  }
+
+  @Override
+  public String remove(Object key) {
+    if (!(key instanceof String fieldName)) return null;
+    int column = header.indexOf(fieldName);
+    if (column >= 0) return removeColumn(column);
+    return additionalFields == null ? null : additionalFields.remove(fieldName);
+  }
+
+  @Override
+  public void clear() {
+    if (removed == null) removed = new BitSet(values.length);
+    removed.set(0, values.length);
+    additionalFields = null;
+  }
+
+  @Override
+  public Set<Map.Entry<String, String>> entrySet() {
+    if (entrySet == null) entrySet = new EntrySet();
+    return entrySet;
+  }
+
+  private boolean isPresent(int column) {
+    return removed == null || !removed.get(column);
+  }
+
+  private String stringValue(int column) {
+    if (strings == null) strings = new String[values.length];
+    String string = strings[column];
+    if (string == null) {
+      // same representation as SqlConnector#extractFieldMap
+      string =
+          values[column] instanceof Timestamp timestamp
+              ? TimeUtil.withDefaults.toString(timestamp.toInstant())
+              : String.valueOf(values[column]);
+      strings[column] = string;
+    }
+    return string;
+  }
+
+  /** Replaces the value of a column by a string, that is not considered to be typed anymore */
+  private void setColumn(int column, String value) {
+    if (strings == null) strings = new String[values.length];
+    strings[column] = value;
+    values[column] = value;
+  }
+
+  private String removeColumn(int column) {
+    if (!isPresent(column)) return null;
+    String previous = stringValue(column);
+    if (removed == null) removed = new BitSet(values.length);
+    removed.set(column);
+    return previous;
+  }
+
+  /** Iterates over the columns of the header first and over the additional fields afterwards */
+  private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+    private int nextColumn = nextPresentColumn(0);
+    private int lastColumn = -1;
+    private Iterator<Map.Entry<String, String>> additionalIterator;
+    private boolean lastAdditional = false;
+
+    private int nextPresentColumn(int from) {
+      int column = from;
+      while (column < values.length && !isPresent(column)) column++;
+      return column;
+    }
+
+    private Iterator<Map.Entry<String, String>> additionalIterator() {
+      if (additionalIterator == null)
+        additionalIterator =
+            additionalFields == null
+                ? Collections.emptyIterator()
+                : additionalFields.entrySet().iterator();
+      return additionalIterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextColumn < values.length || additionalIterator().hasNext();
+    }
+
+    @Override
+    public Map.Entry<String, String> next() {
+      if (nextColumn < values.length) {
+        lastColumn = nextColumn;
+        lastAdditional = false;
+        nextColumn = nextPresentColumn(nextColumn + 1);
+        return new ColumnEntry(lastColumn);
+      }
+      lastColumn = -1;
+      Map.Entry<String, String> entry = additionalIterator().next();
+      lastAdditional = true;
+      return entry;
+    }
+
+    @Override
+    public void remove() {
+      if (lastColumn >= 0) {
+        removeColumn(lastColumn);
+        lastColumn = -1;
+      } else if (lastAdditional) {
+        additionalIterator.remove();
+        lastAdditional = false;
+      } else {
+        throw new IllegalStateException();
+      }
+    }
+  }
+
+  private final class ColumnEntry implements Map.Entry<String, String> {
+    private final int column;
+
+    private ColumnEntry(int column) {
+      this.column = column;
+    }
+
+    @Override
+    public String getKey() {
+      return header.getFieldName(column);
+    }
+
+    @Override
+    public String getValue() {
+      return stringValue(column);
+    }
+
+    @Override
+    public String setValue(String value) {
+      String previous = stringValue(column);
+      setColumn(column, value);
+      return previous;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry<?, ?> entry)) return false;
+      return Objects.equals(getKey(), entry.getKey())
+          && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+    @Override
+    public Iterator<Map.Entry<String, String>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return SqlRow.this.size();
+    }
+
+    @Override
+    public void clear() {
+      SqlRow.this.clear();
+    }
+  }
+}
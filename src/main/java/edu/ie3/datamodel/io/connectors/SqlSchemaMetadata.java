@@ -0,0 +1,195 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.connectors;
+
+import edu.ie3.util.StringUtils;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable snapshot of the tables and columns of one database schema, that is loaded by a single
+ * pass over the {@link DatabaseMetaData}. Snapshots are cached and shared per schema by the {@link
+ * SqlConnector}, see {@link SqlConnector#getSchemaMetadata(String)}.
+ *
+ * <p>Besides the tables and columns, a snapshot remembers the look-ups, that have not been found in
+ * it, so that a repeated miss does not cause another reload of the whole schema.
+ */
+public final class SqlSchemaMetadata {
+
+  /**
+   * The columns of a table
+   *
+   * @param columnNames the column names as given in the database, in the order of the table
+   * @param columnsByField the column names by their camel case field names, case-insensitive
+   */
+  private record Table(List<String> columnNames, Map<String, String> columnsByField) {}
+
+  private final String schemaName;
+  private final Map<String, Table> tables;
+
+  /** Names of tables and table name patterns, that are known to be missing in this snapshot */
+  private final Set<String> knownMisses = ConcurrentHashMap.newKeySet();
+
+  private SqlSchemaMetadata(String schemaName, Map<String, Table> tables) {
+    this.schemaName = schemaName;
+    this.tables = tables;
+  }
+
+  /**
+   * Loads the tables and columns of the given schema
+   *
+   * @param metaData the meta data of the database
+   * @param schemaName the name of the schema
+   * @return the metadata of the schema
+   * @throws SQLException if the meta data cannot be read
+   */
+  public static SqlSchemaMetadata load(DatabaseMetaData metaData, String schemaName)
+      throws SQLException {
+    Map<String, List<String>> columnNames = new TreeMap<>();
+    // the schema name is a pattern, therefore only exactly matching schemas are considered
+    try (ResultSet rs = metaData.getTables(null, schemaName, null, null)) {
+      while (rs.next()) {
+        String tableName = rs.getString("TABLE_NAME");
+        if (tableName != null && schemaName.equals(rs.getString("TABLE_SCHEM")))
+          columnNames.put(tableName, new ArrayList<>());
+      }
+    }
+    try (ResultSet rs = metaData.getColumns(null, schemaName, null, null)) {
+      while (rs.next()) {
+        if (!schemaName.equals(rs.getString("TABLE_SCHEM"))) continue;
+        columnNames
+            .computeIfAbsent(rs.getString("TABLE_NAME"), table -> new ArrayList<>())
+            .add(rs.getString("COLUMN_NAME"));
+      }
+    }
+
+    Map<String, Table> tables = new TreeMap<>();
+    columnNames.forEach(
+        (tableName, columns) -> {
+          Map<String, String> columnsByField = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+          for (String column : columns)
+            columnsByField.putIfAbsent(StringUtils.snakeCaseToCamelCase(column), column);
+          tables.put(
+              tableName,
+              new Table(List.copyOf(columns), Collections.unmodifiableMap(columnsByField)));
+        });
+    return new SqlSchemaMetadata(schemaName, Collections.unmodifiableMap(tables));
+  }
+
+  public String getSchemaName() {
+    return schemaName;
+  }
+
+  /**
+   * Checks whether the schema contains the given table
+   *
+   * @param tableName the name of the table
+   * @return true, if the table exists
+   */
+  public boolean containsTable(String tableName) {
+    return tables.containsKey(tableName);
+  }
+
+  /**
+   * Determines the names of all tables, that match the given pattern. Just like the patterns of
+   * {@link DatabaseMetaData}, {@code %} matches any sequence of characters and {@code _} matches a
+   * single character.
+   *
+   * @param tableNamePattern the pattern of the table name
+   * @return the matching table names in alphabetical order
+   */
+  public List<String> getTableNames(String tableNamePattern) {
+    Pattern pattern = toRegex(tableNamePattern);
+    return tables.keySet().stream().filter(table -> pattern.matcher(table).matches()).toList();
+  }
+
+  /**
+   * Returns the column names of a table as given in the database
+   *
+   * @param tableName the name of the table
+   * @return the column names in the order of the table or an empty optional, if there is no such
+   *     table
+   */
+  public Optional<List<String>> getColumnNames(String tableName) {
+    return Optional.ofNullable(tables.get(tableName)).map(Table::columnNames);
+  }
+
+  /**
+   * Determines the column of a table, whose camel case name matches the given field name. The
+   * field name is compared case-insensitive.
+   *
+   * @param tableName the name of the table
+   * @param fieldName the name of the field
+   * @return the column name as given in the database or an empty optional, if there is no such
+   *     table or column
+   */
+  public Optional<String> getColumnName(String tableName, String fieldName) {
+    return Optional.ofNullable(tables.get(tableName))
+        .map(table -> table.columnsByField().get(fieldName));
+  }
+
+  /**
+   * Returns the camel case field names of all columns of a table
+   *
+   * @param tableName the name of the table
+   * @return the field names or an empty optional, if there is no such table
+   */
+  public Optional<Set<String>> getFieldNames(String tableName) {
+    return Optional.ofNullable(tables.get(tableName))
+        .map(table -> new HashSet<>(table.columnsByField().keySet()));
+  }
+
+  /**
+   * Remembers, that the given table name or table name pattern has no match in this snapshot
+   *
+   * @param tableNameOrPattern the table name or table name pattern
+   * @return true, if the miss has not been known before
+   */
+  public boolean rememberMiss(String tableNameOrPattern) {
+    return knownMisses.add(tableNameOrPattern);
+  }
+
+  /**
+   * Checks whether the given table name or table name pattern is known to have no match in this
+   * snapshot, see {@link #rememberMiss(String)}
+   *
+   * @param tableNameOrPattern the table name or table name pattern
+   * @return true, if the miss is known
+   */
+  public boolean isKnownMiss(String tableNameOrPattern) {
+    return knownMisses.contains(tableNameOrPattern);
+  }
+
+  private static Pattern toRegex(String likePattern) {
+    StringBuilder regex = new StringBuilder();
+    StringBuilder literal = new StringBuilder();
+    for (char c : likePattern.toCharArray()) {
+      if (c == '%' || c == '_') {
+        regex.append(Pattern.quote(literal.toString())).append(c == '%' ? ".*" : ".");
+        literal.setLength(0);
+      } else {
+        literal.append(c);
+      }
+    }
+    regex.append(Pattern.quote(literal.toString()));
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+  @Override
+  public String toString() {
+    return "SqlSchemaMetadata{"
+        + "schemaName='"
+        + schemaName
+        + '\''
+        + ", tables="
+        + tables.keySet()
+        + '}';
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import edu.ie3.datamodel.exceptions.SinkException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link BufferedCsvWriter}, that writes its rows in the background. {@link #write(Map)} only
+ * encodes the row and puts it into a bounded queue, which is drained in batches by a thread of the
+ * {@link CsvWriterPool}. The rows are flushed according to the flush policy of the pool, hence a
+ * successful {@link #write(Map)} does not mean, that the row has reached the file. Use {@link
+ * #flush()} or {@link #close()} to wait for all rows handed over so far. Errors of the background
+ * thread are thrown by the next call to one of these methods.
+ */
+public final class AsyncCsvWriter extends BufferedCsvWriter {
+  private final CsvWriterPool pool;
+  private final CsvWriterPool.Config config;
+  private final BlockingQueue<String> queue;
+
+  /** Whether a drain of the queue is scheduled or running */
+  private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+  /** Number of rows handed over to the queue */
+  private final AtomicLong enqueued = new AtomicLong();
+
+  /** Number of rows written to the buffer, only changed by the draining thread */
+  private volatile long written = 0;
+
+  private volatile boolean flushRequested = false;
+  private volatile boolean closed = false;
+  private volatile IOException failure = null;
+
+  /** Monitor to wait for progress of the draining thread */
+  private final Object progress = new Object();
+
+  /* Only accessed by the draining thread */
+  private int unflushedRows = 0;
+  private long unflushedBytes = 0;
+
+  AsyncCsvWriter(
+      Path filePath, String[] headLineElements, String csvSep, boolean append, CsvWriterPool pool)
+      throws IOException {
+    super(filePath, headLineElements, csvSep, append);
+    this.pool = pool;
+    this.config = pool.getConfig();
+    this.queue = new ArrayBlockingQueue<>(config.queueCapacity());
+  }
+
+  /**
+   * Hands the provided entity field data over to the background writer. Blocks, while the queue of
+   * this writer is full.
+   *
+   * @param entityFieldData a mapping of an entity instance fields to their values
+   * @throws IOException If a previous write has failed or the thread is interrupted while waiting
+   * @throws SinkException If the data does not meet the pre-defined head line
+   */
+  @Override
+  public void write(Map<String, String> entityFieldData) throws IOException, SinkException {
+    enqueue(toLine(entityFieldData) + "\n");
+  }
+
+  /**
+   * Hands the provided row over to the background writer. Blocks, while the queue of this writer is
+   * full.
+   *
+   * @param values the values of the row in the order of the head line elements
+   * @throws IOException If a previous write has failed or the thread is interrupted while waiting
+   * @throws SinkException If the number of values does not meet the pre-defined head line
+   */
+  @Override
+  public void writeRow(String[] values) throws IOException, SinkException {
+    enqueue(toLine(values) + "\n");
+  }
+
+  private void enqueue(String line) throws IOException {
+    checkOpen();
+    try {
+      queue.put(line);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for space in the write queue.");
+    }
+    enqueued.incrementAndGet();
+    schedule();
+  }
+
+  /**
+   * Waits until all rows, that have been handed over so far, are written and flushes them to the
+   * file.
+   *
+   * @throws IOException If writing any of the rows has failed
+   */
+  @Override
+  public void flush() throws IOException {
+    long target = enqueued.get();
+    schedule();
+    synchronized (progress) {
+      while (written < target && failure == null) {
+        try {
+          progress.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for rows to be written.");
+        }
+      }
+    }
+    checkFailure();
+    super.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) return;
+    try {
+      flush();
+    } finally {
+      closed = true;
+      pool.unregister(this);
+      super.close();
+    }
+  }
+
+  /** Requests to flush all rows, that are written to the buffer, by the draining thread */
+  void requestFlush() {
+    flushRequested = true;
+    schedule();
+  }
+
+  private void schedule() {
+    if (scheduled.compareAndSet(false, true)) pool.execute(this::drain);
+  }
+
+  /** Writes all queued rows in batches and flushes them according to the flush policy */
+  private void drain() {
+    List<String> batch = new ArrayList<>(Math.min(config.queueCapacity(), 1024));
+    try {
+      while (!closed) {
+        batch.clear();
+        queue.drainTo(batch, config.queueCapacity());
+        if (batch.isEmpty()) break;
+
+        // after a failure, the rows are discarded to release blocked producers
+        if (failure == null) {
+          for (String line : batch) {
+            super.write(line);
+            unflushedBytes += line.length();
+          }
+          unflushedRows += batch.size();
+          if (unflushedRows >= config.flushRows() || unflushedBytes >= config.flushBytes())
+            flushBuffer();
+        }
+        signalProgress(batch.size());
+      }
+
+      if (flushRequested && !closed && failure == null) {
+        flushRequested = false;
+        if (unflushedRows > 0) flushBuffer();
+      }
+    } catch (IOException e) {
+      failure = e;
+      queue.clear();
+      signalProgress(0);
+    } finally {
+      scheduled.set(false);
+      // rows may have been queued after the last drain, but before resetting the flag
+      if (!closed && !queue.isEmpty()) schedule();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    super.flush();
+    unflushedRows = 0;
+    unflushedBytes = 0;
+  }
+
+  private void signalProgress(int rows) {
+    synchronized (progress) {
+      written += rows;
+      progress.notifyAll();
+    }
+  }
+
+  private void checkOpen() throws IOException {
+    if (closed) throw new IOException("The writer is already closed.");
+    checkFailure();
+  }
+
+  private void checkFailure() throws IOException {
+    IOException e = failure;
+    if (e != null) throw new IOException("Writing rows in the background has failed.", e);
+  }
+}
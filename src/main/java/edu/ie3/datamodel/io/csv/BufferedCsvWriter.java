@@ -6,6 +6,7 @@
 package edu.ie3.datamodel.io.csv;
 
 import edu.ie3.datamodel.exceptions.SinkException;
+import edu.ie3.datamodel.io.file.ParallelGzipOutputStream;
 import edu.ie3.util.StringUtils;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -14,7 +15,6 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * This class extends the {@link BufferedWriter} and adds information about the file shape of the
@@ -31,7 +31,8 @@ public class BufferedCsvWriter extends BufferedWriter {
 
   /**
    * Build a new CsvBufferedWriter. The order of headline elements given in this constructor defines
-   * the order of columns in file
+   * the order of columns in file. If the file name ends with {@code .gz}, the file is gzip
+   * compressed in parallel blocks by a {@link ParallelGzipOutputStream}.
    *
    * @param filePath String representation of the full path to the target file
    * @param headLineElements Elements of the csv headline
@@ -42,13 +43,19 @@ public class BufferedCsvWriter extends BufferedWriter {
    */
   public BufferedCsvWriter(Path filePath, String[] headLineElements, String csvSep, boolean append)
       throws IOException {
-    super(
-        new OutputStreamWriter(
-            new FileOutputStream(filePath.toFile(), append), StandardCharsets.UTF_8));
+    super(new OutputStreamWriter(openOutputStream(filePath, append), StandardCharsets.UTF_8));
     this.headLineElements = headLineElements;
     this.csvSep = csvSep;
   }
 
+  private static OutputStream openOutputStream(Path filePath, boolean append) throws IOException {
+    OutputStream outputStream = new FileOutputStream(filePath.toFile(), append);
+    // appending works for compressed files as well, as gzip allows for concatenated members
+    return filePath.toString().endsWith(".gz")
+        ? new ParallelGzipOutputStream(outputStream)
+        : outputStream;
+  }
+
   /**
    * Build a new CsvBufferedWriter. This is a "convenience" Constructor. The absolute file path is
    * assembled by concatenation of {@code baseFolder} and {@code fileDefinition}'s file path
@@ -79,6 +86,58 @@ public class BufferedCsvWriter extends BufferedWriter {
    */
   public synchronized void write(Map<String, String> entityFieldData)
       throws IOException, SinkException {
+    writeOneLine(toLine(entityFieldData));
+  }
+
+  /**
+   * Persists a row, whose values are given in the order of the head line elements. In contrast to
+   * {@link #write(Map)}, only the number of values is checked, hence the caller is responsible for
+   * providing the values in the correct order.
+   *
+   * @param values the values of the row in the order of the head line elements
+   * @throws IOException If writing has failed
+   * @throws SinkException If the number of values does not meet the pre-defined head line
+   */
+  public synchronized void writeRow(String[] values) throws IOException, SinkException {
+    checkRowLength(values);
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) super.append(csvSep);
+      super.append(values[i]);
+    }
+    super.append("\n");
+    flush();
+  }
+
+  /**
+   * Encodes the provided row as one line of the csv file (without line break)
+   *
+   * @param values the values of the row in the order of the head line elements
+   * @return the encoded line
+   * @throws SinkException If the number of values does not meet the pre-defined head line
+   */
+  protected final String toLine(String[] values) throws SinkException {
+    checkRowLength(values);
+    return String.join(csvSep, values);
+  }
+
+  private void checkRowLength(String[] values) throws SinkException {
+    if (values.length != headLineElements.length)
+      throw new SinkException(
+          "The provided row of "
+              + values.length
+              + " values does not meet the pre-defined head line elements '"
+              + String.join(",", headLineElements)
+              + "'.");
+  }
+
+  /**
+   * Encodes the provided entity field data as one line of the csv file (without line break)
+   *
+   * @param entityFieldData a mapping of an entity instance fields to their values
+   * @return the encoded line
+   * @throws SinkException If the data does not meet the pre-defined head line
+   */
+  protected final String toLine(Map<String, String> entityFieldData) throws SinkException {
     /* Check against eligible headline elements */
     if (entityFieldData.size() != headLineElements.length
         || !entityFieldData.keySet().containsAll(Arrays.asList(headLineElements)))
@@ -87,7 +146,9 @@ public class BufferedCsvWriter extends BufferedWriter {
               + String.join(",", headLineElements)
               + "'.");
 
-    writeOneLine(Arrays.stream(headLineElements).map(entityFieldData::get));
+    return Arrays.stream(headLineElements)
+        .map(entityFieldData::get)
+        .collect(Collectors.joining(csvSep));
   }
 
   /**
@@ -106,17 +167,17 @@ public class BufferedCsvWriter extends BufferedWriter {
    * @throws IOException If writing is not possible
    */
   private void writeOneLine(String[] entries) throws IOException {
-    writeOneLine(Arrays.stream(entries));
+    writeOneLine(String.join(csvSep, entries));
   }
 
   /**
-   * Write one line to the csv file
+   * Write one line to the csv file and flush it
    *
-   * @param entries Stream of entries to write
+   * @param line the encoded line to write
    * @throws IOException If writing is not possible
    */
-  private void writeOneLine(Stream<String> entries) throws IOException {
-    super.append(entries.collect(Collectors.joining(csvSep)));
+  private void writeOneLine(String line) throws IOException {
+    super.append(line);
     super.append("\n");
     flush();
   }
@@ -0,0 +1,108 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.util.StringUtils;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The headline of a csv file, that is resolved once per file. It holds the camel case field names
+ * of all columns as well as a case-insensitive index from field name to column position, that is
+ * shared by all {@link CsvRow}s of the same file.
+ */
+public final class CsvHeader {
+  private final String[] headline;
+  private final String[] fieldNames;
+  private final Map<String, Integer> columnIndex;
+
+  private CsvHeader(String[] headline, String[] fieldNames, Map<String, Integer> columnIndex) {
+    this.headline = headline;
+    this.fieldNames = fieldNames;
+    this.columnIndex = columnIndex;
+  }
+
+  /**
+   * Resolves the given headline. The elements are converted to camel case and checked for
+   * duplicates, whereas the headline is considered to be case-insensitive.
+   *
+   * @param headline the elements of the headline as given in the file
+   * @return the resolved header
+   * @throws SourceException if a headline element is duplicated
+   */
+  public static CsvHeader of(String[] headline) throws SourceException {
+    String[] fieldNames = new String[headline.length];
+    Map<String, Integer> columnIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    for (int i = 0; i < headline.length; i++) {
+      String fieldName = StringUtils.snakeCaseToCamelCase(headline[i]);
+
+      if (columnIndex.putIfAbsent(fieldName, i) != null) {
+        throw new SourceException(
+            "Headline element '"
+                + headline[i]
+                + "' is duplicated.\nHeadline fields: ['"
+                + String.join("', '", headline)
+                + "'].\nPlease keep in mind that headlines are case-insensitive and underscores from snake case are ignored.");
+      }
+
+      fieldNames[i] = fieldName;
+    }
+
+    return new CsvHeader(headline.clone(), fieldNames, columnIndex);
+  }
+
+  /** Returns the number of columns */
+  public int size() {
+    return fieldNames.length;
+  }
+
+  /**
+   * Returns the camel case field name of a column
+   *
+   * @param column position of the column
+   * @return the field name
+   */
+  public String getFieldName(int column) {
+    return fieldNames[column];
+  }
+
+  /** Returns a copy of the headline elements as given in the file */
+  public String[] getHeadline() {
+    return headline.clone();
+  }
+
+  /**
+   * Determines the position of the column with the given field name. The look-up is
+   * case-insensitive and the field name is expected to be in camel case.
+   *
+   * @param fieldName the name of the field
+   * @return the position of the column or {@code -1}, if there is no such column
+   */
+  public int indexOf(String fieldName) {
+    Integer column = columnIndex.get(fieldName);
+    return column == null ? -1 : column;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof CsvHeader csvHeader)) return false;
+    return Arrays.equals(headline, csvHeader.headline);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(headline);
+  }
+
+  @Override
+  public String toString() {
+    return "CsvHeader{" + "headline=" + Arrays.toString(headline) + '}';
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.io.naming.FileNamingStrategy;
+import edu.ie3.datamodel.models.Entity;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Manifest of the time partitioned files of one result class. All partitions of a class are placed
+ * in a directory, that is named like the file of the class according to the {@link
+ * FileNamingStrategy} (e.g. {@code line_res/}). The directory contains one file per partition
+ * (e.g. {@code line_res_2020-05-03.csv}) and the manifest ({@code line_res_manifest.csv}), that
+ * lists all partitions with their time range and number of entries.
+ */
+public final class CsvPartitionManifest {
+  private static final String HEADLINE = "partition,start,end,entries";
+  private static final String MANIFEST_SUFFIX = "_manifest.csv";
+
+  private CsvPartitionManifest() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  /**
+   * A partition of a result class.
+   *
+   * @param fileName the name of the partition's file within the directory of the class
+   * @param start the inclusive start of the partition's time window
+   * @param end the exclusive end of the partition's time window
+   * @param entries the number of entries within the partition
+   */
+  public record Partition(String fileName, ZonedDateTime start, ZonedDateTime end, long entries) {
+
+    /**
+     * @param from the inclusive start of the requested interval
+     * @param to the inclusive end of the requested interval
+     * @return true, if the partition might contain entries within the requested interval
+     */
+    public boolean overlaps(ZonedDateTime from, ZonedDateTime to) {
+      return start.isBefore(to.plusNanos(1)) && end.isAfter(from);
+    }
+
+    /**
+     * @return a copy of this partition with the given number of entries
+     */
+    public Partition withEntries(long entries) {
+      return new Partition(fileName, start, end, entries);
+    }
+  }
+
+  /**
+   * @param fileNamingStrategy the naming strategy of the files
+   * @param entityClass the result class
+   * @return the directory of the class's partitions relative to the base directory
+   * @throws FileException if the naming strategy does not provide a file path for the class
+   */
+  public static Path directory(
+      FileNamingStrategy fileNamingStrategy, Class<? extends Entity> entityClass)
+      throws FileException {
+    return fileNamingStrategy
+        .getFilePath(entityClass)
+        .orElseThrow(
+            () ->
+                new FileException(
+                    "Cannot determine the file name for class '"
+                        + entityClass.getSimpleName()
+                        + "'."));
+  }
+
+  /**
+   * @param directory the directory of the class's partitions
+   * @param window the start of the partition's time window
+   * @param partitionWindow the kind of windows
+   * @return the file name of the partition
+   */
+  public static String partitionFileName(
+      Path directory, ZonedDateTime window, PartitionWindow partitionWindow) {
+    return directory.getFileName() + "_" + partitionWindow.label(window) + ".csv";
+  }
+
+  /**
+   * @param directory the directory of the class's partitions
+   * @return the path of the manifest
+   */
+  public static Path manifestPath(Path directory) {
+    return directory.resolve(directory.getFileName() + MANIFEST_SUFFIX);
+  }
+
+  /**
+   * Reads the partitions from the given manifest
+   *
+   * @param manifestPath the full path of the manifest
+   * @return the listed partitions in the order of the manifest
+   * @throws IOException if the manifest cannot be read or is malformed
+   */
+  public static List<Partition> read(Path manifestPath) throws IOException {
+    List<Partition> partitions = new ArrayList<>();
+    try (BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+      String headline = reader.readLine();
+      if (!HEADLINE.equals(headline))
+        throw new IOException(
+            "The manifest '" + manifestPath + "' has an unexpected headline '" + headline + "'.");
+
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) continue;
+        String[] values = line.split(",", -1);
+        if (values.length != 4)
+          throw new IOException(
+              "Malformed line '" + line + "' in manifest '" + manifestPath + "'.");
+        try {
+          partitions.add(
+              new Partition(
+                  values[0],
+                  ZonedDateTime.parse(values[1]),
+                  ZonedDateTime.parse(values[2]),
+                  Long.parseLong(values[3])));
+        } catch (DateTimeParseException | NumberFormatException e) {
+          throw new IOException(
+              "Malformed line '" + line + "' in manifest '" + manifestPath + "'.", e);
+        }
+      }
+    }
+    return partitions;
+  }
+
+  /**
+   * Writes the given partitions to the manifest. The manifest is replaced atomically, so that
+   * readers never see a partially written manifest.
+   *
+   * @param manifestPath the full path of the manifest
+   * @param partitions the partitions to list
+   * @throws IOException if the manifest cannot be written
+   */
+  public static void write(Path manifestPath, Collection<Partition> partitions)
+      throws IOException {
+    Path temporary = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+    try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+      writer.write(HEADLINE);
+      writer.write("\n");
+      for (Partition partition : partitions) {
+        writer.write(
+            String.join(
+                ",",
+                partition.fileName(),
+                partition.start().toString(),
+                partition.end().toString(),
+                Long.toString(partition.entries())));
+        writer.write("\n");
+      }
+    }
+    Files.move(
+        temporary,
+        manifestPath,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.util.*;
+
+/**
+ * A lightweight, case-insensitive view on a single row of a csv file. The field values are held in
+ * a plain array in the order of the columns, whereas the mapping from field name to column is
+ * provided by the {@link CsvHeader}, that is shared by all rows of a file.
+ *
+ * <p>The row fulfills the {@link Map} contract, so it can be handed to the factories just like any
+ * other field to value mapping. Look-ups are case-insensitive with regard to the camel case field
+ * names. Fields, that are not part of the header, may be added and are held separately.
+ */
+public final class CsvRow extends AbstractMap<String, String> {
+  private final CsvHeader header;
+  private final String[] values;
+
+  /** Columns, that have been removed from this row. Only initialized on first removal. */
+  private BitSet removed;
+  private TreeMap<String, String> additionalFields;
+
+  private Set<String> keySet;
+  private Set<Map.Entry<String, String>> entrySet;
+
+  /**
+   * Creates a new row. The values are expected to be in the order of the header and the array is
+   * used without copying.
+   *
+   * @param header the header of the file
+   * @param values the field values of the row
+   */
+  public CsvRow(CsvHeader header, String[] values) {
+    if (values.length != header.size())
+      throw new IllegalArgumentException(
+          "The number of values ("
+              + values.length
+              + ") does not fit to the size of the header ("
+              + header.size()
+              + ").");
+    this.header = header;
+    this.values = values;
+  }
+
+  private CsvRow(CsvRow other) {
+    this.header = other.header;
+    this.values = other.values.clone();
+    if (other.removed != null) this.removed = (BitSet) other.removed.clone();
+    if (other.additionalFields != null)
+      this.additionalFields = new TreeMap<>(other.additionalFields);
+  }
+
+  /** Returns a modifiable copy of this row, that shares the header with this row */
+  public CsvRow copy() {
+    return new CsvRow(this);
+  }
+
+  public CsvHeader getHeader() {
+    return header;
+  }
+
+  @Override
+  public int size() {
+    return header.size()
+        - (removed == null ? 0 : removed.cardinality())
+        + (additionalFields == null ? 0 : additionalFields.size());
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (!(key instanceof String fieldName)) return false;
+    int column = header.indexOf(fieldName);
+    if (column >= 0) return isPresent(column);
+    return additionalFields != null && additionalFields.containsKey(fieldName);
+  }
+
+  @Override
+  public String get(Object key) {
+    if (!(key instanceof String fieldName)) return null;
+    int column = header.indexOf(fieldName);
+    if (column >= 0) return isPresent(column) ? values[column] : null;
+    return additionalFields == null ? null : additionalFields.get(fieldName);
+  }
+
+  @Override
+  public String put(String key, String value) {
+    int column = header.indexOf(key);
+    if (column >= 0) {
+      String previous = isPresent(column) ? values[column] : null;
+      values[column] = value;
+      if (removed != null) removed.clear(column);
+      return previous;
+    }
+    if (additionalFields == null) additionalFields = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    return additionalFields.put(key, value);
+  }
+
+  @Override
+  public String remove(Object key) {
+    if (!(key instanceof String fieldName)) return null;
+    int column = header.indexOf(fieldName);
+    if (column >= 0) return removeColumn(column);
+    return additionalFields == null ? null : additionalFields.remove(fieldName);
+  }
+
+  @Override
+  public void clear() {
+    if (removed == null) removed = new BitSet(values.length);
+    removed.set(0, values.length);
+    additionalFields = null;
+  }
+
+  @Override
+  public Set<String> keySet() {
+    if (keySet == null) keySet = new KeySet();
+    return keySet;
+  }
+
+  @Override
+  public Set<Map.Entry<String, String>> entrySet() {
+    if (entrySet == null) entrySet = new EntrySet();
+    return entrySet;
+  }
+
+  private boolean isPresent(int column) {
+    return removed == null || !removed.get(column);
+  }
+
+  private String removeColumn(int column) {
+    if (!isPresent(column)) return null;
+    if (removed == null) removed = new BitSet(values.length);
+    removed.set(column);
+    return values[column];
+  }
+
+  /** Iterates over the columns of the header first and over the additional fields afterwards */
+  private abstract class RowIterator<T> implements Iterator<T> {
+    private int nextColumn = nextPresentColumn(0);
+    private int lastColumn = -1;
+    private Iterator<Map.Entry<String, String>> additionalIterator;
+    private Map.Entry<String, String> lastAdditional;
+
+    private int nextPresentColumn(int from) {
+      int column = from;
+      while (column < values.length && !isPresent(column)) column++;
+      return column;
+    }
+
+    private Iterator<Map.Entry<String, String>> additionalIterator() {
+      if (additionalIterator == null)
+        additionalIterator =
+            additionalFields == null
+                ? Collections.emptyIterator()
+                : additionalFields.entrySet().iterator();
+      return additionalIterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextColumn < values.length || additionalIterator().hasNext();
+    }
+
+    protected Map.Entry<String, String> nextEntry() {
+      if (nextColumn < values.length) {
+        lastColumn = nextColumn;
+        lastAdditional = null;
+        nextColumn = nextPresentColumn(nextColumn + 1);
+        return new ColumnEntry(lastColumn);
+      }
+      lastColumn = -1;
+      lastAdditional = additionalIterator().next();
+      return lastAdditional;
+    }
+
+    @Override
+    public void remove() {
+      if (lastColumn >= 0) {
+        removeColumn(lastColumn);
+        lastColumn = -1;
+      } else if (lastAdditional != null) {
+        additionalIterator.remove();
+        lastAdditional = null;
+      } else {
+        throw new IllegalStateException();
+      }
+    }
+  }
+
+  private final class ColumnEntry implements Map.Entry<String, String> {
+    private final int column;
+
+    private ColumnEntry(int column) {
+      this.column = column;
+    }
+
+    @Override
+    public String getKey() {
+      return header.getFieldName(column);
+    }
+
+    @Override
+    public String getValue() {
+      return values[column];
+    }
+
+    @Override
+    public String setValue(String value) {
+      String previous = values[column];
+      values[column] = value;
+      return previous;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry<?, ?> entry)) return false;
+      return Objects.equals(getKey(), entry.getKey())
+          && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private final class KeySet extends AbstractSet<String> {
+    @Override
+    public Iterator<String> iterator() {
+      return new RowIterator<>() {
+        @Override
+        public String next() {
+          return nextEntry().getKey();
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return CsvRow.this.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return containsKey(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      boolean contained = containsKey(o);
+      CsvRow.this.remove(o);
+      return contained;
+    }
+
+    @Override
+    public void clear() {
+      CsvRow.this.clear();
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+    @Override
+    public Iterator<Map.Entry<String, String>> iterator() {
+      return new RowIterator<>() {
+        @Override
+        public Map.Entry<String, String> next() {
+          return nextEntry();
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return CsvRow.this.size();
+    }
+
+    @Override
+    public void clear() {
+      CsvRow.this.clear();
+    }
+  }
+}
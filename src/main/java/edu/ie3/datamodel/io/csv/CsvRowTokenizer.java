@@ -0,0 +1,150 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Single pass tokenizer for RFC 4180 formatted csv rows. A separator only splits the row, if it is
+ * followed by an even number of quotes, which mirrors the behaviour of the former look-ahead regex
+ * {@code csvSep + "(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"} without its quadratic runtime. Every field is
+ * trimmed, a wrapping pair of quotes is removed and escaped quotes ({@code ""}) are unescaped.
+ *
+ * <p>The parsed fields are written into an internal buffer, that is reused for every row. Hence, an
+ * instance is <b>not</b> thread-safe and should be confined to one thread, e.g. by {@link
+ * ThreadLocal#withInitial(java.util.function.Supplier)}.
+ */
+public final class CsvRowTokenizer {
+  private static final char QUOTE = '"';
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final String csvSep;
+  private final StringBuilder unescapeBuffer = new StringBuilder(64);
+  private String[] fields = new String[INITIAL_CAPACITY];
+  private int fieldCount = 0;
+
+  /**
+   * Creates a new tokenizer for the given separator.
+   *
+   * @param csvSep the separator of the csv file, which is taken literally
+   */
+  public CsvRowTokenizer(String csvSep) {
+    if (Objects.requireNonNull(csvSep, "csvSep").isEmpty())
+      throw new IllegalArgumentException("The csv separator must not be empty.");
+    this.csvSep = csvSep;
+  }
+
+  /**
+   * Convenience method to tokenize a single row without keeping a tokenizer instance.
+   *
+   * @param csvRow the row to tokenize
+   * @param csvSep the separator of the csv file
+   * @return an array with the field values of the row
+   */
+  public static String[] tokenize(String csvRow, String csvSep) {
+    CsvRowTokenizer tokenizer = new CsvRowTokenizer(csvSep);
+    tokenizer.parse(csvRow);
+    return tokenizer.toArray();
+  }
+
+  /**
+   * Parses the given row into the internal field buffer. Previously parsed fields are discarded.
+   *
+   * @param csvRow the row to parse
+   * @return the number of fields found in the row
+   */
+  public int parse(String csvRow) {
+    fieldCount = 0;
+
+    final int length = csvRow.length();
+    final int sepLength = csvSep.length();
+    final char sepStart = csvSep.charAt(0);
+
+    /* The total number of quotes is needed to decide, whether a separator is followed by an even
+     * number of quotes */
+    int quotesAfter = 0;
+    for (int i = 0; i < length; i++) {
+      if (csvRow.charAt(i) == QUOTE) quotesAfter++;
+    }
+
+    int fieldStart = 0;
+    int i = 0;
+    while (i < length) {
+      char c = csvRow.charAt(i);
+      if (c == QUOTE) {
+        quotesAfter--;
+        i++;
+      } else if (c == sepStart && (quotesAfter & 1) == 0 && csvRow.startsWith(csvSep, i)) {
+        addField(csvRow, fieldStart, i);
+        i += sepLength;
+        fieldStart = i;
+      } else {
+        i++;
+      }
+    }
+    addField(csvRow, fieldStart, length);
+
+    return fieldCount;
+  }
+
+  /** Returns the number of fields of the last parsed row */
+  public int size() {
+    return fieldCount;
+  }
+
+  /**
+   * Returns a field of the last parsed row
+   *
+   * @param index index of the field
+   * @return the field value
+   */
+  public String get(int index) {
+    Objects.checkIndex(index, fieldCount);
+    return fields[index];
+  }
+
+  /** Returns a copy of the fields of the last parsed row */
+  public String[] toArray() {
+    return Arrays.copyOf(fields, fieldCount);
+  }
+
+  private void addField(String csvRow, int start, int end) {
+    /* trim surrounding whitespaces */
+    while (start < end && csvRow.charAt(start) <= ' ') start++;
+    while (end > start && csvRow.charAt(end - 1) <= ' ') end--;
+
+    /* remove wrapping quotes and whitespaces within */
+    if (end - start >= 2 && csvRow.charAt(start) == QUOTE && csvRow.charAt(end - 1) == QUOTE) {
+      start++;
+      end--;
+      while (start < end && csvRow.charAt(start) <= ' ') start++;
+      while (end > start && csvRow.charAt(end - 1) <= ' ') end--;
+    }
+
+    if (fieldCount == fields.length) fields = Arrays.copyOf(fields, fields.length * 2);
+    fields[fieldCount++] = unescape(csvRow, start, end);
+  }
+
+  /** Replaces escaped quotes ({@code ""}) by single ones */
+  private String unescape(String csvRow, int start, int end) {
+    int firstEscape = start;
+    while (firstEscape < end - 1
+        && (csvRow.charAt(firstEscape) != QUOTE || csvRow.charAt(firstEscape + 1) != QUOTE))
+      firstEscape++;
+    if (firstEscape >= end - 1) return csvRow.substring(start, end);
+
+    unescapeBuffer.setLength(0);
+    unescapeBuffer.append(csvRow, start, firstEscape);
+    int i = firstEscape;
+    while (i < end) {
+      char c = csvRow.charAt(i);
+      unescapeBuffer.append(c);
+      i += (c == QUOTE && i + 1 < end && csvRow.charAt(i + 1) == QUOTE) ? 2 : 1;
+    }
+    return unescapeBuffer.toString();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background writer threads for {@link AsyncCsvWriter}s. Producers hand encoded rows to the bounded
+ * queue of a writer and return immediately, as long as the queue is not full. The rows of each
+ * queue are drained in batches by one writer thread at a time, hence the order of rows per file is
+ * retained. The buffered rows are flushed to the file according to the configured flush policy.
+ */
+public final class CsvWriterPool implements AutoCloseable {
+  private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+  private final Config config;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService timer;
+  /** Open writers by identity, as writers of equal shape are equal */
+  private final Set<AsyncCsvWriter> writers =
+      Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+  /**
+   * Configuration of asynchronous csv writing. Buffered rows are flushed as soon as one of the
+   * limits is reached and whenever a writer is flushed or closed explicitly.
+   *
+   * @param writerThreads the number of background threads, that write to the files
+   * @param queueCapacity the maximum number of rows, that are queued per file. Producers are
+   *     blocked, while the queue of a file is full.
+   * @param flushRows the number of written rows, after which the file is flushed
+   * @param flushBytes the (approximate) number of written bytes, after which the file is flushed
+   * @param flushInterval the time after which all files are flushed, zero to disable flushing by
+   *     time
+   */
+  public record Config(
+      int writerThreads,
+      int queueCapacity,
+      int flushRows,
+      long flushBytes,
+      Duration flushInterval) {
+    /** Two writer threads, that flush every 8192 rows, every MiB or every second */
+    public static final Config DEFAULT =
+        new Config(2, 8192, 8192, 1L << 20, Duration.ofSeconds(1));
+
+    public Config {
+      if (writerThreads <= 0)
+        throw new IllegalArgumentException("The number of writer threads has to be positive.");
+      if (queueCapacity <= 0)
+        throw new IllegalArgumentException("The queue capacity has to be positive.");
+      if (flushRows <= 0 || flushBytes <= 0)
+        throw new IllegalArgumentException("The flush limits have to be positive.");
+      if (flushInterval.isNegative())
+        throw new IllegalArgumentException("The flush interval must not be negative.");
+    }
+  }
+
+  /**
+   * Starts the writer threads
+   *
+   * @param config the configuration of asynchronous writing
+   */
+  public CsvWriterPool(Config config) {
+    this.config = config;
+    int poolNumber = POOL_COUNT.incrementAndGet();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            config.writerThreads(),
+            runnable ->
+                daemon(runnable, "csv-writer-" + poolNumber + "-" + threadCount.incrementAndGet()));
+
+    if (config.flushInterval().isZero()) {
+      this.timer = null;
+    } else {
+      this.timer =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> daemon(runnable, "csv-writer-" + poolNumber + "-flush"));
+      long interval = config.flushInterval().toNanos();
+      timer.scheduleAtFixedRate(
+          () -> writers.forEach(AsyncCsvWriter::requestFlush),
+          interval,
+          interval,
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public Config getConfig() {
+    return config;
+  }
+
+  /**
+   * Opens a new asynchronous writer, that is served by this pool
+   *
+   * @param filePath the full path to the target file
+   * @param headLineElements elements of the csv headline
+   * @param csvSep csv separator char
+   * @param append true to append to an existing file, false to overwrite an existing file (if any)
+   * @return the writer
+   * @throws IOException if the file cannot be opened
+   */
+  public AsyncCsvWriter open(
+      Path filePath, String[] headLineElements, String csvSep, boolean append) throws IOException {
+    AsyncCsvWriter writer = new AsyncCsvWriter(filePath, headLineElements, csvSep, append, this);
+    writers.add(writer);
+    return writer;
+  }
+
+  /**
+   * Stops the writer threads. Writers, that are still open, are not closed and cannot be written to
+   * anymore, hence they should be closed beforehand.
+   */
+  @Override
+  public void close() {
+    if (timer != null) timer.shutdownNow();
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES)) executor.shutdownNow();
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  void execute(Runnable task) {
+    executor.execute(task);
+  }
+
+  void unregister(AsyncCsvWriter writer) {
+    writers.remove(writer);
+  }
+
+  private static Thread daemon(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A csv file, that is memory mapped and split into byte ranges, which can be decoded and parsed
+ * independently of each other. The ranges are aligned to line breaks outside of quoted fields, so
+ * that no record is ever split between two ranges.
+ *
+ * <p>The file is mapped when opening it and the underlying channel is closed right away. The
+ * mappings stay valid until they are garbage collected, hence the records can be streamed lazily.
+ */
+public final class MappedCsvFile {
+  /** Default size of the byte ranges, that are processed independently */
+  public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  /** Size of the windows, that are mapped for determining the range boundaries */
+  private static final long SCAN_WINDOW_SIZE = 256L * 1024 * 1024;
+
+  private static final byte QUOTE = '"';
+  private static final byte LINE_FEED = '\n';
+  private static final char CARRIAGE_RETURN = '\r';
+
+  private final String headline;
+  private final List<MappedByteBuffer> chunks;
+
+  private MappedCsvFile(String headline, List<MappedByteBuffer> chunks) {
+    this.headline = headline;
+    this.chunks = chunks;
+  }
+
+  /**
+   * Maps the given file and splits it into byte ranges of roughly the default chunk size.
+   *
+   * @param path the full path of the file
+   * @return the mapped file
+   * @throws IOException if the file cannot be mapped
+   */
+  public static MappedCsvFile open(Path path) throws IOException {
+    return open(path, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Maps the given file and splits it into byte ranges of roughly the given chunk size. The first
+   * record of the file is considered to be the headline.
+   *
+   * @param path the full path of the file
+   * @param chunkSize the targeted size of a byte range in bytes
+   * @return the mapped file
+   * @throws IOException if the file cannot be mapped
+   */
+  public static MappedCsvFile open(Path path, int chunkSize) throws IOException {
+    if (chunkSize <= 0) throw new IllegalArgumentException("The chunk size has to be positive.");
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      List<Long> boundaries = determineBoundaries(channel, size, chunkSize);
+
+      String headline = null;
+      List<MappedByteBuffer> chunks = new ArrayList<>(boundaries.size());
+      for (int i = 0; i < boundaries.size() - 1; i++) {
+        long start = boundaries.get(i);
+        long length = boundaries.get(i + 1) - start;
+        if (i == 0) {
+          // the first range only contains the headline
+          List<String> headlineRecords =
+              decode(channel.map(FileChannel.MapMode.READ_ONLY, start, length));
+          headline = headlineRecords.isEmpty() ? null : headlineRecords.get(0);
+        } else if (length > Integer.MAX_VALUE) {
+          throw new IOException(
+              "Unable to map file '"
+                  + path
+                  + "', as it contains a record exceeding "
+                  + Integer.MAX_VALUE
+                  + " bytes.");
+        } else if (length > 0) {
+          chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, length));
+        }
+      }
+
+      return new MappedCsvFile(headline, chunks);
+    }
+  }
+
+  /** Returns the headline of the file or {@code null}, if the file is empty */
+  public String getHeadline() {
+    return headline;
+  }
+
+  /** Returns the number of byte ranges, the records are split into */
+  public int getChunkCount() {
+    return chunks.size();
+  }
+
+  /**
+   * Returns a parallel stream of all records except for the headline. The stream is split along
+   * the byte ranges of the file, every range is decoded and split into records on its own.
+   *
+   * @return a parallel stream of the records of the file
+   */
+  public Stream<String> records() {
+    return IntStream.range(0, chunks.size())
+        .parallel()
+        .mapToObj(i -> decode(chunks.get(i)))
+        .flatMap(List::stream);
+  }
+
+  /**
+   * Scans the file for line feeds outside of quoted fields and determines the boundaries of the
+   * byte ranges. The first range always contains the headline only.
+   */
+  private static List<Long> determineBoundaries(FileChannel channel, long size, int chunkSize)
+      throws IOException {
+    List<Long> boundaries = new ArrayList<>();
+    boundaries.add(0L);
+
+    boolean quoted = false;
+    boolean headlineDone = false;
+    long lastBoundary = 0;
+
+    for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW_SIZE) {
+      long windowLength = Math.min(SCAN_WINDOW_SIZE, size - windowStart);
+      MappedByteBuffer window =
+          channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+
+      for (int i = 0; i < windowLength; i++) {
+        byte b = window.get(i);
+        if (b == QUOTE) {
+          quoted = !quoted;
+        } else if (b == LINE_FEED && !quoted) {
+          long position = windowStart + i + 1;
+          if (!headlineDone || position - lastBoundary >= chunkSize) {
+            boundaries.add(position);
+            lastBoundary = position;
+            headlineDone = true;
+          }
+        }
+      }
+    }
+
+    if (lastBoundary < size) boundaries.add(size);
+    return boundaries;
+  }
+
+  /**
+   * Decodes the given byte range and splits it into records. Line breaks within quoted fields do
+   * not end a record. Line breaks are either {@code \n}, {@code \r\n} or {@code \r}, just like for
+   * {@link java.io.BufferedReader#readLine()}.
+   */
+  private static List<String> decode(MappedByteBuffer chunk) {
+    CharBuffer chars = StandardCharsets.UTF_8.decode(chunk.duplicate());
+    int length = chars.length();
+
+    List<String> records = new ArrayList<>();
+    boolean quoted = false;
+    int recordStart = 0;
+    int i = 0;
+    while (i < length) {
+      char c = chars.get(i);
+      if (c == QUOTE) {
+        quoted = !quoted;
+        i++;
+      } else if (!quoted && (c == LINE_FEED || c == CARRIAGE_RETURN)) {
+        records.add(chars.subSequence(recordStart, i).toString());
+        i += (c == CARRIAGE_RETURN && i + 1 < length && chars.get(i + 1) == LINE_FEED) ? 2 : 1;
+        recordStart = i;
+      } else {
+        i++;
+      }
+    }
+    if (recordStart < length) records.add(chars.subSequence(recordStart, length).toString());
+
+    return records;
+  }
+}
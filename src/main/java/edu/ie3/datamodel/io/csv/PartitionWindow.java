@@ -0,0 +1,58 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.time.DayOfWeek;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Time window, by which results are partitioned into separate files. The windows are aligned to
+ * UTC, weeks start on monday (ISO-8601).
+ */
+public enum PartitionWindow {
+  DAY,
+  WEEK,
+  MONTH;
+
+  /**
+   * Determines the window, the given time belongs to
+   *
+   * @param time the time to look up
+   * @return the inclusive start of the window in UTC
+   */
+  public ZonedDateTime start(ZonedDateTime time) {
+    ZonedDateTime day = time.withZoneSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+    return switch (this) {
+      case DAY -> day;
+      case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTH -> day.withDayOfMonth(1);
+    };
+  }
+
+  /**
+   * @param start the start of a window, as provided by {@link #start(ZonedDateTime)}
+   * @return the exclusive end of the window
+   */
+  public ZonedDateTime end(ZonedDateTime start) {
+    return switch (this) {
+      case DAY -> start.plusDays(1);
+      case WEEK -> start.plusWeeks(1);
+      case MONTH -> start.plusMonths(1);
+    };
+  }
+
+  /**
+   * @param start the start of a window, as provided by {@link #start(ZonedDateTime)}
+   * @return the label of the window, that is used in the file names of partitions
+   */
+  public String label(ZonedDateTime start) {
+    return DateTimeFormatter.ISO_LOCAL_DATE.format(start);
+  }
+}
@@ -6,7 +6,12 @@
 package edu.ie3.datamodel.io.factory;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
+import edu.ie3.datamodel.io.connectors.SqlRow;
+import edu.ie3.datamodel.io.csv.CsvRow;
+import edu.ie3.util.TimeUtil;
+import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.BiFunction;
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import tech.units.indriya.ComparableQuantity;
@@ -17,9 +22,17 @@ public abstract class FactoryData {
   private final Class<?> targetClass;
 
   protected FactoryData(Map<String, String> fieldsToAttributes, Class<?> targetClass) {
-    // this does the magic: case-insensitive get/set calls on keys
-    this.fieldsToAttributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    this.fieldsToAttributes.putAll(fieldsToAttributes);
+    if (fieldsToAttributes instanceof CsvRow csvRow) {
+      // csv rows are case-insensitive already, copying the value array is sufficient
+      this.fieldsToAttributes = csvRow.copy();
+    } else if (fieldsToAttributes instanceof SqlRow sqlRow) {
+      // sql rows are case-insensitive as well and keep their typed values
+      this.fieldsToAttributes = sqlRow.copy();
+    } else {
+      // this does the magic: case-insensitive get/set calls on keys
+      this.fieldsToAttributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+      this.fieldsToAttributes.putAll(fieldsToAttributes);
+    }
     this.targetClass = targetClass;
   }
 
@@ -116,6 +129,9 @@ public abstract class FactoryData {
    */
   public <Q extends Quantity<Q>> Optional<ComparableQuantity<Q>> getQuantityOptional(
       String field, Unit<Q> unit) {
+    Optional<Double> typedValue = removeTypedValue(field, SqlRow::getDouble);
+    if (typedValue.isPresent()) return typedValue.map(value -> Quantities.getQuantity(value, unit));
+
     return Optional.ofNullable(fieldsToAttributes.remove(field))
         .filter(str -> !str.isEmpty())
         .map(Double::parseDouble)
@@ -151,6 +167,9 @@ public abstract class FactoryData {
    * @return double value
    */
   public double getDouble(String field) {
+    Optional<Double> typedValue = removeTypedValue(field, SqlRow::getDouble);
+    if (typedValue.isPresent()) return typedValue.get();
+
     String fieldValue = getField(field);
 
     try {
@@ -172,6 +191,9 @@ public abstract class FactoryData {
    * @return UUID
    */
   public UUID getUUID(String field) {
+    Optional<UUID> typedValue = removeTypedValue(field, SqlRow::getUUID);
+    if (typedValue.isPresent()) return typedValue.get();
+
     String fieldValue = getField(field);
 
     try {
@@ -185,6 +207,42 @@ public abstract class FactoryData {
     }
   }
 
+  /**
+   * Returns the time for given field name. Throws {@link FactoryException} if field does not exist.
+   * Times, that have been read as timestamp from a database, are taken directly, all other field
+   * values are parsed by the given {@link TimeUtil}.
+   *
+   * <p>Note: This method removes the field from the map.
+   *
+   * @param field field name
+   * @param timeUtil the time util to parse the field value with
+   * @return the time in the time zone of the time util
+   */
+  public ZonedDateTime getZonedDateTime(String field, TimeUtil timeUtil) {
+    Optional<ZonedDateTime> typedValue =
+        removeTypedValue(field, (sqlRow, name) -> sqlRow.getZonedDateTime(name, timeUtil));
+    if (typedValue.isPresent()) return typedValue.get();
+
+    return timeUtil.toZonedDateTime(getField(field));
+  }
+
+  /**
+   * Takes the typed value of the given field, if the field to value mapping is a {@link SqlRow},
+   * that holds a value of the requested type. Only in this case, the field is removed.
+   *
+   * @param field field name
+   * @param getter the getter for the typed value
+   * @param <T> type of the value
+   * @return the typed value or an empty optional, if the field value has to be parsed
+   */
+  private <T> Optional<T> removeTypedValue(
+      String field, BiFunction<SqlRow, String, Optional<T>> getter) {
+    if (!(fieldsToAttributes instanceof SqlRow sqlRow)) return Optional.empty();
+    Optional<T> value = getter.apply(sqlRow, field);
+    if (value.isPresent()) sqlRow.remove(field);
+    return value;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
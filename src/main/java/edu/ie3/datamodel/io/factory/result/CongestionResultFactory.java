@@ -25,7 +25,7 @@ public class CongestionResultFactory extends ResultEntityFactory<CongestionResul
 
   @Override
   protected CongestionResult buildModel(EntityData data) {
-    ZonedDateTime zdtTime = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime zdtTime = data.getZonedDateTime(TIME, timeUtil);
     UUID inputModel = data.getUUID(INPUT_MODEL);
 
     InputModelType type =
@@ -28,7 +28,7 @@ public class ConnectorResultFactory extends ResultEntityFactory<ConnectorResult>
   @Override
   protected ConnectorResult buildModel(EntityData data) {
     final Class<? extends Entity> entityClass = data.getTargetClass();
-    ZonedDateTime time = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime time = data.getZonedDateTime(TIME, timeUtil);
 
     UUID inputModel = data.getUUID(INPUT_MODEL);
     ComparableQuantity<ElectricCurrent> iAMag =
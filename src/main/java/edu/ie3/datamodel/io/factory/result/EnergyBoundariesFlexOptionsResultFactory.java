@@ -23,7 +23,7 @@ public class EnergyBoundariesFlexOptionsResultFactory
 
   @Override
   protected EnergyBoundariesFlexOptionsResult buildModel(EntityData data) {
-    ZonedDateTime zdtTime = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime zdtTime = data.getZonedDateTime(TIME, timeUtil);
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Energy> eMin = data.getQuantity(E_MIN, StandardUnits.ENERGY_RESULT);
     ComparableQuantity<Energy> eMax = data.getQuantity(E_MAX, StandardUnits.ENERGY_RESULT);
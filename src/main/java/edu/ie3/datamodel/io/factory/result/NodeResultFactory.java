@@ -22,7 +22,7 @@ public class NodeResultFactory extends ResultEntityFactory<NodeResult> {
 
   @Override
   protected NodeResult buildModel(EntityData data) {
-    ZonedDateTime zdtTime = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime zdtTime = data.getZonedDateTime(TIME, timeUtil);
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Dimensionless> vMagValue =
         data.getQuantity(V_MAG, StandardUnits.VOLTAGE_MAGNITUDE);
@@ -22,7 +22,7 @@ public class PowerLimitFlexOptionsResultFactory
 
   @Override
   protected PowerLimitFlexOptionsResult buildModel(EntityData data) {
-    ZonedDateTime zdtTime = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime zdtTime = data.getZonedDateTime(TIME, timeUtil);
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Power> pRef = data.getQuantity(P_REF, StandardUnits.ACTIVE_POWER_RESULT);
     ComparableQuantity<Power> pMin = data.getQuantity(P_MIN, StandardUnits.ACTIVE_POWER_RESULT);
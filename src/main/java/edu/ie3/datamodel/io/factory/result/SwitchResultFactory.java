@@ -18,7 +18,7 @@ public class SwitchResultFactory extends ResultEntityFactory<SwitchResult> {
 
   @Override
   protected SwitchResult buildModel(EntityData data) {
-    ZonedDateTime time = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime time = data.getZonedDateTime(TIME, timeUtil);
     UUID inputModel = data.getUUID(INPUT_MODEL);
 
     final boolean closed = data.getBoolean(CLOSED);
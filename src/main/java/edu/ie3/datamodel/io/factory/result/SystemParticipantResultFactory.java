@@ -44,7 +44,7 @@ public class SystemParticipantResultFactory extends ResultEntityFactory<SystemPa
   protected SystemParticipantResult buildModel(EntityData data) {
     Class<? extends Entity> entityClass = data.getTargetClass();
 
-    ZonedDateTime zdtTime = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime zdtTime = data.getZonedDateTime(TIME, timeUtil);
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Power> p = data.getQuantity(POWER, StandardUnits.ACTIVE_POWER_RESULT);
     ComparableQuantity<Power> q =
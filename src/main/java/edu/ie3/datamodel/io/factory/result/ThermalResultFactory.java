@@ -33,7 +33,7 @@ public class ThermalResultFactory extends ResultEntityFactory<ThermalUnitResult>
   protected ThermalUnitResult buildModel(EntityData data) {
     Class<? extends Entity> clazz = data.getTargetClass();
 
-    ZonedDateTime zdtTime = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime zdtTime = data.getZonedDateTime(TIME, timeUtil);
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Power> qDotQuantity = data.getQuantity(Q_DOT, StandardUnits.HEAT_DEMAND);
 
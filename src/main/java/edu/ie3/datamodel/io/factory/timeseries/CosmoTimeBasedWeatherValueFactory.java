@@ -32,7 +32,7 @@ public class CosmoTimeBasedWeatherValueFactory extends TimeBasedWeatherValueFact
   @Override
   protected TimeBasedValue<WeatherValue> buildModel(TimeBasedWeatherValueData data) {
     Point coordinate = data.getCoordinate();
-    ZonedDateTime time = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime time = data.getZonedDateTime(TIME, timeUtil);
     ComparableQuantity<Irradiance> directIrradiance =
         data.getQuantity(COSMO_DIRECT_IRRADIANCE, PowerSystemUnits.WATT_PER_SQUAREMETRE);
     ComparableQuantity<Irradiance> diffuseIrradiance =
@@ -33,7 +33,7 @@ public class IconTimeBasedWeatherValueFactory extends TimeBasedWeatherValueFacto
   @Override
   protected TimeBasedValue<WeatherValue> buildModel(TimeBasedWeatherValueData data) {
     Point coordinate = data.getCoordinate();
-    ZonedDateTime time = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime time = data.getZonedDateTime(TIME, timeUtil);
 
     SolarIrradianceValue solarIrradianceValue =
         new SolarIrradianceValue(
@@ -23,7 +23,7 @@ public class TimeBasedSimpleValueFactory<V extends Value>
   @Override
   @SuppressWarnings("unchecked")
   protected TimeBasedValue<V> buildModel(SimpleTimeBasedValueData<V> data) {
-    ZonedDateTime time = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime time = data.getZonedDateTime(TIME, timeUtil);
     V value;
 
     if (EnergyPriceValue.class.isAssignableFrom(data.getTargetClass())) {
@@ -5,12 +5,14 @@
 */
 package edu.ie3.datamodel.io.factory.timeseries;
 
+import edu.ie3.datamodel.io.connectors.SqlRow;
 import edu.ie3.datamodel.io.factory.Factory;
 import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
 import edu.ie3.datamodel.models.value.Value;
 import edu.ie3.util.TimeUtil;
 import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Abstract class that is able to build {@link TimeBasedValue}s from "flat" information
@@ -38,12 +40,17 @@ public abstract class TimeBasedValueFactory<D extends TimeBasedValueData<V>, V e
   }
 
   /**
-   * Method to extract a time string from a given map and convert into a {@link ZonedDateTime}.
+   * Method to extract a time string from a given map and convert into a {@link ZonedDateTime}. If
+   * the map is a {@link SqlRow}, that holds a timestamp, the time is taken without parsing.
    *
    * @param fieldsToAttributes map with time field
    * @return a {@link ZonedDateTime}
    */
   public ZonedDateTime extractTime(Map<String, String> fieldsToAttributes) {
+    if (fieldsToAttributes instanceof SqlRow sqlRow) {
+      Optional<ZonedDateTime> time = sqlRow.getZonedDateTime(getTimeFieldString(), timeUtil);
+      if (time.isPresent()) return time.get();
+    }
     return toZonedDateTime(fieldsToAttributes.get(getTimeFieldString()));
   }
 
@@ -0,0 +1,287 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.file;
+
+import edu.ie3.util.TimeUtil;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encodings of the columns of a {@link FileType#COLUMNAR} file. The encoding is chosen per column
+ * and row group from the values, so that each value is restored exactly as it has been written.
+ * Values, that cannot be restored exactly by a typed encoding, are written as strings. Empty
+ * values and {@code null} are both read as empty strings.
+ */
+enum ColumnEncoding {
+  /** Length prefixed UTF-8 strings */
+  STRING,
+  /** Raw IEEE 754 doubles */
+  DOUBLE,
+  /** Dictionary of the distinct UUIDs of the row group and one index per row */
+  UUID,
+  /**
+   * Epoch milliseconds, each encoded as the zig-zag delta to the previous value, and the format to
+   * restore the times with
+   */
+  TIME;
+
+  private static final ColumnEncoding[] VALUES = values();
+
+  /**
+   * Formats of times, that can be restored. The first one is used by the entity processors, all
+   * formats are restored in UTC.
+   */
+  private static final List<Function<Instant, String>> TIME_FORMATS =
+      List.of(
+          instant -> TimeUtil.withDefaults.toString(instant.atZone(ZoneOffset.UTC)),
+          instant ->
+              DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC)));
+
+  /**
+   * Chooses the most compact encoding, that restores all given values exactly
+   *
+   * @param values the values of one column of a row group
+   * @param rows the number of rows in the row group
+   * @return the encoding of the column
+   */
+  static ColumnEncoding choose(String[] values, int rows) {
+    ColumnEncoding candidate = null;
+    int timeFormat = -1;
+    for (int row = 0; row < rows; row++) {
+      String value = values[row];
+      if (isNull(value)) continue;
+      if (candidate == null) {
+        candidate = guess(value);
+        // all times of a column have to share the format of the first one
+        if (candidate == TIME) timeFormat = timeFormat(value);
+        if (candidate == TIME && timeFormat < 0) return STRING;
+      }
+      if (candidate == STRING || !candidate.restores(value, timeFormat)) return STRING;
+    }
+    // a column without any value is written as strings, which do not need a null bitmap
+    return candidate == null ? STRING : candidate;
+  }
+
+  private static ColumnEncoding guess(String value) {
+    if (value.length() == 36 && value.charAt(8) == '-') return UUID;
+    if (value.length() > 10 && value.charAt(4) == '-' && value.charAt(10) == 'T') return TIME;
+    char first = value.charAt(0);
+    if (Character.isDigit(first) || first == '-' || first == '.' || first == 'N' || first == 'I')
+      return DOUBLE;
+    return STRING;
+  }
+
+  private boolean restores(String value, int timeFormat) {
+    try {
+      return switch (this) {
+        case STRING -> true;
+        case DOUBLE -> Double.toString(Double.parseDouble(value)).equals(value);
+        case UUID -> java.util.UUID.fromString(value).toString().equals(value);
+        case TIME -> formatTime(parseTime(value), timeFormat).equals(value);
+      };
+    } catch (IllegalArgumentException | DateTimeParseException | ArithmeticException e) {
+      return false;
+    }
+  }
+
+  /** Returns the index of the first format, that restores the given time, or -1 */
+  private static int timeFormat(String value) {
+    for (int format = 0; format < TIME_FORMATS.size(); format++)
+      if (TIME.restores(value, format)) return format;
+    return -1;
+  }
+
+  static long parseTime(String value) {
+    return ZonedDateTime.parse(value).toInstant().toEpochMilli();
+  }
+
+  private static String formatTime(long epochMillis, int format) {
+    return TIME_FORMATS.get(format).apply(Instant.ofEpochMilli(epochMillis));
+  }
+
+  static boolean isNull(String value) {
+    return value == null || value.isEmpty();
+  }
+
+  /**
+   * Writes the given values of one column
+   *
+   * @param values the values of the column
+   * @param rows the number of rows in the row group
+   * @param out the output to write to
+   * @throws IOException if writing fails
+   */
+  void write(String[] values, int rows, DataOutput out) throws IOException {
+    out.writeByte(ordinal());
+    if (this == STRING) {
+      for (int row = 0; row < rows; row++) {
+        byte[] bytes =
+            isNull(values[row]) ? new byte[0] : values[row].getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+      }
+      return;
+    }
+
+    writeNullBitmap(values, rows, out);
+    switch (this) {
+      case DOUBLE -> {
+        for (int row = 0; row < rows; row++)
+          if (!isNull(values[row])) out.writeDouble(Double.parseDouble(values[row]));
+      }
+      case UUID -> {
+        Map<java.util.UUID, Integer> dictionary = new LinkedHashMap<>();
+        int[] indices = new int[rows];
+        for (int row = 0; row < rows; row++)
+          if (!isNull(values[row]))
+            indices[row] =
+                dictionary.computeIfAbsent(
+                    java.util.UUID.fromString(values[row]), uuid -> dictionary.size());
+        writeVarLong(out, dictionary.size());
+        for (java.util.UUID uuid : dictionary.keySet()) {
+          out.writeLong(uuid.getMostSignificantBits());
+          out.writeLong(uuid.getLeastSignificantBits());
+        }
+        for (int row = 0; row < rows; row++)
+          if (!isNull(values[row])) writeVarLong(out, indices[row]);
+      }
+      case TIME -> {
+        int format = -1;
+        for (int row = 0; row < rows && format < 0; row++)
+          if (!isNull(values[row])) format = timeFormat(values[row]);
+        out.writeByte(format);
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+          if (isNull(values[row])) continue;
+          long time = parseTime(values[row]);
+          writeVarLong(out, zigZag(time - previous));
+          previous = time;
+        }
+      }
+      default -> throw new IllegalStateException("Unexpected encoding " + this);
+    }
+  }
+
+  /**
+   * Reads the values of one column, that has been written by {@link #write(String[], int,
+   * DataOutput)}
+   *
+   * @param in the input to read from
+   * @param rows the number of rows in the row group
+   * @return the values of the column
+   * @throws IOException if reading fails or the data is malformed
+   */
+  static String[] read(DataInput in, int rows) throws IOException {
+    int ordinal = in.readUnsignedByte();
+    if (ordinal >= VALUES.length)
+      throw new IOException("Unknown column encoding " + ordinal + ".");
+    ColumnEncoding encoding = VALUES[ordinal];
+    String[] values = new String[rows];
+
+    if (encoding == STRING) {
+      for (int row = 0; row < rows; row++) {
+        byte[] bytes = new byte[Math.toIntExact(readVarLong(in))];
+        in.readFully(bytes);
+        values[row] = new String(bytes, StandardCharsets.UTF_8);
+      }
+      return values;
+    }
+
+    boolean[] nulls = readNullBitmap(in, rows);
+    switch (encoding) {
+      case DOUBLE -> {
+        for (int row = 0; row < rows; row++)
+          if (!nulls[row]) values[row] = Double.toString(in.readDouble());
+      }
+      case UUID -> {
+        String[] dictionary = new String[Math.toIntExact(readVarLong(in))];
+        for (int index = 0; index < dictionary.length; index++)
+          dictionary[index] = new java.util.UUID(in.readLong(), in.readLong()).toString();
+        for (int row = 0; row < rows; row++) {
+          if (nulls[row]) continue;
+          long index = readVarLong(in);
+          if (index >= dictionary.length)
+            throw new IOException("Dictionary index " + index + " is out of bounds.");
+          values[row] = dictionary[(int) index];
+        }
+      }
+      case TIME -> {
+        int format = in.readUnsignedByte();
+        if (format >= TIME_FORMATS.size())
+          throw new IOException("Unknown time format " + format + ".");
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+          if (nulls[row]) continue;
+          previous += unZigZag(readVarLong(in));
+          values[row] = formatTime(previous, format);
+        }
+      }
+      default -> throw new IllegalStateException("Unexpected encoding " + encoding);
+    }
+    for (int row = 0; row < rows; row++) if (nulls[row]) values[row] = "";
+    return values;
+  }
+
+  private static void writeNullBitmap(String[] values, int rows, DataOutput out)
+      throws IOException {
+    byte[] bitmap = new byte[(rows + 7) / 8];
+    boolean anyNull = false;
+    for (int row = 0; row < rows; row++) {
+      if (isNull(values[row])) {
+        bitmap[row / 8] |= (byte) (1 << (row % 8));
+        anyNull = true;
+      }
+    }
+    out.writeBoolean(anyNull);
+    if (anyNull) out.write(bitmap);
+  }
+
+  private static boolean[] readNullBitmap(DataInput in, int rows) throws IOException {
+    boolean[] nulls = new boolean[rows];
+    if (!in.readBoolean()) return nulls;
+    byte[] bitmap = new byte[(rows + 7) / 8];
+    in.readFully(bitmap);
+    for (int row = 0; row < rows; row++) nulls[row] = (bitmap[row / 8] & (1 << (row % 8))) != 0;
+    return nulls;
+  }
+
+  static void writeVarLong(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  static long readVarLong(DataInput in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed variable length number.");
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.file;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Reads a binary, columnar file, that has been written by {@link ColumnarFileWriter}. The file is
+ * read row group by row group. Row groups, whose time range does not overlap the requested
+ * interval, are skipped without decoding.
+ */
+public final class ColumnarFileReader implements Closeable {
+  private final Path filePath;
+  private final DataInputStream in;
+  private final String[] columns;
+
+  private boolean finished = false;
+  private long readRowGroups = 0;
+  private long skippedRowGroups = 0;
+
+  private ColumnarFileReader(Path filePath, DataInputStream in, String[] columns) {
+    this.filePath = filePath;
+    this.in = in;
+    this.columns = columns;
+  }
+
+  /**
+   * Opens the given file and reads its columns
+   *
+   * @param filePath the full path of the file
+   * @return a reader, that should be closed after usage
+   * @throws FileNotFoundException if the file does not exist
+   * @throws IOException if the file is not a columnar file or cannot be read
+   */
+  public static ColumnarFileReader open(Path filePath) throws IOException {
+    if (!Files.isRegularFile(filePath))
+      throw new FileNotFoundException("File '" + filePath + "' does not exist.");
+
+    DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath), 65536));
+    try {
+      byte[] magic = new byte[ColumnarFileWriter.MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(magic, ColumnarFileWriter.MAGIC))
+        throw new IOException("The file '" + filePath + "' is not a columnar file.");
+
+      String[] columns = new String[Math.toIntExact(ColumnEncoding.readVarLong(in))];
+      for (int column = 0; column < columns.length; column++) columns[column] = in.readUTF();
+      return new ColumnarFileReader(filePath, in, columns);
+    } catch (IOException e) {
+      in.close();
+      if (e instanceof EOFException)
+        throw new IOException("The file '" + filePath + "' is truncated.", e);
+      throw e;
+    }
+  }
+
+  public String[] getColumns() {
+    return columns.clone();
+  }
+
+  /**
+   * Reads the rows of the next row group, that overlaps the given interval. Row groups without
+   * time statistics always overlap. As row groups are only selected as a whole, the rows may lie
+   * outside of the interval.
+   *
+   * @param fromMillis the inclusive start of the interval in epoch milliseconds
+   * @param toMillis the inclusive end of the interval in epoch milliseconds
+   * @return the rows of the row group with their values in the order of the columns or {@code
+   *     null}, if there are no more row groups
+   * @throws IOException if the file cannot be read or is malformed
+   */
+  public String[][] nextRowGroup(long fromMillis, long toMillis) throws IOException {
+    try {
+      while (!finished) {
+        byte marker = in.readByte();
+        if (marker == ColumnarFileWriter.END_MARKER) {
+          finished = true;
+          return null;
+        }
+        if (marker != ColumnarFileWriter.ROW_GROUP_MARKER)
+          throw new IOException("Malformed row group in file '" + filePath + "'.");
+
+        int rows = Math.toIntExact(ColumnEncoding.readVarLong(in));
+        long minTime = in.readLong();
+        long maxTime = in.readLong();
+        int byteLength = in.readInt();
+        if (maxTime < fromMillis || minTime > toMillis) {
+          in.skipNBytes(byteLength);
+          skippedRowGroups++;
+          continue;
+        }
+
+        String[][] rowValues = new String[rows][columns.length];
+        for (int column = 0; column < columns.length; column++) {
+          String[] values = ColumnEncoding.read(in, rows);
+          for (int row = 0; row < rows; row++) rowValues[row][column] = values[row];
+        }
+        readRowGroups++;
+        return rowValues;
+      }
+      return null;
+    } catch (EOFException e) {
+      throw new IOException("The file '" + filePath + "' is truncated.", e);
+    }
+  }
+
+  /**
+   * @return the number of row groups, that have been decoded so far
+   */
+  public long getReadRowGroups() {
+    return readRowGroups;
+  }
+
+  /**
+   * @return the number of row groups, that have been skipped so far
+   */
+  public long getSkippedRowGroups() {
+    return skippedRowGroups;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.file;
+
+import edu.ie3.datamodel.exceptions.SinkException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Writes rows to a binary, columnar file of {@link FileType#COLUMNAR}. The rows are buffered and
+ * written in row groups of fixed size. Within a row group, each column is encoded on its own (see
+ * {@link ColumnEncoding}): UUIDs are dictionary encoded, times are delta encoded epoch
+ * milliseconds and doubles are written as raw IEEE 754 values. Each row group states the minimum
+ * and maximum value of the {@link #TIME_COLUMN}, so that readers can skip row groups outside of a
+ * requested interval without decoding them.
+ *
+ * <p>The layout of a file is:
+ *
+ * <pre>
+ * file      := magic column-count column-name* row-group* end-marker
+ * row-group := group-marker row-count min-time max-time byte-length column*
+ * </pre>
+ */
+public final class ColumnarFileWriter implements Closeable {
+  /** The default number of rows per row group */
+  public static final int DEFAULT_ROW_GROUP_SIZE = 4096;
+
+  /** Name of the column, whose range is stated per row group */
+  public static final String TIME_COLUMN = "time";
+
+  static final byte[] MAGIC = "PSDMCOL1".getBytes(StandardCharsets.US_ASCII);
+  static final byte ROW_GROUP_MARKER = 1;
+  static final byte END_MARKER = 0;
+
+  private final Path filePath;
+  private final String[] columns;
+  private final int timeColumn;
+  private final int rowGroupSize;
+  private final DataOutputStream out;
+
+  /* The buffered rows of the current row group, column by column */
+  private final String[][] buffer;
+  private int rows = 0;
+  private boolean closed = false;
+
+  /**
+   * Creates a new file, that replaces an existing file (if any)
+   *
+   * @param filePath the full path of the file
+   * @param columns the names of the columns
+   * @param rowGroupSize the number of rows per row group
+   * @throws IOException if the file cannot be created
+   */
+  public ColumnarFileWriter(Path filePath, String[] columns, int rowGroupSize) throws IOException {
+    if (rowGroupSize <= 0)
+      throw new IllegalArgumentException("The row group size has to be positive.");
+    this.filePath = filePath;
+    this.columns = columns.clone();
+    this.timeColumn = Arrays.asList(columns).indexOf(TIME_COLUMN);
+    this.rowGroupSize = rowGroupSize;
+    this.buffer = new String[columns.length][rowGroupSize];
+    this.out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath), 65536));
+
+    out.write(MAGIC);
+    ColumnEncoding.writeVarLong(out, columns.length);
+    for (String column : columns) out.writeUTF(column);
+  }
+
+  public Path getFilePath() {
+    return filePath;
+  }
+
+  /**
+   * Buffers one row and writes the row group, once it is full
+   *
+   * @param values the values of the row in the order of the columns
+   * @throws IOException if writing has failed
+   * @throws SinkException if the number of values does not meet the columns
+   */
+  public synchronized void writeRow(String[] values) throws IOException, SinkException {
+    if (closed) throw new IOException("The file '" + filePath + "' is already closed.");
+    if (values.length != columns.length)
+      throw new SinkException(
+          "The provided row of "
+              + values.length
+              + " values does not meet the pre-defined columns '"
+              + String.join(",", columns)
+              + "'.");
+    for (int column = 0; column < columns.length; column++) buffer[column][rows] = values[column];
+    if (++rows == rowGroupSize) writeRowGroup();
+  }
+
+  /**
+   * Writes the buffered rows as a (smaller) row group and flushes the file
+   *
+   * @throws IOException if writing has failed
+   */
+  public synchronized void flush() throws IOException {
+    if (closed) return;
+    writeRowGroup();
+    out.flush();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) return;
+    try {
+      writeRowGroup();
+      out.writeByte(END_MARKER);
+    } finally {
+      closed = true;
+      out.close();
+    }
+  }
+
+  private void writeRowGroup() throws IOException {
+    if (rows == 0) return;
+
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    DataOutputStream bodyOut = new DataOutputStream(body);
+    for (int column = 0; column < columns.length; column++) {
+      ColumnEncoding encoding = ColumnEncoding.choose(buffer[column], rows);
+      encoding.write(buffer[column], rows, bodyOut);
+    }
+
+    // the range is independent of the encoding, as times of mixed formats are written as strings
+    long minTime = Long.MIN_VALUE;
+    long maxTime = Long.MAX_VALUE;
+    long[] range = timeColumn < 0 ? null : timeRange(buffer[timeColumn]);
+    if (range != null) {
+      minTime = range[0];
+      maxTime = range[1];
+    }
+
+    out.writeByte(ROW_GROUP_MARKER);
+    ColumnEncoding.writeVarLong(out, rows);
+    out.writeLong(minTime);
+    out.writeLong(maxTime);
+    out.writeInt(body.size());
+    body.writeTo(out);
+
+    for (String[] column : buffer) Arrays.fill(column, 0, rows, null);
+    rows = 0;
+  }
+
+  /** Returns the range of the given times or null, if any of them is missing or no time */
+  private long[] timeRange(String[] times) {
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int row = 0; row < rows; row++) {
+      if (ColumnEncoding.isNull(times[row])) return null;
+      try {
+        long time = ColumnEncoding.parseTime(times[row]);
+        min = Math.min(min, time);
+        max = Math.max(max, time);
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+    return new long[] {min, max};
+  }
+}
@@ -10,7 +10,11 @@ import java.util.Arrays;
 import java.util.stream.Collectors;
 
 public enum FileType {
-  CSV(".csv");
+  CSV(".csv"),
+  /** Gzip compressed csv files */
+  CSV_GZ(".csv.gz"),
+  /** Binary columnar files, see {@link ColumnarFileWriter} */
+  COLUMNAR(".psdmcol");
 
   public final String fileEnding;
 
@@ -18,6 +22,20 @@ public enum FileType {
     this.fileEnding = fileEnding;
   }
 
+  /**
+   * @return true, if files of this type contain csv data, no matter if compressed or not
+   */
+  public boolean isCsv() {
+    return this == CSV || this == CSV_GZ;
+  }
+
+  /**
+   * @return true, if files of this type are gzip compressed
+   */
+  public boolean isCompressed() {
+    return this == CSV_GZ;
+  }
+
   public static FileType getFileType(String fileName) throws ParsingException {
     FileType[] fileTypes = FileType.values();
     return Arrays.stream(fileTypes)
@@ -0,0 +1,175 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An output stream, that compresses its data in gzip format on multiple cores. The data is split
+ * into blocks of fixed size, which are compressed in parallel to independent gzip members and
+ * written in order. As the gzip format allows for concatenated members, the result can be read by
+ * any gzip decoder, e.g. {@link java.util.zip.GZIPInputStream}. Only the codecs of the JDK are
+ * used.
+ *
+ * <p>In contrast to a plain stream, {@link #flush()} only writes blocks, that are already
+ * compressed, as flushing partial blocks would ruin the compression ratio. All data reaches the
+ * underlying stream, when the stream is finished or closed.
+ */
+public final class ParallelGzipOutputStream extends OutputStream {
+  /** The default size of a block of uncompressed data */
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+  private final OutputStream out;
+  private final int blockSize;
+  private final int maxPendingBlocks;
+  private final Executor executor;
+
+  /** Blocks, that are being compressed, in the order of their data */
+  private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+
+  private byte[] block;
+  private int position = 0;
+  private boolean anyBlockWritten = false;
+  private boolean closed = false;
+
+  /**
+   * Creates a stream, that compresses blocks of {@link #DEFAULT_BLOCK_SIZE} on the common fork join
+   * pool, with up to two blocks per available core being compressed at the same time.
+   *
+   * @param out the stream to write the compressed data to
+   */
+  public ParallelGzipOutputStream(OutputStream out) {
+    this(
+        out,
+        DEFAULT_BLOCK_SIZE,
+        2 * Runtime.getRuntime().availableProcessors(),
+        ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a stream, that compresses its data in parallel
+   *
+   * @param out the stream to write the compressed data to
+   * @param blockSize the size of the uncompressed blocks, that are compressed independently
+   * @param maxPendingBlocks the maximum number of blocks, that are being compressed at the same
+   *     time. Writing is blocked, while this number is reached.
+   * @param executor the executor, that compresses the blocks
+   */
+  public ParallelGzipOutputStream(
+      OutputStream out, int blockSize, int maxPendingBlocks, Executor executor) {
+    if (blockSize <= 0) throw new IllegalArgumentException("The block size has to be positive.");
+    if (maxPendingBlocks <= 0)
+      throw new IllegalArgumentException("The number of pending blocks has to be positive.");
+    this.out = out;
+    this.blockSize = blockSize;
+    this.maxPendingBlocks = maxPendingBlocks;
+    this.executor = executor;
+    this.block = new byte[blockSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    checkOpen();
+    block[position++] = (byte) b;
+    if (position == blockSize) submitBlock();
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    checkOpen();
+    while (length > 0) {
+      int chunk = Math.min(length, blockSize - position);
+      System.arraycopy(bytes, offset, block, position, chunk);
+      position += chunk;
+      offset += chunk;
+      length -= chunk;
+      if (position == blockSize) submitBlock();
+    }
+  }
+
+  /**
+   * Writes all blocks, that are already compressed, and flushes the underlying stream. The current
+   * partial block is kept, until it is full or the stream is finished.
+   *
+   * @throws IOException if writing fails
+   */
+  @Override
+  public void flush() throws IOException {
+    checkOpen();
+    while (!pending.isEmpty() && pending.peekFirst().isDone()) writeOldest();
+    out.flush();
+  }
+
+  /**
+   * Compresses and writes all remaining data without closing the underlying stream
+   *
+   * @throws IOException if writing fails
+   */
+  public void finish() throws IOException {
+    checkOpen();
+    // an empty stream still needs one member to be a valid gzip file
+    if (position > 0 || !anyBlockWritten) submitBlock();
+    while (!pending.isEmpty()) writeOldest();
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) return;
+    try {
+      finish();
+    } finally {
+      closed = true;
+      pending.forEach(future -> future.cancel(false));
+      out.close();
+    }
+  }
+
+  private void submitBlock() throws IOException {
+    byte[] data = block;
+    int length = position;
+    pending.addLast(CompletableFuture.supplyAsync(() -> compress(data, length), executor));
+    anyBlockWritten = true;
+    block = new byte[blockSize];
+    position = 0;
+    while (pending.size() > maxPendingBlocks) writeOldest();
+  }
+
+  private void writeOldest() throws IOException {
+    CompletableFuture<byte[]> oldest = pending.removeFirst();
+    try {
+      out.write(oldest.join());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException uncheckedIOException)
+        throw uncheckedIOException.getCause();
+      throw new IOException("Compressing a block has failed.", e.getCause());
+    }
+  }
+
+  private static byte[] compress(byte[] data, int length) {
+    ByteArrayOutputStream member = new ByteArrayOutputStream(length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(member, 8192)) {
+      gzip.write(data, 0, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return member.toByteArray();
+  }
+
+  private void checkOpen() throws IOException {
+    if (closed) throw new IOException("The stream is already closed.");
+  }
+}
@@ -14,10 +14,10 @@ import edu.ie3.datamodel.utils.Try.Success;
 import edu.ie3.util.exceptions.QuantityException;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.SortedMap;
 import javax.measure.Quantity;
-import javax.measure.quantity.Energy;
-import javax.measure.quantity.Power;
+import javax.measure.Unit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +35,9 @@ public abstract class EntityProcessor<T extends Entity> extends Processor<T> {
   protected final String[] headerElements;
   private final SortedMap<String, GetterMethod> fieldNameToMethod;
 
+  /** Serializers of all fields in the order of the header elements */
+  private final List<FieldSerializer> fieldSerializers;
+
   private static final String NODE_INTERNAL = "nodeInternal";
 
   /**
@@ -47,6 +50,7 @@ public abstract class EntityProcessor<T extends Entity> extends Processor<T> {
     this.fieldNameToMethod =
         mapFieldNameToGetter(registeredClass, List.of(NODE_INTERNAL, ADDITIONAL_INFORMATION));
     this.headerElements = fieldNameToMethod.keySet().toArray(new String[0]);
+    this.fieldSerializers = compileSerializers(fieldNameToMethod);
   }
 
   /**
@@ -57,6 +61,40 @@ public abstract class EntityProcessor<T extends Entity> extends Processor<T> {
    *     during processing
    */
   public LinkedHashMap<String, String> handleEntity(T entity) throws EntityProcessorException {
+    checkRegisteredClass(entity);
+    return processObject(entity, fieldSerializers);
+  }
+
+  /**
+   * Handles an entity without building a map. The values are written to the given array in the
+   * order of the {@link #getHeaderElements()}, hence the array can be reused for all entities of
+   * the registered class.
+   *
+   * @param entity the entity that should be 'serialized'
+   * @param values the array to write the field values to, which needs to have the length of the
+   *     header elements
+   */
+  public void handleEntity(T entity, String[] values) throws EntityProcessorException {
+    checkRegisteredClass(entity);
+    if (values.length != fieldSerializers.size())
+      throw new EntityProcessorException(
+          "The provided array of length "
+              + values.length
+              + " does not fit the "
+              + fieldSerializers.size()
+              + " header elements of "
+              + registeredClass.getSimpleName()
+              + ".class.");
+
+    StringBuilder buffer = new StringBuilder();
+    for (int i = 0; i < values.length; i++) {
+      buffer.setLength(0);
+      fieldSerializers.get(i).append(entity, buffer);
+      values[i] = buffer.toString();
+    }
+  }
+
+  private void checkRegisteredClass(T entity) throws EntityProcessorException {
     if (!registeredClass.isAssignableFrom(entity.getClass()))
       throw new EntityProcessorException(
           "Cannot process "
@@ -66,33 +104,46 @@ public abstract class EntityProcessor<T extends Entity> extends Processor<T> {
               + ".class or create a new processor for "
               + entity.getClass().getSimpleName()
               + ".class!");
+  }
 
-    return processObject(entity, fieldNameToMethod);
+  /**
+   * Appends the value of a single field of the entity to the given buffer. Missing values are not
+   * appended at all. In contrast to {@link #handleEntity(Entity)}, the class of the entity is not
+   * checked.
+   *
+   * @param entity the entity to serialize
+   * @param fieldIndex the index of the field within the {@link #getHeaderElements()}
+   * @param buffer the buffer to append the value to
+   */
+  public void appendFieldValue(T entity, int fieldIndex, StringBuilder buffer)
+      throws EntityProcessorException {
+    fieldSerializers.get(fieldIndex).append(entity, buffer);
   }
 
   @Override
   protected Try<String, QuantityException> handleProcessorSpecificQuantity(
       Quantity<?> quantity, String fieldName) {
+    return getSpecificQuantityUnit(fieldName)
+        .<Try<String, QuantityException>>map(
+            unit -> Success.of(quantityValToOptionalString(toUnit(quantity, unit))))
+        .orElseGet(
+            () ->
+                Failure.of(
+                    new QuantityException(
+                        "Cannot process quantity with value '"
+                            + quantity
+                            + "' for field with name "
+                            + fieldName
+                            + " in input entity processing!")));
+  }
+
+  @Override
+  protected Optional<Unit<?>> getSpecificQuantityUnit(String fieldName) {
     return switch (fieldName) {
-      case "energy", "eConsAnnual", "eStorage":
-        yield Success.of(
-            quantityValToOptionalString(quantity.asType(Energy.class).to(StandardUnits.ENERGY_IN)));
-      case "q":
-        yield Success.of(
-            quantityValToOptionalString(
-                quantity.asType(Power.class).to(StandardUnits.REACTIVE_POWER_IN)));
-      case "p", "pMax", "pOwn", "pThermal":
-        yield Success.of(
-            quantityValToOptionalString(
-                quantity.asType(Power.class).to(StandardUnits.ACTIVE_POWER_IN)));
-      default:
-        yield Failure.of(
-            new QuantityException(
-                "Cannot process quantity with value '"
-                    + quantity
-                    + "' for field with name "
-                    + fieldName
-                    + " in input entity processing!"));
+      case "energy", "eConsAnnual", "eStorage" -> Optional.of(StandardUnits.ENERGY_IN);
+      case "q" -> Optional.of(StandardUnits.REACTIVE_POWER_IN);
+      case "p", "pMax", "pOwn", "pThermal" -> Optional.of(StandardUnits.ACTIVE_POWER_IN);
+      default -> Optional.empty();
     };
   }
 
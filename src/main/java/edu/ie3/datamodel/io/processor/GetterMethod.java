@@ -5,13 +5,21 @@
 */
 package edu.ie3.datamodel.io.processor;
 
+import java.lang.invoke.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 public record GetterMethod(String name, Getter getter, String returnType) {
 
+  /**
+   * Creates a getter, that invokes the given method. If possible, the method is bound to a
+   * generated function once, so that invoking it does not involve any reflection.
+   *
+   * @param method the getter method
+   */
   public GetterMethod(Method method) {
-    this(method.getName(), method::invoke, method.getReturnType().getSimpleName());
+    this(method.getName(), compile(method), method.getReturnType().getSimpleName());
   }
 
   public Object invoke(Object object)
@@ -24,4 +32,34 @@ public record GetterMethod(String name, Getter getter, String returnType) {
     Object get(Object object)
         throws IllegalAccessException, IllegalArgumentException, InvocationTargetException;
   }
+
+  @SuppressWarnings("unchecked")
+  private static Getter compile(Method method) {
+    Function<Object, Object> function;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle handle = lookup.unreflect(method);
+      CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "apply",
+              MethodType.methodType(Function.class),
+              MethodType.methodType(Object.class, Object.class),
+              handle,
+              MethodType.methodType(method.getReturnType(), method.getDeclaringClass()).wrap());
+      function = (Function<Object, Object>) site.getTarget().invokeExact();
+    } catch (Throwable e) {
+      // e.g. methods of classes, that are not accessible from here, are invoked reflectively
+      return method::invoke;
+    }
+
+    return object -> {
+      try {
+        return function.apply(object);
+      } catch (RuntimeException e) {
+        // same as for reflective invocation
+        throw new InvocationTargetException(e);
+      }
+    };
+  }
 }
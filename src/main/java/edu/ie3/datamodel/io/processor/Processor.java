@@ -19,7 +19,6 @@ import edu.ie3.datamodel.models.profile.PowerProfileKey;
 import edu.ie3.datamodel.models.result.CongestionResult;
 import edu.ie3.datamodel.models.voltagelevels.VoltageLevel;
 import edu.ie3.datamodel.utils.Try;
-import edu.ie3.datamodel.utils.Try.Failure;
 import edu.ie3.datamodel.utils.Try.Success;
 import edu.ie3.util.TimeUtil;
 import edu.ie3.util.exceptions.QuantityException;
@@ -29,6 +28,7 @@ import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.measure.Quantity;
+import javax.measure.Unit;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.io.geojson.GeoJsonWriter;
 import org.slf4j.Logger;
@@ -182,6 +182,58 @@ public abstract class Processor<T> {
     return Collections.unmodifiableSortedMap(sortedMap);
   }
 
+  /**
+   * Appends the string representation of a value to a buffer. The writer is chosen once per field
+   * by {@link #valueWriter(GetterMethod, String)}, hence no type dispatch is needed per value.
+   */
+  @FunctionalInterface
+  protected interface ValueWriter {
+    void write(Object value, StringBuilder buffer) throws EntityProcessorException;
+  }
+
+  /**
+   * Serializer of a single field, that combines the getter of the field with the matching value
+   * writer
+   *
+   * @param fieldName the name of the field
+   * @param getter the getter of the field
+   * @param writer the writer for the values returned by the getter
+   */
+  protected record FieldSerializer(String fieldName, GetterMethod getter, ValueWriter writer) {
+    /**
+     * Appends the value of this field of the given object to the buffer. Missing values are not
+     * appended at all, as by convention null == missing value == "" when persisting data.
+     *
+     * @param object the object to get the value from
+     * @param buffer the buffer to append to
+     */
+    public void append(Object object, StringBuilder buffer) throws EntityProcessorException {
+      Object value;
+      try {
+        value = getter.invoke(object);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new EntityProcessorException("Processing of object " + object + "failed.", e);
+      }
+      if (value != null) writer.write(value, buffer);
+    }
+  }
+
+  /**
+   * Builds the serializers for the given fields. All type dependent decisions are taken here, so
+   * that serializing a value only needs to invoke the getter and the writer.
+   *
+   * @param fieldNameToGetter Mapping from field name to getter
+   * @return the serializers in the order of the given mapping
+   */
+  protected List<FieldSerializer> compileSerializers(Map<String, GetterMethod> fieldNameToGetter) {
+    List<FieldSerializer> serializers = new ArrayList<>(fieldNameToGetter.size());
+    fieldNameToGetter.forEach(
+        (fieldName, getter) ->
+            serializers.add(
+                new FieldSerializer(fieldName, getter, valueWriter(getter, fieldName))));
+    return Collections.unmodifiableList(serializers);
+  }
+
   /**
    * Processes the object to a map from field name to value as String representation
    *
@@ -191,24 +243,26 @@ public abstract class Processor<T> {
    */
   protected LinkedHashMap<String, String> processObject(
       Object object, Map<String, GetterMethod> fieldNameToGetter) throws EntityProcessorException {
-    try {
-      LinkedHashMap<String, String> resultMap = new LinkedHashMap<>();
-      for (Map.Entry<String, GetterMethod> entry : fieldNameToGetter.entrySet()) {
-        String fieldName = entry.getKey();
-        GetterMethod getter = entry.getValue();
-        Optional<Object> methodReturnObjectOpt = Optional.ofNullable(getter.invoke(object));
-
-        if (methodReturnObjectOpt.isPresent()) {
-          resultMap.put(
-              fieldName, processMethodResult(methodReturnObjectOpt.get(), getter, fieldName));
-        } else {
-          resultMap.put(fieldName, "");
-        }
-      }
-      return resultMap;
-    } catch (IllegalAccessException | InvocationTargetException e) {
-      throw new EntityProcessorException("Processing of object " + object + "failed.", e);
+    return processObject(object, compileSerializers(fieldNameToGetter));
+  }
+
+  /**
+   * Processes the object to a map from field name to value as String representation
+   *
+   * @param object The object to process
+   * @param serializers the serializers of all fields to process
+   * @return Mapping from field name to value as String representation
+   */
+  protected LinkedHashMap<String, String> processObject(
+      Object object, List<FieldSerializer> serializers) throws EntityProcessorException {
+    LinkedHashMap<String, String> resultMap = LinkedHashMap.newLinkedHashMap(serializers.size());
+    StringBuilder buffer = new StringBuilder();
+    for (FieldSerializer serializer : serializers) {
+      buffer.setLength(0);
+      serializer.append(object, buffer);
+      resultMap.put(serializer.fieldName(), buffer.toString());
     }
+    return resultMap;
   }
 
   /**
@@ -222,10 +276,21 @@ public abstract class Processor<T> {
   protected String processMethodResult(
       Object methodReturnObject, GetterMethod method, String fieldName)
       throws EntityProcessorException {
-
     StringBuilder resultStringBuilder = new StringBuilder();
+    valueWriter(method, fieldName).write(methodReturnObject, resultStringBuilder);
+    return resultStringBuilder.toString();
+  }
 
-    switch (method.returnType()) {
+  /**
+   * Chooses the writer for the values returned by the given method, taking care of different
+   * conventions.
+   *
+   * @param method The method, that is invoked
+   * @param fieldName Name of the foreseen field
+   * @return the writer for the values of the field
+   */
+  protected ValueWriter valueWriter(GetterMethod method, String fieldName) {
+    return switch (method.returnType()) {
       // primitives (Boolean, Character, Byte, Short, Integer, Long, Float, Double, String,
       case "UUID",
           "boolean",
@@ -236,45 +301,38 @@ public abstract class Processor<T> {
           "Season",
           "ChargingPointType",
           "EvcsLocationType" ->
-          resultStringBuilder.append(methodReturnObject.toString());
-      case "Quantity", "ComparableQuantity" ->
-          resultStringBuilder.append(handleQuantity((Quantity<?>) methodReturnObject, fieldName));
-      case "Optional" ->
-          // only quantity optionals are expected here!
-          // if optional and present, unpack value and call this method again, if not present return
-          // an empty string as by convention null == missing value == "" when persisting data
-          resultStringBuilder.append(
-              ((Optional<?>) methodReturnObject)
-                  .map(
-                      o -> {
-                        if (o instanceof Quantity<?> quantity) {
-                          return Try.of(
-                              () -> handleQuantity(quantity, fieldName),
-                              EntityProcessorException.class);
-                        } else if (o instanceof UniqueEntity entity) {
-                          return Try.of(entity::getUuid, EntityProcessorException.class);
-                        } else {
-                          return Failure.of(
-                              new EntityProcessorException(
-                                  "Handling of "
-                                      + o.getClass().getSimpleName()
-                                      + ".class instance wrapped into Optional is currently not supported by entity processors!"));
-                        }
-                      })
-                  .orElse(Success.of("")) // (in case of empty optional)
-                  .getOrThrow());
+          (value, buffer) -> buffer.append(value);
+      case "Quantity", "ComparableQuantity" -> quantityWriter(fieldName);
+      case "Optional" -> {
+        // only quantity optionals are expected here!
+        // if optional and present, unpack value and write it, if not present write nothing as by
+        // convention null == missing value == "" when persisting data
+        ValueWriter quantityWriter = quantityWriter(fieldName);
+        yield (value, buffer) -> {
+          Object o = ((Optional<?>) value).orElse(null);
+          if (o == null) return;
+          if (o instanceof Quantity<?>) {
+            quantityWriter.write(o, buffer);
+          } else if (o instanceof UniqueEntity entity) {
+            buffer.append(entity.getUuid());
+          } else {
+            throw new EntityProcessorException(
+                "Handling of "
+                    + o.getClass().getSimpleName()
+                    + ".class instance wrapped into Optional is currently not supported by entity processors!");
+          }
+        };
+      }
       case "ZonedDateTime" ->
-          resultStringBuilder.append(processZonedDateTime((ZonedDateTime) methodReturnObject));
+          (value, buffer) -> buffer.append(processZonedDateTime((ZonedDateTime) value));
       case "OperationTime" ->
-          resultStringBuilder.append(
-              processOperationTime((OperationTime) methodReturnObject, fieldName));
+          (value, buffer) -> buffer.append(processOperationTime((OperationTime) value, fieldName));
       case "VoltageLevel" ->
-          resultStringBuilder.append(
-              processVoltageLevel((VoltageLevel) methodReturnObject, fieldName));
+          (value, buffer) -> buffer.append(processVoltageLevel((VoltageLevel) value, fieldName));
       case "Point", "LineString" ->
-          resultStringBuilder.append(geoJsonWriter.write((Geometry) methodReturnObject));
+          (value, buffer) -> buffer.append(geoJsonWriter.write((Geometry) value));
       case "LoadProfile", "BdewStandardLoadProfile", "RandomLoadProfile" ->
-          resultStringBuilder.append(((LoadProfile) methodReturnObject).getKey());
+          (value, buffer) -> buffer.append(((LoadProfile) value).getKey());
       case "AssetTypeInput",
           "AcTypeInput",
           "BmTypeInput",
@@ -293,12 +351,13 @@ public abstract class Processor<T> {
           "Transformer3WTypeInput",
           "WecTypeInput",
           "EmInput" ->
-          resultStringBuilder.append(((UniqueEntity) methodReturnObject).getUuid());
+          (value, buffer) -> buffer.append(((UniqueEntity) value).getUuid());
       case "OperatorInput" ->
-          resultStringBuilder.append(
-              ((OperatorInput) methodReturnObject).getId().equalsIgnoreCase("NO_OPERATOR_ASSIGNED")
-                  ? ""
-                  : ((OperatorInput) methodReturnObject).getUuid());
+          (value, buffer) -> {
+            OperatorInput operator = (OperatorInput) value;
+            if (!operator.getId().equalsIgnoreCase("NO_OPERATOR_ASSIGNED"))
+              buffer.append(operator.getUuid());
+          };
       case "EvCharacteristicInput",
           "OlmCharacteristicInput",
           "WecCharacteristicInput",
@@ -307,25 +366,46 @@ public abstract class Processor<T> {
           "QV",
           "ReactivePowerCharacteristic",
           "CharacteristicInput" ->
-          resultStringBuilder.append(((CharacteristicInput<?, ?>) methodReturnObject).serialize());
+          (value, buffer) -> buffer.append(((CharacteristicInput<?, ?>) value).serialize());
       case "InputModelType" ->
-          resultStringBuilder.append(((CongestionResult.InputModelType) methodReturnObject).type);
+          (value, buffer) -> buffer.append(((CongestionResult.InputModelType) value).type);
       case "PowerProfileKey" ->
-          resultStringBuilder.append(((PowerProfileKey) methodReturnObject).getValue());
+          (value, buffer) -> buffer.append(((PowerProfileKey) value).getValue());
       default ->
-          throw new EntityProcessorException(
-              "Unable to process value for attribute/field '"
-                  + fieldName
-                  + "' and method return type '"
-                  + method.returnType()
-                  + "' for method with name '"
-                  + method.name()
-                  + "' in in entity model "
-                  + getRegisteredClass().getSimpleName()
-                  + ".class.");
-    }
+          (value, buffer) -> {
+            throw new EntityProcessorException(
+                "Unable to process value for attribute/field '"
+                    + fieldName
+                    + "' and method return type '"
+                    + method.returnType()
+                    + "' for method with name '"
+                    + method.name()
+                    + "' in in entity model "
+                    + getRegisteredClass().getSimpleName()
+                    + ".class.");
+          };
+    };
+  }
 
-    return resultStringBuilder.toString();
+  /**
+   * Chooses the writer for quantities of the given field. If the unit of a processor specific
+   * quantity is known up front, the quantity is converted directly. Otherwise, it is handed to
+   * {@link #handleQuantity(Quantity, String)}.
+   *
+   * @param fieldName the field name the quantities are set to
+   * @return the writer for the quantities of the field
+   */
+  private ValueWriter quantityWriter(String fieldName) {
+    if (!specificQuantityFieldNames.contains(fieldName))
+      return (value, buffer) -> buffer.append(((Quantity<?>) value).getValue().doubleValue());
+
+    Optional<Unit<?>> specificUnit = getSpecificQuantityUnit(fieldName);
+    if (specificUnit.isPresent()) {
+      Unit<?> unit = specificUnit.get();
+      return (value, buffer) ->
+          buffer.append(toUnit((Quantity<?>) value, unit).getValue().doubleValue());
+    }
+    return (value, buffer) -> buffer.append(handleQuantity((Quantity<?>) value, fieldName));
   }
 
   /**
@@ -393,6 +473,30 @@ public abstract class Processor<T> {
   protected abstract Try<String, QuantityException> handleProcessorSpecificQuantity(
       Quantity<?> quantity, String fieldName);
 
+  /**
+   * Returns the unit, that the processor specific quantities of the given field are converted to.
+   * Processors, that know these units up front, allow for writing the quantities without any
+   * intermediate steps.
+   *
+   * @param fieldName the field name the quantity is set to
+   * @return the unit of the field or an empty optional, if it is unknown
+   */
+  protected Optional<Unit<?>> getSpecificQuantityUnit(String fieldName) {
+    return Optional.empty();
+  }
+
+  /**
+   * Converts the quantity to the given unit
+   *
+   * @param quantity the quantity to convert
+   * @param unit the target unit, which has to be compatible to the unit of the quantity
+   * @return the converted quantity
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected static Quantity<?> toUnit(Quantity<?> quantity, Unit<?> unit) {
+    return ((Quantity) quantity).to(unit);
+  }
+
   /**
    * Handling of elements of type {@link OperationTime}
    *
@@ -19,6 +19,7 @@ import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
 import edu.ie3.datamodel.models.value.Value;
 import edu.ie3.datamodel.utils.Try;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -83,6 +84,27 @@ public class ProcessorProvider {
                     .transformF(ProcessorProviderException::new));
   }
 
+  /**
+   * Handles an entity without building a map. The values are written to the given array in the
+   * order of {@link #getHeaderElements(Class)} for the class of the entity.
+   *
+   * @param entity the entity to handle
+   * @param values the array to write the field values to, which needs to have the length of the
+   *     header elements
+   * @param <T> Type of the entity
+   * @throws ProcessorProviderException If no processor is found or processing fails
+   */
+  public <T extends Entity> void handleEntity(T entity, String[] values)
+      throws ProcessorProviderException {
+    EntityProcessor<T> processor =
+        ProcessorProvider.<T>castProcessor(getEntityProcessor(entity.getClass())).getOrThrow();
+    try {
+      processor.handleEntity(entity, values);
+    } catch (EntityProcessorException e) {
+      throw new ProcessorProviderException(e);
+    }
+  }
+
   public <T extends Entity> Set<LinkedHashMap<String, String>> handleEntities(List<T> entities)
       throws ProcessorProviderException {
     Set<T> setOfEntities = new HashSet<>(entities);
@@ -145,6 +167,34 @@ public class ProcessorProvider {
         .getOrThrow();
   }
 
+  /**
+   * Searches for the right processor and hands the result of each entry to the consumer, without
+   * collecting the results of the whole time series
+   *
+   * @param timeSeries Time series to process
+   * @param consumer Consumer of the mapping from field name to value of each entry
+   * @param <T> Type of the time series
+   * @param <E> Type of the time series entries
+   * @param <V> Type of the value inside the time series entries
+   * @param <R> Type of the value, the time series will return
+   * @throws ProcessorProviderException If no processor is found or processing fails
+   */
+  public <
+          T extends TimeSeries<E, V, R>,
+          E extends TimeSeriesEntry<V>,
+          V extends Value,
+          R extends Value>
+      void handleTimeSeries(T timeSeries, Consumer<LinkedHashMap<String, String>> consumer)
+          throws ProcessorProviderException {
+    TimeSeriesProcessor<T, E, V, R> processor =
+        this.getTimeSeriesProcessor(new TimeSeriesProcessorKey(timeSeries));
+    try {
+      processor.handleTimeSeries(timeSeries, consumer);
+    } catch (EntityProcessorException e) {
+      throw new ProcessorProviderException(e);
+    }
+  }
+
   /**
    * Get the correct processor for this time series combination
    *
@@ -25,8 +25,7 @@ import edu.ie3.datamodel.utils.Try.*;
 import edu.ie3.util.exceptions.QuantityException;
 import java.util.*;
 import javax.measure.Quantity;
-import javax.measure.quantity.Energy;
-import javax.measure.quantity.Power;
+import javax.measure.Unit;
 
 /**
  * 'Serializer' for {@link ResultEntity}s into a fieldName to value representation to allow for an
@@ -74,27 +73,29 @@ public class ResultEntityProcessor extends EntityProcessor<ResultEntity> {
   @Override
   protected Try<String, QuantityException> handleProcessorSpecificQuantity(
       Quantity<?> quantity, String fieldName) {
+    return getSpecificQuantityUnit(fieldName)
+        .<Try<String, QuantityException>>map(
+            unit -> Success.of(quantityValToOptionalString(toUnit(quantity, unit))))
+        .orElseGet(
+            () ->
+                Failure.of(
+                    new QuantityException(
+                        "Cannot process quantity with value '"
+                            + quantity
+                            + "' for field with name "
+                            + fieldName
+                            + " in result entity processing!")));
+  }
+
+  @Override
+  protected Optional<Unit<?>> getSpecificQuantityUnit(String fieldName) {
     return switch (fieldName) {
-      case "energy", "eConsAnnual", "eStorage", "eMin", "eMax":
-        yield Success.of(
-            quantityValToOptionalString(
-                quantity.asType(Energy.class).to(StandardUnits.ENERGY_RESULT)));
-      case "q":
-        yield Success.of(
-            quantityValToOptionalString(
-                quantity.asType(Power.class).to(StandardUnits.REACTIVE_POWER_RESULT)));
-      case "p", "pMax", "pOwn", "pThermal", "pRef", "pMin":
-        yield Success.of(
-            quantityValToOptionalString(
-                quantity.asType(Power.class).to(StandardUnits.ACTIVE_POWER_RESULT)));
-      default:
-        yield Failure.of(
-            new QuantityException(
-                "Cannot process quantity with value '"
-                    + quantity
-                    + "' for field with name "
-                    + fieldName
-                    + " in result entity processing!"));
+      case "energy", "eConsAnnual", "eStorage", "eMin", "eMax" ->
+          Optional.of(StandardUnits.ENERGY_RESULT);
+      case "q" -> Optional.of(StandardUnits.REACTIVE_POWER_RESULT);
+      case "p", "pMax", "pOwn", "pThermal", "pRef", "pMin" ->
+          Optional.of(StandardUnits.ACTIVE_POWER_RESULT);
+      default -> Optional.empty();
     };
   }
 
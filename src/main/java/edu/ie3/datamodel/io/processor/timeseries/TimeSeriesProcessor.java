@@ -23,6 +23,7 @@ import edu.ie3.datamodel.models.value.load.LoadValues;
 import edu.ie3.datamodel.models.value.load.RandomLoadValues;
 import java.util.*;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -83,6 +84,9 @@ public class TimeSeriesProcessor<
    */
   private final SortedMap<String, FieldSourceToMethod> fieldToSource;
 
+  /** Serializers of the fields per source, that are compiled once */
+  private final Map<FieldSourceToMethod.FieldSource, List<FieldSerializer>> sourceToSerializers;
+
   private final String[] flattenedHeaderElements;
 
   public TimeSeriesProcessor(Class<T> timeSeriesClass, Class<E> entryClass, Class<V> valueClass)
@@ -121,6 +125,9 @@ public class TimeSeriesProcessor<
 
     /* Register, where to get which information from */
     this.fieldToSource = buildFieldToSource(timeSeriesClass, entryClass, valueClass, scheme);
+    this.sourceToSerializers = new EnumMap<>(FieldSourceToMethod.FieldSource.class);
+    for (FieldSourceToMethod.FieldSource source : FieldSourceToMethod.FieldSource.values())
+      sourceToSerializers.put(source, compileSerializers(extractFieldToMethod(source)));
 
     /* Collect all header elements */
     this.flattenedHeaderElements = fieldToSource.keySet().toArray(new String[0]);
@@ -227,6 +234,12 @@ public class TimeSeriesProcessor<
         "Don't invoke this simple method, but TimeSeriesProcessor#handleTimeSeries(TimeSeries).");
   }
 
+  @Override
+  public void handleEntity(TimeSeries entity, String[] values) {
+    throw new UnsupportedOperationException(
+        "Don't invoke this simple method, but TimeSeriesProcessor#handleTimeSeries(TimeSeries).");
+  }
+
   /**
    * Handles the time series by processing each entry and collecting the results
    *
@@ -235,6 +248,20 @@ public class TimeSeriesProcessor<
    */
   public Set<LinkedHashMap<String, String>> handleTimeSeries(T timeSeries)
       throws EntityProcessorException {
+    Set<LinkedHashMap<String, String>> fieldToValueSet = new LinkedHashSet<>();
+    handleTimeSeries(timeSeries, fieldToValueSet::add);
+    return fieldToValueSet;
+  }
+
+  /**
+   * Handles the time series by processing one entry after another and handing the result of each
+   * entry to the consumer, without collecting the results of the whole time series
+   *
+   * @param timeSeries Time series to handle
+   * @param consumer Consumer of the mapping from field name to value of each entry
+   */
+  public void handleTimeSeries(T timeSeries, Consumer<LinkedHashMap<String, String>> consumer)
+      throws EntityProcessorException {
     TimeSeriesProcessorKey key = new TimeSeriesProcessorKey(timeSeries);
     if (!registeredKey.equals(key))
       throw new EntityProcessorException(
@@ -246,16 +273,9 @@ public class TimeSeriesProcessor<
               + key
               + "!");
 
-    Set<LinkedHashMap<String, String>> fieldToValueSet = new LinkedHashSet<>();
-
     for (E entry : timeSeries.getEntries()) {
-      Map<String, String> entryResult = handleEntry(timeSeries, entry);
-
-      /* Prepare the actual result and add them to the set of all results */
-      fieldToValueSet.add(new LinkedHashMap<>(entryResult));
+      consumer.accept(new LinkedHashMap<>(handleEntry(timeSeries, entry)));
     }
-
-    return fieldToValueSet;
   }
 
   /**
@@ -268,42 +288,38 @@ public class TimeSeriesProcessor<
    */
   private Map<String, String> handleEntry(T timeSeries, E entry) throws EntityProcessorException {
     /* Handle the information in the time series */
-    Map<String, GetterMethod> timeSeriesFieldToMethod = extractFieldToMethod(TIMESERIES);
     LinkedHashMap<String, String> timeSeriesResults =
-        processObject(timeSeries, timeSeriesFieldToMethod);
+        processObject(timeSeries, sourceToSerializers.get(TIMESERIES));
 
     /* Handle the information in the entry */
-    Map<String, GetterMethod> entryFieldToMethod = extractFieldToMethod(ENTRY);
-    LinkedHashMap<String, String> entryResults = processObject(entry, entryFieldToMethod);
+    LinkedHashMap<String, String> entryResults =
+        processObject(entry, sourceToSerializers.get(ENTRY));
 
     /* Handle the information in the value */
-    Map<String, GetterMethod> valueFieldToMethod = extractFieldToMethod(VALUE);
-    LinkedHashMap<String, String> valueResult = processObject(entry.getValue(), valueFieldToMethod);
+    LinkedHashMap<String, String> valueResult =
+        processObject(entry.getValue(), sourceToSerializers.get(VALUE));
 
     /* Treat WeatherValues specially, as they are nested ones */
     if (entry.getValue() instanceof WeatherValue weatherValue) {
-      Map<String, GetterMethod> irradianceFieldToMethod = extractFieldToMethod(WEATHER_IRRADIANCE);
-      valueResult.putAll(processObject(weatherValue.getSolarIrradiance(), irradianceFieldToMethod));
-
-      Map<String, GetterMethod> temperatureFieldToMethod =
-          extractFieldToMethod(WEATHER_TEMPERATURE);
-      valueResult.putAll(processObject(weatherValue.getTemperature(), temperatureFieldToMethod));
-
-      Map<String, GetterMethod> windFieldToMethod = extractFieldToMethod(WEATHER_WIND);
-      valueResult.putAll(processObject(weatherValue.getWind(), windFieldToMethod));
+      valueResult.putAll(
+          processObject(
+              weatherValue.getSolarIrradiance(), sourceToSerializers.get(WEATHER_IRRADIANCE)));
+      valueResult.putAll(
+          processObject(
+              weatherValue.getTemperature(), sourceToSerializers.get(WEATHER_TEMPERATURE)));
+      valueResult.putAll(
+          processObject(weatherValue.getWind(), sourceToSerializers.get(WEATHER_WIND)));
 
-      Map<String, GetterMethod> groundTempOneFieldToMethod =
-          extractFieldToMethod(GROUND_TEMPERATURE_LEVEL_1);
       Optional<GroundTemperatureValue> gtOneOpt = weatherValue.getGroundTemperatureLevel1();
       if (gtOneOpt.isPresent()) {
-        valueResult.putAll(processObject(gtOneOpt.get(), groundTempOneFieldToMethod));
+        valueResult.putAll(
+            processObject(gtOneOpt.get(), sourceToSerializers.get(GROUND_TEMPERATURE_LEVEL_1)));
       }
 
-      Map<String, GetterMethod> groundTempTwoFieldToMethod =
-          extractFieldToMethod(GROUND_TEMPERATURE_LEVEL_2);
       Optional<GroundTemperatureValue> gtTwoOpt = weatherValue.getGroundTemperatureLevel2();
       if (gtTwoOpt.isPresent()) {
-        valueResult.putAll(processObject(gtTwoOpt.get(), groundTempTwoFieldToMethod));
+        valueResult.putAll(
+            processObject(gtTwoOpt.get(), sourceToSerializers.get(GROUND_TEMPERATURE_LEVEL_2)));
       }
     }
 
@@ -0,0 +1,177 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.sink;
+
+import edu.ie3.datamodel.exceptions.EntityProcessorException;
+import edu.ie3.datamodel.exceptions.ProcessorProviderException;
+import edu.ie3.datamodel.exceptions.SinkException;
+import edu.ie3.datamodel.io.IoUtil;
+import edu.ie3.datamodel.io.file.ColumnarFileWriter;
+import edu.ie3.datamodel.io.file.FileType;
+import edu.ie3.datamodel.io.naming.FileNamingStrategy;
+import edu.ie3.datamodel.io.processor.ProcessorProvider;
+import edu.ie3.datamodel.models.Entity;
+import edu.ie3.datamodel.models.result.ResultEntity;
+import edu.ie3.datamodel.models.timeseries.TimeSeries;
+import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
+import edu.ie3.datamodel.models.value.Value;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sink, that writes {@link ResultEntity}s to binary, columnar files of {@link FileType#COLUMNAR}
+ * instead of csv files. Each result class is written to one file, that is named by the {@link
+ * FileNamingStrategy} just like its csv counterpart. The files are considerably smaller than csv
+ * files and can be read by {@link edu.ie3.datamodel.io.source.columnar.ColumnarDataSource}, that
+ * skips all row groups outside of a requested interval. Results should be persisted in
+ * chronological order, as the time range of a row group is only narrow in this case.
+ *
+ * <p>Files of former runs are overwritten. The files are only complete after {@link #shutdown()}.
+ */
+public class ColumnarResultSink implements OutputDataSink {
+
+  private static final Logger log = LoggerFactory.getLogger(ColumnarResultSink.class);
+
+  private final Path baseFolderPath;
+  private final ProcessorProvider processorProvider;
+  private final FileNamingStrategy fileNamingStrategy;
+  private final int rowGroupSize;
+
+  private final Map<Class<? extends Entity>, ColumnarFileWriter> writers =
+      new ConcurrentHashMap<>();
+
+  public ColumnarResultSink(Path baseFolderPath) throws EntityProcessorException {
+    this(
+        baseFolderPath,
+        new ProcessorProvider(),
+        new FileNamingStrategy(),
+        ColumnarFileWriter.DEFAULT_ROW_GROUP_SIZE);
+  }
+
+  /**
+   * Create an instance of a columnar result sink.
+   *
+   * @param baseFolderPath the base folder path where the files should be put into
+   * @param processorProvider the processor provided that should be used for entity serialization
+   * @param fileNamingStrategy the data sink file naming strategy that should be used
+   * @param rowGroupSize the number of results per row group
+   */
+  public ColumnarResultSink(
+      Path baseFolderPath,
+      ProcessorProvider processorProvider,
+      FileNamingStrategy fileNamingStrategy,
+      int rowGroupSize) {
+    if (rowGroupSize <= 0)
+      throw new IllegalArgumentException("The row group size has to be positive.");
+    this.baseFolderPath = IoUtil.harmonizeFileSeparator(baseFolderPath);
+    this.processorProvider = processorProvider;
+    this.fileNamingStrategy = fileNamingStrategy;
+    this.rowGroupSize = rowGroupSize;
+  }
+
+  @Override
+  public <C extends Entity> void persistAll(Collection<C> entities) {
+    for (C entity : entities) {
+      persist(entity);
+    }
+  }
+
+  @Override
+  public <C extends Entity> void persist(C entity) {
+    if (entity instanceof ResultEntity resultEntity) {
+      write(resultEntity);
+    } else {
+      log.error(
+          "I don't know how to handle an entity of class {}. Only results can be written.",
+          entity.getClass().getSimpleName());
+    }
+  }
+
+  @Override
+  public <E extends TimeSeriesEntry<V>, V extends Value, R extends Value> void persistTimeSeries(
+      TimeSeries<E, V, R> timeSeries) {
+    log.error(
+        "Time series '{}' cannot be persisted, as only results can be written.",
+        timeSeries.getUuid());
+  }
+
+  /**
+   * Writes the buffered results of all classes as row groups
+   *
+   * @throws IOException if writing fails
+   */
+  public void flush() throws IOException {
+    for (ColumnarFileWriter writer : writers.values()) writer.flush();
+  }
+
+  @Override
+  public void shutdown() {
+    writers
+        .values()
+        .forEach(
+            writer -> {
+              try {
+                writer.close();
+              } catch (IOException e) {
+                log.error("Error during ColumnarResultSink shutdown process.", e);
+              }
+            });
+    writers.clear();
+  }
+
+  private void write(ResultEntity entity) {
+    try {
+      String[] headerElements = processorProvider.getHeaderElements(entity.getClass());
+      String[] values = new String[headerElements.length];
+      processorProvider.handleEntity(entity, values);
+      getOrInitWriter(entity.getClass(), headerElements).writeRow(values);
+    } catch (ProcessorProviderException e) {
+      log.error(
+          "Exception occurred during receiving of header elements. Cannot write this element.", e);
+    } catch (IOException | UncheckedIOException e) {
+      log.error("Exception occurred during writing of this element. Cannot write this element.", e);
+    } catch (SinkException e) {
+      log.error(
+          "Cannot persist provided entity '{}'. Exception: {}",
+          entity.getClass().getSimpleName(),
+          e);
+    }
+  }
+
+  private ColumnarFileWriter getOrInitWriter(
+      Class<? extends Entity> entityClass, String[] headerElements) throws SinkException {
+    ColumnarFileWriter writer = writers.get(entityClass);
+    if (writer != null) return writer;
+
+    Path filePath =
+        fileNamingStrategy
+            .getFilePath(entityClass)
+            .map(path -> baseFolderPath.resolve(path + FileType.COLUMNAR.fileEnding))
+            .orElseThrow(
+                () ->
+                    new SinkException(
+                        "Cannot find a naming strategy for class '"
+                            + entityClass.getSimpleName()
+                            + "'."));
+    return writers.computeIfAbsent(
+        entityClass,
+        clz -> {
+          try {
+            Files.createDirectories(filePath.toAbsolutePath().getParent());
+            return new ColumnarFileWriter(filePath, headerElements, rowGroupSize);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+}
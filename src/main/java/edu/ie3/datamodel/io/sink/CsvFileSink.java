@@ -9,8 +9,10 @@ import edu.ie3.datamodel.exceptions.*;
 import edu.ie3.datamodel.io.connectors.CsvFileConnector;
 import edu.ie3.datamodel.io.csv.BufferedCsvWriter;
 import edu.ie3.datamodel.io.csv.CsvFileDefinition;
+import edu.ie3.datamodel.io.csv.CsvWriterPool;
 import edu.ie3.datamodel.io.extractor.Extractor;
 import edu.ie3.datamodel.io.extractor.NestedEntity;
+import edu.ie3.datamodel.io.file.FileType;
 import edu.ie3.datamodel.io.naming.FileNamingStrategy;
 import edu.ie3.datamodel.io.processor.ProcessorProvider;
 import edu.ie3.datamodel.io.processor.timeseries.TimeSeriesProcessorKey;
@@ -100,6 +102,56 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
     this.fileNamingStrategy = fileNamingStrategy;
   }
 
+  /**
+   * Create an instance of a csv file sink, that writes asynchronously. The entities are processed
+   * by the calling threads, but the rows are handed over to per-file queues, which are written to
+   * the files in batches by background threads. Use {@link #flush()} to make sure, that all
+   * entities persisted so far have reached the files. All rows are written, when the sink is shut
+   * down.
+   *
+   * @param baseFolderPath the base folder path where the files should be put into
+   * @param processorProvider the processor provided that should be used for entity serialization
+   * @param fileNamingStrategy the data sink file naming strategy that should be used
+   * @param csvSep the csv file separator that should be use
+   * @param asyncWriting the configuration of the background writing
+   */
+  public CsvFileSink(
+      Path baseFolderPath,
+      ProcessorProvider processorProvider,
+      FileNamingStrategy fileNamingStrategy,
+      String csvSep,
+      CsvWriterPool.Config asyncWriting) {
+    this.csvSep = csvSep;
+    this.processorProvider = processorProvider;
+    this.connector = new CsvFileConnector(baseFolderPath, asyncWriting);
+    this.fileNamingStrategy = fileNamingStrategy;
+  }
+
+  /**
+   * Create an instance of a csv file sink, that writes files of the given type. Gzip compressed
+   * files ({@link FileType#CSV_GZ}) are compressed in parallel blocks, while they are written.
+   *
+   * @param baseFolderPath the base folder path where the files should be put into
+   * @param processorProvider the processor provided that should be used for entity serialization
+   * @param fileNamingStrategy the data sink file naming strategy that should be used
+   * @param csvSep the csv file separator that should be use
+   * @param fileType the type of the written files
+   * @param asyncWriting the configuration of the background writing or {@code null} to write
+   *     synchronously
+   */
+  public CsvFileSink(
+      Path baseFolderPath,
+      ProcessorProvider processorProvider,
+      FileNamingStrategy fileNamingStrategy,
+      String csvSep,
+      FileType fileType,
+      CsvWriterPool.Config asyncWriting) {
+    this.csvSep = csvSep;
+    this.processorProvider = processorProvider;
+    this.connector = new CsvFileConnector(baseFolderPath, fileType, asyncWriting);
+    this.fileNamingStrategy = fileNamingStrategy;
+  }
+
   @Override
   public <T extends Entity> void persistAll(Collection<T> entities) {
     for (T entity : entities) {
@@ -240,6 +292,18 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
         .forEach(this::persistIgnoreNested);
   }
 
+  /**
+   * Makes sure, that all entities persisted so far are written to the files. This only matters for
+   * sinks, that write asynchronously, as all other sinks flush every entity right away.
+   */
+  public void flush() {
+    try {
+      connector.flush();
+    } catch (IOException e) {
+      log.error("Exception occurred during flushing of the writers.", e);
+    }
+  }
+
   @Override
   public void shutdown() {
     // shutdown the connector
@@ -297,14 +361,17 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
    */
   private <C extends Entity> void write(C entity) {
     try {
-      LinkedHashMap<String, String> entityFieldData =
-          processorProvider.handleEntity(entity).map(this::csvEntityFieldData).getOrThrow();
       String[] headerElements = processorProvider.getHeaderElements(entity.getClass());
+      String[] values = new String[headerElements.length];
+      processorProvider.handleEntity(entity, values);
+      for (int i = 0; i < values.length; i++) values[i] = StringUtils.csvString(values[i], csvSep);
+
+      /* The writer is set up with the processor's header, hence the values can be passed in order */
       BufferedCsvWriter writer =
           connector.getOrInitWriter(
               entity.getClass(),
               new CsvFileDefinition(entity.getClass(), headerElements, csvSep, fileNamingStrategy));
-      writer.write(entityFieldData);
+      writer.writeRow(values);
     } catch (ProcessorProviderException e) {
       log.error(
           "Exception occurred during receiving of header elements. Cannot write this element.", e);
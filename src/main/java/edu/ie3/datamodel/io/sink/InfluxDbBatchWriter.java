@@ -0,0 +1,206 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.sink;
+
+import edu.ie3.datamodel.exceptions.ProcessorProviderException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.influxdb.InfluxDB;
+import org.influxdb.dto.BatchPoints;
+import org.influxdb.dto.Point;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes points to an InfluxDB in fixed-size batches, while they are created. Full batches are sent
+ * by a pool of writer threads. The number of batches in flight is bounded, so that the producer is
+ * blocked, while the database falls behind. Hence, at most {@code (maxInFlightBatches + 1) *
+ * batchSize} points are held in memory, no matter how many points are written.
+ */
+public final class InfluxDbBatchWriter implements AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger(InfluxDbBatchWriter.class);
+  private static final AtomicInteger WRITER_COUNT = new AtomicInteger();
+
+  private final InfluxDB session;
+  private final Config config;
+  private final ExecutorService executor;
+
+  /**
+   * Configuration of batched writing.
+   *
+   * @param batchSize the number of points, that are sent to the database at once
+   * @param maxInFlightBatches the maximum number of batches, that are queued or being sent
+   * @param parallelism the number of threads, that send batches in parallel
+   */
+  public record Config(int batchSize, int maxInFlightBatches, int parallelism) {
+    /** Batches of 5000 points, sent by two threads with up to four batches in flight */
+    public static final Config DEFAULT = new Config(5000, 4, 2);
+
+    public Config {
+      if (batchSize <= 0) throw new IllegalArgumentException("The batch size has to be positive.");
+      if (maxInFlightBatches <= 0)
+        throw new IllegalArgumentException(
+            "The maximum number of batches in flight has to be positive.");
+      if (parallelism <= 0)
+        throw new IllegalArgumentException("The parallelism has to be positive.");
+    }
+  }
+
+  /**
+   * Statistics of written points.
+   *
+   * @param points the number of written points
+   * @param batches the number of sent batches
+   * @param duration the time it took to create and write the points
+   */
+  public record Statistics(long points, long batches, Duration duration) {
+    public static final Statistics EMPTY = new Statistics(0, 0, Duration.ZERO);
+
+    /**
+     * @return the throughput in points per second
+     */
+    public double pointsPerSecond() {
+      return duration.isZero() ? 0d : points * 1e9 / duration.toNanos();
+    }
+
+    /**
+     * @param other statistics to add
+     * @return the sum of both statistics
+     */
+    public Statistics plus(Statistics other) {
+      return new Statistics(
+          points + other.points, batches + other.batches, duration.plus(other.duration));
+    }
+  }
+
+  /** Source of points, that hands each point to the provided consumer */
+  @FunctionalInterface
+  public interface Points {
+    void forEach(PointConsumer consumer) throws ProcessorProviderException;
+  }
+
+  /** Consumer of points, that may block, while the maximum number of batches is in flight */
+  @FunctionalInterface
+  public interface PointConsumer {
+    void accept(Point point);
+  }
+
+  /**
+   * Starts the writer threads
+   *
+   * @param session the session to write to
+   * @param config the configuration of batched writing
+   */
+  public InfluxDbBatchWriter(InfluxDB session, Config config) {
+    this.session = session;
+    this.config = config;
+    int writerNumber = WRITER_COUNT.incrementAndGet();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            config.parallelism(),
+            runnable -> {
+              Thread thread =
+                  new Thread(
+                      runnable,
+                      "influxdb-writer-" + writerNumber + "-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public Config getConfig() {
+    return config;
+  }
+
+  /**
+   * Writes all provided points and waits, until all batches are sent.
+   *
+   * @param points the source of points
+   * @return statistics of the written points
+   * @throws ProcessorProviderException if a point cannot be created
+   * @throws org.influxdb.InfluxDBException if sending a batch fails, in which case the remaining
+   *     points are not sent anymore
+   */
+  public Statistics write(Points points) throws ProcessorProviderException {
+    long start = System.nanoTime();
+    Semaphore inFlight = new Semaphore(config.maxInFlightBatches());
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    List<Point> batch = new ArrayList<>(config.batchSize());
+    long[] counts = {0, 0};
+
+    try {
+      points.forEach(
+          point -> {
+            batch.add(point);
+            if (batch.size() == config.batchSize()) {
+              send(List.copyOf(batch), inFlight, failure);
+              counts[0] += batch.size();
+              counts[1]++;
+              batch.clear();
+            }
+          });
+      if (!batch.isEmpty()) {
+        send(List.copyOf(batch), inFlight, failure);
+        counts[0] += batch.size();
+        counts[1]++;
+      }
+    } finally {
+      // wait for all batches in flight, even if creating the points has failed
+      inFlight.acquireUninterruptibly(config.maxInFlightBatches());
+      inFlight.release(config.maxInFlightBatches());
+    }
+    if (failure.get() != null) throw failure.get();
+
+    Statistics statistics =
+        new Statistics(counts[0], counts[1], Duration.ofNanos(System.nanoTime() - start));
+    log.debug(
+        "Wrote {} points in {} batches within {} ms ({} points/s).",
+        statistics.points(),
+        statistics.batches(),
+        statistics.duration().toMillis(),
+        Math.round(statistics.pointsPerSecond()));
+    return statistics;
+  }
+
+  private void send(
+      List<Point> batch, Semaphore inFlight, AtomicReference<RuntimeException> failure) {
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for batches in flight.");
+    }
+    // stop producing, as soon as a batch has failed
+    if (failure.get() != null) {
+      inFlight.release();
+      throw failure.get();
+    }
+    executor.execute(
+        () -> {
+          try {
+            session.write(BatchPoints.builder().points(batch).build());
+          } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            inFlight.release();
+          }
+        });
+  }
+
+  /** Stops the writer threads after all batches in flight are sent */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+}
@@ -23,7 +23,12 @@ import org.influxdb.dto.Point;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** InfluxDB Sink for result and time series data */
+/**
+ * InfluxDB Sink for result and time series data. If configured with a {@link
+ * InfluxDbBatchWriter.Config}, collections of entities and time series are written in a streaming
+ * mode: the points are created incrementally and sent in batches of fixed size, while only a
+ * bounded number of points is held in memory.
+ */
 public class InfluxDbSink implements OutputDataSink {
   public static final Logger log = LoggerFactory.getLogger(InfluxDbSink.class);
 
@@ -37,6 +42,11 @@ public class InfluxDbSink implements OutputDataSink {
   private final EntityPersistenceNamingStrategy entityPersistenceNamingStrategy;
   private final ProcessorProvider processorProvider;
 
+  /** Writer of the streaming mode, null if disabled */
+  private final InfluxDbBatchWriter batchWriter;
+
+  private InfluxDbBatchWriter.Statistics writeStatistics = InfluxDbBatchWriter.Statistics.EMPTY;
+
   /**
    * Initializes a new InfluxDbWeatherSource
    *
@@ -46,12 +56,33 @@ public class InfluxDbSink implements OutputDataSink {
   public InfluxDbSink(
       InfluxDbConnector connector, EntityPersistenceNamingStrategy entityPersistenceNamingStrategy)
       throws EntityProcessorException {
+    this(connector, entityPersistenceNamingStrategy, null);
+  }
+
+  /**
+   * Initializes a new InfluxDbSink, that writes collections of entities and time series in a
+   * streaming mode
+   *
+   * @param connector needed for database connection
+   * @param entityPersistenceNamingStrategy needed to create measurement names for entities
+   * @param streamingWrites configuration of batched writing, null to write all points of a call at
+   *     once
+   */
+  public InfluxDbSink(
+      InfluxDbConnector connector,
+      EntityPersistenceNamingStrategy entityPersistenceNamingStrategy,
+      InfluxDbBatchWriter.Config streamingWrites)
+      throws EntityProcessorException {
     this.connector = connector;
     this.entityPersistenceNamingStrategy = entityPersistenceNamingStrategy;
     this.processorProvider =
         new ProcessorProvider(
             ProcessorProvider.allResultEntityProcessors(),
             ProcessorProvider.allTimeSeriesProcessors());
+    this.batchWriter =
+        streamingWrites != null
+            ? new InfluxDbBatchWriter(connector.getSession(), streamingWrites)
+            : null;
   }
 
   /**
@@ -65,6 +96,7 @@ public class InfluxDbSink implements OutputDataSink {
 
   @Override
   public void shutdown() {
+    if (batchWriter != null) batchWriter.close();
     connector.shutdown();
   }
 
@@ -79,6 +111,13 @@ public class InfluxDbSink implements OutputDataSink {
   @Override
   public <C extends Entity> void persistAll(Collection<C> entities)
       throws ProcessorProviderException {
+    if (batchWriter != null) {
+      stream(
+          consumer -> {
+            for (C entity : entities) extractPoints(entity, consumer);
+          });
+      return;
+    }
     Set<Point> points = new HashSet<>();
     for (C entity : entities) {
       points.addAll(extractPoints(entity));
@@ -89,10 +128,31 @@ public class InfluxDbSink implements OutputDataSink {
   @Override
   public <E extends TimeSeriesEntry<V>, V extends Value, R extends Value> void persistTimeSeries(
       TimeSeries<E, V, R> timeSeries) throws ProcessorProviderException {
-    Set<Point> points = transformToPoints(timeSeries);
+    if (batchWriter != null) {
+      stream(consumer -> transformToPoints(timeSeries, consumer));
+      return;
+    }
+    Set<Point> points = new HashSet<>();
+    transformToPoints(timeSeries, points::add);
     writeAll(points);
   }
 
+  /**
+   * Returns the statistics of all points, that have been written in the streaming mode so far.
+   *
+   * @return the number of points and batches as well as the write throughput
+   */
+  public synchronized InfluxDbBatchWriter.Statistics getWriteStatistics() {
+    return writeStatistics;
+  }
+
+  private void stream(InfluxDbBatchWriter.Points points) throws ProcessorProviderException {
+    InfluxDbBatchWriter.Statistics statistics = batchWriter.write(points);
+    synchronized (this) {
+      writeStatistics = writeStatistics.plus(statistics);
+    }
+  }
+
   /**
    * If batch writing is enabled, this call writes everything inside the batch to the database. This
    * will block until all pending points are written.
@@ -147,11 +207,12 @@ public class InfluxDbSink implements OutputDataSink {
    * characters in the measurement name will be replaced by underscores.
    *
    * @param timeSeries the time series to transform
+   * @param consumer the consumer of the points
    */
-  private <E extends TimeSeriesEntry<V>, V extends Value, R extends Value>
-      Set<Point> transformToPoints(TimeSeries<E, V, R> timeSeries)
-          throws ProcessorProviderException {
-    if (timeSeries.getEntries().isEmpty()) return Collections.emptySet();
+  private <E extends TimeSeriesEntry<V>, V extends Value, R extends Value> void transformToPoints(
+      TimeSeries<E, V, R> timeSeries, InfluxDbBatchWriter.PointConsumer consumer)
+      throws ProcessorProviderException {
+    if (timeSeries.getEntries().isEmpty()) return;
 
     Optional<String> measurementName = entityPersistenceNamingStrategy.getEntityName(timeSeries);
     if (measurementName.isEmpty()) {
@@ -160,9 +221,10 @@ public class InfluxDbSink implements OutputDataSink {
       log.warn(
           "I could not get a measurement name for TimeSeries value class {}. I am using its value's simple name instead.",
           valueClassName);
-      return transformToPoints(timeSeries, valueClassName);
+      transformToPoints(timeSeries, valueClassName, consumer);
+    } else {
+      transformToPoints(timeSeries, measurementName.get(), consumer);
     }
-    return transformToPoints(timeSeries, measurementName.get());
   }
 
   /**
@@ -171,26 +233,29 @@ public class InfluxDbSink implements OutputDataSink {
    *
    * @param timeSeries the time series to transform
    * @param measurementName equivalent to the name of a relational table
+   * @param consumer the consumer of the points
    */
-  private <E extends TimeSeriesEntry<V>, V extends Value, R extends Value>
-      Set<Point> transformToPoints(TimeSeries<E, V, R> timeSeries, String measurementName)
-          throws ProcessorProviderException {
-    Set<Point> points = new HashSet<>();
-    Set<LinkedHashMap<String, String>> entityFieldData =
-        processorProvider.handleTimeSeries(timeSeries);
-
-    for (LinkedHashMap<String, String> dataMapping : entityFieldData) {
-      String timeString = dataMapping.remove(FIELD_NAME_TIME);
-      long timeMillis = ZonedDateTime.parse(timeString).toInstant().toEpochMilli();
-      Point point =
-          Point.measurement(transformToMeasurementName(measurementName))
-              .time(timeMillis, TimeUnit.MILLISECONDS)
-              .tag("scenario", connector.getScenarioName())
-              .fields(Collections.unmodifiableMap(dataMapping))
-              .build();
-      points.add(point);
-    }
-    return points;
+  private <E extends TimeSeriesEntry<V>, V extends Value, R extends Value> void transformToPoints(
+      TimeSeries<E, V, R> timeSeries,
+      String measurementName,
+      InfluxDbBatchWriter.PointConsumer consumer)
+      throws ProcessorProviderException {
+    String measurement = transformToMeasurementName(measurementName);
+    String scenarioName = connector.getScenarioName();
+
+    // each entry is processed and handed to the consumer on its own
+    processorProvider.handleTimeSeries(
+        timeSeries,
+        dataMapping -> {
+          String timeString = dataMapping.remove(FIELD_NAME_TIME);
+          long timeMillis = ZonedDateTime.parse(timeString).toInstant().toEpochMilli();
+          consumer.accept(
+              Point.measurement(measurement)
+                  .time(timeMillis, TimeUnit.MILLISECONDS)
+                  .tag("scenario", scenarioName)
+                  .fields(Collections.unmodifiableMap(dataMapping))
+                  .build());
+        });
   }
 
   /**
@@ -205,16 +270,27 @@ public class InfluxDbSink implements OutputDataSink {
    */
   private <C extends Entity> Set<Point> extractPoints(C entity) throws ProcessorProviderException {
     Set<Point> points = new HashSet<>();
+    extractPoints(entity, points::add);
+    return points;
+  }
+
+  /**
+   * Transforms an entity to influxDB data points and hands them to the consumer one by one.
+   *
+   * @param entity the entity of which influxDB points will be extracted
+   * @param consumer the consumer of the points
+   */
+  private <C extends Entity> void extractPoints(
+      C entity, InfluxDbBatchWriter.PointConsumer consumer) throws ProcessorProviderException {
     /* Distinguish between result models and time series */
     if (entity instanceof ResultEntity resultEntity) {
-      points.add(transformToPoint(resultEntity));
+      consumer.accept(transformToPoint(resultEntity));
     } else if (entity instanceof TimeSeries<?, ?, ?> timeSeries) {
-      points.addAll(transformToPoints(timeSeries));
+      transformToPoints(timeSeries, consumer);
     } else {
       log.error(
           "I don't know how to handle an entity of class {}", entity.getClass().getSimpleName());
     }
-    return points;
   }
 
   /**
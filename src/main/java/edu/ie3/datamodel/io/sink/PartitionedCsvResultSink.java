@@ -0,0 +1,298 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.sink;
+
+import edu.ie3.datamodel.exceptions.EntityProcessorException;
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.exceptions.ProcessorProviderException;
+import edu.ie3.datamodel.exceptions.SinkException;
+import edu.ie3.datamodel.io.IoUtil;
+import edu.ie3.datamodel.io.csv.BufferedCsvWriter;
+import edu.ie3.datamodel.io.csv.CsvPartitionManifest;
+import edu.ie3.datamodel.io.csv.CsvPartitionManifest.Partition;
+import edu.ie3.datamodel.io.csv.PartitionWindow;
+import edu.ie3.datamodel.io.naming.FileNamingStrategy;
+import edu.ie3.datamodel.io.processor.ProcessorProvider;
+import edu.ie3.datamodel.models.Entity;
+import edu.ie3.datamodel.models.result.ResultEntity;
+import edu.ie3.datamodel.models.timeseries.TimeSeries;
+import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
+import edu.ie3.datamodel.models.value.Value;
+import edu.ie3.util.StringUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sink, that writes {@link ResultEntity}s to csv files, that are partitioned by a {@link
+ * PartitionWindow} according to {@link ResultEntity#getTime()}. Each result class gets its own
+ * directory with one file per window and a manifest, that lists the partitions and their time
+ * ranges (see {@link CsvPartitionManifest}). Files are rolled automatically, once a result of
+ * another window arrives, hence results should be persisted in chronological order to keep only
+ * one file per class open. Results of a previous window are appended to its file. The partitions
+ * of a former run, that are listed in the manifest of a class, are removed, once the class is
+ * written for the first time.
+ *
+ * <p>The partitions can be read by {@link
+ * edu.ie3.datamodel.io.source.csv.CsvPartitionedResultDataSource}, that only opens the partitions
+ * overlapping a requested interval.
+ */
+public class PartitionedCsvResultSink implements OutputDataSink {
+
+  private static final Logger log = LoggerFactory.getLogger(PartitionedCsvResultSink.class);
+
+  private final Path baseFolderPath;
+  private final ProcessorProvider processorProvider;
+  private final FileNamingStrategy fileNamingStrategy;
+  private final String csvSep;
+  private final PartitionWindow partitionWindow;
+
+  /* Each result class is written independently, so that classes do not block each other */
+  private final Map<Class<? extends Entity>, ClassPartitions> partitions =
+      new ConcurrentHashMap<>();
+
+  public PartitionedCsvResultSink(Path baseFolderPath, PartitionWindow partitionWindow)
+      throws EntityProcessorException {
+    this(baseFolderPath, new FileNamingStrategy(), ",", partitionWindow);
+  }
+
+  /**
+   * Create an instance of a partitioned result sink.
+   *
+   * @param baseFolderPath the base folder path where the files should be put into
+   * @param fileNamingStrategy the data sink file naming strategy that should be used
+   * @param csvSep the csv file separator that should be use
+   * @param partitionWindow the time window, by which the results are partitioned
+   */
+  public PartitionedCsvResultSink(
+      Path baseFolderPath,
+      FileNamingStrategy fileNamingStrategy,
+      String csvSep,
+      PartitionWindow partitionWindow)
+      throws EntityProcessorException {
+    this(baseFolderPath, new ProcessorProvider(), fileNamingStrategy, csvSep, partitionWindow);
+  }
+
+  /**
+   * Create an instance of a partitioned result sink.
+   *
+   * @param baseFolderPath the base folder path where the files should be put into
+   * @param processorProvider the processor provided that should be used for entity serialization
+   * @param fileNamingStrategy the data sink file naming strategy that should be used
+   * @param csvSep the csv file separator that should be use
+   * @param partitionWindow the time window, by which the results are partitioned
+   */
+  public PartitionedCsvResultSink(
+      Path baseFolderPath,
+      ProcessorProvider processorProvider,
+      FileNamingStrategy fileNamingStrategy,
+      String csvSep,
+      PartitionWindow partitionWindow) {
+    this.baseFolderPath = IoUtil.harmonizeFileSeparator(baseFolderPath);
+    this.processorProvider = processorProvider;
+    this.fileNamingStrategy = fileNamingStrategy;
+    this.csvSep = csvSep;
+    this.partitionWindow = partitionWindow;
+  }
+
+  public PartitionWindow getPartitionWindow() {
+    return partitionWindow;
+  }
+
+  @Override
+  public <C extends Entity> void persistAll(Collection<C> entities) {
+    for (C entity : entities) {
+      persist(entity);
+    }
+  }
+
+  @Override
+  public <C extends Entity> void persist(C entity) {
+    if (entity instanceof ResultEntity resultEntity) {
+      write(resultEntity);
+    } else {
+      log.error(
+          "I don't know how to handle an entity of class {}. Only results can be partitioned.",
+          entity.getClass().getSimpleName());
+    }
+  }
+
+  @Override
+  public <E extends TimeSeriesEntry<V>, V extends Value, R extends Value> void persistTimeSeries(
+      TimeSeries<E, V, R> timeSeries) {
+    log.error(
+        "Time series '{}' cannot be persisted, as only results can be partitioned.",
+        timeSeries.getUuid());
+  }
+
+  /**
+   * Flushes the open partitions and writes the manifests of all result classes
+   *
+   * @throws IOException if flushing or writing a manifest fails
+   */
+  public void flush() throws IOException {
+    for (ClassPartitions classPartitions : partitions.values()) classPartitions.flush();
+  }
+
+  @Override
+  public void shutdown() {
+    partitions
+        .values()
+        .forEach(
+            classPartitions -> {
+              try {
+                classPartitions.close();
+              } catch (IOException e) {
+                log.error("Error during PartitionedCsvResultSink shutdown process.", e);
+              }
+            });
+    partitions.clear();
+  }
+
+  private void write(ResultEntity entity) {
+    try {
+      String[] headerElements = processorProvider.getHeaderElements(entity.getClass());
+      String[] values = new String[headerElements.length];
+      processorProvider.handleEntity(entity, values);
+      for (int i = 0; i < values.length; i++) values[i] = StringUtils.csvString(values[i], csvSep);
+
+      ClassPartitions classPartitions = partitions.get(entity.getClass());
+      if (classPartitions == null) {
+        Path directory = CsvPartitionManifest.directory(fileNamingStrategy, entity.getClass());
+        classPartitions =
+            partitions.computeIfAbsent(
+                entity.getClass(), clz -> new ClassPartitions(directory, headerElements));
+      }
+      classPartitions.write(entity.getTime(), values);
+    } catch (ProcessorProviderException e) {
+      log.error(
+          "Exception occurred during receiving of header elements. Cannot write this element.", e);
+    } catch (FileException e) {
+      log.error("Exception occurred during retrieval of writer. Cannot write this element.", e);
+    } catch (IOException e) {
+      log.error("Exception occurred during writing of this element. Cannot write this element.", e);
+    } catch (SinkException e) {
+      log.error(
+          "Cannot persist provided entity '{}'. Exception: {}",
+          entity.getClass().getSimpleName(),
+          e);
+    }
+  }
+
+  /** The partitions of one result class, of which at most one is open for writing */
+  private final class ClassPartitions {
+    private final Path directory;
+    private final Path manifestPath;
+    private final String[] headerElements;
+
+    /* All partitions written so far, ordered by their start */
+    private final NavigableMap<ZonedDateTime, Partition> written = new TreeMap<>();
+
+    private ZonedDateTime currentStart;
+    private BufferedCsvWriter currentWriter;
+    private long currentEntries;
+    private boolean formerRunRemoved = false;
+
+    private ClassPartitions(Path relativeDirectory, String[] headerElements) {
+      this.directory = baseFolderPath.resolve(relativeDirectory);
+      this.manifestPath = CsvPartitionManifest.manifestPath(directory);
+      this.headerElements =
+          Arrays.stream(headerElements)
+              .map(element -> StringUtils.csvString(element, csvSep))
+              .toArray(String[]::new);
+    }
+
+    synchronized void write(ZonedDateTime time, String[] values)
+        throws IOException, SinkException {
+      ZonedDateTime start = partitionWindow.start(time);
+      if (!start.equals(currentStart)) roll(start);
+      currentWriter.writeRow(values);
+      currentEntries++;
+    }
+
+    /** Closes the current partition and opens the one starting at the given time */
+    private void roll(ZonedDateTime start) throws IOException {
+      closeCurrent();
+
+      if (!formerRunRemoved) {
+        removeFormerRun();
+        formerRunRemoved = true;
+      }
+
+      String fileName = CsvPartitionManifest.partitionFileName(directory, start, partitionWindow);
+      Partition previous = written.get(start);
+      Files.createDirectories(directory);
+
+      /* A partition, that has been written before, is continued */
+      BufferedCsvWriter writer =
+          new BufferedCsvWriter(
+              directory.resolve(fileName), headerElements, csvSep, previous != null);
+      if (previous == null) {
+        writer.writeFileHeader();
+        written.put(start, new Partition(fileName, start, partitionWindow.end(start), 0));
+        CsvPartitionManifest.write(manifestPath, written.values());
+      }
+      log.debug("Rolled partition of '{}' to '{}'.", directory.getFileName(), fileName);
+
+      currentStart = start;
+      currentWriter = writer;
+      currentEntries = previous == null ? 0 : previous.entries();
+    }
+
+    /**
+     * Removes the manifest and the partitions of a former run, so that the directory does not hold
+     * partitions, that are missing in the manifest of this run. The manifest is removed first, so
+     * that it never lists missing partitions.
+     */
+    private void removeFormerRun() throws IOException {
+      if (!Files.exists(manifestPath)) return;
+      List<Partition> formerPartitions = CsvPartitionManifest.read(manifestPath);
+      Files.delete(manifestPath);
+      for (Partition partition : formerPartitions)
+        Files.deleteIfExists(directory.resolve(partition.fileName()));
+      log.debug(
+          "Removed {} partition(s) of a former run from '{}'.",
+          formerPartitions.size(),
+          directory.getFileName());
+    }
+
+    private void closeCurrent() throws IOException {
+      if (currentWriter == null) return;
+      try {
+        currentWriter.close();
+      } finally {
+        updateCurrentEntries();
+        currentWriter = null;
+        currentStart = null;
+      }
+    }
+
+    synchronized void flush() throws IOException {
+      if (currentWriter == null) return;
+      currentWriter.flush();
+      updateCurrentEntries();
+      CsvPartitionManifest.write(manifestPath, written.values());
+    }
+
+    private void updateCurrentEntries() {
+      written.computeIfPresent(
+          currentStart, (start, partition) -> partition.withEntries(currentEntries));
+    }
+
+    synchronized void close() throws IOException {
+      try {
+        closeCurrent();
+      } finally {
+        if (!written.isEmpty()) CsvPartitionManifest.write(manifestPath, written.values());
+      }
+    }
+  }
+}
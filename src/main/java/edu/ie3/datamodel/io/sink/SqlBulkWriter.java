@@ -0,0 +1,249 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.sink;
+
+import edu.ie3.datamodel.exceptions.ProcessorProviderException;
+import edu.ie3.datamodel.io.connectors.SqlConnector;
+import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes rows to a SQL table in bulk. The rows are streamed from their source and sent in chunks,
+ * either via batches of a parameterised {@link PreparedStatement} or via PostgreSQL's {@code COPY
+ * FROM STDIN}. Hence, neither the full query text nor all rows are held in memory. All chunks of
+ * one call are written within one transaction of the {@link SqlConnector}, that is committed at the
+ * end or rolled back on failure.
+ *
+ * <p>The PostgreSQL driver is only a runtime dependency, hence its copy api is solely accessed by
+ * {@link PostgresCopy}, which is not loaded unless {@code COPY} is actually used.
+ */
+public final class SqlBulkWriter {
+  private static final Logger log = LoggerFactory.getLogger(SqlBulkWriter.class);
+
+  private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+
+  private final SqlConnector connector;
+  private final Config config;
+
+  /**
+   * Configuration of bulk writing.
+   *
+   * @param batchSize the number of rows, that are sent to the database at once
+   * @param useCopy true to write tables without conflict handling via {@code COPY FROM STDIN}, if
+   *     the connection is a PostgreSQL connection. Tables, that ignore conflicting rows, are always
+   *     written via batches, as {@code COPY} cannot skip conflicts.
+   */
+  public record Config(int batchSize, boolean useCopy) {
+    /** Batches of 1000 rows without {@code COPY} */
+    public static final Config DEFAULT = new Config(1000, false);
+
+    public Config {
+      if (batchSize <= 0) throw new IllegalArgumentException("The batch size has to be positive.");
+    }
+  }
+
+  /**
+   * The target of a bulk write.
+   *
+   * @param schemaName the schema of the table
+   * @param tableName the name of the table
+   * @param columns the columns, that are written, in the order of the row values
+   * @param ignoreConflict true to skip rows, whose primary key 'uuid' already exists
+   */
+  public record Table(
+      String schemaName, String tableName, String[] columns, boolean ignoreConflict) {}
+
+  /** Source of rows, that hands each row to the provided consumer */
+  @FunctionalInterface
+  public interface Rows {
+    void forEach(RowConsumer consumer) throws SQLException, ProcessorProviderException;
+  }
+
+  /** Consumer of rows, whose values are given in the order of the table's columns */
+  @FunctionalInterface
+  public interface RowConsumer {
+    void accept(String[] values) throws SQLException;
+  }
+
+  public SqlBulkWriter(SqlConnector connector, Config config) {
+    this.connector = connector;
+    this.config = config;
+  }
+
+  public Config getConfig() {
+    return config;
+  }
+
+  /**
+   * Writes all provided rows to the given table.
+   *
+   * @param table the target table
+   * @param rows the source of rows
+   * @return the number of rows handed to the database
+   * @throws SQLException if writing fails, the transaction is rolled back
+   * @throws ProcessorProviderException if a row cannot be created
+   */
+  public long write(Table table, Rows rows) throws SQLException, ProcessorProviderException {
+    try {
+      return connector.inTransaction(
+          connection -> {
+            boolean copy = config.useCopy() && !table.ignoreConflict() && isPostgres(connection);
+            return copy
+                ? PostgresCopy.copy(connection, table, rows, config.batchSize())
+                : batch(connection, table, rows);
+          });
+    } catch (SQLException e) {
+      throw new SQLException(
+          String.format("Error at execution of query, SQLReason: '%s'", reason(e)), e);
+    }
+  }
+
+  private long batch(Connection connection, Table table, Rows rows)
+      throws SQLException, ProcessorProviderException {
+    long[] count = {0};
+    try (PreparedStatement statement = connection.prepareStatement(insertQuery(table))) {
+      int[] pending = {0};
+      rows.forEach(
+          values -> {
+            checkLength(table, values);
+            for (int i = 0; i < values.length; i++) {
+              String value = sqlValue(values[i]);
+              // the server infers the column type, as it would do for a literal
+              if (value == null) statement.setNull(i + 1, Types.OTHER);
+              else statement.setObject(i + 1, value, Types.OTHER);
+            }
+            statement.addBatch();
+            count[0]++;
+            if (++pending[0] == config.batchSize()) {
+              statement.executeBatch();
+              pending[0] = 0;
+            }
+          });
+      if (pending[0] > 0) statement.executeBatch();
+    }
+    return count[0];
+  }
+
+  /** Checks for a PostgreSQL connection without requiring the driver to be present */
+  private static boolean isPostgres(Connection connection) throws SQLException {
+    try {
+      return connection.isWrapperFor(Class.forName(PG_CONNECTION_CLASS));
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  /** Appends one line in the csv format of {@code COPY}, where an unquoted empty value is null */
+  private static void appendCsvLine(String[] values, StringBuilder line) {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) line.append(',');
+      String value = sqlValue(values[i]);
+      if (value != null) line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+    line.append('\n');
+  }
+
+  /** Empty values and "null" are written as SQL NULL, as done by {@code SqlUtils#quote} */
+  private static String sqlValue(String value) {
+    return value == null || value.isEmpty() || value.equals("null") ? null : value;
+  }
+
+  private static void checkLength(Table table, String[] values) throws SQLException {
+    if (values.length != table.columns().length)
+      throw new SQLException(
+          "The provided row of "
+              + values.length
+              + " values does not fit the "
+              + table.columns().length
+              + " columns of table '"
+              + table.tableName()
+              + "'.");
+  }
+
+  static String insertQuery(Table table) {
+    String placeholders = String.join(",", Collections.nCopies(table.columns().length, "?"));
+    return "INSERT INTO "
+        + table.schemaName()
+        + "."
+        + table.tableName()
+        + " ("
+        + String.join(",", table.columns())
+        + ") VALUES ("
+        + placeholders
+        + ")"
+        + (table.ignoreConflict() ? " ON CONFLICT (uuid) DO NOTHING" : "");
+  }
+
+  static String copyQuery(Table table) {
+    return "COPY "
+        + table.schemaName()
+        + "."
+        + table.tableName()
+        + " ("
+        + String.join(",", table.columns())
+        + ") FROM STDIN WITH (FORMAT csv)";
+  }
+
+  /** Writes rows via PostgreSQL's copy api */
+  private static final class PostgresCopy {
+    private PostgresCopy() {}
+
+    static long copy(Connection connection, Table table, Rows rows, int batchSize)
+        throws SQLException, ProcessorProviderException {
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copyQuery(table));
+      long[] count = {0};
+      try {
+        StringBuilder chunk = new StringBuilder();
+        int[] pending = {0};
+        rows.forEach(
+            values -> {
+              checkLength(table, values);
+              appendCsvLine(values, chunk);
+              count[0]++;
+              if (++pending[0] == batchSize) {
+                writeChunk(copyIn, chunk);
+                pending[0] = 0;
+              }
+            });
+        writeChunk(copyIn, chunk);
+        copyIn.endCopy();
+      } finally {
+        if (copyIn.isActive()) {
+          try {
+            copyIn.cancelCopy();
+          } catch (SQLException e) {
+            log.warn("Unable to cancel the copy into table '{}'.", table.tableName(), e);
+          }
+        }
+      }
+      return count[0];
+    }
+
+    private static void writeChunk(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+      if (chunk.isEmpty()) return;
+      byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+      chunk.setLength(0);
+    }
+  }
+
+  /** The failure of a batch only states the aborted statement, the server's reason is chained */
+  private static String reason(SQLException e) {
+    SQLException next = e.getNextException();
+    return e instanceof BatchUpdateException && next != null
+        ? e.getMessage() + " " + next.getMessage()
+        : e.getMessage();
+  }
+}
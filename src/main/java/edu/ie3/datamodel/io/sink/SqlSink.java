@@ -5,7 +5,6 @@
 */
 package edu.ie3.datamodel.io.sink;
 
-import static edu.ie3.datamodel.io.SqlUtils.quote;
 import static java.util.stream.Collectors.groupingBy;
 
 import edu.ie3.datamodel.exceptions.EntityProcessorException;
@@ -35,12 +34,14 @@ import edu.ie3.datamodel.models.timeseries.TimeSeries;
 import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
 import edu.ie3.datamodel.models.timeseries.repetitive.LoadProfileTimeSeries;
 import edu.ie3.datamodel.models.value.Value;
-import edu.ie3.datamodel.utils.TriFunction;
 import edu.ie3.util.StringUtils;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +53,10 @@ public class SqlSink {
   private final DatabaseNamingStrategy databaseNamingStrategy;
   private final ProcessorProvider processorProvider;
   private final String schemaName;
+  private final SqlBulkWriter bulkWriter;
+
+  /** Writes the tables of one dependency wave in parallel, null if the connector is not pooled */
+  private final ExecutorService tableWriters;
 
   private static final String TIME_SERIES = "time_series";
   private static final String LOAD_PROFILE = "load_profile";
@@ -67,20 +72,60 @@ public class SqlSink {
       ProcessorProvider processorProvider,
       DatabaseNamingStrategy databaseNamingStrategy,
       SqlConnector connector) {
+    this(
+        schemaName,
+        processorProvider,
+        databaseNamingStrategy,
+        connector,
+        SqlBulkWriter.Config.DEFAULT);
+  }
+
+  /**
+   * Creates a sink, that writes its rows in bulk
+   *
+   * @param schemaName the schema to write to
+   * @param processorProvider the provider of processors for the entities
+   * @param databaseNamingStrategy the naming strategy for the tables
+   * @param connector the connector to the database
+   * @param bulkWriting the configuration of batched or copy based bulk writing
+   */
+  public SqlSink(
+      String schemaName,
+      ProcessorProvider processorProvider,
+      DatabaseNamingStrategy databaseNamingStrategy,
+      SqlConnector connector,
+      SqlBulkWriter.Config bulkWriting) {
     this.connector = connector;
     this.databaseNamingStrategy = databaseNamingStrategy;
     this.processorProvider = processorProvider;
     this.schemaName = schemaName;
+    this.bulkWriter = new SqlBulkWriter(connector, bulkWriting);
+    AtomicInteger threadCount = new AtomicInteger();
+    this.tableWriters =
+        connector.getPoolSize() > 1
+            ? Executors.newFixedThreadPool(
+                connector.getPoolSize(),
+                runnable -> {
+                  Thread thread =
+                      new Thread(runnable, "sql-table-writer-" + threadCount.incrementAndGet());
+                  thread.setDaemon(true);
+                  return thread;
+                })
+            : null;
   }
 
   public void shutdown() {
+    if (tableWriters != null) tableWriters.shutdownNow();
     connector.shutdown();
   }
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
   /**
-   * Entry point of a data sink to persist multiple entities in a collection.
+   * Entry point of a data sink to persist multiple entities in a collection. The entities are
+   * written in waves following the {@link #hierarchicInsert()} order, so that foreign keys are
+   * met. If the {@link SqlConnector} holds a pool of connections, the tables of one wave are
+   * written in parallel, each within its own transaction.
    *
    * @param entities a collection of entities that should be persisted
    * @param identifier identifier of the grid
@@ -163,23 +208,63 @@ public class SqlSink {
 
   /**
    * Persist a list of entities with different types. To minimize the number of queries, the
-   * entities will be grouped by their class.
+   * entities will be grouped by their class. As the classes are written to independent tables,
+   * they are written in parallel, if possible.
    */
   private <C extends Entity> void persistMixedList(List<C> entities, DbGridMetadata identifier) {
     Map<Class<C>, List<C>> entitiesPerClass =
         entities.stream().collect(groupingBy(entity -> (Class<C>) entity.getClass()));
-    entitiesPerClass.forEach(
-        (cls, ent) -> {
-          try {
-            persistList(ent, cls, identifier);
-          } catch (SQLException e) {
-            throw new RuntimeException(
-                String.format(
-                    "An error occurred during extraction of entity '%s', SQLReason: '%s'",
-                    cls.getSimpleName(), e.getMessage()),
-                e);
-          }
-        });
+    List<Runnable> tableWrites =
+        entitiesPerClass.entrySet().stream()
+            .<Runnable>map(
+                entry -> () -> persistTable(entry.getValue(), entry.getKey(), identifier))
+            .toList();
+    runWave(tableWrites);
+  }
+
+  /** Persist the entities of one class, which are written to the same table. */
+  private <C extends Entity> void persistTable(
+      List<C> entities, Class<C> cls, DbGridMetadata identifier) {
+    try {
+      persistList(entities, cls, identifier);
+    } catch (SQLException e) {
+      throw new RuntimeException(
+          String.format(
+              "An error occurred during extraction of entity '%s', SQLReason: '%s'",
+              cls.getSimpleName(), e.getMessage()),
+          e);
+    }
+  }
+
+  /**
+   * Runs the writes of one wave and waits for all of them to finish, before the next wave may
+   * start. The first failure of the wave is rethrown afterwards. Within a surrounding transaction,
+   * the writes are run sequentially, as they have to join the transaction of the calling thread.
+   */
+  private void runWave(List<Runnable> tableWrites) {
+    if (tableWriters == null || tableWrites.size() <= 1 || connector.isInTransaction()) {
+      tableWrites.forEach(Runnable::run);
+      return;
+    }
+
+    List<Future<?>> futures = tableWrites.stream().<Future<?>>map(tableWriters::submit).toList();
+    RuntimeException failure = null;
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (failure == null)
+          failure =
+              e.getCause() instanceof RuntimeException runtimeException
+                  ? runtimeException
+                  : new RuntimeException(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.forEach(f -> f.cancel(true));
+        throw new RuntimeException("Interrupted while writing tables in parallel.", e);
+      }
+    }
+    if (failure != null) throw failure;
   }
 
   /**
@@ -210,21 +295,28 @@ public class SqlSink {
 
   /**
    * Writes a list of entities into a sql table. It's necessary that all entities have the same
-   * class.
+   * class. The rows are streamed from the processors to the database in bulk.
    */
   private <C extends Entity> void insertListIgnoreNested(
       List<C> entities, Class<C> cls, DbGridMetadata identifier, boolean ignoreConflict)
       throws SQLException {
     try {
       String[] headerElements = processorProvider.getHeaderElements(cls);
-      String query =
-          basicInsertQueryValuesGrid(
-              schemaName, databaseNamingStrategy.getEntityName(cls).orElseThrow(), headerElements);
-      query =
-          query
-              + createInsertQueryBodyIgnoreConflict(
-                  entities, headerElements, identifier, ignoreConflict);
-      connector.executeUpdate(query);
+      SqlBulkWriter.Table table =
+          new SqlBulkWriter.Table(
+              schemaName,
+              databaseNamingStrategy.getEntityName(cls).orElseThrow(),
+              columns(headerElements, DbGridMetadata.GRID_UUID_COLUMN),
+              ignoreConflict);
+      bulkWriter.write(
+          table,
+          consumer -> {
+            String[] fields = new String[headerElements.length];
+            for (C entity : new LinkedHashSet<>(entities)) {
+              processorProvider.handleEntity(entity, fields);
+              consumer.accept(row(fields, identifier.uuid().toString()));
+            }
+          });
     } catch (ProcessorProviderException e) {
       log.error("Exception occurred during processor request: ", e);
     }
@@ -246,53 +338,54 @@ public class SqlSink {
   private <E extends TimeSeriesEntry<V>, V extends Value, R extends Value> void persistTimeSeries(
       TimeSeries<E, V, R> timeSeries, String[] headerElements, DbGridMetadata identifier)
       throws ProcessorProviderException {
-    try {
+    String identifierColumn;
+    String timeSeriesIdentifier;
 
-      TriFunction<String, String, String[], String> queryBuilder;
-      String timeSeriesIdentifier;
-
-      if (timeSeries instanceof LoadProfileTimeSeries<?> lpts) {
-        timeSeriesIdentifier = lpts.getPowerProfileKey().getValue();
-        queryBuilder = this::basicInsertQueryValuesLPTS;
-      } else {
-        timeSeriesIdentifier = timeSeries.getUuid().toString();
-        queryBuilder = this::basicInsertQueryValuesITS;
-      }
-
-      String query =
-          queryBuilder.apply(
-              schemaName,
-              databaseNamingStrategy.getEntityName(timeSeries).orElseThrow(),
-              headerElements);
-      Set<LinkedHashMap<String, String>> entityFieldData =
-          processorProvider.handleTimeSeries(timeSeries);
-
-      query =
-          query
-              + entityFieldData.stream()
-                  .map(
-                      data ->
-                          queryTimeSeriesValueLine(
-                              sqlEntityFieldData(data),
-                              headerElements,
-                              identifier,
-                              timeSeriesIdentifier))
-                  .collect(Collectors.joining(",\n", "", ";"));
-      executeQueryToPersist(query);
-    } catch (ProcessorProviderException e) {
-      throw new ProcessorProviderException("Exception occurred during processor request: ", e);
+    if (timeSeries instanceof LoadProfileTimeSeries<?> lpts) {
+      identifierColumn = LOAD_PROFILE;
+      timeSeriesIdentifier = lpts.getPowerProfileKey().getValue();
+    } else {
+      identifierColumn = TIME_SERIES;
+      timeSeriesIdentifier = timeSeries.getUuid().toString();
     }
-  }
 
-  private void executeQueryToPersist(String query) {
+    SqlBulkWriter.Table table =
+        new SqlBulkWriter.Table(
+            schemaName,
+            databaseNamingStrategy.getEntityName(timeSeries).orElseThrow(),
+            columns(headerElements, DbGridMetadata.GRID_UUID_COLUMN, identifierColumn),
+            false);
     try {
-      connector.executeUpdate(query);
+      bulkWriter.write(
+          table,
+          consumer -> {
+            String[] fields = new String[headerElements.length];
+            try {
+              // each entry is processed and handed to the database on its own
+              processorProvider.handleTimeSeries(
+                  timeSeries,
+                  data -> {
+                    for (int i = 0; i < headerElements.length; i++)
+                      fields[i] = data.get(headerElements[i]);
+                    try {
+                      consumer.accept(
+                          row(fields, identifier.uuid().toString(), timeSeriesIdentifier));
+                    } catch (SQLException e) {
+                      throw new UncheckedSqlException(e);
+                    }
+                  });
+            } catch (UncheckedSqlException e) {
+              throw e.getCause();
+            }
+          });
     } catch (SQLException e) {
       throw new RuntimeException(
           String.format(
               "An error occurred during extraction of the time series, SQLReason: '%s'",
               e.getMessage()),
           e);
+    } catch (ProcessorProviderException e) {
+      throw new ProcessorProviderException("Exception occurred during processor request: ", e);
     }
   }
 
@@ -303,146 +396,35 @@ public class SqlSink {
     persistAll(toAdd, identifier);
   }
 
-  /** Executes a query to insert a single entity to a SQL database. */
+  /** Inserts a single entity to a SQL database. */
   private <C extends Entity> void insert(C entity, DbGridMetadata identifier) throws SQLException {
-    try {
-      String[] headerElements = processorProvider.getHeaderElements(entity.getClass());
-      String query =
-          basicInsertQueryValuesGrid(
-                  schemaName,
-                  databaseNamingStrategy.getEntityName(entity.getClass()).orElseThrow(),
-                  headerElements)
-              + queryValueLine(entity, headerElements, identifier)
-              + ";";
-      connector.executeUpdate(query);
-    } catch (ProcessorProviderException e) {
-      log.error(
-          "Exception occurred during receiving of header elements. Cannot write this element.", e);
-    }
+    insertListIgnoreNested(List.of(entity), (Class<C>) entity.getClass(), identifier, false);
   }
 
-  // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
-
-  /**
-   * Provides the value lists for an insertion query. Conflicts because of the primary key 'uuid'
-   * will be ignored. Conflicts can occur if an entity (e.g. node) already exist. WARNING: It's
-   * assumed that all entities are from the same class C.
-   */
-  private <C extends Entity> String createInsertQueryBodyIgnoreConflict(
-      List<C> entities, String[] headerElements, DbGridMetadata identifier, boolean ignoreConflict)
-      throws ProcessorProviderException {
-    Set<LinkedHashMap<String, String>> entityFieldData = processorProvider.handleEntities(entities);
-    String suffix;
-    if (ignoreConflict) {
-      suffix = "\nON CONFLICT (uuid) DO NOTHING;";
-    } else {
-      suffix = ";\n";
+  /** Passes a failed write of a row through the consumer of processed time series entries */
+  private static final class UncheckedSqlException extends RuntimeException {
+    UncheckedSqlException(SQLException cause) {
+      super(cause);
     }
-    String queryBody = "";
-    queryBody =
-        queryBody
-            + entityFieldData.stream()
-                .map(data -> queryValueLine(sqlEntityFieldData(data), headerElements, identifier))
-                .collect(Collectors.joining(",\n", "", suffix));
-    return queryBody;
-  }
-
-  /**
-   * Creates a line with the values of one entity for an insertion query using the entityFieldData.
-   */
-  private String queryValueLine(
-      LinkedHashMap<String, String> entityFieldData,
-      String[] headerElements,
-      DbGridMetadata identifier) {
-    return writeOneLine(
-        Stream.concat(
-            Arrays.stream(headerElements).map(entityFieldData::get),
-            identifier.getStreamForQuery()));
-  }
-
-  /** Creates a line with the values of one entity for an insertion query. */
-  private <C extends Entity> String queryValueLine(
-      C entity, String[] headerElements, DbGridMetadata identifier)
-      throws ProcessorProviderException {
-    return queryValueLine(
-        processorProvider.handleEntity(entity).map(this::sqlEntityFieldData).getOrThrow(),
-        headerElements,
-        identifier);
-  }
-
-  private String queryTimeSeriesValueLine(
-      Map<String, String> entityFieldData,
-      String[] headerElements,
-      DbGridMetadata identifier,
-      String timeSeriesIdentifier) {
-    return writeOneLine(
-        Stream.concat(
-            Stream.concat(
-                Arrays.stream(headerElements).map(entityFieldData::get),
-                identifier.getStreamForQuery()),
-            Stream.of(quote(timeSeriesIdentifier, "'"))));
-  }
-
-  private LinkedHashMap<String, String> sqlEntityFieldData(
-      LinkedHashMap<String, String> entityFieldData) {
-    LinkedHashMap<String, String> quotedEntityFieldData = new LinkedHashMap<>(entityFieldData);
-    quotedEntityFieldData.replaceAll((key, ent) -> quote(ent, "'"));
-
-    return quotedEntityFieldData;
-  }
-
-  /** "INSERT INTO" line with schemaName.tableName */
-  private static String basicInsertQuery(String schemaName, String tableName) {
-    return "INSERT INTO\n\t" + schemaName + "." + tableName;
-  }
-
-  /** Provides the insert, column names, grid identifier and the VALUES statement for a query. */
-  private String basicInsertQueryValuesGrid(
-      String schemaName, String tableName, String[] headerElements) {
-    String[] addParams = {DbGridMetadata.GRID_UUID_COLUMN};
-    return basicInsertQueryWith(
-        schemaName, tableName, StringUtils.camelCaseToSnakeCase(headerElements), addParams);
-  }
-
-  /**
-   * Provides the insert, column names, grid identifier, time_series uuid and the VALUES statement
-   * for a query.
-   */
-  private String basicInsertQueryValuesITS(
-      String schemaName, String tableName, String[] headerElements) {
-    String[] addParams = {DbGridMetadata.GRID_UUID_COLUMN, TIME_SERIES};
-    return basicInsertQueryWith(
-        schemaName, tableName, StringUtils.camelCaseToSnakeCase(headerElements), addParams);
-  }
 
-  /** Provides the insert, column names, grid identifier, and the VALUES statement for a query. */
-  private String basicInsertQueryValuesLPTS(
-      String schemaName, String tableName, String[] headerElements) {
-    String[] addParams = {DbGridMetadata.GRID_UUID_COLUMN, LOAD_PROFILE};
-    return basicInsertQueryWith(
-        schemaName, tableName, StringUtils.camelCaseToSnakeCase(headerElements), addParams);
+    @Override
+    public synchronized SQLException getCause() {
+      return (SQLException) super.getCause();
+    }
   }
 
-  /** Provides the insert, column names, grid identifier, and the VALUES statement for a query */
-  private String basicInsertQueryWith(
-      String schemaName, String tableName, String[] headerElements, String[] addParams) {
-    return basicInsertQuery(schemaName, tableName)
-        + " "
-        + writeOneLine(StringUtils.camelCaseToSnakeCase(headerElements), addParams)
-        + "\nVALUES\n";
-  }
+  // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
-  /** Converts a stream of strings into an one line string with brackets. */
-  private String writeOneLine(Stream<String> entries) {
-    return "(" + entries.collect(Collectors.joining(",")) + ")";
+  /** Provides the column names of the header elements, followed by the additional columns. */
+  private static String[] columns(String[] headerElements, String... addColumns) {
+    return StringUtils.camelCaseToSnakeCase(row(headerElements, addColumns));
   }
 
-  /**
-   * Converts an array of strings and an array of strings (for additional parameters) into an one
-   * line string with brackets.
-   */
-  private String writeOneLine(String[] entries, String[] addParams) {
-    return writeOneLine(Stream.concat(Arrays.stream(entries), Arrays.stream(addParams)));
+  /** Provides a row of the field values, followed by the additional values. */
+  private static String[] row(String[] fields, String... addValues) {
+    String[] row = Arrays.copyOf(fields, fields.length + addValues.length);
+    System.arraycopy(addValues, 0, row, fields.length, addValues.length);
+    return row;
   }
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
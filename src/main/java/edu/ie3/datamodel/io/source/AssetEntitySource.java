@@ -17,6 +17,7 @@ import edu.ie3.datamodel.models.input.connector.ConnectorInput;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,6 +96,40 @@ public abstract class AssetEntitySource extends EntitySource {
         data -> connectorEnricher.andThen(enrichConnector(types)).apply(data, operators, nodes));
   }
 
+  /**
+   * Method to build and collect typed connector entities in a single pass.
+   *
+   * @param entityClass class of the entity
+   * @param dataSource source for the data
+   * @param factory to build the entity
+   * @param operators map: uuid to {@link OperatorInput}
+   * @param nodes map: uuid to {@link NodeInput}
+   * @param types map: uuid to {@link AssetTypeInput}
+   * @param collector to collect the entities
+   * @return the collected {@link ConnectorInput}s
+   * @param <E> type of connector input
+   * @param <T> type of asset types
+   * @param <R> type of the result
+   * @throws SourceException if an error happens during reading
+   */
+  protected static <E extends ConnectorInput, T extends AssetTypeInput, R>
+      R getTypedConnectorEntities(
+          Class<E> entityClass,
+          DataSource dataSource,
+          ConnectorInputEntityFactory<E, TypedConnectorInputEntityData<T>> factory,
+          Map<UUID, OperatorInput> operators,
+          Map<UUID, NodeInput> nodes,
+          Map<UUID, T> types,
+          Collector<? super E, ?, R> collector)
+          throws SourceException {
+    return getEntities(
+        entityClass,
+        dataSource,
+        factory,
+        data -> connectorEnricher.andThen(enrichConnector(types)).apply(data, operators, nodes),
+        collector);
+  }
+
   /**
    * Builds a function for enriching {@link ConnectorInputEntityData} with types.
    *
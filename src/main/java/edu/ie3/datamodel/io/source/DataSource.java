@@ -33,7 +33,12 @@ public interface DataSource {
    */
   Optional<Set<String>> getSourceFields(Class<? extends Entity> entityClass) throws SourceException;
 
-  /** Creates a stream of maps that represent the rows in the database */
+  /**
+   * Creates a stream of maps that represent the rows in the database. Implementations may provide
+   * the rows lazily. Errors, that occur while consuming such a stream, are thrown as {@link
+   * edu.ie3.datamodel.exceptions.StreamScanException} with the {@link SourceException} as cause.
+   * The stream should be closed after consumption to release the underlying resources.
+   */
   Stream<Map<String, String>> getSourceData(Class<? extends Entity> entityClass)
       throws SourceException;
 
@@ -101,19 +101,19 @@ public class EnergyManagementSource extends AssetEntitySource {
     // at the start, this is only root ems
     Map<UUID, EmInput> allEms =
         unpack(
-                rootEmsEntityData.stream()
-                    .parallel()
-                    .map(
-                        entityDataTry ->
-                            entityDataTry.map(
-                                entityData -> new EmAssetInputEntityData(entityData, null)))
-                    .map(emInputFactory::get),
-                EmInput.class)
-            .collect(toMap());
+            rootEmsEntityData.stream()
+                .parallel()
+                .map(
+                    entityDataTry ->
+                        entityDataTry.map(
+                            entityData -> new EmAssetInputEntityData(entityData, null)))
+                .map(emInputFactory::get),
+            EmInput.class,
+            toMap());
 
     if (!others.isEmpty()) {
       // there's more EM levels beyond root level. Build them recursively
-      Stream<AssetDataAndValidParentUuid> othersWithParentUuid =
+      List<AssetDataAndValidParentUuid> othersWithParentUuid =
           // We try to keep the Tries as long as possible so that as many failures as possible can
           // be reported. At this point however, we need to "unpack" (and throw, if applicable),
           // because without valid parent EM UUID, we cannot proceed.
@@ -142,9 +142,10 @@ public class EnergyManagementSource extends AssetEntitySource {
                                         parentUuid ->
                                             new AssetDataAndValidParentUuid(data, parentUuid));
                               })),
-              AssetDataAndValidParentUuid.class);
+              AssetDataAndValidParentUuid.class,
+              Collectors.toList());
 
-      allEms.putAll(createHierarchicalEmInputs(othersWithParentUuid, allEms));
+      allEms.putAll(createHierarchicalEmInputs(othersWithParentUuid.stream(), allEms));
     }
 
     return allEms;
@@ -174,16 +175,16 @@ public class EnergyManagementSource extends AssetEntitySource {
       // New EMs can be built at this level
       Map<UUID, EmInput> newEms =
           unpack(
-                  toBeBuiltAtThisLevel.stream()
-                      .map(
-                          data -> {
-                            // exists because we checked above
-                            EmInput parentEm = lastLevelEms.get(data.parentEm);
-                            return emInputFactory.get(
-                                new EmAssetInputEntityData(data.entityData, parentEm));
-                          }),
-                  EmInput.class)
-              .collect(toMap());
+              toBeBuiltAtThisLevel.stream()
+                  .map(
+                      data -> {
+                        // exists because we checked above
+                        EmInput parentEm = lastLevelEms.get(data.parentEm);
+                        return emInputFactory.get(
+                            new EmAssetInputEntityData(data.entityData, parentEm));
+                      }),
+              EmInput.class,
+              toMap());
 
       if (!toBeBuiltAtNextLevel.isEmpty()) {
         // If there's more EMs left to build, the new EMs have to function as parents there
@@ -8,6 +8,7 @@ package edu.ie3.datamodel.io.source;
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.exceptions.FailedValidationException;
 import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.StreamScanException;
 import edu.ie3.datamodel.exceptions.ValidationException;
 import edu.ie3.datamodel.io.connectors.CsvFileConnector;
 import edu.ie3.datamodel.io.factory.EntityData;
@@ -178,10 +179,10 @@ public abstract class EntitySource {
       EntityFactory<? extends UniqueEntity, EntityData> factory)
       throws SourceException {
     return unpack(
-            buildEntityData(entityClass, dataSource)
-                .map(data -> (Try<E, FactoryException>) factory.get(data)),
-            entityClass)
-        .collect(toMap());
+        buildEntityData(entityClass, dataSource)
+            .map(data -> (Try<E, FactoryException>) factory.get(data)),
+        entityClass,
+        toMap());
   }
 
   /**
@@ -206,6 +207,34 @@ public abstract class EntitySource {
         buildEntityData(entityClass, dataSource, enrichFunction).map(factory::get), entityClass);
   }
 
+  /**
+   * Universal method to get collected {@link Entity}s. The entities are built and collected in a
+   * single pass, without buffering the intermediate results.
+   *
+   * @param entityClass class of the entity
+   * @param dataSource source for the entity
+   * @param factory to build the entity
+   * @param enrichFunction function to enrich the given entity data
+   * @param collector to collect the entities
+   * @return the collected {@link Entity}s
+   * @param <E> type of entity
+   * @param <D> type of entity data
+   * @param <R> type of the result
+   * @throws SourceException - if an error happen during reading
+   */
+  protected static <E extends Entity, D extends EntityData, R> R getEntities(
+      Class<E> entityClass,
+      DataSource dataSource,
+      EntityFactory<E, D> factory,
+      WrappedFunction<EntityData, D> enrichFunction,
+      Collector<? super E, ?, R> collector)
+      throws SourceException {
+    return unpack(
+        buildEntityData(entityClass, dataSource, enrichFunction).map(factory::get),
+        entityClass,
+        collector);
+  }
+
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
 
   /**
@@ -366,7 +395,62 @@ public abstract class EntitySource {
    */
   protected static <S, E extends Exception> Stream<S> unpack(
       Stream<Try<S, E>> inputStream, Class<S> clazz) throws SourceException {
-    return Try.scanStream(inputStream, clazz.getSimpleName(), SourceException::new).getOrThrow();
+    return unpack(inputStream, clazz, Collectors.toList()).stream();
+  }
+
+  /**
+   * Method to lazily unpack a stream of tries. Other than {@link #unpack(Stream, Class)}, the
+   * entities are unpacked, while the returned stream is consumed. If any try failed, an unchecked
+   * {@link StreamScanException} holding a {@link SourceException} is thrown, once the returned
+   * stream is consumed completely or closed. Use {@link #toSourceException(StreamScanException)}
+   * to convert it. The returned stream should be closed, e.g. by a try-with-resources statement,
+   * to release the underlying source, if it is not consumed completely.
+   *
+   * @param inputStream given stream
+   * @param clazz class of the entity
+   * @return a lazy stream of entities
+   * @param <S> type of entity
+   * @param <E> type of exception
+   */
+  protected static <S, E extends Exception> Stream<S> unpackLazily(
+      Stream<Try<S, E>> inputStream, Class<S> clazz) {
+    return Try.scanStreamLazily(inputStream, clazz.getSimpleName(), SourceException::new);
+  }
+
+  /**
+   * Method to unpack a stream of tries and to collect the entities right away. The stream is
+   * scanned lazily, so that the entities are passed to the collector without buffering all tries in
+   * advance.
+   *
+   * @param inputStream given stream
+   * @param clazz class of the entity
+   * @param collector to collect the entities
+   * @return the collected entities
+   * @param <S> type of entity
+   * @param <E> type of exception
+   * @param <R> type of the result
+   * @throws SourceException - if an error occurred during reading
+   */
+  protected static <S, E extends Exception, R> R unpack(
+      Stream<Try<S, E>> inputStream, Class<S> clazz, Collector<? super S, ?, R> collector)
+      throws SourceException {
+    try (Stream<S> entities = unpackLazily(inputStream, clazz)) {
+      return entities.collect(collector);
+    } catch (StreamScanException e) {
+      throw toSourceException(e);
+    }
+  }
+
+  /**
+   * Converts the exception of a lazily scanned stream into a {@link SourceException}.
+   *
+   * @param e the exception of the scanned stream
+   * @return the failure of the scan, if it is a {@link SourceException}, or a new {@link
+   *     SourceException} otherwise
+   */
+  protected static SourceException toSourceException(StreamScanException e) {
+    if (e.getFailure() instanceof SourceException sourceException) return sourceException;
+    return new SourceException(e.getMessage(), e.getFailure());
   }
 
   /**
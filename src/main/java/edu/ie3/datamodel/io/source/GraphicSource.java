@@ -115,11 +115,11 @@ public class GraphicSource extends AssetEntitySource {
   public Set<NodeGraphicInput> getNodeGraphicInput(Map<UUID, NodeInput> nodes)
       throws SourceException {
     return getEntities(
-            NodeGraphicInput.class,
-            dataSource,
-            nodeGraphicInputFactory,
-            enrich(NODE, nodes, NodeGraphicInputEntityData::new))
-        .collect(toSet());
+        NodeGraphicInput.class,
+        dataSource,
+        nodeGraphicInputFactory,
+        enrich(NODE, nodes, NodeGraphicInputEntityData::new),
+        toSet());
   }
 
   /**
@@ -137,10 +137,10 @@ public class GraphicSource extends AssetEntitySource {
   public Set<LineGraphicInput> getLineGraphicInput(Map<UUID, LineInput> lines)
       throws SourceException {
     return getEntities(
-            LineGraphicInput.class,
-            dataSource,
-            lineGraphicInputFactory,
-            enrich("line", lines, LineGraphicInputEntityData::new))
-        .collect(toSet());
+        LineGraphicInput.class,
+        dataSource,
+        lineGraphicInputFactory,
+        enrich("line", lines, LineGraphicInputEntityData::new),
+        toSet());
   }
 }
@@ -68,6 +68,22 @@ public abstract class IdCoordinateSource extends EntitySource {
    */
   public abstract List<CoordinateDistance> getNearestCoordinates(Point coordinate, int n);
 
+  /**
+   * Returns the nearest n coordinate points for each of the given coordinates. By default, the
+   * coordinates are looked up one after another via {@link #getNearestCoordinates(Point, int)}.
+   *
+   * @param coordinates the coordinates to look up
+   * @param n number of searched points per coordinate
+   * @return the nearest n coordinates mapped to the coordinate they were looked up for
+   */
+  public Map<Point, List<CoordinateDistance>> getNearestCoordinates(
+      Collection<Point> coordinates, int n) {
+    Map<Point, List<CoordinateDistance>> coordinateToNearest = new HashMap<>();
+    for (Point coordinate : coordinates)
+      coordinateToNearest.computeIfAbsent(coordinate, point -> getNearestCoordinates(point, n));
+    return coordinateToNearest;
+  }
+
   /**
    * Returns the closest n coordinate points to the given coordinate, that are inside a given
    * bounding box, from a collection of all available points. The bounding box is calculated with
@@ -204,11 +204,11 @@ public class RawGridSource extends AssetEntitySource {
    */
   public Map<UUID, NodeInput> getNodes(Map<UUID, OperatorInput> operators) throws SourceException {
     return getEntities(
-            NodeInput.class,
-            dataSource,
-            nodeInputFactory,
-            data -> assetEnricher.apply(data, operators))
-        .collect(toMap());
+        NodeInput.class,
+        dataSource,
+        nodeInputFactory,
+        data -> assetEnricher.apply(data, operators),
+        toMap());
   }
 
   /**
@@ -251,8 +251,7 @@ public class RawGridSource extends AssetEntitySource {
       Map<UUID, LineTypeInput> lineTypeInputs)
       throws SourceException {
     return getTypedConnectorEntities(
-            LineInput.class, dataSource, lineInputFactory, operators, nodes, lineTypeInputs)
-        .collect(toMap());
+        LineInput.class, dataSource, lineInputFactory, operators, nodes, lineTypeInputs, toMap());
   }
 
   /**
@@ -297,13 +296,13 @@ public class RawGridSource extends AssetEntitySource {
       Map<UUID, Transformer2WTypeInput> transformer2WTypes)
       throws SourceException {
     return getTypedConnectorEntities(
-            Transformer2WInput.class,
-            dataSource,
-            transformer2WInputFactory,
-            operators,
-            nodes,
-            transformer2WTypes)
-        .collect(toSet());
+        Transformer2WInput.class,
+        dataSource,
+        transformer2WInputFactory,
+        operators,
+        nodes,
+        transformer2WTypes,
+        toSet());
   }
 
   /**
@@ -359,8 +358,8 @@ public class RawGridSource extends AssetEntitySource {
                         Transformer3WInputEntityData::new))
                 .apply(data, operators, nodes);
 
-    return getEntities(Transformer3WInput.class, dataSource, transformer3WInputFactory, builder)
-        .collect(toSet());
+    return getEntities(
+        Transformer3WInput.class, dataSource, transformer3WInputFactory, builder, toSet());
   }
 
   /**
@@ -399,11 +398,11 @@ public class RawGridSource extends AssetEntitySource {
   public Set<SwitchInput> getSwitches(
       Map<UUID, OperatorInput> operators, Map<UUID, NodeInput> nodes) throws SourceException {
     return getEntities(
-            SwitchInput.class,
-            dataSource,
-            switchInputFactory,
-            data -> connectorEnricher.apply(data, operators, nodes))
-        .collect(toSet());
+        SwitchInput.class,
+        dataSource,
+        switchInputFactory,
+        data -> connectorEnricher.apply(data, operators, nodes),
+        toSet());
   }
 
   /**
@@ -443,10 +442,10 @@ public class RawGridSource extends AssetEntitySource {
   public Set<MeasurementUnitInput> getMeasurementUnits(
       Map<UUID, OperatorInput> operators, Map<UUID, NodeInput> nodes) throws SourceException {
     return getEntities(
-            MeasurementUnitInput.class,
-            dataSource,
-            measurementUnitInputFactory,
-            data -> nodeAssetEnricher.apply(data, operators, nodes))
-        .collect(toSet());
+        MeasurementUnitInput.class,
+        dataSource,
+        measurementUnitInputFactory,
+        data -> nodeAssetEnricher.apply(data, operators, nodes),
+        toSet());
   }
 }
@@ -7,6 +7,7 @@ package edu.ie3.datamodel.io.source;
 
 import edu.ie3.datamodel.exceptions.SourceException;
 import edu.ie3.datamodel.exceptions.ValidationException;
+import edu.ie3.datamodel.io.factory.EntityData;
 import edu.ie3.datamodel.io.factory.result.*;
 import edu.ie3.datamodel.models.result.CongestionResult;
 import edu.ie3.datamodel.models.result.NodeResult;
@@ -19,8 +20,14 @@ import edu.ie3.datamodel.models.result.system.*;
 import edu.ie3.datamodel.models.result.thermal.CylindricalStorageResult;
 import edu.ie3.datamodel.models.result.thermal.DomesticHotWaterStorageResult;
 import edu.ie3.datamodel.models.result.thermal.ThermalHouseResult;
+import edu.ie3.datamodel.utils.Try;
+import edu.ie3.util.interval.ClosedInterval;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Interface that provides the capability to build entities of type {@link ResultEntity} container
@@ -393,8 +400,64 @@ public class ResultEntitySource extends EntitySource {
     return getResultEntities(CongestionResult.class, congestionResultFactory);
   }
 
+  /**
+   * Returns a unique set of results of the given class, whose time lies within the given interval.
+   * If the underlying data source is a {@link TimePartitionedDataSource}, only the partitions
+   * overlapping the interval are read. Otherwise, all results are read and filtered afterwards.
+   *
+   * @param entityClass the class of the results
+   * @param interval the time interval, bounds included
+   * @return a set of the results within the interval
+   * @param <T> type of the results
+   * @throws SourceException if the results cannot be read or if the class is not supported
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends ResultEntity> Set<T> getResultEntities(
+      Class<T> entityClass, ClosedInterval<ZonedDateTime> interval) throws SourceException {
+    ResultEntityFactory<T> factory =
+        (ResultEntityFactory<T>)
+            getFactory(entityClass)
+                .orElseThrow(
+                    () ->
+                        new SourceException(
+                            "There is no factory for results of class '"
+                                + entityClass.getSimpleName()
+                                + "'."));
+
+    Stream<Map<String, String>> sourceData =
+        dataSource instanceof TimePartitionedDataSource partitionedSource
+            ? partitionedSource.getSourceData(entityClass, interval)
+            : dataSource.getSourceData(entityClass);
+
+    Stream<Try<EntityData, SourceException>> entityData =
+        sourceData.map(
+            fieldsToAttributes ->
+                new Try.Success<>(new EntityData(fieldsToAttributes, entityClass)));
+
+    return unpack(
+        entityData.map(factory::get),
+        entityClass,
+        Collectors.filtering(result -> interval.includes(result.getTime()), Collectors.toSet()));
+  }
+
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
+  private Optional<ResultEntityFactory<? extends ResultEntity>> getFactory(
+      Class<? extends ResultEntity> entityClass) {
+    return Stream.of(
+            systemParticipantResultFactory,
+            thermalResultFactory,
+            switchResultFactory,
+            nodeResultFactory,
+            connectorResultFactory,
+            congestionResultFactory,
+            powerLimitFlexOptionsResultFactory,
+            energyBoundariesFlexOptionsResultFactory)
+        .<ResultEntityFactory<? extends ResultEntity>>map(factory -> factory)
+        .filter(factory -> factory.getSupportedClasses().contains(entityClass))
+        .findFirst();
+  }
+
   /**
    * Build and cast entities to the correct type, since result factories outputs result entities of
    * some general type.
@@ -408,7 +471,7 @@ public class ResultEntitySource extends EntitySource {
   private <T extends ResultEntity> Set<T> getResultEntities(
       Class<T> entityClass, ResultEntityFactory<? extends ResultEntity> factory)
       throws SourceException {
-    return getEntities(entityClass, dataSource, (ResultEntityFactory<T>) factory, t -> t)
-        .collect(Collectors.toSet());
+    return getEntities(
+        entityClass, dataSource, (ResultEntityFactory<T>) factory, t -> t, Collectors.toSet());
   }
 }
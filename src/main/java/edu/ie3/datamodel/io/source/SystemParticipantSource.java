@@ -292,11 +292,11 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, OperatorInput> operators, Map<UUID, NodeInput> nodes, Map<UUID, EmInput> emUnits)
       throws SourceException {
     return getEntities(
-            FixedFeedInInput.class,
-            dataSource,
-            fixedFeedInInputFactory,
-            data -> participantEnricher.apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        FixedFeedInInput.class,
+        dataSource,
+        fixedFeedInInputFactory,
+        data -> participantEnricher.apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   /**
@@ -337,11 +337,11 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, OperatorInput> operators, Map<UUID, NodeInput> nodes, Map<UUID, EmInput> emUnits)
       throws SourceException {
     return getEntities(
-            PvInput.class,
-            dataSource,
-            pvInputFactory,
-            data -> participantEnricher.apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        PvInput.class,
+        dataSource,
+        pvInputFactory,
+        data -> participantEnricher.apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   /**
@@ -382,11 +382,11 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, OperatorInput> operators, Map<UUID, NodeInput> nodes, Map<UUID, EmInput> emUnits)
       throws SourceException {
     return getEntities(
-            LoadInput.class,
-            dataSource,
-            loadInputFactory,
-            data -> participantEnricher.apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        LoadInput.class,
+        dataSource,
+        loadInputFactory,
+        data -> participantEnricher.apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   /**
@@ -427,11 +427,11 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, OperatorInput> operators, Map<UUID, NodeInput> nodes, Map<UUID, EmInput> emUnits)
       throws SourceException {
     return getEntities(
-            EvcsInput.class,
-            dataSource,
-            evcsInputFactory,
-            data -> participantEnricher.apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        EvcsInput.class,
+        dataSource,
+        evcsInputFactory,
+        data -> participantEnricher.apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   /**
@@ -477,14 +477,14 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, BmTypeInput> types)
       throws SourceException {
     return getEntities(
-            BmInput.class,
-            dataSource,
-            bmInputFactory,
-            data ->
-                participantEnricher
-                    .andThen(enrichTypes(types))
-                    .apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        BmInput.class,
+        dataSource,
+        bmInputFactory,
+        data ->
+            participantEnricher
+                .andThen(enrichTypes(types))
+                .apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   /**
@@ -532,14 +532,14 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, StorageTypeInput> types)
       throws SourceException {
     return getEntities(
-            StorageInput.class,
-            dataSource,
-            storageInputFactory,
-            data ->
-                participantEnricher
-                    .andThen(enrichTypes(types))
-                    .apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        StorageInput.class,
+        dataSource,
+        storageInputFactory,
+        data ->
+            participantEnricher
+                .andThen(enrichTypes(types))
+                .apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   /**
@@ -585,14 +585,14 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, WecTypeInput> types)
       throws SourceException {
     return getEntities(
-            WecInput.class,
-            dataSource,
-            wecInputFactory,
-            data ->
-                participantEnricher
-                    .andThen(enrichTypes(types))
-                    .apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        WecInput.class,
+        dataSource,
+        wecInputFactory,
+        data ->
+            participantEnricher
+                .andThen(enrichTypes(types))
+                .apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   /**
@@ -637,14 +637,14 @@ public class SystemParticipantSource extends AssetEntitySource {
       Map<UUID, EvTypeInput> types)
       throws SourceException {
     return getEntities(
-            EvInput.class,
-            dataSource,
-            evInputFactory,
-            data ->
-                participantEnricher
-                    .andThen(enrichTypes(types))
-                    .apply(data, operators, nodes, emUnits))
-        .collect(toSet());
+        EvInput.class,
+        dataSource,
+        evInputFactory,
+        data ->
+            participantEnricher
+                .andThen(enrichTypes(types))
+                .apply(data, operators, nodes, emUnits),
+        toSet());
   }
 
   public Set<ChpInput> getChpPlants() throws SourceException {
@@ -701,7 +701,7 @@ public class SystemParticipantSource extends AssetEntitySource {
                         ChpInputEntityData::new))
                 .apply(data, operators, nodes, emUnits);
 
-    return getEntities(ChpInput.class, dataSource, chpInputFactory, builder).collect(toSet());
+    return getEntities(ChpInput.class, dataSource, chpInputFactory, builder, toSet());
   }
 
   public Set<HpInput> getHeatPumps() throws SourceException {
@@ -746,7 +746,7 @@ public class SystemParticipantSource extends AssetEntitySource {
                 .andThen(enrichTypes(types))
                 .andThen(enrich(THERMAL_BUS, thermalBuses, HpInputEntityData::new))
                 .apply(data, operators, nodes, emUnits);
-    return getEntities(HpInput.class, dataSource, hpInputFactory, builder).collect(toSet());
+    return getEntities(HpInput.class, dataSource, hpInputFactory, builder, toSet());
   }
 
   /**
@@ -780,7 +780,7 @@ public class SystemParticipantSource extends AssetEntitySource {
                 .andThen(enrichTypes(types))
                 .andThen(enrich(THERMAL_BUS, thermalBuses, AcInputEntityData::new))
                 .apply(data, operators, nodes, emUnits);
-    return getEntities(AcInput.class, dataSource, acInputFactory, builder).collect(toSet());
+    return getEntities(AcInput.class, dataSource, acInputFactory, builder, toSet());
   }
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
@@ -100,11 +100,11 @@ public class ThermalSource extends AssetEntitySource {
   public Map<UUID, ThermalBusInput> getThermalBuses(Map<UUID, OperatorInput> operators)
       throws SourceException {
     return getEntities(
-            ThermalBusInput.class,
-            dataSource,
-            thermalBusInputFactory,
-            data -> assetEnricher.apply(data, operators))
-        .collect(toMap());
+        ThermalBusInput.class,
+        dataSource,
+        thermalBusInputFactory,
+        data -> assetEnricher.apply(data, operators),
+        toMap());
   }
 
   /**
@@ -194,11 +194,11 @@ public class ThermalSource extends AssetEntitySource {
       Map<UUID, OperatorInput> operators, Map<UUID, ThermalBusInput> thermalBuses)
       throws SourceException {
     return getEntities(
-            ThermalHouseInput.class,
-            dataSource,
-            thermalHouseInputFactory,
-            data -> thermalUnitEnricher.apply(data, operators, thermalBuses))
-        .collect(toMap());
+        ThermalHouseInput.class,
+        dataSource,
+        thermalHouseInputFactory,
+        data -> thermalUnitEnricher.apply(data, operators, thermalBuses),
+        toMap());
   }
 
   /**
@@ -259,11 +259,11 @@ public class ThermalSource extends AssetEntitySource {
       Map<UUID, OperatorInput> operators, Map<UUID, ThermalBusInput> thermalBuses)
       throws SourceException {
     return getEntities(
-            CylindricalStorageInput.class,
-            dataSource,
-            cylindricalStorageInputFactory,
-            data -> thermalUnitEnricher.apply(data, operators, thermalBuses))
-        .collect(toSet());
+        CylindricalStorageInput.class,
+        dataSource,
+        cylindricalStorageInputFactory,
+        data -> thermalUnitEnricher.apply(data, operators, thermalBuses),
+        toSet());
   }
 
   /**
@@ -290,10 +290,10 @@ public class ThermalSource extends AssetEntitySource {
       Map<UUID, OperatorInput> operators, Map<UUID, ThermalBusInput> thermalBuses)
       throws SourceException {
     return getEntities(
-            DomesticHotWaterStorageInput.class,
-            dataSource,
-            domesticHotWaterStorageInputFactory,
-            data -> thermalUnitEnricher.apply(data, operators, thermalBuses))
-        .collect(toSet());
+        DomesticHotWaterStorageInput.class,
+        dataSource,
+        domesticHotWaterStorageInputFactory,
+        data -> thermalUnitEnricher.apply(data, operators, thermalBuses),
+        toSet());
   }
 }
@@ -0,0 +1,34 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source;
+
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.models.Entity;
+import edu.ie3.util.interval.ClosedInterval;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DataSource}, whose data is partitioned by time, so that only the partitions overlapping
+ * a requested interval need to be read.
+ */
+public interface TimePartitionedDataSource extends DataSource {
+
+  /**
+   * Creates a stream of maps that represent the rows of all partitions, that overlap the given
+   * interval. As partitions are only selected as a whole, the stream may contain rows outside of
+   * the interval, which have to be filtered by the caller.
+   *
+   * @param entityClass class of the source
+   * @param interval the requested time interval
+   * @return a stream of the rows of the overlapping partitions
+   * @throws SourceException if the partitions cannot be determined or read
+   */
+  Stream<Map<String, String>> getSourceData(
+      Class<? extends Entity> entityClass, ClosedInterval<ZonedDateTime> interval)
+      throws SourceException;
+}
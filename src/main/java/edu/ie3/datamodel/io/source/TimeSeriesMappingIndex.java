@@ -0,0 +1,95 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source;
+
+import edu.ie3.datamodel.io.source.TimeSeriesMappingSource.MappingEntry;
+import java.util.*;
+
+/**
+ * Immutable index of the mapping from assets to their time series. The look-up of the time series
+ * of an asset is answered in constant time. The reverse index from time series to their assets is
+ * only built on first use.
+ */
+public final class TimeSeriesMappingIndex {
+  private final Map<UUID, UUID> timeSeriesByAsset;
+
+  /** The assets by their time series or {@code null}, if not built yet */
+  private volatile Map<UUID, Set<UUID>> assetsByTimeSeries;
+
+  /**
+   * Builds the index of the given mapping entries
+   *
+   * @param entries the mapping entries
+   * @throws IllegalArgumentException if an asset is mapped to more than one time series
+   */
+  public TimeSeriesMappingIndex(Collection<MappingEntry> entries) {
+    Map<UUID, UUID> mapping = new HashMap<>();
+    for (MappingEntry entry : entries) {
+      UUID previous = mapping.putIfAbsent(entry.getAsset(), entry.getTimeSeries());
+      if (previous != null && !previous.equals(entry.getTimeSeries()))
+        throw new IllegalArgumentException(
+            "The asset '"
+                + entry.getAsset()
+                + "' is mapped to the time series '"
+                + previous
+                + "' and '"
+                + entry.getTimeSeries()
+                + "'.");
+    }
+    this.timeSeriesByAsset = Collections.unmodifiableMap(mapping);
+  }
+
+  /**
+   * @return the mapping from asset to time series, that cannot be modified
+   */
+  public Map<UUID, UUID> getMapping() {
+    return timeSeriesByAsset;
+  }
+
+  /**
+   * Get the time series of the given asset
+   *
+   * @param asset the uuid of the asset
+   * @return the uuid of the time series or an empty optional, if the asset is not mapped
+   */
+  public Optional<UUID> getTimeSeriesUuid(UUID asset) {
+    return Optional.ofNullable(timeSeriesByAsset.get(asset));
+  }
+
+  /**
+   * Get all assets, that are mapped to the given time series
+   *
+   * @param timeSeries the uuid of the time series
+   * @return the uuids of the assets, whereas the set is empty, if no asset is mapped
+   */
+  public Set<UUID> getAssetUuids(UUID timeSeries) {
+    return reverseIndex().getOrDefault(timeSeries, Collections.emptySet());
+  }
+
+  /** Returns the number of mapped assets */
+  public int size() {
+    return timeSeriesByAsset.size();
+  }
+
+  private Map<UUID, Set<UUID>> reverseIndex() {
+    Map<UUID, Set<UUID>> reverse = assetsByTimeSeries;
+    if (reverse != null) return reverse;
+
+    Map<UUID, Set<UUID>> assets = new HashMap<>();
+    for (Map.Entry<UUID, UUID> entry : timeSeriesByAsset.entrySet())
+      assets.computeIfAbsent(entry.getValue(), timeSeries -> new HashSet<>()).add(entry.getKey());
+    assets.replaceAll((timeSeries, assetUuids) -> Collections.unmodifiableSet(assetUuids));
+    // concurrent first accesses may build the index more than once, but with the same result
+    reverse = Collections.unmodifiableMap(assets);
+    assetsByTimeSeries = reverse;
+    return reverse;
+  }
+
+  @Override
+  public String toString() {
+    return "TimeSeriesMappingIndex{" + "size=" + timeSeriesByAsset.size() + '}';
+  }
+}
@@ -12,17 +12,22 @@ import edu.ie3.datamodel.models.input.InputEntity;
 import edu.ie3.datamodel.models.timeseries.TimeSeries;
 import edu.ie3.datamodel.utils.Try;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This interface describes basic function to handle mapping between models and their respective
  * time series
+ *
+ * <p>The mapping is read once on first access and held as {@link TimeSeriesMappingIndex}. If the
+ * underlying source has changed, {@link #invalidate()} has to be called.
  */
 public abstract class TimeSeriesMappingSource extends EntitySource {
 
   protected final TimeSeriesMappingFactory mappingFactory;
 
+  /** The index of the mapping or {@code null}, if not read yet */
+  private volatile TimeSeriesMappingIndex index;
+
   protected TimeSeriesMappingSource() {
     this.mappingFactory = new TimeSeriesMappingFactory();
   }
@@ -35,16 +40,10 @@ public abstract class TimeSeriesMappingSource extends EntitySource {
   /**
    * Get a mapping from model {@link UUID} to the time series {@link UUID}
    *
-   * @return That mapping
+   * @return That mapping, that cannot be modified
    */
   public Map<UUID, UUID> getMapping() throws SourceException {
-    return Try.scanStream(
-            getMappingSourceData().map(this::createMappingEntry),
-            "MappingEntry",
-            SourceException::new)
-        .transformS(
-            s -> s.collect(Collectors.toMap(MappingEntry::getAsset, MappingEntry::getTimeSeries)))
-        .getOrThrow();
+    return getIndex().getMapping();
   }
 
   /**
@@ -54,7 +53,41 @@ public abstract class TimeSeriesMappingSource extends EntitySource {
    * @return An {@link Optional} to the time series identifier
    */
   public Optional<UUID> getTimeSeriesUuid(UUID modelIdentifier) throws SourceException {
-    return Optional.ofNullable(getMapping().get(modelIdentifier));
+    return getIndex().getTimeSeriesUuid(modelIdentifier);
+  }
+
+  /**
+   * Get the identifiers of all models, that are mapped to the given time series
+   *
+   * @param timeSeriesIdentifier Identifier of the time series
+   * @return the model identifiers, whereas the set is empty, if no model is mapped
+   */
+  public Set<UUID> getAssetUuids(UUID timeSeriesIdentifier) throws SourceException {
+    return getIndex().getAssetUuids(timeSeriesIdentifier);
+  }
+
+  /**
+   * Returns the index of the mapping. The mapping is read on first access only, whereas a failed
+   * read is retried on next access.
+   *
+   * @return the index of the mapping
+   * @throws SourceException if the mapping cannot be read or an asset is mapped more than once
+   */
+  public TimeSeriesMappingIndex getIndex() throws SourceException {
+    TimeSeriesMappingIndex current = index;
+    if (current != null) return current;
+    synchronized (this) {
+      if (index == null) index = readIndex();
+      return index;
+    }
+  }
+
+  /**
+   * Drops the index of the mapping, so that the mapping is read again from the source on next
+   * access. This has to be called, if the underlying file or table has been altered.
+   */
+  public void invalidate() {
+    index = null;
   }
 
   /**
@@ -69,6 +102,23 @@ public abstract class TimeSeriesMappingSource extends EntitySource {
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
+  private TimeSeriesMappingIndex readIndex() throws SourceException {
+    List<MappingEntry> entries;
+    try (Stream<Map<String, String>> sourceData = getMappingSourceData()) {
+      entries =
+          Try.scanStreamLazily(
+                  sourceData.map(this::createMappingEntry), "MappingEntry", SourceException::new)
+              .toList();
+    } catch (StreamScanException e) {
+      throw toSourceException(e);
+    }
+    try {
+      return new TimeSeriesMappingIndex(entries);
+    } catch (IllegalArgumentException e) {
+      throw new SourceException("Unable to index the time series mapping.", e);
+    }
+  }
+
   private Try<MappingEntry, FactoryException> createMappingEntry(
       Map<String, String> fieldToValues) {
     EntityData entityData = new EntityData(fieldToValues, MappingEntry.class);
@@ -0,0 +1,201 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source;
+
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.WeatherValue;
+import edu.ie3.util.interval.ClosedInterval;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import org.locationtech.jts.geom.Point;
+
+/**
+ * Forward-only cursor over the weather of a fixed set of coordinates. The weather is fetched from
+ * the source in chunks of a configurable time span. While the current chunk is consumed, the
+ * following chunks are fetched in the background. At most the current chunk and the configured
+ * number of prefetched chunks are held in memory.
+ *
+ * <p>The requested times have to be non-decreasing. Chunks are aligned to the start time of the
+ * cursor.
+ */
+public final class WeatherCursor implements AutoCloseable {
+  private final ChunkLoader loader;
+  private final Set<Point> coordinates;
+  private final ZonedDateTime start;
+  private final Config config;
+  private final ExecutorService executor;
+
+  /** Chunks, that are loaded or being loaded, in ascending order of time */
+  private final Deque<Chunk> chunks = new ArrayDeque<>();
+
+  private ZonedDateTime lastRequested;
+  private boolean closed = false;
+
+  /**
+   * Configuration of a weather cursor
+   *
+   * @param chunkSize the time span of weather, that is fetched at once
+   * @param prefetchChunks the number of chunks, that are fetched ahead of the current one in the
+   *     background. With zero, all chunks are fetched on demand by the calling thread.
+   */
+  public record Config(Duration chunkSize, int prefetchChunks) {
+    /** Fetches one day of weather at once and prefetches the following day */
+    public static final Config DEFAULT = new Config(Duration.ofDays(1), 1);
+
+    public Config {
+      if (chunkSize.isNegative() || chunkSize.isZero())
+        throw new IllegalArgumentException("The chunk size has to be positive.");
+      if (prefetchChunks < 0)
+        throw new IllegalArgumentException("The number of prefetched chunks must not be negative.");
+    }
+  }
+
+  /**
+   * Loads the weather of the given coordinates within the given interval in one go. The loader is
+   * only called by one thread at a time, which is the prefetch thread, if there is one.
+   */
+  @FunctionalInterface
+  public interface ChunkLoader extends AutoCloseable {
+    Map<Point, IndividualTimeSeries<WeatherValue>> load(
+        ClosedInterval<ZonedDateTime> timeInterval, Collection<Point> coordinates)
+        throws SourceException;
+
+    /** Releases the resources of the loader, after the last chunk has been loaded */
+    @Override
+    default void close() {}
+  }
+
+  /**
+   * Opens a new cursor
+   *
+   * @param loader to load the weather of one chunk
+   * @param coordinates the coordinates to provide weather for
+   * @param start the first time to provide weather for
+   * @param config the configuration of the cursor
+   */
+  public WeatherCursor(
+      ChunkLoader loader, Collection<Point> coordinates, ZonedDateTime start, Config config) {
+    this.loader = loader;
+    this.coordinates = Set.copyOf(coordinates);
+    this.start = start;
+    this.config = config;
+    this.executor =
+        config.prefetchChunks() > 0
+            ? Executors.newSingleThreadExecutor(
+                runnable -> {
+                  Thread thread = new Thread(runnable, "weather-cursor-prefetch");
+                  thread.setDaemon(true);
+                  return thread;
+                })
+            : null;
+  }
+
+  /**
+   * Returns the weather of all coordinates at the given time. Coordinates without weather at the
+   * given time are omitted.
+   *
+   * @param time the time to get the weather for, which must not be before the start of the cursor
+   *     or the previously requested time
+   * @return the weather values mapped to their coordinate
+   * @throws SourceException if the weather cannot be fetched from the source
+   */
+  public Map<Point, TimeBasedValue<WeatherValue>> getWeather(ZonedDateTime time)
+      throws SourceException {
+    if (closed) throw new IllegalStateException("The weather cursor is already closed.");
+    if (time.isBefore(start) || (lastRequested != null && time.isBefore(lastRequested)))
+      throw new IllegalArgumentException(
+          "The weather cursor only moves forward, but "
+              + time
+              + " is before "
+              + (lastRequested == null ? start : lastRequested)
+              + ".");
+    lastRequested = time;
+
+    // drop all chunks, that are passed
+    while (!chunks.isEmpty() && !chunks.peekFirst().end().isAfter(time))
+      chunks.pollFirst().values().cancel(true);
+
+    if (chunks.isEmpty()) {
+      long passedChunks = Duration.between(start, time).dividedBy(config.chunkSize());
+      schedule(start.plus(config.chunkSize().multipliedBy(passedChunks)));
+    }
+    while (chunks.size() <= config.prefetchChunks()) schedule(chunks.peekLast().end());
+
+    Map<Point, IndividualTimeSeries<WeatherValue>> coordinateToTimeSeries =
+        await(chunks.peekFirst());
+    Map<Point, TimeBasedValue<WeatherValue>> coordinateToValue = new HashMap<>();
+    coordinateToTimeSeries.forEach(
+        (coordinate, timeSeries) ->
+            timeSeries
+                .getTimeBasedValue(time)
+                .ifPresent(value -> coordinateToValue.put(coordinate, value)));
+    return coordinateToValue;
+  }
+
+  /**
+   * Cancels all pending fetches, closes the loader and releases the background thread. A fetch,
+   * that is already running, is finished before the loader is closed.
+   */
+  @Override
+  public void close() {
+    if (closed) return;
+    closed = true;
+    chunks.forEach(chunk -> chunk.values().cancel(true));
+    chunks.clear();
+    if (executor != null) {
+      // the loader is closed by the prefetch thread, so it is not used concurrently
+      executor.execute(loader::close);
+      executor.shutdown();
+    } else {
+      loader.close();
+    }
+  }
+
+  private void schedule(ZonedDateTime chunkStart) {
+    ZonedDateTime chunkEnd = chunkStart.plus(config.chunkSize());
+    // the interval is closed, hence it ends right before the next chunk
+    ClosedInterval<ZonedDateTime> interval =
+        new ClosedInterval<>(chunkStart, chunkEnd.minusNanos(1));
+
+    Callable<Map<Point, IndividualTimeSeries<WeatherValue>>> load =
+        () -> loader.load(interval, coordinates);
+    Future<Map<Point, IndividualTimeSeries<WeatherValue>>> values;
+    if (executor != null) {
+      values = executor.submit(load);
+    } else {
+      FutureTask<Map<Point, IndividualTimeSeries<WeatherValue>>> task = new FutureTask<>(load);
+      task.run();
+      values = task;
+    }
+    chunks.addLast(new Chunk(chunkEnd, values));
+  }
+
+  private Map<Point, IndividualTimeSeries<WeatherValue>> await(Chunk chunk)
+      throws SourceException {
+    try {
+      return chunk.values().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SourceException("Interrupted while fetching weather.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof SourceException sourceException) throw sourceException;
+      throw new SourceException("Unable to fetch weather.", e.getCause());
+    }
+  }
+
+  /**
+   * A chunk of weather
+   *
+   * @param end the end of the chunk (exclusive)
+   * @param values the pending or loaded weather of the chunk
+   */
+  private record Chunk(
+      ZonedDateTime end, Future<Map<Point, IndividualTimeSeries<WeatherValue>>> values) {}
+}
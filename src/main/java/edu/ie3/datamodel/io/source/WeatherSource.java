@@ -69,6 +69,33 @@ public abstract class WeatherSource extends EntitySource {
     return getTimeKeysAfter(time).getOrDefault(coordinate, Collections.emptyList());
   }
 
+  /**
+   * Opens a forward-only cursor over the weather of the given coordinates, that fetches the weather
+   * chunk wise and prefetches the following chunk in the background (see {@link
+   * WeatherCursor.Config#DEFAULT}).
+   *
+   * @param coordinates the coordinates to provide weather for
+   * @param start the first time to provide weather for
+   * @return the cursor, which has to be closed after usage
+   */
+  public WeatherCursor getWeatherCursor(Collection<Point> coordinates, ZonedDateTime start) {
+    return getWeatherCursor(coordinates, start, WeatherCursor.Config.DEFAULT);
+  }
+
+  /**
+   * Opens a forward-only cursor over the weather of the given coordinates. Each chunk of weather
+   * is fetched via {@link #getWeather(ClosedInterval, Collection)}.
+   *
+   * @param coordinates the coordinates to provide weather for
+   * @param start the first time to provide weather for
+   * @param config the chunk size and the number of prefetched chunks
+   * @return the cursor, which has to be closed after usage
+   */
+  public WeatherCursor getWeatherCursor(
+      Collection<Point> coordinates, ZonedDateTime start, WeatherCursor.Config config) {
+    return new WeatherCursor(this::getWeather, coordinates, start, config);
+  }
+
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
   /**
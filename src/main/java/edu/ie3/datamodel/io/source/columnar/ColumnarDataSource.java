@@ -0,0 +1,164 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.columnar;
+
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.StreamScanException;
+import edu.ie3.datamodel.io.csv.CsvHeader;
+import edu.ie3.datamodel.io.csv.CsvRow;
+import edu.ie3.datamodel.io.file.ColumnarFileReader;
+import edu.ie3.datamodel.io.file.FileType;
+import edu.ie3.datamodel.io.naming.FileNamingStrategy;
+import edu.ie3.datamodel.io.source.TimePartitionedDataSource;
+import edu.ie3.datamodel.io.source.file.FileDataSource;
+import edu.ie3.datamodel.models.Entity;
+import edu.ie3.util.interval.ClosedInterval;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Data source for files of {@link FileType#COLUMNAR}, e.g. written by {@link
+ * edu.ie3.datamodel.io.sink.ColumnarResultSink}. The rows are provided as {@link CsvRow}s, so that
+ * the existing factories can be used without any changes. Row groups are decoded lazily, while the
+ * stream is consumed. Reading with an interval skips all row groups, whose time range does not
+ * overlap it.
+ */
+public class ColumnarDataSource extends FileDataSource implements TimePartitionedDataSource {
+
+  public ColumnarDataSource(Path directoryPath, FileNamingStrategy fileNamingStrategy) {
+    super(directoryPath, fileNamingStrategy);
+  }
+
+  @Override
+  public Optional<Set<String>> getSourceFields(Class<? extends Entity> entityClass)
+      throws SourceException {
+    return getSourceFields(getFilePath(entityClass).getOrThrow());
+  }
+
+  /**
+   * @param filePath path of file starting from base folder, including file name but not file
+   *     extension
+   * @return The source field names as a set, if file exists
+   * @throws SourceException on error while reading the source file
+   */
+  @Override
+  public Optional<Set<String>> getSourceFields(Path filePath) throws SourceException {
+    try (ColumnarFileReader reader = ColumnarFileReader.open(resolve(filePath))) {
+      return Optional.of(new HashSet<>(Arrays.asList(reader.getColumns())));
+    } catch (FileNotFoundException e) {
+      // A file not existing can be acceptable in many cases, and is handled elsewhere.
+      log.debug("The source for the given entity couldn't be found! Cause: {}", e.getMessage());
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new SourceException("Error while trying to read source", e);
+    }
+  }
+
+  @Override
+  public Stream<Map<String, String>> getSourceData(Class<? extends Entity> entityClass)
+      throws SourceException {
+    return getSourceData(getFilePath(entityClass).getOrThrow());
+  }
+
+  @Override
+  public Stream<Map<String, String>> getSourceData(Path filePath) throws SourceException {
+    return streamRows(filePath, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Stream<Map<String, String>> getSourceData(
+      Class<? extends Entity> entityClass, ClosedInterval<ZonedDateTime> interval)
+      throws SourceException {
+    return streamRows(
+        getFilePath(entityClass).getOrThrow(),
+        interval.getLower().toInstant().toEpochMilli(),
+        interval.getUpper().toInstant().toEpochMilli());
+  }
+
+  private Path resolve(Path filePath) {
+    return baseDirectory.resolve(filePath + FileType.COLUMNAR.fileEnding);
+  }
+
+  /**
+   * Provides a lazy stream of the rows of all row groups of the given file, that overlap the given
+   * interval. The file is released as soon as the stream is consumed completely or closed. A file,
+   * that does not exist, results in an empty stream.
+   *
+   * @param filePath path of file starting from base folder, including file name but not file
+   *     extension
+   * @param fromMillis the inclusive start of the interval in epoch milliseconds
+   * @param toMillis the inclusive end of the interval in epoch milliseconds
+   * @return a lazy stream of the rows
+   * @throws SourceException if the file or its columns cannot be read
+   */
+  private Stream<Map<String, String>> streamRows(Path filePath, long fromMillis, long toMillis)
+      throws SourceException {
+    ColumnarFileReader reader;
+    CsvHeader header;
+    try {
+      reader = ColumnarFileReader.open(resolve(filePath));
+    } catch (FileNotFoundException e) {
+      log.warn("Unable to find file '{}': {}", filePath, e.getMessage());
+      return Stream.empty();
+    } catch (IOException e) {
+      throw new SourceException("Cannot read file '" + filePath + "'.", e);
+    }
+    try {
+      header = CsvHeader.of(reader.getColumns());
+    } catch (SourceException e) {
+      close(reader);
+      throw new SourceException("Cannot read columns of file '" + filePath + "'.", e);
+    }
+
+    Iterator<Map<String, String>> rows =
+        new Iterator<>() {
+          private String[][] rowGroup = new String[0][];
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            while (rowGroup != null && next == rowGroup.length) {
+              try {
+                rowGroup = reader.nextRowGroup(fromMillis, toMillis);
+              } catch (IOException e) {
+                close(reader);
+                throw new StreamScanException(
+                    new SourceException("Cannot read file '" + filePath + "'.", e));
+              }
+              next = 0;
+            }
+            // the file is released as soon as all rows are read
+            if (rowGroup == null) close(reader);
+            return rowGroup != null;
+          }
+
+          @Override
+          public Map<String, String> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return new CsvRow(header, rowGroup[next++]);
+          }
+        };
+
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(() -> close(reader));
+  }
+
+  private static void close(ColumnarFileReader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import static edu.ie3.datamodel.models.StandardUnits.*;
+import static edu.ie3.datamodel.utils.validation.UniquenessValidationUtils.checkWeatherUniqueness;
+
+import edu.ie3.datamodel.exceptions.DuplicateEntitiesException;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.TemperatureValue;
+import edu.ie3.datamodel.models.value.WeatherValue;
+import edu.ie3.datamodel.utils.Try;
+import edu.ie3.util.interval.ClosedInterval;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.IntStream;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import org.locationtech.jts.geom.Point;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Column oriented, in-memory store of weather data. For each coordinate, one time axis of epoch
+ * seconds is held together with one primitive column per weather quantity. All quantities are
+ * normalised to the {@link edu.ie3.datamodel.models.StandardUnits} when being added, and missing
+ * quantities are stored as {@link Double#NaN}. {@link WeatherValue}s are only built, when they are
+ * requested.
+ *
+ * <p>Times are held with a precision of seconds and are provided in the time zone of the first
+ * value added for the respective coordinate.
+ */
+final class ColumnarWeatherStore {
+  private final Map<Point, Columns> coordinateToColumns;
+
+  private ColumnarWeatherStore(Map<Point, Columns> coordinateToColumns) {
+    this.coordinateToColumns = coordinateToColumns;
+  }
+
+  /** Returns all coordinates, for which weather data is known */
+  Set<Point> getCoordinates() {
+    return Collections.unmodifiableSet(coordinateToColumns.keySet());
+  }
+
+  /**
+   * Returns the weather value for the given coordinate at the given time.
+   *
+   * @param time the time of the value
+   * @param coordinate the coordinate of the value
+   * @return the weather value, if known
+   */
+  Optional<TimeBasedValue<WeatherValue>> getValue(ZonedDateTime time, Point coordinate) {
+    Columns columns = coordinateToColumns.get(coordinate);
+    if (columns == null) return Optional.empty();
+
+    int position = Arrays.binarySearch(columns.epochSeconds, time.toEpochSecond());
+    return position < 0 || time.getNano() != 0
+        ? Optional.empty()
+        : Optional.of(columns.valueAt(position));
+  }
+
+  /**
+   * Builds the time series of the given coordinate within the given interval.
+   *
+   * @param timeInterval the interval of the time series (inclusive)
+   * @param coordinate the coordinate of the time series
+   * @return the time series, if the coordinate is known
+   */
+  Optional<IndividualTimeSeries<WeatherValue>> getTimeSeries(
+      ClosedInterval<ZonedDateTime> timeInterval, Point coordinate) {
+    Columns columns = coordinateToColumns.get(coordinate);
+    if (columns == null) return Optional.empty();
+
+    int from = columns.countBefore(timeInterval.getLower().toInstant());
+    int to = columns.countAtOrBefore(timeInterval.getUpper().toInstant());
+    Set<TimeBasedValue<WeatherValue>> values = new HashSet<>();
+    for (int i = from; i < to; i++) values.add(columns.valueAt(i));
+    return Optional.of(new IndividualTimeSeries<>(columns.uuid, values));
+  }
+
+  /**
+   * Returns all times of the given coordinate, that are after the given time.
+   *
+   * @param time the time to compare to
+   * @param coordinate the coordinate
+   * @return a sorted list of all later times
+   */
+  List<ZonedDateTime> getTimeKeysAfter(ZonedDateTime time, Point coordinate) {
+    Columns columns = coordinateToColumns.get(coordinate);
+    if (columns == null) return Collections.emptyList();
+
+    int from = columns.countAtOrBefore(time.toInstant());
+    return IntStream.range(from, columns.epochSeconds.length).mapToObj(columns::timeAt).toList();
+  }
+
+  /** Builder, that collects weather values column wise for each coordinate */
+  static final class Builder {
+    private final Map<Point, ColumnsBuilder> coordinateToBuilder = new HashMap<>();
+
+    /**
+     * Adds the given weather value to the columns of its coordinate. The value itself is not
+     * retained.
+     *
+     * @param value the value to add
+     * @return this builder
+     */
+    Builder add(TimeBasedValue<WeatherValue> value) {
+      Point coordinate = value.getValue().getCoordinate();
+      coordinateToBuilder
+          .computeIfAbsent(
+              coordinate, point -> new ColumnsBuilder(point, value.getTime().getZone()))
+          .add(value);
+      return this;
+    }
+
+    /**
+     * Sorts the collected columns by time and builds the store. Values, that occur multiple times
+     * with equal quantities, are only kept once.
+     *
+     * @return the store
+     * @throws DuplicateEntitiesException if there are different values for the same coordinate and
+     *     time
+     */
+    ColumnarWeatherStore build() throws DuplicateEntitiesException {
+      Map<Point, Columns> coordinateToColumns = new HashMap<>();
+      List<DuplicateEntitiesException> exceptions = new ArrayList<>();
+      for (Map.Entry<Point, ColumnsBuilder> entry : coordinateToBuilder.entrySet()) {
+        Try<Columns, DuplicateEntitiesException> columns = entry.getValue().build();
+        columns.getData().ifPresent(data -> coordinateToColumns.put(entry.getKey(), data));
+        columns.getException().ifPresent(exceptions::add);
+      }
+
+      if (!exceptions.isEmpty())
+        throw new DuplicateEntitiesException("TimeBasedValue<WeatherValue>", exceptions);
+      return new ColumnarWeatherStore(coordinateToColumns);
+    }
+  }
+
+  /** The columns of one coordinate */
+  private static final class Columns {
+    private final UUID uuid = UUID.randomUUID();
+    private final Point coordinate;
+    private final ZoneId zone;
+    private final long[] epochSeconds;
+    private final double[] directIrradiance;
+    private final double[] diffuseIrradiance;
+    private final double[] temperature;
+    private final double[] windDirection;
+    private final double[] windVelocity;
+    private final double[] groundTemperatureLevel1;
+    private final double[] groundTemperatureLevel2;
+
+    private Columns(Point coordinate, ZoneId zone, long[] epochSeconds, double[][] columns) {
+      this.coordinate = coordinate;
+      this.zone = zone;
+      this.epochSeconds = epochSeconds;
+      this.directIrradiance = columns[0];
+      this.diffuseIrradiance = columns[1];
+      this.temperature = columns[2];
+      this.windDirection = columns[3];
+      this.windVelocity = columns[4];
+      this.groundTemperatureLevel1 = columns[5];
+      this.groundTemperatureLevel2 = columns[6];
+    }
+
+    private ZonedDateTime timeAt(int position) {
+      return Instant.ofEpochSecond(epochSeconds[position]).atZone(zone);
+    }
+
+    private TimeBasedValue<WeatherValue> valueAt(int position) {
+      WeatherValue value =
+          new WeatherValue(
+              coordinate,
+              quantity(directIrradiance[position], SOLAR_IRRADIANCE),
+              quantity(diffuseIrradiance[position], SOLAR_IRRADIANCE),
+              quantity(temperature[position], TEMPERATURE),
+              quantity(windDirection[position], WIND_DIRECTION),
+              quantity(windVelocity[position], WIND_VELOCITY),
+              Optional.ofNullable(quantity(groundTemperatureLevel1[position], TEMPERATURE)),
+              Optional.ofNullable(quantity(groundTemperatureLevel2[position], TEMPERATURE)));
+      return new TimeBasedValue<>(timeAt(position), value);
+    }
+
+    /** Returns the number of times, that are strictly before the given instant */
+    private int countBefore(Instant instant) {
+      // times are held in full seconds, hence a fraction of a second rounds up
+      long epochSecond = instant.getEpochSecond() + (instant.getNano() > 0 ? 1 : 0);
+      int position = Arrays.binarySearch(epochSeconds, epochSecond);
+      return position < 0 ? -position - 1 : position;
+    }
+
+    /** Returns the number of times, that are at or before the given instant */
+    private int countAtOrBefore(Instant instant) {
+      int position = Arrays.binarySearch(epochSeconds, instant.getEpochSecond());
+      return position < 0 ? -position - 1 : position + 1;
+    }
+
+    private static <Q extends Quantity<Q>> ComparableQuantity<Q> quantity(
+        double value, Unit<Q> unit) {
+      return Double.isNaN(value) ? null : Quantities.getQuantity(value, unit);
+    }
+  }
+
+  /** Growable columns of one coordinate in the order of addition */
+  private static final class ColumnsBuilder {
+    private static final int COLUMN_COUNT = 7;
+
+    private final Point coordinate;
+    private final ZoneId zone;
+    private long[] epochSeconds = new long[64];
+    private double[][] columns = new double[COLUMN_COUNT][64];
+    private int size = 0;
+
+    private ColumnsBuilder(Point coordinate, ZoneId zone) {
+      this.coordinate = coordinate;
+      this.zone = zone;
+    }
+
+    private void add(TimeBasedValue<WeatherValue> timeBasedValue) {
+      if (size == epochSeconds.length) {
+        epochSeconds = Arrays.copyOf(epochSeconds, size * 2);
+        for (int i = 0; i < COLUMN_COUNT; i++) columns[i] = Arrays.copyOf(columns[i], size * 2);
+      }
+
+      WeatherValue value = timeBasedValue.getValue();
+      epochSeconds[size] = timeBasedValue.getTime().toEpochSecond();
+      columns[0][size] =
+          toDouble(value.getSolarIrradiance().getDirectIrradiance(), SOLAR_IRRADIANCE);
+      columns[1][size] =
+          toDouble(value.getSolarIrradiance().getDiffuseIrradiance(), SOLAR_IRRADIANCE);
+      columns[2][size] = toDouble(value.getTemperature().getTemperature(), TEMPERATURE);
+      columns[3][size] = toDouble(value.getWind().getDirection(), WIND_DIRECTION);
+      columns[4][size] = toDouble(value.getWind().getVelocity(), WIND_VELOCITY);
+      columns[5][size] =
+          toDouble(
+              value.getGroundTemperatureLevel1().flatMap(TemperatureValue::getTemperature),
+              TEMPERATURE);
+      columns[6][size] =
+          toDouble(
+              value.getGroundTemperatureLevel2().flatMap(TemperatureValue::getTemperature),
+              TEMPERATURE);
+      size++;
+    }
+
+    private Try<Columns, DuplicateEntitiesException> build() {
+      int[] order = sortedOrder();
+
+      // collapse equal values and collect conflicting ones
+      int[] unique = new int[size];
+      int uniqueSize = 0;
+      List<Integer> duplicates = new ArrayList<>();
+      for (int position : order) {
+        if (uniqueSize > 0 && epochSeconds[unique[uniqueSize - 1]] == epochSeconds[position]) {
+          if (!hasEqualValues(unique[uniqueSize - 1], position)) {
+            duplicates.add(unique[uniqueSize - 1]);
+            duplicates.add(position);
+          }
+        } else {
+          unique[uniqueSize++] = position;
+        }
+      }
+
+      long[] sortedEpochSeconds = new long[uniqueSize];
+      double[][] sortedColumns = new double[COLUMN_COUNT][uniqueSize];
+      for (int i = 0; i < uniqueSize; i++) {
+        sortedEpochSeconds[i] = epochSeconds[unique[i]];
+        for (int c = 0; c < COLUMN_COUNT; c++) sortedColumns[c][i] = columns[c][unique[i]];
+      }
+      Columns sorted = new Columns(coordinate, zone, sortedEpochSeconds, sortedColumns);
+
+      if (duplicates.isEmpty()) return Try.Success.of(sorted);
+
+      Columns unsorted = new Columns(coordinate, zone, epochSeconds, columns);
+      return Try.ofVoid(
+              () ->
+                  checkWeatherUniqueness(
+                      duplicates.stream().distinct().map(unsorted::valueAt).toList()),
+              DuplicateEntitiesException.class)
+          .map(ignored -> sorted);
+    }
+
+    private int[] sortedOrder() {
+      boolean isSorted = true;
+      for (int i = 1; i < size && isSorted; i++)
+        isSorted = epochSeconds[i - 1] <= epochSeconds[i];
+
+      // usually, weather files are sorted by time, hence sorting is only the fallback
+      return isSorted
+          ? IntStream.range(0, size).toArray()
+          : IntStream.range(0, size)
+              .boxed()
+              .sorted(Comparator.comparingLong(i -> epochSeconds[i]))
+              .mapToInt(Integer::intValue)
+              .toArray();
+    }
+
+    private boolean hasEqualValues(int a, int b) {
+      for (int c = 0; c < COLUMN_COUNT; c++)
+        if (Double.compare(columns[c][a], columns[c][b]) != 0) return false;
+      return true;
+    }
+
+    private static <Q extends Quantity<Q>> double toDouble(
+        Optional<ComparableQuantity<Q>> quantity, Unit<Q> unit) {
+      return quantity.map(q -> q.to(unit).getValue().doubleValue()).orElse(Double.NaN);
+    }
+  }
+}
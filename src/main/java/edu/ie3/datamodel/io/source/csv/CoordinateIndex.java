@@ -0,0 +1,96 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.util.geo.CoordinateDistance;
+import edu.ie3.util.geo.GeoUtils;
+import java.util.*;
+import javax.measure.quantity.Length;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.quantity.Quantities;
+import tech.units.indriya.unit.Units;
+
+/**
+ * Spatial index of coordinates, that is backed by a {@link STRtree}. Bounding box queries only visit
+ * the tree nodes intersecting the box, hence they take logarithmic time in the number of
+ * coordinates. The index is built once and is safe to be queried concurrently afterwards.
+ */
+final class CoordinateIndex {
+  /** Half width of the first bounding box, that is searched for nearest coordinates */
+  private static final ComparableQuantity<Length> INITIAL_SEARCH_DISTANCE =
+      Quantities.getQuantity(20000, Units.METRE);
+
+  private final STRtree tree = new STRtree();
+  private final List<Point> coordinates;
+
+  CoordinateIndex(Collection<Point> coordinates) {
+    this.coordinates = List.copyOf(coordinates);
+    for (Point coordinate : this.coordinates)
+      tree.insert(coordinate.getEnvelopeInternal(), coordinate);
+    // building the tree up front makes subsequent queries thread safe
+    tree.build();
+  }
+
+  /**
+   * Returns all coordinates within the bounding box around the given coordinate.
+   *
+   * @param coordinate the center of the bounding box
+   * @param distance the distance from the center to the borders of the bounding box
+   * @return all coordinates within the bounding box
+   */
+  List<Point> getCoordinatesInBoundingBox(Point coordinate, ComparableQuantity<Length> distance) {
+    Envelope envelope = GeoUtils.calculateBoundingBox(coordinate, distance);
+    List<Point> points = new ArrayList<>();
+    tree.query(
+        envelope,
+        item -> {
+          Point point = (Point) item;
+          if (envelope.contains(point.getCoordinate())) points.add(point);
+        });
+    return points;
+  }
+
+  /**
+   * Returns the n nearest coordinates to the given coordinate. The search box is doubled, until it
+   * contains at least n coordinates. As coordinates outside of the box may still be closer than the
+   * n-th nearest coordinate within the box, the box is finally widened to the distance of the n-th
+   * nearest coordinate.
+   *
+   * @param coordinate the coordinate to look up the nearest neighbours for
+   * @param n how many neighbours to look up
+   * @return the n nearest coordinates in ascending order of their distance
+   */
+  List<CoordinateDistance> getNearestCoordinates(Point coordinate, int n) {
+    if (n <= 0 || coordinates.isEmpty()) return Collections.emptyList();
+
+    List<CoordinateDistance> distances;
+    if (n >= coordinates.size()) {
+      distances = orderedDistances(coordinate, coordinates);
+    } else {
+      ComparableQuantity<Length> distance = INITIAL_SEARCH_DISTANCE;
+      List<Point> candidates = getCoordinatesInBoundingBox(coordinate, distance);
+      while (candidates.size() < n) {
+        distance = distance.multiply(2);
+        candidates = getCoordinatesInBoundingBox(coordinate, distance);
+      }
+
+      distances = orderedDistances(coordinate, candidates);
+      ComparableQuantity<Length> nthDistance = distances.get(n - 1).getDistance();
+      if (nthDistance.isGreaterThan(distance))
+        distances =
+            orderedDistances(coordinate, getCoordinatesInBoundingBox(coordinate, nthDistance));
+    }
+    return List.copyOf(distances.subList(0, Math.min(n, distances.size())));
+  }
+
+  private static List<CoordinateDistance> orderedDistances(
+      Point coordinate, Collection<Point> points) {
+    return new ArrayList<>(GeoUtils.calcOrderedCoordinateDistances(coordinate, points));
+  }
+}
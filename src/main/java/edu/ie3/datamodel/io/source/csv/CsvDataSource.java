@@ -5,10 +5,11 @@
 */
 package edu.ie3.datamodel.io.source.csv;
 
-import static edu.ie3.datamodel.io.file.FileType.CSV;
-
 import edu.ie3.datamodel.exceptions.SourceException;
 import edu.ie3.datamodel.io.connectors.CsvFileConnector;
+import edu.ie3.datamodel.io.csv.CsvHeader;
+import edu.ie3.datamodel.io.csv.CsvRow;
+import edu.ie3.datamodel.io.csv.CsvRowTokenizer;
 import edu.ie3.datamodel.io.naming.FileNamingStrategy;
 import edu.ie3.datamodel.io.naming.timeseries.*;
 import edu.ie3.datamodel.io.source.file.FileDataSource;
@@ -18,10 +19,10 @@ import edu.ie3.datamodel.models.profile.PowerProfileKey;
 import edu.ie3.datamodel.utils.Try;
 import edu.ie3.datamodel.utils.Try.Failure;
 import edu.ie3.datamodel.utils.Try.Success;
-import edu.ie3.util.StringUtils;
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Function;
@@ -40,10 +41,11 @@ public class CsvDataSource extends FileDataSource {
   protected final String csvSep;
   protected final CsvFileConnector connector;
 
+  /** One tokenizer per thread, as rows are parsed in parallel and the tokenizer is stateful */
+  private final ThreadLocal<CsvRowTokenizer> rowTokenizer;
+
   public CsvDataSource(String csvSep, Path directoryPath, FileNamingStrategy fileNamingStrategy) {
-    super(directoryPath, fileNamingStrategy);
-    this.csvSep = csvSep;
-    this.connector = new CsvFileConnector(directoryPath);
+    this(csvSep, new CsvFileConnector(directoryPath), fileNamingStrategy);
   }
 
   public CsvDataSource(
@@ -51,6 +53,7 @@ public class CsvDataSource extends FileDataSource {
     super(connector.getBaseDirectory(), fileNamingStrategy);
     this.csvSep = csvSep;
     this.connector = connector;
+    this.rowTokenizer = ThreadLocal.withInitial(() -> new CsvRowTokenizer(csvSep));
   }
 
   @Override
@@ -93,7 +96,7 @@ public class CsvDataSource extends FileDataSource {
   @Override
   public Stream<Map<String, String>> getSourceData(Class<? extends Entity> entityClass)
       throws SourceException {
-    return buildStreamWithFieldsToAttributesMap(entityClass, true).getOrThrow();
+    return streamFieldsToAttributesMap(getFilePath(entityClass).getOrThrow());
   }
 
   @Override
@@ -112,7 +115,7 @@ public class CsvDataSource extends FileDataSource {
   public Map<UUID, FileIndividualTimeSeriesMetaInformation>
       getCsvIndividualTimeSeriesMetaInformation(final ColumnScheme... columnSchemes) {
     return getIndividualTimeSeriesMetaInformation(columnSchemes)
-        .filter(metaInformation -> metaInformation.getFileType() == CSV)
+        .filter(metaInformation -> metaInformation.getFileType().isCsv())
         .collect(Collectors.toMap(TimeSeriesMetaInformation::getUuid, Function.identity()));
   }
 
@@ -125,7 +128,7 @@ public class CsvDataSource extends FileDataSource {
   public Map<PowerProfileKey, FileLoadProfileMetaInformation> getCsvLoadProfileMetaInformation(
       LoadProfile... profiles) {
     return getLoadProfileMetaInformation(profiles)
-        .filter(metaInformation -> metaInformation.getFileType() == CSV)
+        .filter(metaInformation -> metaInformation.getFileType().isCsv())
         .collect(Collectors.toMap(LoadProfileMetaInformation::getProfileKey, Function.identity()));
   }
 
@@ -142,19 +145,35 @@ public class CsvDataSource extends FileDataSource {
    */
   protected Map<String, String> buildFieldsToAttributes(
       final String csvRow, final String[] headline) throws SourceException {
+    return buildFieldsToAttributes(csvRow, CsvHeader.of(headline));
+  }
+
+  /**
+   * Takes a row string of a .csv file and the already resolved header of the csv file, splits the
+   * csv row and zips it together with the header. Order of the header needs to be the same as the
+   * fields in the csv row.
+   *
+   * @param csvRow the csv row string that contains the data
+   * @param header the resolved header of the csv file, that is shared by all rows of the file
+   * @return a case-insensitive row view containing the mapping of (fieldName to fieldValue)
+   * @throws SourceException if the number of fields does not fit to the header
+   */
+  protected CsvRow buildFieldsToAttributes(final String csvRow, final CsvHeader header)
+      throws SourceException {
     // parse row
-    String[] fieldVals = parseCsvRow(csvRow, csvSep);
+    CsvRowTokenizer tokenizer = rowTokenizer.get();
+    int fieldCount = tokenizer.parse(csvRow);
 
     // check if the number row elements matched the number of headline elements
-    if (fieldVals.length != headline.length) {
-      String headlineElements = "['" + String.join("', '", headline) + "']";
-      String parsedRow = "['" + String.join("', '", fieldVals) + "']";
+    if (fieldCount != header.size()) {
+      String headlineElements = "['" + String.join("', '", header.getHeadline()) + "']";
+      String parsedRow = "['" + String.join("', '", tokenizer.toArray()) + "']";
 
       throw new SourceException(
           "The size of the headline ("
-              + headline.length
+              + header.size()
               + ") does not fit to the size of the attribute fields ("
-              + fieldVals.length
+              + fieldCount
               + ").\n     Headline fields: "
               + headlineElements
               + "\n     Row values: "
@@ -167,25 +186,7 @@ public class CsvDataSource extends FileDataSource {
               + "\n      - are you using a valid RFC 4180 formatted csv row?");
     }
 
-    TreeMap<String, String> insensitiveFieldsToAttributes =
-        new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-
-    for (int i = 0; i < headline.length; i++) {
-      String key = StringUtils.snakeCaseToCamelCase(headline[i]);
-
-      if (insensitiveFieldsToAttributes.containsKey(key)) {
-        throw new SourceException(
-            "Headline element '"
-                + headline[i]
-                + "' is duplicated.\nHeadline fields: ['"
-                + String.join("', '", headline)
-                + "'].\nPlease keep in mind that headlines are case-insensitive and underscores from snake case are ignored.");
-      }
-
-      insensitiveFieldsToAttributes.put(key, fieldVals[i]);
-    }
-
-    return insensitiveFieldsToAttributes;
+    return new CsvRow(header, tokenizer.toArray());
   }
 
   /**
@@ -196,13 +197,12 @@ public class CsvDataSource extends FileDataSource {
    * @return an array with the csv field values as strings
    */
   protected String[] parseCsvRow(String csvRow, String csvSep) {
-    return Arrays.stream(csvRow.split(csvSep + "(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1))
-        .map(
-            maybeStartEndQuotedString ->
-                StringUtils.unquoteStartEnd(maybeStartEndQuotedString.trim())
-                    .replaceAll("\"{2}", "\"")
-                    .trim())
-        .toArray(String[]::new);
+    if (csvSep.equals(this.csvSep)) {
+      CsvRowTokenizer tokenizer = rowTokenizer.get();
+      tokenizer.parse(csvRow);
+      return tokenizer.toArray();
+    }
+    return CsvRowTokenizer.tokenize(csvRow, csvSep);
   }
 
   /**
@@ -221,9 +221,13 @@ public class CsvDataSource extends FileDataSource {
   }
 
   /**
-   * Reads the first line (considered to be the headline with headline fields) and returns a stream
-   * of (fieldName to fieldValue) mapping where each map represents one row of the .csv file. Since
-   * the returning stream is a parallel stream, the order of the elements cannot be guaranteed.
+   * Reads the first line (considered to be the headline with headline fields) and returns a lazy
+   * stream of (fieldName to fieldValue) mapping where each map represents one row of the .csv file.
+   * Since the returning stream is a parallel stream, the order of the elements cannot be
+   * guaranteed. Invalid rows are reported by a {@link
+   * edu.ie3.datamodel.exceptions.StreamScanException} once the stream is consumed completely. The
+   * file is released as soon as the stream is consumed completely, its consumption is aborted or it
+   * is closed. Streams, that are not consumed completely, have to be closed.
    *
    * @param filePath the path of the file to read
    * @return a try containing either a parallel stream of maps, where each map represents one row of
@@ -231,14 +235,9 @@ public class CsvDataSource extends FileDataSource {
    */
   protected Try<Stream<Map<String, String>>, SourceException> buildStreamWithFieldsToAttributesMap(
       Path filePath, boolean allowFileNotExisting) {
-    try (BufferedReader reader = connector.initReader(filePath)) {
-      final String[] headline = parseCsvRow(reader.readLine(), csvSep);
-
-      // by default try-with-resources closes the reader directly when we leave this method (which
-      // is wanted to avoid a lock on the file), but this causes a closing of the stream as well.
-      // As we still want to consume the data at other places, we start a new stream instead of
-      // returning the original one
-      return csvRowFieldValueMapping(reader, headline, filePath.getFileName());
+    CsvFileConnector.CsvRecords records;
+    try {
+      records = connector.initRecordReader(filePath);
     } catch (FileNotFoundException e) {
       if (allowFileNotExisting) {
         log.warn("Unable to find file '{}': {}", filePath, e.getMessage());
@@ -249,10 +248,32 @@ public class CsvDataSource extends FileDataSource {
     } catch (IOException e) {
       return Failure.of(new SourceException("Cannot read file '" + filePath + "'.", e));
     }
+
+    // the records are closed, once the returned stream is consumed, aborted or closed
+    return csvRowFieldValueMapping(
+        records.records(), parseCsvRow(records.headline(), csvSep), filePath.getFileName());
+  }
+
+  /**
+   * Reads the first line (considered to be the headline with headline fields) and returns a lazy
+   * stream of (fieldName to fieldValue) mapping where each map represents one row of the .csv file.
+   * Invalid rows are reported by a {@link edu.ie3.datamodel.exceptions.StreamScanException} once
+   * the stream is consumed completely. The file is released as soon as the stream is consumed
+   * completely, its consumption is aborted or it is closed. A file, that does not exist, results in
+   * an empty stream.
+   *
+   * @param filePath the path of the file to read
+   * @return a lazy, parallel stream of maps, where each map represents one row of the csv file
+   * @throws SourceException if the file or its headline cannot be read
+   */
+  protected Stream<Map<String, String>> streamFieldsToAttributesMap(Path filePath)
+      throws SourceException {
+    return buildStreamWithFieldsToAttributesMap(filePath, true).getOrThrow();
   }
 
   /**
-   * Method to return a row to field value mapping from a csv file.
+   * Method to return a row to field value mapping from a csv file. The given reader is closed
+   * together with the returned stream.
    *
    * @param reader for the file
    * @param headline of the file
@@ -261,17 +282,53 @@ public class CsvDataSource extends FileDataSource {
    */
   protected Try<Stream<Map<String, String>>, SourceException> csvRowFieldValueMapping(
       BufferedReader reader, String[] headline, Path fileName) {
-    return Try.scanStream(
-            reader
-                .lines()
-                .parallel()
-                .map(
+    return csvRowFieldValueMapping(
+        reader
+            .lines()
+            .parallel()
+            .onClose(
+                () -> {
+                  try {
+                    reader.close();
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                }),
+        headline,
+        fileName);
+  }
+
+  /**
+   * Method to return a row to field value mapping from the records of a csv file. The rows are only
+   * parsed, while the returned stream is consumed. Invalid rows are reported by a {@link
+   * edu.ie3.datamodel.exceptions.StreamScanException} once the stream is consumed completely. The
+   * given records are closed, as soon as the returned stream is consumed completely, its
+   * consumption is aborted or it is closed, as well as right away, if the headline is invalid.
+   *
+   * @param csvRows the records of the file without the headline
+   * @param headline of the file
+   * @param fileName the name of the file, that is read
+   * @return a lazy stream of mappings or a failure, if the headline is invalid
+   */
+  protected Try<Stream<Map<String, String>>, SourceException> csvRowFieldValueMapping(
+      Stream<String> csvRows, String[] headline, Path fileName) {
+    // the header is resolved once and shared by all rows of the file
+    final CsvHeader header;
+    try {
+      header = CsvHeader.of(headline);
+    } catch (SourceException e) {
+      csvRows.close();
+      return Failure.of(new SourceException("Cannot read headline of file '" + fileName + "'.", e));
+    }
+
+    return Success.of(
+        Try.scanStreamLazily(
+                csvRows.map(
                     csvRow ->
-                        Try.of(
-                            () -> buildFieldsToAttributes(csvRow, headline),
-                            SourceException.class)),
-            fileName.toString(),
-            SourceException::new)
-        .transformS(stream -> stream.filter(map -> !map.isEmpty()));
+                        Try.<Map<String, String>, SourceException>of(
+                            () -> buildFieldsToAttributes(csvRow, header), SourceException.class)),
+                fileName.toString(),
+                SourceException::new)
+            .filter(map -> !map.isEmpty()));
   }
 }
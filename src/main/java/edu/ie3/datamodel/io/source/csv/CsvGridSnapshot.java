@@ -0,0 +1,439 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.exceptions.InvalidGridException;
+import edu.ie3.datamodel.graph.SubGridGate;
+import edu.ie3.datamodel.graph.SubGridTopologyGraph;
+import edu.ie3.datamodel.io.file.FileType;
+import edu.ie3.datamodel.models.input.EmInput;
+import edu.ie3.datamodel.models.input.MeasurementUnitInput;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.UniqueInputEntity;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.connector.SwitchInput;
+import edu.ie3.datamodel.models.input.connector.TransformerInput;
+import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
+import edu.ie3.datamodel.models.input.connector.Transformer3WInput;
+import edu.ie3.datamodel.models.input.container.*;
+import edu.ie3.datamodel.models.input.graphics.LineGraphicInput;
+import edu.ie3.datamodel.models.input.graphics.NodeGraphicInput;
+import edu.ie3.datamodel.models.input.system.*;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DateTimeException;
+import java.util.*;
+import java.util.stream.Stream;
+import org.jgrapht.graph.DirectedMultigraph;
+
+/**
+ * Binary snapshot of a {@link JointGridContainer}, that has been read from csv files. The snapshot
+ * holds the built container including its sub grid containers and their topology, hence a grid can
+ * be restored from it without building, validating or splitting any entities.
+ *
+ * <p>A snapshot is keyed by a {@link Fingerprint} of the csv files, that consists of their relative
+ * paths, sizes, modification times and content hashes. The contents are only hashed, if the
+ * modification time of a file differs from the recorded one or if the snapshot is verified
+ * explicitly.
+ *
+ * <p>The snapshot is written explicitly with a {@link DataOutputStream}: A header with a magic
+ * number and the format version is followed by the fingerprint, the grid name and the entity table
+ * (see {@link CsvGridSnapshotEntities}). Every entity is written exactly once, whereas the
+ * containers and the gates of the sub grid topology only refer to entities by their index, hence
+ * the sub grid containers merely add a few bytes per entity. Snapshots of another format version
+ * are ignored.
+ */
+final class CsvGridSnapshot {
+  private static final int MAGIC = 0x50534447;
+
+  /** Version of the file format, that has to be increased whenever the format changes */
+  private static final int VERSION = 3;
+
+  private CsvGridSnapshot() {}
+
+  /**
+   * Builds the fingerprint of all csv files, plain or compressed, within the given directory. Only
+   * the sizes and modification times are determined, the contents are hashed on demand.
+   *
+   * @param directoryPath the directory to look up csv files in (recursively)
+   * @return the fingerprint with one entry per csv file, ordered by the relative file path
+   * @throws IOException if a file cannot be accessed
+   */
+  static Fingerprint fingerprint(Path directoryPath) throws IOException {
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(directoryPath)) {
+      files =
+          paths
+              .filter(Files::isRegularFile)
+              .filter(
+                  path ->
+                      path.getFileName().toString().endsWith(FileType.CSV.fileEnding)
+                          || path.getFileName().toString().endsWith(FileType.CSV_GZ.fileEnding))
+              .sorted()
+              .toList();
+    }
+
+    List<FileState> states = new ArrayList<>(files.size());
+    for (Path file : files) {
+      states.add(
+          new FileState(
+              directoryPath.relativize(file).toString().replace(File.separatorChar, '/'),
+              Files.size(file),
+              Files.getLastModifiedTime(file).toMillis(),
+              null));
+    }
+    return new Fingerprint(files, states);
+  }
+
+  /**
+   * Reads the grid from the given snapshot file, if it matches the given grid name and fingerprint
+   *
+   * @param snapshotFile the file to read
+   * @param gridName the name of the grid
+   * @param fingerprint the fingerprint of the current csv files
+   * @param verify whether the contents of all csv files are compared, even if their sizes and
+   *     modification times match
+   * @return the grid or an empty optional, if the file does not exist or belongs to another grid or
+   *     other csv files
+   * @throws IOException if the file cannot be read or is corrupt
+   */
+  static Optional<JointGridContainer> read(
+      Path snapshotFile, String gridName, Fingerprint fingerprint, boolean verify)
+      throws IOException {
+    if (!Files.isRegularFile(snapshotFile)) return Optional.empty();
+
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+      if (in.readInt() != MAGIC)
+        throw new IOException("The file '" + snapshotFile + "' is not a grid snapshot.");
+      if (in.readInt() != VERSION) return Optional.empty();
+
+      int filesCount = readIndex(in);
+      List<FileState> recorded = new ArrayList<>(filesCount);
+      for (int i = 0; i < filesCount; i++)
+        recorded.add(new FileState(in.readUTF(), in.readLong(), in.readLong(), in.readUTF()));
+      if (!in.readUTF().equals(gridName) || !fingerprint.matches(recorded, verify))
+        return Optional.empty();
+
+      UniqueInputEntity[] entities = CsvGridSnapshotEntities.read(in);
+
+      GridElements jointGrid = GridElements.read(in, entities);
+
+      SubGridContainer[] subGrids = new SubGridContainer[readIndex(in)];
+      for (int i = 0; i < subGrids.length; i++) {
+        String subGridName = in.readUTF();
+        int subnet = in.readInt();
+        GridElements subGrid = GridElements.read(in, entities);
+        subGrids[i] =
+            new SubGridContainer(
+                subGridName,
+                subnet,
+                subGrid.rawGrid(),
+                subGrid.systemParticipants(),
+                subGrid.emUnits(),
+                subGrid.graphics());
+      }
+
+      DirectedMultigraph<SubGridContainer, SubGridGate> graph =
+          new DirectedMultigraph<>(SubGridGate.class);
+      for (SubGridContainer subGrid : subGrids) graph.addVertex(subGrid);
+      int gatesCount = readIndex(in);
+      for (int i = 0; i < gatesCount; i++) {
+        SubGridContainer superior = subGrids[readIndex(in)];
+        SubGridContainer inferior = subGrids[readIndex(in)];
+        graph.addEdge(
+            superior,
+            inferior,
+            new SubGridGate(
+                (TransformerInput) entities[readIndex(in)],
+                (NodeInput) entities[readIndex(in)],
+                (NodeInput) entities[readIndex(in)]));
+      }
+
+      return Optional.of(
+          new JointGridContainer(
+              gridName,
+              jointGrid.rawGrid(),
+              jointGrid.systemParticipants(),
+              jointGrid.emUnits(),
+              jointGrid.graphics(),
+              new SubGridTopologyGraph(graph)));
+    } catch (ClassCastException
+        | IndexOutOfBoundsException
+        | IllegalArgumentException
+        | DateTimeException
+        | NegativeArraySizeException
+        | InvalidGridException e) {
+      throw new IOException("The grid snapshot '" + snapshotFile + "' is corrupt.", e);
+    }
+  }
+
+  /**
+   * Writes the given grid to the given file. The file is written to a temporary file first and
+   * moved to its final location afterwards, hence concurrent readers never see a partial snapshot.
+   *
+   * @param snapshotFile the file to write to
+   * @param fingerprint the fingerprint of the csv files, the grid has been read from
+   * @param container the grid to write
+   * @throws IOException if the csv files cannot be hashed or the file cannot be written
+   */
+  static void write(Path snapshotFile, Fingerprint fingerprint, JointGridContainer container)
+      throws IOException {
+    List<FileState> files = fingerprint.hashed();
+    List<SubGridContainer> subGrids =
+        new ArrayList<>(container.getSubGridTopologyGraph().vertexSet());
+
+    CsvGridSnapshotEntities.Writer entities = new CsvGridSnapshotEntities.Writer(container);
+
+    Path directory = snapshotFile.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path tempFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        writeIndex(out, files.size());
+        for (FileState file : files) {
+          out.writeUTF(file.path());
+          out.writeLong(file.size());
+          out.writeLong(file.lastModified());
+          out.writeUTF(file.hash());
+        }
+        out.writeUTF(container.getGridName());
+
+        entities.writeTo(out);
+
+        GridElements.write(out, container, entities);
+
+        Map<SubGridContainer, Integer> subGridIndices = new IdentityHashMap<>();
+        writeIndex(out, subGrids.size());
+        for (SubGridContainer subGrid : subGrids) {
+          subGridIndices.put(subGrid, subGridIndices.size());
+          out.writeUTF(subGrid.getGridName());
+          out.writeInt(subGrid.getSubnet());
+          GridElements.write(out, subGrid, entities);
+        }
+
+        SubGridTopologyGraph graph = container.getSubGridTopologyGraph();
+        writeIndex(out, graph.edgeSet().size());
+        for (SubGridGate gate : graph.edgeSet()) {
+          writeIndex(out, subGridIndices.get(graph.getEdgeSource(gate)));
+          writeIndex(out, subGridIndices.get(graph.getEdgeTarget(gate)));
+          writeIndex(out, entities.indexOf(gate.link()));
+          writeIndex(out, entities.indexOf(gate.superiorNode()));
+          writeIndex(out, entities.indexOf(gate.inferiorNode()));
+        }
+      }
+      Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  private static String hash(Path file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Unable to hash the file '" + file + "'.", e);
+    }
+    try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /** Indices are written as variable length integers, with seven bits per byte */
+  static void writeIndex(DataOutput out, int index) throws IOException {
+    while ((index & ~0x7F) != 0) {
+      out.writeByte((index & 0x7F) | 0x80);
+      index >>>= 7;
+    }
+    out.writeByte(index);
+  }
+
+  static int readIndex(DataInput in) throws IOException {
+    int index = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      index |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return index;
+    }
+    throw new IOException("Malformed index in grid snapshot.");
+  }
+
+  /**
+   * State of a csv file
+   *
+   * @param path the path relative to the grid directory
+   * @param size the size in bytes
+   * @param lastModified the modification time in epoch milliseconds
+   * @param hash the hash of the content, {@code null} if it has not been computed yet
+   */
+  private record FileState(String path, long size, long lastModified, String hash) {
+    private FileState withHash(String hash) {
+      return new FileState(path, size, lastModified, hash);
+    }
+  }
+
+  /** Fingerprint of the csv files of a grid, whose content hashes are computed at most once */
+  static final class Fingerprint {
+    private final List<Path> files;
+    private final List<FileState> states;
+
+    /** Whether a file matched by content only, while its modification time has changed */
+    private boolean outdated = false;
+
+    private Fingerprint(List<Path> files, List<FileState> states) {
+      this.files = files;
+      this.states = states;
+    }
+
+    /**
+     * Whether the files of a snapshot, that has been read from a matching fingerprint, have only
+     * been touched since, so that the snapshot should be rewritten with the current modification
+     * times
+     */
+    boolean isOutdated() {
+      return outdated;
+    }
+
+    /**
+     * Compares the recorded files of a snapshot with the current files. Files of different sizes
+     * never match. The contents are only compared, if the modification times differ or the
+     * comparison is forced.
+     */
+    private boolean matches(List<FileState> recorded, boolean verify) throws IOException {
+      if (recorded.size() != states.size()) return false;
+      for (int i = 0; i < states.size(); i++) {
+        FileState current = states.get(i);
+        FileState snapshot = recorded.get(i);
+        if (!current.path().equals(snapshot.path()) || current.size() != snapshot.size())
+          return false;
+
+        boolean touched = current.lastModified() != snapshot.lastModified();
+        if (touched || verify) {
+          if (!hash(i).equals(snapshot.hash())) return false;
+          if (touched) outdated = true;
+        }
+      }
+      return true;
+    }
+
+    /** Returns the states of all files including their content hashes */
+    private List<FileState> hashed() throws IOException {
+      for (int i = 0; i < states.size(); i++) hash(i);
+      return states;
+    }
+
+    private String hash(int i) throws IOException {
+      FileState state = states.get(i);
+      if (state.hash() == null) {
+        state = state.withHash(CsvGridSnapshot.hash(files.get(i)));
+        states.set(i, state);
+      }
+      return state.hash();
+    }
+  }
+
+  /** The entities of a grid container, whose sets are written as indices into the entity table */
+  private record GridElements(
+      RawGridElements rawGrid,
+      SystemParticipants systemParticipants,
+      EnergyManagementUnits emUnits,
+      GraphicElements graphics) {
+
+    private static void write(
+        DataOutput out, GridContainer grid, CsvGridSnapshotEntities.Writer entities)
+        throws IOException {
+      RawGridElements rawGrid = grid.getRawGrid();
+      writeEntities(out, rawGrid.getNodes(), entities);
+      writeEntities(out, rawGrid.getLines(), entities);
+      writeEntities(out, rawGrid.getTransformer2Ws(), entities);
+      writeEntities(out, rawGrid.getTransformer3Ws(), entities);
+      writeEntities(out, rawGrid.getSwitches(), entities);
+      writeEntities(out, rawGrid.getMeasurementUnits(), entities);
+
+      SystemParticipants participants = grid.getSystemParticipants();
+      writeEntities(out, participants.getBmPlants(), entities);
+      writeEntities(out, participants.getChpPlants(), entities);
+      writeEntities(out, participants.getEvcs(), entities);
+      writeEntities(out, participants.getEvs(), entities);
+      writeEntities(out, participants.getFixedFeedIns(), entities);
+      writeEntities(out, participants.getHeatPumps(), entities);
+      writeEntities(out, participants.getAirConditions(), entities);
+      writeEntities(out, participants.getLoads(), entities);
+      writeEntities(out, participants.getPvPlants(), entities);
+      writeEntities(out, participants.getStorages(), entities);
+      writeEntities(out, participants.getWecPlants(), entities);
+
+      writeEntities(out, grid.getEmUnits().getEmUnits(), entities);
+
+      writeEntities(out, grid.getGraphics().getNodeGraphics(), entities);
+      writeEntities(out, grid.getGraphics().getLineGraphics(), entities);
+    }
+
+    private static GridElements read(DataInput in, UniqueInputEntity[] entities)
+        throws IOException {
+      RawGridElements rawGrid =
+          new RawGridElements(
+              readEntities(in, entities, NodeInput.class),
+              readEntities(in, entities, LineInput.class),
+              readEntities(in, entities, Transformer2WInput.class),
+              readEntities(in, entities, Transformer3WInput.class),
+              readEntities(in, entities, SwitchInput.class),
+              readEntities(in, entities, MeasurementUnitInput.class));
+
+      SystemParticipants participants =
+          new SystemParticipants(
+              readEntities(in, entities, BmInput.class),
+              readEntities(in, entities, ChpInput.class),
+              readEntities(in, entities, EvcsInput.class),
+              readEntities(in, entities, EvInput.class),
+              readEntities(in, entities, FixedFeedInInput.class),
+              readEntities(in, entities, HpInput.class),
+              readEntities(in, entities, AcInput.class),
+              readEntities(in, entities, LoadInput.class),
+              readEntities(in, entities, PvInput.class),
+              readEntities(in, entities, StorageInput.class),
+              readEntities(in, entities, WecInput.class));
+
+      EnergyManagementUnits emUnits =
+          new EnergyManagementUnits(readEntities(in, entities, EmInput.class));
+
+      GraphicElements graphics =
+          new GraphicElements(
+              readEntities(in, entities, NodeGraphicInput.class),
+              readEntities(in, entities, LineGraphicInput.class));
+
+      return new GridElements(rawGrid, participants, emUnits, graphics);
+    }
+
+    private static void writeEntities(
+        DataOutput out,
+        Set<? extends UniqueInputEntity> set,
+        CsvGridSnapshotEntities.Writer entities)
+        throws IOException {
+      writeIndex(out, set.size());
+      for (UniqueInputEntity entity : set) writeIndex(out, entities.indexOf(entity));
+    }
+
+    private static <T extends UniqueInputEntity> Set<T> readEntities(
+        DataInput in, UniqueInputEntity[] entities, Class<T> entityClass) throws IOException {
+      int size = readIndex(in);
+      Set<T> set = new HashSet<>(size * 2);
+      for (int i = 0; i < size; i++) set.add(entityClass.cast(entities[readIndex(in)]));
+      return set;
+    }
+  }
+}
@@ -0,0 +1,1180 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import static edu.ie3.datamodel.io.source.csv.CsvGridSnapshot.readIndex;
+import static edu.ie3.datamodel.io.source.csv.CsvGridSnapshot.writeIndex;
+
+import edu.ie3.datamodel.exceptions.ChargingPointTypeException;
+import edu.ie3.datamodel.exceptions.ParsingException;
+import edu.ie3.datamodel.exceptions.VoltageLevelException;
+import edu.ie3.datamodel.graph.SubGridGate;
+import edu.ie3.datamodel.graph.SubGridTopologyGraph;
+import edu.ie3.datamodel.models.OperationTime;
+import edu.ie3.datamodel.models.StandardUnits;
+import edu.ie3.datamodel.models.input.*;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.connector.SwitchInput;
+import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
+import edu.ie3.datamodel.models.input.connector.Transformer3WInput;
+import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer2WTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
+import edu.ie3.datamodel.models.input.container.GridContainer;
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.models.input.graphics.LineGraphicInput;
+import edu.ie3.datamodel.models.input.graphics.NodeGraphicInput;
+import edu.ie3.datamodel.models.input.system.*;
+import edu.ie3.datamodel.models.input.system.characteristic.OlmCharacteristicInput;
+import edu.ie3.datamodel.models.input.system.characteristic.ReactivePowerCharacteristic;
+import edu.ie3.datamodel.models.input.system.characteristic.WecCharacteristicInput;
+import edu.ie3.datamodel.models.input.system.type.*;
+import edu.ie3.datamodel.models.input.system.type.chargingpoint.ChargingPointType;
+import edu.ie3.datamodel.models.input.system.type.chargingpoint.ChargingPointTypeUtils;
+import edu.ie3.datamodel.models.input.system.type.evcslocation.EvcsLocationType;
+import edu.ie3.datamodel.models.input.thermal.AbstractStorageInput;
+import edu.ie3.datamodel.models.input.thermal.CylindricalStorageInput;
+import edu.ie3.datamodel.models.input.thermal.DomesticHotWaterStorageInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalBusInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalStorageInput;
+import edu.ie3.datamodel.models.profile.PowerProfileKey;
+import edu.ie3.datamodel.models.voltagelevels.GermanVoltageLevelUtils;
+import edu.ie3.datamodel.models.voltagelevels.VoltageLevel;
+import edu.ie3.util.quantities.interfaces.Currency;
+import edu.ie3.util.quantities.interfaces.EnergyPrice;
+import java.io.*;
+import java.time.ZonedDateTime;
+import java.util.*;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.ElectricPotential;
+import javax.measure.quantity.Power;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * The entity table of a {@link CsvGridSnapshot}. Every entity is written field by field behind a
+ * tag, that denotes its class: UUIDs as two longs, strings via {@link
+ * DataOutput#writeUTF(String)}, quantities as doubles in their {@link StandardUnits},
+ * characteristics in their serialized form and geometries as well-known binary. Operators, types,
+ * nodes and all other referenced entities are written as indices into the table. A referenced
+ * entity is always written before the entities referencing it, hence the table is read in a single
+ * pass.
+ *
+ * <p>The internal node of a three winding transformer is not written itself, but taken from the
+ * restored transformer. It therefore gets a new UUID, just like when the transformer is built from
+ * csv files.
+ */
+final class CsvGridSnapshotEntities {
+  private static final byte OPERATOR = 1;
+  private static final byte NO_OPERATOR = 2;
+  private static final byte NODE = 3;
+  private static final byte INTERNAL_NODE = 4;
+  private static final byte LINE_TYPE = 5;
+  private static final byte LINE = 6;
+  private static final byte TRANSFORMER_2W_TYPE = 7;
+  private static final byte TRANSFORMER_2W = 8;
+  private static final byte TRANSFORMER_3W_TYPE = 9;
+  private static final byte TRANSFORMER_3W = 10;
+  private static final byte SWITCH = 11;
+  private static final byte MEASUREMENT_UNIT = 12;
+  private static final byte EM = 13;
+  private static final byte THERMAL_BUS = 14;
+  private static final byte CYLINDRICAL_STORAGE = 15;
+  private static final byte DOMESTIC_HOT_WATER_STORAGE = 16;
+  private static final byte BM_TYPE = 17;
+  private static final byte BM = 18;
+  private static final byte CHP_TYPE = 19;
+  private static final byte CHP = 20;
+  private static final byte EVCS = 21;
+  private static final byte EV_TYPE = 22;
+  private static final byte EV = 23;
+  private static final byte FIXED_FEED_IN = 24;
+  private static final byte HP_TYPE = 25;
+  private static final byte HP = 26;
+  private static final byte AC_TYPE = 27;
+  private static final byte AC = 28;
+  private static final byte LOAD = 29;
+  private static final byte PV = 30;
+  private static final byte STORAGE_TYPE = 31;
+  private static final byte STORAGE = 32;
+  private static final byte WEC_TYPE = 33;
+  private static final byte WEC = 34;
+  private static final byte NODE_GRAPHIC = 35;
+  private static final byte LINE_GRAPHIC = 36;
+
+  private CsvGridSnapshotEntities() {}
+
+  /**
+   * Reads an entity table, that has been written by a {@link Writer}
+   *
+   * @param in the input to read from
+   * @return all entities in the order of their indices
+   * @throws IOException if the table cannot be read or is corrupt
+   */
+  static UniqueInputEntity[] read(DataInput in) throws IOException {
+    return new Reader(in).read();
+  }
+
+  /** Collects the entities of grid containers in the order of their references and writes them */
+  static final class Writer {
+    private final Map<UniqueInputEntity, Integer> indices = new IdentityHashMap<>();
+    private final Map<NodeInput, Transformer3WInput> internalNodes = new IdentityHashMap<>();
+    private final ByteArrayOutputStream table = new ByteArrayOutputStream();
+    private final WKBWriter geometryWriter = new WKBWriter(2, true);
+
+    /**
+     * Encodes all entities of the given grid, its sub grid containers and the gates between them.
+     * Sub grid containers may hold adapted copies of entities, hence entities are told apart by
+     * identity.
+     *
+     * @param container the grid to encode
+     * @throws IOException if an entity cannot be encoded
+     */
+    Writer(JointGridContainer container) throws IOException {
+      SubGridTopologyGraph graph = container.getSubGridTopologyGraph();
+      List<GridContainer> grids = new ArrayList<>(graph.vertexSet().size() + 1);
+      grids.add(container);
+      grids.addAll(graph.vertexSet());
+
+      for (GridContainer grid : grids)
+        for (Transformer3WInput transformer : grid.getRawGrid().getTransformer3Ws())
+          internalNodes.put(transformer.getNodeInternal(), transformer);
+      for (GridContainer grid : grids)
+        for (UniqueInputEntity entity : grid.allEntitiesAsList()) add(entity);
+      for (SubGridGate gate : graph.edgeSet()) {
+        add(gate.link());
+        add(gate.superiorNode());
+        add(gate.inferiorNode());
+      }
+    }
+
+    /** Returns the index of an entity of the encoded grid */
+    int indexOf(UniqueInputEntity entity) {
+      return indices.get(entity);
+    }
+
+    /** Writes the number of entities followed by all encoded entities */
+    void writeTo(DataOutputStream out) throws IOException {
+      writeIndex(out, indices.size());
+      table.writeTo(out);
+    }
+
+    private int add(UniqueInputEntity entity) throws IOException {
+      Integer index = indices.get(entity);
+      if (index != null) return index;
+
+      // referenced entities are added while this one is encoded, hence they precede it
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      write(new DataOutputStream(bytes), entity);
+      index = indices.size();
+      indices.put(entity, index);
+      bytes.writeTo(table);
+      return index;
+    }
+
+    private void write(DataOutput out, UniqueInputEntity entity) throws IOException {
+      if (entity == OperatorInput.NO_OPERATOR_ASSIGNED) {
+        out.writeByte(NO_OPERATOR);
+      } else if (entity instanceof OperatorInput operator) {
+        out.writeByte(OPERATOR);
+        writeUuid(out, operator.getUuid());
+        out.writeUTF(operator.getId());
+        writeAdditionalInformation(out, operator);
+      } else if (entity instanceof NodeInput node && internalNodes.containsKey(node)) {
+        out.writeByte(INTERNAL_NODE);
+        writeReference(out, internalNodes.get(node));
+      } else if (entity instanceof NodeInput node) {
+        out.writeByte(NODE);
+        writeAsset(out, node);
+        writeQuantity(out, node.getvTarget(), StandardUnits.TARGET_VOLTAGE_MAGNITUDE);
+        out.writeBoolean(node.isSlack());
+        writeGeometry(out, node.getGeoPosition());
+        out.writeUTF(node.getVoltLvl().getId());
+        writeQuantity(
+            out, node.getVoltLvl().getNominalVoltage(), StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+        out.writeInt(node.getSubnet());
+      } else if (entity instanceof LineTypeInput type) {
+        out.writeByte(LINE_TYPE);
+        writeType(out, type);
+        writeQuantity(out, type.getB(), StandardUnits.SUSCEPTANCE_PER_LENGTH);
+        writeQuantity(out, type.getG(), StandardUnits.CONDUCTANCE_PER_LENGTH);
+        writeQuantity(out, type.getR(), StandardUnits.RESISTANCE_PER_LENGTH);
+        writeQuantity(out, type.getX(), StandardUnits.REACTANCE_PER_LENGTH);
+        writeQuantity(out, type.getiMax(), StandardUnits.ELECTRIC_CURRENT_MAGNITUDE);
+        writeQuantity(out, type.getvRated(), StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+      } else if (entity instanceof LineInput line) {
+        out.writeByte(LINE);
+        writeAsset(out, line);
+        writeReference(out, line.getNodeA());
+        writeReference(out, line.getNodeB());
+        out.writeInt(line.getParallelDevices());
+        writeReference(out, line.getType());
+        writeQuantity(out, line.getLength(), StandardUnits.LINE_LENGTH);
+        writeGeometry(out, line.getGeoPosition());
+        out.writeUTF(line.getOlmCharacteristic().serialize());
+      } else if (entity instanceof Transformer2WTypeInput type) {
+        out.writeByte(TRANSFORMER_2W_TYPE);
+        writeType(out, type);
+        writeQuantity(out, type.getrSc(), StandardUnits.RESISTANCE);
+        writeQuantity(out, type.getxSc(), StandardUnits.REACTANCE);
+        writeQuantity(out, type.getsRated(), StandardUnits.S_RATED);
+        writeQuantity(out, type.getvRatedA(), StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+        writeQuantity(out, type.getvRatedB(), StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+        writeQuantity(out, type.getgM(), StandardUnits.CONDUCTANCE);
+        writeQuantity(out, type.getbM(), StandardUnits.SUSCEPTANCE);
+        writeQuantity(out, type.getdV(), StandardUnits.DV_TAP);
+        writeQuantity(out, type.getdPhi(), StandardUnits.DPHI_TAP);
+        out.writeBoolean(type.isTapSide());
+        out.writeInt(type.getTapNeutr());
+        out.writeInt(type.getTapMin());
+        out.writeInt(type.getTapMax());
+      } else if (entity instanceof Transformer2WInput transformer) {
+        out.writeByte(TRANSFORMER_2W);
+        writeAsset(out, transformer);
+        writeReference(out, transformer.getNodeA());
+        writeReference(out, transformer.getNodeB());
+        out.writeInt(transformer.getParallelDevices());
+        writeReference(out, transformer.getType());
+        out.writeInt(transformer.getTapPos());
+        out.writeBoolean(transformer.isAutoTap());
+      } else if (entity instanceof Transformer3WTypeInput type) {
+        out.writeByte(TRANSFORMER_3W_TYPE);
+        writeType(out, type);
+        writeQuantity(out, type.getsRatedA(), StandardUnits.S_RATED);
+        writeQuantity(out, type.getsRatedB(), StandardUnits.S_RATED);
+        writeQuantity(out, type.getsRatedC(), StandardUnits.S_RATED);
+        writeQuantity(out, type.getvRatedA(), StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+        writeQuantity(out, type.getvRatedB(), StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+        writeQuantity(out, type.getvRatedC(), StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+        writeQuantity(out, type.getrScA(), StandardUnits.RESISTANCE);
+        writeQuantity(out, type.getrScB(), StandardUnits.RESISTANCE);
+        writeQuantity(out, type.getrScC(), StandardUnits.RESISTANCE);
+        writeQuantity(out, type.getxScA(), StandardUnits.REACTANCE);
+        writeQuantity(out, type.getxScB(), StandardUnits.REACTANCE);
+        writeQuantity(out, type.getxScC(), StandardUnits.REACTANCE);
+        writeQuantity(out, type.getgM(), StandardUnits.CONDUCTANCE);
+        writeQuantity(out, type.getbM(), StandardUnits.SUSCEPTANCE);
+        writeQuantity(out, type.getdV(), StandardUnits.DV_TAP);
+        writeQuantity(out, type.getdPhi(), StandardUnits.DPHI_TAP);
+        out.writeInt(type.getTapNeutr());
+        out.writeInt(type.getTapMin());
+        out.writeInt(type.getTapMax());
+      } else if (entity instanceof Transformer3WInput transformer) {
+        out.writeByte(TRANSFORMER_3W);
+        writeAsset(out, transformer);
+        writeReference(out, transformer.getNodeA());
+        writeReference(out, transformer.getNodeB());
+        writeReference(out, transformer.getNodeC());
+        out.writeInt(transformer.getParallelDevices());
+        writeReference(out, transformer.getType());
+        out.writeInt(transformer.getTapPos());
+        out.writeBoolean(transformer.isAutoTap());
+        out.writeBoolean(transformer.getNodeInternal().isSlack());
+      } else if (entity instanceof SwitchInput switchInput) {
+        out.writeByte(SWITCH);
+        writeAsset(out, switchInput);
+        writeReference(out, switchInput.getNodeA());
+        writeReference(out, switchInput.getNodeB());
+        out.writeBoolean(switchInput.isClosed());
+      } else if (entity instanceof MeasurementUnitInput measurementUnit) {
+        out.writeByte(MEASUREMENT_UNIT);
+        writeAsset(out, measurementUnit);
+        writeReference(out, measurementUnit.getNode());
+        out.writeBoolean(measurementUnit.getVMag());
+        out.writeBoolean(measurementUnit.getVAng());
+        out.writeBoolean(measurementUnit.getP());
+        out.writeBoolean(measurementUnit.getQ());
+      } else if (entity instanceof EmInput em) {
+        out.writeByte(EM);
+        writeAsset(out, em);
+        out.writeUTF(em.getControlStrategy());
+        writeReference(out, em.getControllingEm().orElse(null));
+      } else if (entity instanceof ThermalBusInput bus) {
+        out.writeByte(THERMAL_BUS);
+        writeAsset(out, bus);
+      } else if (entity instanceof CylindricalStorageInput storage) {
+        out.writeByte(CYLINDRICAL_STORAGE);
+        writeThermalStorage(out, storage);
+      } else if (entity instanceof DomesticHotWaterStorageInput storage) {
+        out.writeByte(DOMESTIC_HOT_WATER_STORAGE);
+        writeThermalStorage(out, storage);
+      } else if (entity instanceof BmTypeInput type) {
+        out.writeByte(BM_TYPE);
+        writeParticipantType(out, type);
+        writeQuantity(out, type.getActivePowerGradient(), StandardUnits.ACTIVE_POWER_GRADIENT);
+        writeQuantity(out, type.getEtaConv(), StandardUnits.EFFICIENCY);
+      } else if (entity instanceof BmInput bm) {
+        out.writeByte(BM);
+        writeParticipant(out, bm);
+        writeReference(out, bm.getType());
+        out.writeBoolean(bm.isCostControlled());
+        writeQuantity(out, bm.getFeedInTariff(), StandardUnits.ENERGY_PRICE);
+      } else if (entity instanceof ChpTypeInput type) {
+        out.writeByte(CHP_TYPE);
+        writeParticipantType(out, type);
+        writeQuantity(out, type.getEtaEl(), StandardUnits.EFFICIENCY);
+        writeQuantity(out, type.getEtaThermal(), StandardUnits.EFFICIENCY);
+        writeQuantity(out, type.getpThermal(), StandardUnits.ACTIVE_POWER_IN);
+        writeQuantity(out, type.getpOwn(), StandardUnits.ACTIVE_POWER_IN);
+      } else if (entity instanceof ChpInput chp) {
+        out.writeByte(CHP);
+        writeParticipant(out, chp);
+        writeReference(out, chp.getThermalBus());
+        writeReference(out, chp.getType());
+        writeReference(out, chp.getThermalStorage());
+      } else if (entity instanceof EvcsInput evcs) {
+        out.writeByte(EVCS);
+        writeParticipant(out, evcs);
+        out.writeUTF(evcs.getType().toString());
+        out.writeInt(evcs.getChargingPoints());
+        out.writeDouble(evcs.getCosPhiRated());
+        out.writeUTF(evcs.getLocationType().name());
+        out.writeBoolean(evcs.getV2gSupport());
+      } else if (entity instanceof EvTypeInput type) {
+        out.writeByte(EV_TYPE);
+        writeParticipantType(out, type);
+        writeQuantity(out, type.geteStorage(), StandardUnits.ENERGY_IN);
+        writeQuantity(out, type.geteCons(), StandardUnits.ENERGY_PER_DISTANCE);
+        writeQuantity(out, type.getsRatedDC(), StandardUnits.ACTIVE_POWER_IN);
+      } else if (entity instanceof EvInput ev) {
+        out.writeByte(EV);
+        writeParticipant(out, ev);
+        writeReference(out, ev.getType());
+      } else if (entity instanceof FixedFeedInInput fixedFeedIn) {
+        out.writeByte(FIXED_FEED_IN);
+        writeParticipant(out, fixedFeedIn);
+        writeQuantity(out, fixedFeedIn.getsRated(), StandardUnits.S_RATED);
+        out.writeDouble(fixedFeedIn.getCosPhiRated());
+      } else if (entity instanceof HpTypeInput type) {
+        out.writeByte(HP_TYPE);
+        writeParticipantType(out, type);
+        writeQuantity(out, type.getpThermal(), StandardUnits.ACTIVE_POWER_IN);
+      } else if (entity instanceof HpInput hp) {
+        out.writeByte(HP);
+        writeParticipant(out, hp);
+        writeReference(out, hp.getThermalBus());
+        writeReference(out, hp.getType());
+      } else if (entity instanceof AcTypeInput type) {
+        out.writeByte(AC_TYPE);
+        writeParticipantType(out, type);
+        writeQuantity(out, type.getpThermal(), StandardUnits.ACTIVE_POWER_IN);
+      } else if (entity instanceof AcInput ac) {
+        out.writeByte(AC);
+        writeParticipant(out, ac);
+        writeReference(out, ac.getThermalBus());
+        writeReference(out, ac.getType());
+      } else if (entity instanceof LoadInput load) {
+        out.writeByte(LOAD);
+        writeParticipant(out, load);
+        PowerProfileKey loadProfile = load.getLoadProfile();
+        out.writeUTF(loadProfile.noKeyAssigned ? "" : loadProfile.getValue());
+        writeQuantity(out, load.geteConsAnnual(), StandardUnits.ENERGY_IN);
+        writeQuantity(out, load.getsRated(), StandardUnits.S_RATED);
+        out.writeDouble(load.getCosPhiRated());
+      } else if (entity instanceof PvInput pv) {
+        out.writeByte(PV);
+        writeParticipant(out, pv);
+        out.writeDouble(pv.getAlbedo());
+        writeQuantity(out, pv.getAzimuth(), StandardUnits.AZIMUTH);
+        writeQuantity(out, pv.getEtaConv(), StandardUnits.EFFICIENCY);
+        writeQuantity(out, pv.getElevationAngle(), StandardUnits.SOLAR_ELEVATION_ANGLE);
+        out.writeDouble(pv.getkG());
+        out.writeDouble(pv.getkT());
+        writeQuantity(out, pv.getsRated(), StandardUnits.S_RATED);
+        out.writeDouble(pv.getCosPhiRated());
+      } else if (entity instanceof StorageTypeInput type) {
+        out.writeByte(STORAGE_TYPE);
+        writeParticipantType(out, type);
+        writeQuantity(out, type.geteStorage(), StandardUnits.ENERGY_IN);
+        writeQuantity(out, type.getpMax(), StandardUnits.ACTIVE_POWER_IN);
+        writeQuantity(out, type.getActivePowerGradient(), StandardUnits.ACTIVE_POWER_GRADIENT);
+        writeQuantity(out, type.getEta(), StandardUnits.EFFICIENCY);
+      } else if (entity instanceof StorageInput storage) {
+        out.writeByte(STORAGE);
+        writeParticipant(out, storage);
+        writeReference(out, storage.getType());
+      } else if (entity instanceof WecTypeInput type) {
+        out.writeByte(WEC_TYPE);
+        writeParticipantType(out, type);
+        out.writeUTF(type.getCpCharacteristic().serialize());
+        writeQuantity(out, type.getEtaConv(), StandardUnits.EFFICIENCY);
+        writeQuantity(out, type.getRotorArea(), StandardUnits.ROTOR_AREA);
+        writeQuantity(out, type.getHubHeight(), StandardUnits.HUB_HEIGHT);
+      } else if (entity instanceof WecInput wec) {
+        out.writeByte(WEC);
+        writeParticipant(out, wec);
+        writeReference(out, wec.getType());
+      } else if (entity instanceof NodeGraphicInput graphic) {
+        out.writeByte(NODE_GRAPHIC);
+        writeUuid(out, graphic.getUuid());
+        out.writeUTF(graphic.getGraphicLayer());
+        writeGeometry(out, graphic.getPath());
+        writeReference(out, graphic.getNode());
+        writeGeometry(out, graphic.getPoint());
+        writeAdditionalInformation(out, graphic);
+      } else if (entity instanceof LineGraphicInput graphic) {
+        out.writeByte(LINE_GRAPHIC);
+        writeUuid(out, graphic.getUuid());
+        out.writeUTF(graphic.getGraphicLayer());
+        writeGeometry(out, graphic.getPath());
+        writeReference(out, graphic.getLine());
+        writeAdditionalInformation(out, graphic);
+      } else {
+        throw new IOException(
+            "Entities of class '"
+                + entity.getClass().getSimpleName()
+                + "' cannot be written to a grid snapshot.");
+      }
+    }
+
+    /** Writes the uuid, id, operator, operation time and additional information of an asset */
+    private void writeAsset(DataOutput out, AssetInput asset) throws IOException {
+      writeUuid(out, asset.getUuid());
+      out.writeUTF(asset.getId());
+      writeReference(out, asset.getOperator());
+      OperationTime operationTime = asset.getOperationTime();
+      writeDateTime(out, operationTime.getStartDate().orElse(null));
+      writeDateTime(out, operationTime.getEndDate().orElse(null));
+      writeAdditionalInformation(out, asset);
+    }
+
+    /** Writes the asset, node, reactive power characteristic and energy management unit */
+    private void writeParticipant(DataOutput out, SystemParticipantInput participant)
+        throws IOException {
+      writeAsset(out, participant);
+      writeReference(out, participant.getNode());
+      out.writeUTF(participant.getqCharacteristics().serialize());
+      writeReference(out, participant.getControllingEm().orElse(null));
+    }
+
+    private void writeThermalStorage(DataOutput out, AbstractStorageInput storage)
+        throws IOException {
+      writeAsset(out, storage);
+      writeReference(out, storage.getThermalBus());
+      writeQuantity(out, storage.getStorageVolumeLvl(), StandardUnits.VOLUME);
+      writeQuantity(out, storage.getInletTemp(), StandardUnits.TEMPERATURE);
+      writeQuantity(out, storage.getReturnTemp(), StandardUnits.TEMPERATURE);
+      writeQuantity(out, storage.getC(), StandardUnits.SPECIFIC_HEAT_CAPACITY);
+      writeQuantity(out, storage.getpThermalMax(), StandardUnits.ACTIVE_POWER_IN);
+    }
+
+    /** References are written as index plus one, whereas zero denotes a missing reference */
+    private void writeReference(DataOutput out, UniqueInputEntity entity) throws IOException {
+      writeIndex(out, entity == null ? 0 : add(entity) + 1);
+    }
+
+    private void writeGeometry(DataOutput out, Geometry geometry) throws IOException {
+      out.writeBoolean(geometry != null);
+      if (geometry != null) {
+        byte[] bytes = geometryWriter.write(geometry);
+        writeIndex(out, bytes.length);
+        out.write(bytes);
+      }
+    }
+
+    private static void writeType(DataOutput out, AssetTypeInput type) throws IOException {
+      writeUuid(out, type.getUuid());
+      out.writeUTF(type.getId());
+      writeAdditionalInformation(out, type);
+    }
+
+    /** Writes the type, capital and operational expenditures, rated power and power factor */
+    private static void writeParticipantType(DataOutput out, SystemParticipantTypeInput type)
+        throws IOException {
+      writeType(out, type);
+      writeQuantity(out, type.getCapex(), StandardUnits.CAPEX);
+      writeQuantity(out, type.getOpex(), StandardUnits.ENERGY_PRICE);
+      writeQuantity(out, type.getsRated(), StandardUnits.S_RATED);
+      out.writeDouble(type.getCosPhiRated());
+    }
+
+    private static void writeUuid(DataOutput out, UUID uuid) throws IOException {
+      out.writeLong(uuid.getMostSignificantBits());
+      out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static <Q extends Quantity<Q>> void writeQuantity(
+        DataOutput out, ComparableQuantity<Q> quantity, Unit<Q> unit) throws IOException {
+      out.writeDouble(quantity.to(unit).getValue().doubleValue());
+    }
+
+    private static void writeDateTime(DataOutput out, ZonedDateTime dateTime) throws IOException {
+      out.writeBoolean(dateTime != null);
+      if (dateTime != null) out.writeUTF(dateTime.toString());
+    }
+
+    private static void writeAdditionalInformation(DataOutput out, UniqueInputEntity entity)
+        throws IOException {
+      Map<String, String> additionalInformation = entity.getAdditionalInformation();
+      writeIndex(out, additionalInformation.size());
+      for (Map.Entry<String, String> entry : additionalInformation.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeUTF(entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Reads the entity table. The constructor arguments are evaluated from left to right, hence the
+   * fields are read in the order they have been written by the {@link Writer}.
+   */
+  private static final class Reader {
+    private final DataInput in;
+    private final WKBReader geometryReader = new WKBReader();
+    private UniqueInputEntity[] entities;
+    private int count = 0;
+
+    private Reader(DataInput in) {
+      this.in = in;
+    }
+
+    private UniqueInputEntity[] read() throws IOException {
+      entities = new UniqueInputEntity[readIndex(in)];
+      while (count < entities.length) entities[count++] = readEntity();
+      return entities;
+    }
+
+    private UniqueInputEntity readEntity() throws IOException {
+      byte tag = in.readByte();
+      return switch (tag) {
+        case OPERATOR -> new OperatorInput(readUuid(), in.readUTF(), readAdditionalInformation());
+        case NO_OPERATOR -> OperatorInput.NO_OPERATOR_ASSIGNED;
+        case NODE -> {
+          AssetData asset = readAsset();
+          yield new NodeInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              readQuantity(StandardUnits.TARGET_VOLTAGE_MAGNITUDE),
+              in.readBoolean(),
+              readGeometry(Point.class),
+              readVoltageLevel(),
+              in.readInt(),
+              asset.additionalInformation());
+        }
+        case INTERNAL_NODE -> readReference(Transformer3WInput.class).getNodeInternal();
+        case LINE_TYPE -> {
+          TypeData type = readType();
+          yield new LineTypeInput(
+              type.uuid(),
+              type.id(),
+              readQuantity(StandardUnits.SUSCEPTANCE_PER_LENGTH),
+              readQuantity(StandardUnits.CONDUCTANCE_PER_LENGTH),
+              readQuantity(StandardUnits.RESISTANCE_PER_LENGTH),
+              readQuantity(StandardUnits.REACTANCE_PER_LENGTH),
+              readQuantity(StandardUnits.ELECTRIC_CURRENT_MAGNITUDE),
+              readQuantity(StandardUnits.RATED_VOLTAGE_MAGNITUDE),
+              type.additionalInformation());
+        }
+        case LINE -> {
+          AssetData asset = readAsset();
+          yield new LineInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              readReference(NodeInput.class),
+              readReference(NodeInput.class),
+              in.readInt(),
+              readReference(LineTypeInput.class),
+              readQuantity(StandardUnits.LINE_LENGTH),
+              readGeometry(LineString.class),
+              readOlmCharacteristic(),
+              asset.additionalInformation());
+        }
+        case TRANSFORMER_2W_TYPE -> {
+          TypeData type = readType();
+          yield new Transformer2WTypeInput(
+              type.uuid(),
+              type.id(),
+              readQuantity(StandardUnits.RESISTANCE),
+              readQuantity(StandardUnits.REACTANCE),
+              readQuantity(StandardUnits.S_RATED),
+              readQuantity(StandardUnits.RATED_VOLTAGE_MAGNITUDE),
+              readQuantity(StandardUnits.RATED_VOLTAGE_MAGNITUDE),
+              readQuantity(StandardUnits.CONDUCTANCE),
+              readQuantity(StandardUnits.SUSCEPTANCE),
+              readQuantity(StandardUnits.DV_TAP),
+              readQuantity(StandardUnits.DPHI_TAP),
+              in.readBoolean(),
+              in.readInt(),
+              in.readInt(),
+              in.readInt(),
+              type.additionalInformation());
+        }
+        case TRANSFORMER_2W -> {
+          AssetData asset = readAsset();
+          yield new Transformer2WInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              readReference(NodeInput.class),
+              readReference(NodeInput.class),
+              in.readInt(),
+              readReference(Transformer2WTypeInput.class),
+              in.readInt(),
+              in.readBoolean(),
+              asset.additionalInformation());
+        }
+        case TRANSFORMER_3W_TYPE -> {
+          TypeData type = readType();
+          yield new Transformer3WTypeInput(
+              type.uuid(),
+              type.id(),
+              readQuantity(StandardUnits.S_RATED),
+              readQuantity(StandardUnits.S_RATED),
+              readQuantity(StandardUnits.S_RATED),
+              readQuantity(StandardUnits.RATED_VOLTAGE_MAGNITUDE),
+              readQuantity(StandardUnits.RATED_VOLTAGE_MAGNITUDE),
+              readQuantity(StandardUnits.RATED_VOLTAGE_MAGNITUDE),
+              readQuantity(StandardUnits.RESISTANCE),
+              readQuantity(StandardUnits.RESISTANCE),
+              readQuantity(StandardUnits.RESISTANCE),
+              readQuantity(StandardUnits.REACTANCE),
+              readQuantity(StandardUnits.REACTANCE),
+              readQuantity(StandardUnits.REACTANCE),
+              readQuantity(StandardUnits.CONDUCTANCE),
+              readQuantity(StandardUnits.SUSCEPTANCE),
+              readQuantity(StandardUnits.DV_TAP),
+              readQuantity(StandardUnits.DPHI_TAP),
+              in.readInt(),
+              in.readInt(),
+              in.readInt(),
+              type.additionalInformation());
+        }
+        case TRANSFORMER_3W -> {
+          AssetData asset = readAsset();
+          Transformer3WInput transformer =
+              new Transformer3WInput(
+                  asset.uuid(),
+                  asset.id(),
+                  asset.operator(),
+                  asset.operationTime(),
+                  readReference(NodeInput.class),
+                  readReference(NodeInput.class),
+                  readReference(NodeInput.class),
+                  in.readInt(),
+                  readReference(Transformer3WTypeInput.class),
+                  in.readInt(),
+                  in.readBoolean(),
+                  asset.additionalInformation());
+          yield in.readBoolean() ? transformer.copy().internalSlack(true).build() : transformer;
+        }
+        case SWITCH -> {
+          AssetData asset = readAsset();
+          yield new SwitchInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              readReference(NodeInput.class),
+              readReference(NodeInput.class),
+              in.readBoolean(),
+              asset.additionalInformation());
+        }
+        case MEASUREMENT_UNIT -> {
+          AssetData asset = readAsset();
+          yield new MeasurementUnitInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              readReference(NodeInput.class),
+              in.readBoolean(),
+              in.readBoolean(),
+              in.readBoolean(),
+              in.readBoolean(),
+              asset.additionalInformation());
+        }
+        case EM -> {
+          AssetData asset = readAsset();
+          yield new EmInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              in.readUTF(),
+              readReference(EmInput.class),
+              asset.additionalInformation());
+        }
+        case THERMAL_BUS -> {
+          AssetData asset = readAsset();
+          yield new ThermalBusInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              asset.additionalInformation());
+        }
+        case CYLINDRICAL_STORAGE -> {
+          AssetData asset = readAsset();
+          yield new CylindricalStorageInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              readReference(ThermalBusInput.class),
+              readQuantity(StandardUnits.VOLUME),
+              readQuantity(StandardUnits.TEMPERATURE),
+              readQuantity(StandardUnits.TEMPERATURE),
+              readQuantity(StandardUnits.SPECIFIC_HEAT_CAPACITY),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              asset.additionalInformation());
+        }
+        case DOMESTIC_HOT_WATER_STORAGE -> {
+          AssetData asset = readAsset();
+          yield new DomesticHotWaterStorageInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              readReference(ThermalBusInput.class),
+              readQuantity(StandardUnits.VOLUME),
+              readQuantity(StandardUnits.TEMPERATURE),
+              readQuantity(StandardUnits.TEMPERATURE),
+              readQuantity(StandardUnits.SPECIFIC_HEAT_CAPACITY),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              asset.additionalInformation());
+        }
+        case BM_TYPE -> {
+          ParticipantTypeData type = readParticipantType();
+          yield new BmTypeInput(
+              type.uuid(),
+              type.id(),
+              type.capex(),
+              type.opex(),
+              readQuantity(StandardUnits.ACTIVE_POWER_GRADIENT),
+              type.sRated(),
+              type.cosPhiRated(),
+              readQuantity(StandardUnits.EFFICIENCY),
+              type.additionalInformation());
+        }
+        case BM -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new BmInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              readReference(BmTypeInput.class),
+              in.readBoolean(),
+              readQuantity(StandardUnits.ENERGY_PRICE),
+              asset.additionalInformation());
+        }
+        case CHP_TYPE -> {
+          ParticipantTypeData type = readParticipantType();
+          yield new ChpTypeInput(
+              type.uuid(),
+              type.id(),
+              type.capex(),
+              type.opex(),
+              readQuantity(StandardUnits.EFFICIENCY),
+              readQuantity(StandardUnits.EFFICIENCY),
+              type.sRated(),
+              type.cosPhiRated(),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              type.additionalInformation());
+        }
+        case CHP -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new ChpInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              readReference(ThermalBusInput.class),
+              participant.qCharacteristics(),
+              participant.em(),
+              readReference(ChpTypeInput.class),
+              readReference(ThermalStorageInput.class),
+              asset.additionalInformation());
+        }
+        case EVCS -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new EvcsInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              readChargingPointType(),
+              in.readInt(),
+              in.readDouble(),
+              EvcsLocationType.valueOf(in.readUTF()),
+              in.readBoolean(),
+              asset.additionalInformation());
+        }
+        case EV_TYPE -> {
+          ParticipantTypeData type = readParticipantType();
+          yield new EvTypeInput(
+              type.uuid(),
+              type.id(),
+              type.capex(),
+              type.opex(),
+              readQuantity(StandardUnits.ENERGY_IN),
+              readQuantity(StandardUnits.ENERGY_PER_DISTANCE),
+              type.sRated(),
+              type.cosPhiRated(),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              type.additionalInformation());
+        }
+        case EV -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new EvInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              readReference(EvTypeInput.class),
+              asset.additionalInformation());
+        }
+        case FIXED_FEED_IN -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new FixedFeedInInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              readQuantity(StandardUnits.S_RATED),
+              in.readDouble(),
+              asset.additionalInformation());
+        }
+        case HP_TYPE -> {
+          ParticipantTypeData type = readParticipantType();
+          yield new HpTypeInput(
+              type.uuid(),
+              type.id(),
+              type.capex(),
+              type.opex(),
+              type.sRated(),
+              type.cosPhiRated(),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              type.additionalInformation());
+        }
+        case HP -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new HpInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              readReference(ThermalBusInput.class),
+              participant.qCharacteristics(),
+              participant.em(),
+              readReference(HpTypeInput.class),
+              asset.additionalInformation());
+        }
+        case AC_TYPE -> {
+          ParticipantTypeData type = readParticipantType();
+          yield new AcTypeInput(
+              type.uuid(),
+              type.id(),
+              type.capex(),
+              type.opex(),
+              type.sRated(),
+              type.cosPhiRated(),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              type.additionalInformation());
+        }
+        case AC -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new AcInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              readReference(ThermalBusInput.class),
+              participant.qCharacteristics(),
+              participant.em(),
+              readReference(AcTypeInput.class),
+              asset.additionalInformation());
+        }
+        case LOAD -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new LoadInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              new PowerProfileKey(in.readUTF()),
+              readQuantity(StandardUnits.ENERGY_IN),
+              readQuantity(StandardUnits.S_RATED),
+              in.readDouble(),
+              asset.additionalInformation());
+        }
+        case PV -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new PvInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              in.readDouble(),
+              readQuantity(StandardUnits.AZIMUTH),
+              readQuantity(StandardUnits.EFFICIENCY),
+              readQuantity(StandardUnits.SOLAR_ELEVATION_ANGLE),
+              in.readDouble(),
+              in.readDouble(),
+              readQuantity(StandardUnits.S_RATED),
+              in.readDouble(),
+              asset.additionalInformation());
+        }
+        case STORAGE_TYPE -> {
+          ParticipantTypeData type = readParticipantType();
+          yield new StorageTypeInput(
+              type.uuid(),
+              type.id(),
+              type.capex(),
+              type.opex(),
+              readQuantity(StandardUnits.ENERGY_IN),
+              type.sRated(),
+              type.cosPhiRated(),
+              readQuantity(StandardUnits.ACTIVE_POWER_IN),
+              readQuantity(StandardUnits.ACTIVE_POWER_GRADIENT),
+              readQuantity(StandardUnits.EFFICIENCY),
+              type.additionalInformation());
+        }
+        case STORAGE -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new StorageInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              readReference(StorageTypeInput.class),
+              asset.additionalInformation());
+        }
+        case WEC_TYPE -> {
+          ParticipantTypeData type = readParticipantType();
+          yield new WecTypeInput(
+              type.uuid(),
+              type.id(),
+              type.capex(),
+              type.opex(),
+              type.sRated(),
+              type.cosPhiRated(),
+              readWecCharacteristic(),
+              readQuantity(StandardUnits.EFFICIENCY),
+              readQuantity(StandardUnits.ROTOR_AREA),
+              readQuantity(StandardUnits.HUB_HEIGHT),
+              type.additionalInformation());
+        }
+        case WEC -> {
+          ParticipantData participant = readParticipant();
+          AssetData asset = participant.asset();
+          yield new WecInput(
+              asset.uuid(),
+              asset.id(),
+              asset.operator(),
+              asset.operationTime(),
+              participant.node(),
+              participant.qCharacteristics(),
+              participant.em(),
+              readReference(WecTypeInput.class),
+              asset.additionalInformation());
+        }
+        case NODE_GRAPHIC ->
+            new NodeGraphicInput(
+                readUuid(),
+                in.readUTF(),
+                readGeometry(LineString.class),
+                readReference(NodeInput.class),
+                readGeometry(Point.class),
+                readAdditionalInformation());
+        case LINE_GRAPHIC ->
+            new LineGraphicInput(
+                readUuid(),
+                in.readUTF(),
+                readGeometry(LineString.class),
+                readReference(LineInput.class),
+                readAdditionalInformation());
+        default -> throw new IOException("Unknown entity tag " + tag + " in grid snapshot.");
+      };
+    }
+
+    private AssetData readAsset() throws IOException {
+      UUID uuid = readUuid();
+      String id = in.readUTF();
+      OperatorInput operator = readReference(OperatorInput.class);
+      OperationTime.OperationTimeBuilder operationTime = OperationTime.builder();
+      if (in.readBoolean()) operationTime.withStart(ZonedDateTime.parse(in.readUTF()));
+      if (in.readBoolean()) operationTime.withEnd(ZonedDateTime.parse(in.readUTF()));
+      return new AssetData(uuid, id, operator, operationTime.build(), readAdditionalInformation());
+    }
+
+    private ParticipantData readParticipant() throws IOException {
+      AssetData asset = readAsset();
+      NodeInput node = readReference(NodeInput.class);
+      ReactivePowerCharacteristic qCharacteristics;
+      String characteristic = in.readUTF();
+      try {
+        qCharacteristics = ReactivePowerCharacteristic.parse(characteristic);
+      } catch (ParsingException e) {
+        throw new IOException("Invalid characteristic '" + characteristic + "'.", e);
+      }
+      return new ParticipantData(asset, node, qCharacteristics, readReference(EmInput.class));
+    }
+
+    private TypeData readType() throws IOException {
+      return new TypeData(readUuid(), in.readUTF(), readAdditionalInformation());
+    }
+
+    private ParticipantTypeData readParticipantType() throws IOException {
+      TypeData type = readType();
+      return new ParticipantTypeData(
+          type.uuid(),
+          type.id(),
+          type.additionalInformation(),
+          readQuantity(StandardUnits.CAPEX),
+          readQuantity(StandardUnits.ENERGY_PRICE),
+          readQuantity(StandardUnits.S_RATED),
+          in.readDouble());
+    }
+
+    /** Reads a reference to an entity, that has already been read */
+    private <T extends UniqueInputEntity> T readReference(Class<T> entityClass)
+        throws IOException {
+      int index = readIndex(in) - 1;
+      if (index < 0) return null;
+      if (index >= count)
+        throw new IOException("Forward reference to entity " + index + " in grid snapshot.");
+      return entityClass.cast(entities[index]);
+    }
+
+    private <G extends Geometry> G readGeometry(Class<G> geometryClass) throws IOException {
+      if (!in.readBoolean()) return null;
+      byte[] bytes = new byte[readIndex(in)];
+      in.readFully(bytes);
+      try {
+        return geometryClass.cast(geometryReader.read(bytes));
+      } catch (ParseException e) {
+        throw new IOException("Invalid geometry in grid snapshot.", e);
+      }
+    }
+
+    /** Restores common german voltage levels and builds individual ones for all others */
+    private VoltageLevel readVoltageLevel() throws IOException {
+      String id = in.readUTF();
+      ComparableQuantity<ElectricPotential> nominalVoltage =
+          readQuantity(StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+      try {
+        return GermanVoltageLevelUtils.parse(id, nominalVoltage);
+      } catch (VoltageLevelException e) {
+        return new VoltageLevel(id, nominalVoltage);
+      }
+    }
+
+    private OlmCharacteristicInput readOlmCharacteristic() throws IOException {
+      String characteristic = in.readUTF();
+      try {
+        return new OlmCharacteristicInput(characteristic);
+      } catch (ParsingException e) {
+        throw new IOException("Invalid characteristic '" + characteristic + "'.", e);
+      }
+    }
+
+    private WecCharacteristicInput readWecCharacteristic() throws IOException {
+      String characteristic = in.readUTF();
+      try {
+        return new WecCharacteristicInput(characteristic);
+      } catch (ParsingException e) {
+        throw new IOException("Invalid characteristic '" + characteristic + "'.", e);
+      }
+    }
+
+    private ChargingPointType readChargingPointType() throws IOException {
+      String type = in.readUTF();
+      try {
+        return ChargingPointTypeUtils.parse(type);
+      } catch (ChargingPointTypeException e) {
+        throw new IOException("Invalid charging point type '" + type + "'.", e);
+      }
+    }
+
+    private UUID readUuid() throws IOException {
+      return new UUID(in.readLong(), in.readLong());
+    }
+
+    private <Q extends Quantity<Q>> ComparableQuantity<Q> readQuantity(Unit<Q> unit)
+        throws IOException {
+      return Quantities.getQuantity(in.readDouble(), unit);
+    }
+
+    private Map<String, String> readAdditionalInformation() throws IOException {
+      int size = readIndex(in);
+      Map<String, String> additionalInformation = new HashMap<>(size * 2);
+      for (int i = 0; i < size; i++) additionalInformation.put(in.readUTF(), in.readUTF());
+      return additionalInformation;
+    }
+  }
+
+  private record AssetData(
+      UUID uuid,
+      String id,
+      OperatorInput operator,
+      OperationTime operationTime,
+      Map<String, String> additionalInformation) {}
+
+  private record ParticipantData(
+      AssetData asset,
+      NodeInput node,
+      ReactivePowerCharacteristic qCharacteristics,
+      EmInput em) {}
+
+  private record TypeData(UUID uuid, String id, Map<String, String> additionalInformation) {}
+
+  private record ParticipantTypeData(
+      UUID uuid,
+      String id,
+      Map<String, String> additionalInformation,
+      ComparableQuantity<Currency> capex,
+      ComparableQuantity<EnergyPrice> opex,
+      ComparableQuantity<Power> sRated,
+      double cosPhiRated) {}
+}
@@ -7,7 +7,9 @@ package edu.ie3.datamodel.io.source.csv;
 
 import edu.ie3.datamodel.exceptions.DuplicateEntitiesException;
 import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.StreamScanException;
 import edu.ie3.datamodel.exceptions.ValidationException;
+import edu.ie3.datamodel.io.connectors.CsvFileConnector;
 import edu.ie3.datamodel.io.factory.SimpleFactoryData;
 import edu.ie3.datamodel.io.factory.timeseries.CosmoIdCoordinateFactory;
 import edu.ie3.datamodel.io.factory.timeseries.IdCoordinateFactory;
@@ -19,20 +21,17 @@ import edu.ie3.datamodel.utils.Try.Failure;
 import edu.ie3.datamodel.utils.validation.UniquenessValidationUtils;
 import edu.ie3.util.geo.CoordinateDistance;
 import edu.ie3.util.geo.GeoUtils;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.measure.quantity.Length;
-import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Point;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.units.indriya.ComparableQuantity;
-import tech.units.indriya.quantity.Quantities;
-import tech.units.indriya.unit.Units;
 
 /**
  * Implementation of {@link IdCoordinateSource} to read the mapping between coordinate id and actual
@@ -47,6 +46,9 @@ public class CsvIdCoordinateSource extends IdCoordinateSource {
 
   private final Map<Point, Integer> coordinateToId;
 
+  /** Spatial index of all coordinates for nearest neighbour and bounding box queries */
+  private final CoordinateIndex coordinateIndex;
+
   private final CsvDataSource dataSource;
   private final IdCoordinateFactory factory;
 
@@ -58,6 +60,7 @@ public class CsvIdCoordinateSource extends IdCoordinateSource {
     /* set up the coordinate id to lat/long mapping */
     idToCoordinate = setupIdToCoordinateMap();
     coordinateToId = invert(idToCoordinate);
+    coordinateIndex = new CoordinateIndex(coordinateToId.keySet());
   }
 
   @Override
@@ -79,15 +82,18 @@ public class CsvIdCoordinateSource extends IdCoordinateSource {
    * @return Mapping from coordinate id to coordinate
    */
   private Map<Integer, Point> setupIdToCoordinateMap() throws SourceException {
-    List<IdCoordinateInput> idCoordinates =
-        buildStreamWithFieldsToAttributesMap()
-            .map(
-                data ->
-                    data.map(fieldToValues -> new SimpleFactoryData(fieldToValues, getInputClass()))
-                        .map(factory::get))
-            .flatMap(s -> Try.scanStream(s, "Pair<Integer, Point>", SourceException::new))
-            .getOrThrow()
-            .toList();
+    List<IdCoordinateInput> idCoordinates;
+    try (Stream<Map<String, String>> data = buildStreamWithFieldsToAttributesMap().getOrThrow()) {
+      idCoordinates =
+          Try.scanStreamLazily(
+                  data.map(fieldToValues -> new SimpleFactoryData(fieldToValues, getInputClass()))
+                      .map(factory::get),
+                  "Pair<Integer, Point>",
+                  SourceException::new)
+              .toList();
+    } catch (StreamScanException e) {
+      throw toSourceException(e);
+    }
 
     try {
       // check the uniqueness of the source
@@ -145,29 +151,25 @@ public class CsvIdCoordinateSource extends IdCoordinateSource {
 
   @Override
   public List<CoordinateDistance> getNearestCoordinates(Point coordinate, int n) {
-    Set<Point> points = coordinateToId.keySet();
-
-    if (idToCoordinate.size() > n) {
-      ArrayList<Point> foundPoints = new ArrayList<>();
-      ComparableQuantity<Length> distance = Quantities.getQuantity(10000, Units.METRE);
-
-      // extends the search radius until n points are found
-      while (foundPoints.size() < n) {
-        foundPoints.clear();
-        distance = distance.multiply(2);
-
-        Envelope envelope = GeoUtils.calculateBoundingBox(coordinate, distance);
-        points.stream()
-            .filter(point -> envelope.contains(point.getCoordinate()))
-            .forEach(foundPoints::add);
-      }
-
-      // replaces all point with smaller size of found points
-      points.clear();
-      points.addAll(foundPoints);
-    }
+    return coordinateIndex.getNearestCoordinates(coordinate, n);
+  }
 
-    return calculateCoordinateDistances(coordinate, n, points);
+  /**
+   * Returns the nearest n coordinate points for each of the given coordinates. As the look-ups only
+   * read the spatial index, they are performed in parallel.
+   *
+   * @param coordinates the coordinates to look up
+   * @param n number of searched points per coordinate
+   * @return the nearest n coordinates mapped to the coordinate they were looked up for
+   */
+  @Override
+  public Map<Point, List<CoordinateDistance>> getNearestCoordinates(
+      Collection<Point> coordinates, int n) {
+    return coordinates.parallelStream()
+        .distinct()
+        .collect(
+            Collectors.toConcurrentMap(
+                Function.identity(), coordinate -> getNearestCoordinates(coordinate, n)));
   }
 
   @Override
@@ -191,37 +193,36 @@ public class CsvIdCoordinateSource extends IdCoordinateSource {
 
   private Collection<Point> getCoordinatesInBoundingBox(
       Point coordinate, ComparableQuantity<Length> distance) {
-    Set<Point> points = coordinateToId.keySet();
-    Envelope envelope = GeoUtils.calculateBoundingBox(coordinate, distance);
-    return points.stream()
-        .filter(point -> envelope.contains(point.getCoordinate()))
-        .collect(Collectors.toSet());
+    return coordinateIndex.getCoordinatesInBoundingBox(coordinate, distance);
   }
 
   /**
-   * Build a stream with mappings from field identifiers to attributes
+   * Build a lazy stream with mappings from field identifiers to attributes. The file is released as
+   * soon as the stream is consumed completely, its consumption is aborted or it is closed.
    *
    * @return Stream with mappings from field identifiers to attributes
    */
   protected Try<Stream<Map<String, String>>, SourceException>
       buildStreamWithFieldsToAttributesMap() {
     Path filePath = Path.of(dataSource.getNamingStrategy().getIdCoordinateEntityName());
-    try (BufferedReader reader = dataSource.connector.initReader(filePath)) {
-      final String[] headline = dataSource.parseCsvRow(reader.readLine(), dataSource.csvSep);
-
-      // validating read file
-      DataSource.validate(Set.of(headline), getInputClass()).getOrThrow();
-
-      // by default try-with-resources closes the reader directly when we leave this method (which
-      // is wanted to avoid a lock on the file), but this causes a closing of the stream as well.
-      // As we still want to consume the data at other places, we start a new stream instead of
-      // returning the original one
-      return dataSource.csvRowFieldValueMapping(reader, headline, filePath.getFileName());
+    CsvFileConnector.CsvRecords records;
+    try {
+      records = dataSource.connector.initRecordReader(filePath);
     } catch (IOException e) {
       return Failure.of(
           new SourceException("Cannot read the file for coordinate id to coordinate mapping.", e));
+    }
+
+    final String[] headline = dataSource.parseCsvRow(records.headline(), dataSource.csvSep);
+    try {
+      // validating read file
+      DataSource.validate(Set.of(headline), getInputClass()).getOrThrow();
     } catch (ValidationException ve) {
+      records.close();
       return Failure.of(new SourceException("Creating stream failed due to failed validation", ve));
     }
+
+    // the records are closed, once the returned stream is consumed, aborted or closed
+    return dataSource.csvRowFieldValueMapping(records.records(), headline, filePath.getFileName());
   }
 }
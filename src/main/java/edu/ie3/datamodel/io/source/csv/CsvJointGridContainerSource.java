@@ -19,17 +19,108 @@ import edu.ie3.datamodel.models.input.connector.LineInput;
 import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
 import edu.ie3.datamodel.models.input.container.*;
 import edu.ie3.datamodel.utils.Try;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Convenience class for cases where all used data comes from CSV sources */
 public class CsvJointGridContainerSource {
+  private static final Logger log = LoggerFactory.getLogger(CsvJointGridContainerSource.class);
+
   private CsvJointGridContainerSource() {}
 
   public static JointGridContainer read(
       String gridName, String csvSep, Path directoryPath, boolean isHierarchic)
       throws SourceException, FileException, InvalidGridException {
+    return read(gridName, dataSource(gridName, csvSep, directoryPath, isHierarchic));
+  }
+
+  /**
+   * Reads the grid like {@link #read(String, String, Path, boolean)}, but caches the built grid in
+   * a binary snapshot file. If the snapshot file belongs to the current csv files, which is checked
+   * by their sizes and modification times, the grid is restored from it without reading the csv
+   * files again. Files, that have been touched but not altered, are recognized by their content
+   * hash. Otherwise, the grid is read from the csv files and the snapshot is (re-)written
+   * afterwards. A snapshot, that cannot be read or written, is skipped with a warning.
+   *
+   * @param gridName the name of the grid
+   * @param csvSep the csv separator
+   * @param directoryPath the directory of the grid
+   * @param isHierarchic whether the grid is stored in a hierarchic directory structure
+   * @param snapshotFile the file to read the snapshot from and write it to
+   * @return the grid
+   */
+  public static JointGridContainer read(
+      String gridName, String csvSep, Path directoryPath, boolean isHierarchic, Path snapshotFile)
+      throws SourceException, FileException, InvalidGridException {
+    return read(gridName, csvSep, directoryPath, isHierarchic, snapshotFile, false);
+  }
+
+  /**
+   * Reads the grid like {@link #read(String, String, Path, boolean, Path)}, but optionally compares
+   * the contents of all csv files with the snapshot, even if their sizes and modification times
+   * match.
+   *
+   * @param gridName the name of the grid
+   * @param csvSep the csv separator
+   * @param directoryPath the directory of the grid
+   * @param isHierarchic whether the grid is stored in a hierarchic directory structure
+   * @param snapshotFile the file to read the snapshot from and write it to
+   * @param verify whether the contents of all csv files are compared with the snapshot
+   * @return the grid
+   */
+  public static JointGridContainer read(
+      String gridName,
+      String csvSep,
+      Path directoryPath,
+      boolean isHierarchic,
+      Path snapshotFile,
+      boolean verify)
+      throws SourceException, FileException, InvalidGridException {
+    CsvDataSource dataSource = dataSource(gridName, csvSep, directoryPath, isHierarchic);
+
+    CsvGridSnapshot.Fingerprint fingerprint;
+    try {
+      fingerprint = CsvGridSnapshot.fingerprint(directoryPath);
+    } catch (IOException e) {
+      log.warn(
+          "Unable to fingerprint the grid files in '{}'. Skipping snapshot.", directoryPath, e);
+      return read(gridName, dataSource);
+    }
 
+    try {
+      Optional<JointGridContainer> snapshot =
+          CsvGridSnapshot.read(snapshotFile, gridName, fingerprint, verify);
+      if (snapshot.isPresent()) {
+        log.debug("Reading grid '{}' from snapshot '{}'.", gridName, snapshotFile);
+        // the snapshot is rewritten, so that touched files are not hashed again next time
+        if (fingerprint.isOutdated()) writeSnapshot(snapshotFile, fingerprint, snapshot.get());
+        return snapshot.get();
+      }
+    } catch (IOException e) {
+      log.warn(
+          "Unable to read the grid snapshot '{}'. Reading csv files instead.", snapshotFile, e);
+    }
+
+    JointGridContainer container = read(gridName, dataSource);
+    writeSnapshot(snapshotFile, fingerprint, container);
+    return container;
+  }
+
+  private static void writeSnapshot(
+      Path snapshotFile, CsvGridSnapshot.Fingerprint fingerprint, JointGridContainer container) {
+    try {
+      CsvGridSnapshot.write(snapshotFile, fingerprint, container);
+    } catch (IOException e) {
+      log.warn("Unable to write the grid snapshot '{}'.", snapshotFile, e);
+    }
+  }
+
+  private static CsvDataSource dataSource(
+      String gridName, String csvSep, Path directoryPath, boolean isHierarchic)
+      throws FileException {
     /* Parameterization */
     FileNamingStrategy namingStrategy;
 
@@ -44,8 +135,11 @@ public class CsvJointGridContainerSource {
       namingStrategy = new FileNamingStrategy();
     }
 
-    CsvDataSource dataSource = new CsvDataSource(csvSep, directoryPath, namingStrategy);
+    return new CsvDataSource(csvSep, directoryPath, namingStrategy);
+  }
 
+  private static JointGridContainer read(String gridName, DataSource dataSource)
+      throws SourceException, InvalidGridException {
     /* Instantiating sources */
     TypeSource typeSource = new TypeSource(dataSource);
     RawGridSource rawGridSource = new RawGridSource(typeSource, dataSource);
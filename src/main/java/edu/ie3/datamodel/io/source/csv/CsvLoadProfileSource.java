@@ -7,6 +7,7 @@ package edu.ie3.datamodel.io.source.csv;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.StreamScanException;
 import edu.ie3.datamodel.exceptions.ValidationException;
 import edu.ie3.datamodel.io.factory.timeseries.LoadProfileFactory;
 import edu.ie3.datamodel.io.naming.timeseries.FileLoadProfileMetaInformation;
@@ -23,6 +24,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.measure.quantity.Energy;
 import javax.measure.quantity.Power;
 import tech.units.indriya.ComparableQuantity;
@@ -101,15 +103,16 @@ public class CsvLoadProfileSource<V extends LoadValues> extends LoadProfileSourc
       Function<Map<String, String>, Try<LoadProfileEntry<V>, FactoryException>>
           fieldToValueFunction)
       throws SourceException {
-    Set<LoadProfileEntry<V>> entries =
-        dataSource
-            .buildStreamWithFieldsToAttributesMap(filePath, false)
-            .flatMap(
-                stream ->
-                    Try.scanStream(
-                        stream.map(fieldToValueFunction), "LoadProfileEntry", SourceException::new))
-            .getOrThrow()
-            .collect(Collectors.toSet());
+    Set<LoadProfileEntry<V>> entries;
+    try (Stream<Map<String, String>> data =
+        dataSource.buildStreamWithFieldsToAttributesMap(filePath, false).getOrThrow()) {
+      entries =
+          Try.scanStreamLazily(
+                  data.map(fieldToValueFunction), "LoadProfileEntry", SourceException::new)
+              .collect(Collectors.toSet());
+    } catch (StreamScanException e) {
+      throw toSourceException(e);
+    }
 
     return entryFactory.build(powerProfileKey, entries);
   }
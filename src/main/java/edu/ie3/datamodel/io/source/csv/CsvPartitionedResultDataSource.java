@@ -0,0 +1,133 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.StreamScanException;
+import edu.ie3.datamodel.io.connectors.CsvFileConnector;
+import edu.ie3.datamodel.io.csv.CsvPartitionManifest;
+import edu.ie3.datamodel.io.csv.CsvPartitionManifest.Partition;
+import edu.ie3.datamodel.io.naming.FileNamingStrategy;
+import edu.ie3.datamodel.io.source.TimePartitionedDataSource;
+import edu.ie3.datamodel.models.Entity;
+import edu.ie3.util.interval.ClosedInterval;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Data source for results, that are written in time partitioned files by {@link
+ * edu.ie3.datamodel.io.sink.PartitionedCsvResultSink}. The partitions of a class are looked up in
+ * its {@link CsvPartitionManifest}, hence only the partitions overlapping a requested interval are
+ * opened. Classes without manifest are read from their plain csv file as done by {@link
+ * CsvDataSource}.
+ */
+public class CsvPartitionedResultDataSource extends CsvDataSource
+    implements TimePartitionedDataSource {
+
+  public CsvPartitionedResultDataSource(
+      String csvSep, Path directoryPath, FileNamingStrategy fileNamingStrategy) {
+    super(csvSep, directoryPath, fileNamingStrategy);
+  }
+
+  public CsvPartitionedResultDataSource(
+      String csvSep, CsvFileConnector connector, FileNamingStrategy fileNamingStrategy) {
+    super(csvSep, connector, fileNamingStrategy);
+  }
+
+  @Override
+  public Optional<Set<String>> getSourceFields(Class<? extends Entity> entityClass)
+      throws SourceException {
+    Optional<List<Path>> partitionPaths = getPartitionPaths(entityClass, null);
+    if (partitionPaths.isEmpty()) return super.getSourceFields(entityClass);
+
+    // all partitions share the same headline
+    return partitionPaths.get().isEmpty()
+        ? Optional.empty()
+        : getSourceFields(partitionPaths.get().get(0));
+  }
+
+  @Override
+  public Stream<Map<String, String>> getSourceData(Class<? extends Entity> entityClass)
+      throws SourceException {
+    Optional<List<Path>> partitionPaths = getPartitionPaths(entityClass, null);
+    return partitionPaths.isPresent()
+        ? streamPartitions(partitionPaths.get())
+        : super.getSourceData(entityClass);
+  }
+
+  @Override
+  public Stream<Map<String, String>> getSourceData(
+      Class<? extends Entity> entityClass, ClosedInterval<ZonedDateTime> interval)
+      throws SourceException {
+    Optional<List<Path>> partitionPaths = getPartitionPaths(entityClass, interval);
+    return partitionPaths.isPresent()
+        ? streamPartitions(partitionPaths.get())
+        : super.getSourceData(entityClass);
+  }
+
+  /**
+   * Looks up the partitions of the given class in its manifest
+   *
+   * @param entityClass the result class
+   * @param interval the requested interval or {@code null} for all partitions
+   * @return the paths of the selected partitions relative to the base directory (without file
+   *     ending) in chronological order or an empty optional, if there is no manifest
+   * @throws SourceException if the manifest cannot be read
+   */
+  private Optional<List<Path>> getPartitionPaths(
+      Class<? extends Entity> entityClass, ClosedInterval<ZonedDateTime> interval)
+      throws SourceException {
+    Path directory;
+    try {
+      directory = CsvPartitionManifest.directory(fileNamingStrategy, entityClass);
+    } catch (FileException e) {
+      throw new SourceException("Cannot determine the partitions of " + entityClass + ".", e);
+    }
+
+    List<Partition> partitions;
+    try {
+      partitions =
+          CsvPartitionManifest.read(
+              CsvPartitionManifest.manifestPath(baseDirectory.resolve(directory)));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new SourceException("Cannot read the partition manifest of " + entityClass + ".", e);
+    }
+
+    return Optional.of(
+        partitions.stream()
+            .filter(
+                partition ->
+                    interval == null
+                        || partition.overlaps(interval.getLower(), interval.getUpper()))
+            .sorted(Comparator.comparing(Partition::start))
+            .map(
+                partition ->
+                    directory.resolve(
+                        FileNamingStrategy.removeFileNameEnding(partition.fileName())))
+            .toList());
+  }
+
+  /** Reads the given partitions one after another, each of them is opened on demand */
+  private Stream<Map<String, String>> streamPartitions(List<Path> partitionPaths) {
+    return partitionPaths.stream()
+        .flatMap(
+            partitionPath -> {
+              try {
+                return streamFieldsToAttributesMap(partitionPath);
+              } catch (SourceException e) {
+                throw new StreamScanException(e);
+              }
+            })
+        .parallel();
+  }
+}
@@ -0,0 +1,346 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.io.csv.CsvHeader;
+import edu.ie3.datamodel.io.csv.CsvRowTokenizer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Compact index of a csv time series file, that maps the time of every record to its position
+ * within the file. The times are held as epoch milliseconds in ascending order, alongside the byte
+ * offset and length of the respective record. This allows to read arbitrary time ranges of the file
+ * without parsing the whole file.
+ *
+ * <p>All times are provided in the time zone of the first record of the file.
+ */
+final class CsvTimeSeriesIndex {
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private static final byte QUOTE = '"';
+  private static final byte LINE_FEED = '\n';
+  private static final byte CARRIAGE_RETURN = '\r';
+
+  private final CsvHeader header;
+  private final ZoneId zone;
+  private final long[] times;
+  private final long[] offsets;
+  private final int[] lengths;
+
+  private CsvTimeSeriesIndex(
+      CsvHeader header, ZoneId zone, long[] times, long[] offsets, int[] lengths) {
+    this.header = header;
+    this.zone = zone;
+    this.times = times;
+    this.offsets = offsets;
+    this.lengths = lengths;
+  }
+
+  /**
+   * Check of a complete record, that is applied to every record while indexing.
+   *
+   * @see #build(FileChannel, String, String, Function, RecordCheck)
+   */
+  @FunctionalInterface
+  interface RecordCheck {
+    void check(String csvRow, CsvHeader header) throws SourceException;
+  }
+
+  /**
+   * Scans the given file once and builds the index. Besides the time field, that is parsed for
+   * every record, each record is handed to the given check.
+   *
+   * @param channel channel of the file to index
+   * @param csvSep the separator string for csv columns
+   * @param timeField the camel case name of the time field
+   * @param timeParser function to parse the time field
+   * @param recordCheck check, that every record has to pass
+   * @return the index of the file
+   * @throws IOException if the file cannot be read
+   * @throws SourceException if the headline or a time field cannot be parsed or a record does not
+   *     pass the check
+   */
+  static CsvTimeSeriesIndex build(
+      FileChannel channel,
+      String csvSep,
+      String timeField,
+      Function<String, ZonedDateTime> timeParser,
+      RecordCheck recordCheck)
+      throws IOException, SourceException {
+    RecordScanner scanner = new RecordScanner(channel);
+
+    String headline = scanner.next();
+    if (headline == null) throw new SourceException("The time series file is empty.");
+
+    CsvRowTokenizer tokenizer = new CsvRowTokenizer(csvSep);
+    tokenizer.parse(headline);
+    CsvHeader header = CsvHeader.of(tokenizer.toArray());
+
+    int timeColumn = header.indexOf(timeField);
+    if (timeColumn < 0)
+      throw new SourceException(
+          "The time series file does not contain a '" + timeField + "' field.");
+
+    ZoneId zone = null;
+    LongList times = new LongList();
+    LongList offsets = new LongList();
+    LongList lengths = new LongList();
+
+    String csvRow;
+    while ((csvRow = scanner.next()) != null) {
+      if (csvRow.isBlank()) continue;
+
+      if (tokenizer.parse(csvRow) != header.size())
+        throw new SourceException(
+            "The size of the headline does not fit to the size of the record at byte "
+                + scanner.recordOffset
+                + ".");
+
+      ZonedDateTime time;
+      try {
+        time = timeParser.apply(tokenizer.get(timeColumn));
+      } catch (RuntimeException e) {
+        throw new SourceException(
+            "Unable to parse the time of the record at byte " + scanner.recordOffset + ".", e);
+      }
+      if (zone == null) zone = time.getZone();
+
+      try {
+        recordCheck.check(csvRow, header);
+      } catch (SourceException e) {
+        throw new SourceException("Invalid record at byte " + scanner.recordOffset + ".", e);
+      }
+
+      times.add(time.toInstant().toEpochMilli());
+      offsets.add(scanner.recordOffset);
+      lengths.add(scanner.recordLength);
+    }
+
+    long[] sortedTimes = times.toArray();
+    long[] sortedOffsets = offsets.toArray();
+    long[] recordLengths = lengths.toArray();
+    int[] sortedLengths = new int[recordLengths.length];
+
+    if (isSorted(sortedTimes)) {
+      for (int i = 0; i < recordLengths.length; i++) sortedLengths[i] = (int) recordLengths[i];
+    } else {
+      // usually, time series files are sorted by time, hence sorting is only the fallback
+      int[] order =
+          IntStream.range(0, sortedTimes.length)
+              .boxed()
+              .sorted(Comparator.comparingLong(i -> times.get(i)))
+              .mapToInt(Integer::intValue)
+              .toArray();
+      for (int i = 0; i < order.length; i++) {
+        sortedTimes[i] = times.get(order[i]);
+        sortedOffsets[i] = offsets.get(order[i]);
+        sortedLengths[i] = (int) recordLengths[order[i]];
+      }
+    }
+
+    return new CsvTimeSeriesIndex(
+        header, zone == null ? ZoneId.of("UTC") : zone, sortedTimes, sortedOffsets, sortedLengths);
+  }
+
+  /** Returns the resolved headline of the file */
+  CsvHeader getHeader() {
+    return header;
+  }
+
+  /** Returns the number of indexed records */
+  int size() {
+    return times.length;
+  }
+
+  /** Returns the time of the record at the given position in epoch milliseconds */
+  long getEpochMilli(int position) {
+    return times[position];
+  }
+
+  /** Returns the time of the record at the given position */
+  ZonedDateTime getTime(int position) {
+    return Instant.ofEpochMilli(times[position]).atZone(zone);
+  }
+
+  /**
+   * Returns the number of records, that are strictly before the given instant, which equals the
+   * position of the first record at or after the given instant.
+   */
+  int countBefore(Instant instant) {
+    int low = 0;
+    int high = times.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (Instant.ofEpochMilli(times[mid]).isBefore(instant)) low = mid + 1;
+      else high = mid;
+    }
+    return low;
+  }
+
+  /**
+   * Returns the number of records, that are at or before the given instant, which equals the
+   * position of the first record after the given instant.
+   */
+  int countAtOrBefore(Instant instant) {
+    int low = 0;
+    int high = times.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (Instant.ofEpochMilli(times[mid]).isAfter(instant)) high = mid;
+      else low = mid + 1;
+    }
+    return low;
+  }
+
+  /**
+   * Reads the records within the given range of positions. Neighbouring records are read in one
+   * go, as long as they are stored contiguously within the file.
+   *
+   * @param channel channel of the indexed file
+   * @param from first position to read (inclusive)
+   * @param to last position to read (exclusive)
+   * @return the records in the order of their time
+   * @throws IOException if the file cannot be read
+   */
+  List<String> readRecords(FileChannel channel, int from, int to) throws IOException {
+    List<String> records = new ArrayList<>(Math.max(to - from, 0));
+
+    int runStart = from;
+    while (runStart < to) {
+      // determine a run of records, that directly follow each other within the file
+      int runEnd = runStart + 1;
+      long runEndOffset = offsets[runStart] + lengths[runStart];
+      while (runEnd < to
+          && offsets[runEnd] > offsets[runEnd - 1]
+          && offsets[runEnd] - runEndOffset <= 2
+          && offsets[runEnd] + lengths[runEnd] - offsets[runStart] <= Integer.MAX_VALUE) {
+        runEndOffset = offsets[runEnd] + lengths[runEnd];
+        runEnd++;
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate((int) (runEndOffset - offsets[runStart]));
+      long position = offsets[runStart];
+      while (buffer.hasRemaining()) {
+        int read = channel.read(buffer, position + buffer.position());
+        if (read < 0)
+          throw new IOException("Unexpected end of file at byte " + (position + buffer.position()));
+      }
+
+      byte[] bytes = buffer.array();
+      for (int i = runStart; i < runEnd; i++)
+        records.add(
+            new String(bytes, (int) (offsets[i] - position), lengths[i], StandardCharsets.UTF_8));
+
+      runStart = runEnd;
+    }
+
+    return records;
+  }
+
+  private static boolean isSorted(long[] values) {
+    for (int i = 1; i < values.length; i++) if (values[i] < values[i - 1]) return false;
+    return true;
+  }
+
+  /**
+   * Sequentially splits a file into records, that are separated by line breaks outside of quoted
+   * fields, and keeps track of their byte positions.
+   */
+  private static final class RecordScanner {
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private byte[] record = new byte[256];
+    private long position = 0;
+    private boolean endOfFile = false;
+
+    /** Byte offset of the last record returned */
+    private long recordOffset;
+
+    /** Length of the last record returned in bytes, excluding the line break */
+    private int recordLength;
+
+    private RecordScanner(FileChannel channel) {
+      this.channel = channel;
+      buffer.flip();
+    }
+
+    /** Returns the next record or {@code null}, if the end of the file is reached */
+    private String next() throws IOException {
+      if (endOfFile && !buffer.hasRemaining()) return null;
+
+      recordOffset = position;
+      int length = 0;
+      boolean quoted = false;
+
+      while (true) {
+        if (!buffer.hasRemaining() && !fill()) break;
+
+        byte b = buffer.get();
+        position++;
+        if (b == QUOTE) {
+          quoted = !quoted;
+        } else if (b == LINE_FEED && !quoted) {
+          break;
+        }
+
+        if (length == record.length) record = Arrays.copyOf(record, length * 2);
+        record[length++] = b;
+      }
+
+      // the last line of the file may be empty
+      if (length == 0 && endOfFile && !buffer.hasRemaining() && position == recordOffset)
+        return null;
+
+      if (length > 0 && record[length - 1] == CARRIAGE_RETURN) length--;
+      recordLength = length;
+      return new String(record, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean fill() throws IOException {
+      if (endOfFile) return false;
+      buffer.clear();
+      int read = channel.read(buffer, position);
+      buffer.flip();
+      if (read <= 0) {
+        endOfFile = true;
+        return false;
+      }
+      return true;
+    }
+  }
+
+  /** Growable list of primitive longs */
+  private static final class LongList {
+    private long[] values = new long[1024];
+    private int size = 0;
+
+    private void add(long value) {
+      if (size == values.length) values = Arrays.copyOf(values, size * 2);
+      values[size++] = value;
+    }
+
+    private long get(int index) {
+      return values[index];
+    }
+
+    private long[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
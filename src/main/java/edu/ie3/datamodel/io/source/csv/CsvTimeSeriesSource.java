@@ -7,6 +7,7 @@ package edu.ie3.datamodel.io.source.csv;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.StreamScanException;
 import edu.ie3.datamodel.exceptions.ValidationException;
 import edu.ie3.datamodel.io.factory.timeseries.*;
 import edu.ie3.datamodel.io.naming.FileNamingStrategy;
@@ -18,18 +19,52 @@ import edu.ie3.datamodel.models.value.*;
 import edu.ie3.datamodel.utils.TimeSeriesUtils;
 import edu.ie3.datamodel.utils.Try;
 import edu.ie3.util.interval.ClosedInterval;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-/** Source that is capable of providing information around time series from csv files. */
-public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
+/**
+ * Source that is capable of providing information around time series from csv files. By default,
+ * the full time series is read when creating the source. Given a {@link WindowConfig}, the values
+ * are loaded on demand in time windows instead. In this case, the whole file is validated on
+ * creation and kept open, until the source is closed. Reading values on demand then only fails, if
+ * the file cannot be read anymore or has been changed since, which is reported by an {@link
+ * UncheckedIOException}.
+ */
+public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V>
+    implements AutoCloseable {
+  /** The full time series or {@code null}, if the values are loaded on demand */
   private final IndividualTimeSeries<V> timeSeries;
+
+  /** The on-demand loaded time series or {@code null}, if the full time series is read */
+  private final CsvTimeSeriesWindows<V> windows;
+
   private final CsvDataSource dataSource;
   private final Path filePath;
 
+  /**
+   * Configuration for loading the values of a time series on demand. The values are loaded in
+   * windows of the given size, that are aligned to the epoch. When accessing a value, all windows
+   * within the prefetch distance ahead are loaded as well.
+   *
+   * @param windowSize the time span covered by a single window
+   * @param prefetchDistance the time span ahead of an accessed value, that is loaded in advance
+   */
+  public record WindowConfig(Duration windowSize, Duration prefetchDistance) {
+    public WindowConfig {
+      if (windowSize.toMillis() <= 0)
+        throw new IllegalArgumentException("The window size has to be positive.");
+      if (prefetchDistance.isNegative())
+        throw new IllegalArgumentException("The prefetch distance must not be negative.");
+    }
+  }
+
   /**
    * Factory method to build a source from given meta information
    *
@@ -52,7 +87,40 @@ public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
     Class<? extends Value> valClass = metaInformation.getColumnScheme().getValueClass();
 
-    return create(csvSep, folderPath, fileNamingStrategy, metaInformation, valClass);
+    return create(csvSep, folderPath, fileNamingStrategy, metaInformation, valClass, null);
+  }
+
+  /**
+   * Factory method to build a source from given meta information, that loads the values on demand
+   *
+   * @param csvSep the separator string for csv columns
+   * @param folderPath path to the folder holding the time series files
+   * @param fileNamingStrategy strategy for the file naming of time series files / data sinks
+   * @param metaInformation The given meta information
+   * @param windowConfig configuration of the windows, in which the values are loaded
+   * @throws SourceException If the given meta information are not supported
+   * @return The source
+   */
+  public static CsvTimeSeriesSource<? extends Value> getSource(
+      String csvSep,
+      Path folderPath,
+      FileNamingStrategy fileNamingStrategy,
+      FileIndividualTimeSeriesMetaInformation metaInformation,
+      WindowConfig windowConfig)
+      throws SourceException {
+    if (!TimeSeriesUtils.isSchemeAccepted(metaInformation.getColumnScheme()))
+      throw new SourceException(
+          "Unsupported column scheme '" + metaInformation.getColumnScheme() + "'.");
+
+    Class<? extends Value> valClass = metaInformation.getColumnScheme().getValueClass();
+
+    return create(
+        csvSep,
+        folderPath,
+        fileNamingStrategy,
+        metaInformation,
+        valClass,
+        Objects.requireNonNull(windowConfig));
   }
 
   private static <T extends Value> CsvTimeSeriesSource<T> create(
@@ -60,7 +128,9 @@ public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
       Path folderPath,
       FileNamingStrategy fileNamingStrategy,
       FileIndividualTimeSeriesMetaInformation metaInformation,
-      Class<T> valClass) {
+      Class<T> valClass,
+      WindowConfig windowConfig)
+      throws SourceException {
     TimeBasedSimpleValueFactory<T> valueFactory = new TimeBasedSimpleValueFactory<>(valClass);
     return new CsvTimeSeriesSource<>(
         csvSep,
@@ -69,7 +139,8 @@ public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
         metaInformation.getUuid(),
         metaInformation.getFullFilePath(),
         valClass,
-        valueFactory);
+        valueFactory,
+        windowConfig);
   }
 
   /**
@@ -94,11 +165,71 @@ public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
     super(valueClass, factory);
     this.dataSource = new CsvDataSource(csvSep, folderPath, fileNamingStrategy);
     this.filePath = filePath;
+    this.windows = null;
+    this.timeSeries = readTimeSeries(timeSeriesUuid, filePath);
+  }
+
+  /**
+   * Initializes a new CsvTimeSeriesSource. If a window configuration is given, the file is indexed
+   * right away, but the values are loaded in windows around the requested times on demand. Files,
+   * that do not support random access (e.g. gzip compressed files), are read completely instead.
+   *
+   * @param csvSep the separator string for csv columns
+   * @param folderPath path to the folder holding the time series files
+   * @param fileNamingStrategy strategy for the file naming of time series files / data sinks
+   * @param timeSeriesUuid Unique identifier of the time series
+   * @param filePath Path of the file, excluding extension and being relative to {@code folderPath}
+   * @param valueClass Class of the value
+   * @param factory The factory implementation to use for actual parsing of input data
+   * @param windowConfig configuration of the windows, in which the values are loaded, or {@code
+   *     null}, if the full time series should be read
+   * @throws SourceException if the file of a time series loaded on demand cannot be indexed, e.g.
+   *     as its headline, times or values are malformed, or cannot be read completely as a fallback
+   */
+  public CsvTimeSeriesSource(
+      String csvSep,
+      Path folderPath,
+      FileNamingStrategy fileNamingStrategy,
+      UUID timeSeriesUuid,
+      Path filePath,
+      Class<V> valueClass,
+      TimeBasedSimpleValueFactory<V> factory,
+      WindowConfig windowConfig)
+      throws SourceException {
+    super(valueClass, factory);
+    this.dataSource = new CsvDataSource(csvSep, folderPath, fileNamingStrategy);
+    this.filePath = filePath;
 
-    /* Read in the full time series */
-    try {
+    if (windowConfig == null) {
+      this.windows = null;
+      this.timeSeries = readTimeSeries(timeSeriesUuid, filePath);
+    } else if (!dataSource.connector.supportsRandomAccess(filePath)) {
+      // compressed files cannot be read in windows, hence they are read completely
+      log.info(
+          "The file '{}' of time series with UUID '{}' does not support loading values on demand. It is read completely.",
+          filePath,
+          timeSeriesUuid);
+      this.windows = null;
       this.timeSeries =
           buildIndividualTimeSeries(timeSeriesUuid, filePath, this::createTimeBasedValue);
+    } else {
+      this.timeSeries = null;
+      this.windows =
+          new CsvTimeSeriesWindows<>(
+              dataSource,
+              timeSeriesUuid,
+              filePath,
+              factory.getTimeFieldString(),
+              factory::toZonedDateTime,
+              this::createTimeBasedValue,
+              windowConfig);
+    }
+  }
+
+  /** Reads in the full time series */
+  private IndividualTimeSeries<V> readTimeSeries(UUID timeSeriesUuid, Path filePath) {
+    try {
+      return buildIndividualTimeSeries(timeSeriesUuid, filePath, this::createTimeBasedValue);
     } catch (SourceException e) {
       throw new IllegalArgumentException(
           "Unable to obtain time series with UUID '"
@@ -113,37 +244,60 @@ public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
     validate(valueClass, () -> dataSource.getSourceFields(filePath));
   }
 
+  /**
+   * Releases the file of a time series, whose values are loaded on demand. Afterwards, no values
+   * can be loaded anymore.
+   */
+  @Override
+  public void close() throws IOException {
+    if (windows != null) windows.close();
+  }
+
+  /**
+   * Returns the full time series. If the values are loaded on demand, the whole file is read
+   * without caching the result.
+   *
+   * @throws UncheckedIOException if the values loaded on demand cannot be read
+   */
   @Override
   public IndividualTimeSeries<V> getTimeSeries() {
-    return timeSeries;
+    if (windows == null) return timeSeries;
+    return windows.getTimeSeries();
   }
 
   @Override
-  public IndividualTimeSeries<V> getTimeSeries(ClosedInterval<ZonedDateTime> timeInterval) {
+  public IndividualTimeSeries<V> getTimeSeries(ClosedInterval<ZonedDateTime> timeInterval)
+      throws SourceException {
+    if (windows != null) return windows.getTimeSeries(timeInterval);
     return TimeSeriesUtils.trimTimeSeriesToInterval(timeSeries, timeInterval);
   }
 
   @Override
   public Optional<V> getValue(ZonedDateTime time) {
+    if (windows != null) return windows.getTimeBasedValue(time).map(TimeBasedValue::getValue);
     return timeSeries.getValue(time);
   }
 
   @Override
   public Optional<TimeBasedValue<V>> getPreviousTimeBasedValue(ZonedDateTime time) {
+    if (windows != null) return windows.getPreviousTimeBasedValue(time);
     return timeSeries.getPreviousTimeBasedValue(time);
   }
 
   public Optional<TimeBasedValue<V>> getNextTimeBasedValue(ZonedDateTime time) {
+    if (windows != null) return windows.getNextTimeBasedValue(time);
     return timeSeries.getNextTimeBasedValue(time);
   }
 
   @Override
   public List<ZonedDateTime> getTimeKeysAfter(ZonedDateTime time) {
+    if (windows != null) return windows.getTimeKeysAfter(time);
     return timeSeries.getTimeKeysAfter(time);
   }
 
   @Override
   public Optional<ZonedDateTime> getLastTimeKeyBefore(ZonedDateTime time) {
+    if (windows != null) return windows.getPreviousDateTime(time);
     return timeSeries.getPreviousDateTime(time);
   }
 
@@ -166,16 +320,15 @@ public class CsvTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
       Path filePath,
       Function<Map<String, String>, Try<TimeBasedValue<V>, FactoryException>> fieldToValueFunction)
       throws SourceException {
-    Try<Stream<TimeBasedValue<V>>, SourceException> timeBasedValues =
-        dataSource
-            .buildStreamWithFieldsToAttributesMap(filePath, false)
-            .flatMap(
-                stream ->
-                    Try.scanStream(
-                        stream.map(fieldToValueFunction),
-                        "TimeBasedValue<V>",
-                        SourceException::new));
-    return new IndividualTimeSeries<>(
-        timeSeriesUuid, new HashSet<>(timeBasedValues.getOrThrow().toList()));
+    try (Stream<Map<String, String>> data =
+        dataSource.buildStreamWithFieldsToAttributesMap(filePath, false).getOrThrow()) {
+      Set<TimeBasedValue<V>> timeBasedValues =
+          Try.scanStreamLazily(
+                  data.map(fieldToValueFunction), "TimeBasedValue<V>", SourceException::new)
+              .collect(Collectors.toSet());
+      return new IndividualTimeSeries<>(timeSeriesUuid, timeBasedValues);
+    } catch (StreamScanException e) {
+      throw toSourceException(e);
+    }
   }
 }
@@ -0,0 +1,247 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.exceptions.FactoryException;
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.Value;
+import edu.ie3.datamodel.utils.Try;
+import edu.ie3.util.interval.ClosedInterval;
+import edu.ie3.datamodel.io.csv.CsvHeader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Provides the values of a csv time series on demand. On creation, the file is indexed by {@link
+ * CsvTimeSeriesIndex}, whereas every record is validated by building its value once. Afterwards,
+ * the values are loaded in time windows of fixed size, whereas the windows ahead of the requested
+ * time are loaded within the prefetch distance. Windows, that lie more than one window behind the
+ * requested time or beyond the prefetch distance, are evicted.
+ *
+ * <p>The file is kept open, until the windows are closed. As all records are validated up front,
+ * loading a window only fails, if the file cannot be read anymore or has been changed since. This
+ * is reported by an {@link UncheckedIOException}.
+ *
+ * @param <V> type of the values
+ */
+final class CsvTimeSeriesWindows<V extends Value> implements AutoCloseable {
+  private final CsvDataSource dataSource;
+  private final UUID timeSeriesUuid;
+  private final Path filePath;
+  private final Function<Map<String, String>, Try<TimeBasedValue<V>, FactoryException>>
+      fieldToValueFunction;
+  private final long windowMillis;
+  private final long prefetchWindows;
+
+  private final FileChannel channel;
+  private final CsvTimeSeriesIndex index;
+
+  /** Loaded windows by their number, mapping the epoch milliseconds to the values */
+  private final TreeMap<Long, Map<Long, TimeBasedValue<V>>> windows = new TreeMap<>();
+
+  /**
+   * Opens and indexes the given time series file
+   *
+   * @throws SourceException if the file cannot be read or its headline, times or values are
+   *     malformed
+   */
+  CsvTimeSeriesWindows(
+      CsvDataSource dataSource,
+      UUID timeSeriesUuid,
+      Path filePath,
+      String timeField,
+      Function<String, ZonedDateTime> timeParser,
+      Function<Map<String, String>, Try<TimeBasedValue<V>, FactoryException>> fieldToValueFunction,
+      CsvTimeSeriesSource.WindowConfig windowConfig)
+      throws SourceException {
+    this.dataSource = dataSource;
+    this.timeSeriesUuid = timeSeriesUuid;
+    this.filePath = filePath;
+    this.fieldToValueFunction = fieldToValueFunction;
+    this.windowMillis = windowConfig.windowSize().toMillis();
+    this.prefetchWindows =
+        (windowConfig.prefetchDistance().toMillis() + windowMillis - 1) / windowMillis;
+
+    FileChannel fileChannel = null;
+    try {
+      fileChannel = dataSource.connector.initFileChannel(filePath);
+      this.index =
+          CsvTimeSeriesIndex.build(
+              fileChannel,
+              dataSource.csvSep,
+              timeField,
+              timeParser,
+              (csvRow, header) -> buildValue(csvRow, header));
+      this.channel = fileChannel;
+    } catch (IOException | SourceException e) {
+      SourceException exception =
+          new SourceException(
+              "Unable to index time series with UUID '"
+                  + timeSeriesUuid
+                  + "' from file '"
+                  + filePath
+                  + "'.",
+              e);
+      if (fileChannel != null) {
+        try {
+          fileChannel.close();
+        } catch (IOException closeException) {
+          exception.addSuppressed(closeException);
+        }
+      }
+      throw exception;
+    }
+  }
+
+  /** Closes the file, after which no values can be loaded anymore */
+  @Override
+  public synchronized void close() throws IOException {
+    windows.clear();
+    channel.close();
+  }
+
+  synchronized Optional<TimeBasedValue<V>> getTimeBasedValue(ZonedDateTime time) {
+    Instant instant = time.toInstant();
+    int position = index.countBefore(instant);
+    if (position == index.size()
+        || !Instant.ofEpochMilli(index.getEpochMilli(position)).equals(instant))
+      return Optional.empty();
+    return Optional.ofNullable(valueAt(position));
+  }
+
+  synchronized Optional<ZonedDateTime> getPreviousDateTime(ZonedDateTime time) {
+    int position = index.countBefore(time.toInstant()) - 1;
+    return position < 0 ? Optional.empty() : Optional.of(index.getTime(position));
+  }
+
+  synchronized Optional<TimeBasedValue<V>> getPreviousTimeBasedValue(ZonedDateTime time) {
+    int position = index.countBefore(time.toInstant()) - 1;
+    return position < 0 ? Optional.empty() : Optional.ofNullable(valueAt(position));
+  }
+
+  synchronized Optional<TimeBasedValue<V>> getNextTimeBasedValue(ZonedDateTime time) {
+    int position = index.countAtOrBefore(time.toInstant());
+    return position == index.size() ? Optional.empty() : Optional.ofNullable(valueAt(position));
+  }
+
+  synchronized List<ZonedDateTime> getTimeKeysAfter(ZonedDateTime time) {
+    List<ZonedDateTime> timeKeys = new ArrayList<>();
+    for (int i = index.countAtOrBefore(time.toInstant()); i < index.size(); i++)
+      timeKeys.add(index.getTime(i));
+    return timeKeys;
+  }
+
+  /**
+   * Reads all values within the given interval. The values are read directly and do not affect the
+   * loaded windows.
+   *
+   * @throws SourceException if the file cannot be read anymore or has been changed since indexing
+   */
+  synchronized IndividualTimeSeries<V> getTimeSeries(ClosedInterval<ZonedDateTime> timeInterval)
+      throws SourceException {
+    int from = index.countBefore(timeInterval.getLower().toInstant());
+    int to = index.countAtOrBefore(timeInterval.getUpper().toInstant());
+    try {
+      return new IndividualTimeSeries<>(timeSeriesUuid, new HashSet<>(read(from, to)));
+    } catch (IOException e) {
+      throw new SourceException(readFailureMessage(), e);
+    }
+  }
+
+  /** Reads all values of the time series. The values do not affect the loaded windows. */
+  synchronized IndividualTimeSeries<V> getTimeSeries() {
+    return new IndividualTimeSeries<>(timeSeriesUuid, new HashSet<>(readOrThrow(0, index.size())));
+  }
+
+  /** Returns the number of windows, that are currently loaded */
+  synchronized int getLoadedWindowCount() {
+    return windows.size();
+  }
+
+  /**
+   * Returns the value at the given position of the index. The window holding the value is moved to,
+   * which loads the windows ahead and evicts the windows behind.
+   */
+  private TimeBasedValue<V> valueAt(int position) {
+    long epochMilli = index.getEpochMilli(position);
+    long window = Math.floorDiv(epochMilli, windowMillis);
+
+    // evict windows, that are out of reach, but keep the previous one for look-ups backwards
+    windows.headMap(window - 1).clear();
+    windows.tailMap(window + prefetchWindows, false).clear();
+
+    long missingFrom = window;
+    while (missingFrom <= window + prefetchWindows && windows.containsKey(missingFrom))
+      missingFrom++;
+    if (missingFrom <= window + prefetchWindows) load(missingFrom, window + prefetchWindows);
+
+    return windows.get(window).get(epochMilli);
+  }
+
+  /** Loads all windows within the given range of window numbers (inclusive) in one go */
+  private void load(long firstWindow, long lastWindow) {
+    int from = index.countBefore(Instant.ofEpochMilli(firstWindow * windowMillis));
+    int to = index.countBefore(Instant.ofEpochMilli((lastWindow + 1) * windowMillis));
+
+    List<TimeBasedValue<V>> values = readOrThrow(from, to);
+
+    // the windows are only added, once all of their values are read
+    for (long window = firstWindow; window <= lastWindow; window++)
+      windows.putIfAbsent(window, new HashMap<>());
+    for (TimeBasedValue<V> value : values) {
+      long epochMilli = value.getTime().toInstant().toEpochMilli();
+      Map<Long, TimeBasedValue<V>> windowValues =
+          windows.get(Math.floorDiv(epochMilli, windowMillis));
+      windowValues.putIfAbsent(epochMilli, value);
+    }
+  }
+
+  private List<TimeBasedValue<V>> readOrThrow(int from, int to) {
+    try {
+      return read(from, to);
+    } catch (IOException e) {
+      throw new UncheckedIOException(readFailureMessage(), e);
+    }
+  }
+
+  private List<TimeBasedValue<V>> read(int from, int to) throws IOException {
+    List<String> records = index.readRecords(channel, from, to);
+
+    List<TimeBasedValue<V>> values = new ArrayList<>(records.size());
+    for (String csvRow : records) {
+      try {
+        values.add(buildValue(csvRow, index.getHeader()));
+      } catch (SourceException e) {
+        // all records were valid while indexing, hence the file has been changed since
+        throw new IOException("The file has been changed since it was indexed.", e);
+      }
+    }
+    return values;
+  }
+
+  private TimeBasedValue<V> buildValue(String csvRow, CsvHeader header) throws SourceException {
+    return fieldToValueFunction
+        .apply(dataSource.buildFieldsToAttributes(csvRow, header))
+        .transformF(e -> new SourceException("Unable to build value from row '" + csvRow + "'.", e))
+        .getOrThrow();
+  }
+
+  private String readFailureMessage() {
+    return "Unable to read time series with UUID '"
+        + timeSeriesUuid
+        + "' from file '"
+        + filePath
+        + "'.";
+  }
+}
@@ -5,10 +5,9 @@
 */
 package edu.ie3.datamodel.io.source.csv;
 
-import static edu.ie3.datamodel.utils.validation.UniquenessValidationUtils.checkWeatherUniqueness;
-
 import edu.ie3.datamodel.exceptions.DuplicateEntitiesException;
 import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.StreamScanException;
 import edu.ie3.datamodel.exceptions.ValidationException;
 import edu.ie3.datamodel.io.connectors.CsvFileConnector;
 import edu.ie3.datamodel.io.factory.timeseries.TimeBasedWeatherValueData;
@@ -18,18 +17,15 @@ import edu.ie3.datamodel.io.naming.timeseries.ColumnScheme;
 import edu.ie3.datamodel.io.naming.timeseries.FileIndividualTimeSeriesMetaInformation;
 import edu.ie3.datamodel.io.source.DataSource;
 import edu.ie3.datamodel.io.source.IdCoordinateSource;
+import edu.ie3.datamodel.io.source.WeatherCursor;
 import edu.ie3.datamodel.io.source.WeatherSource;
-import edu.ie3.datamodel.models.Entity;
 import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
 import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
 import edu.ie3.datamodel.models.value.Value;
 import edu.ie3.datamodel.models.value.WeatherValue;
 import edu.ie3.datamodel.utils.ExceptionUtils;
-import edu.ie3.datamodel.utils.TimeSeriesUtils;
 import edu.ie3.datamodel.utils.Try;
-import edu.ie3.datamodel.utils.Try.Failure;
 import edu.ie3.util.interval.ClosedInterval;
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -40,10 +36,14 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.locationtech.jts.geom.Point;
 
-/** Implements a WeatherSource for CSV files by using the CsvTimeSeriesSource as a base */
+/**
+ * Implements a WeatherSource for CSV files by using the CsvTimeSeriesSource as a base. The weather
+ * data is held column wise in a {@link ColumnarWeatherStore}, hence {@link WeatherValue}s are only
+ * built on request.
+ */
 public class CsvWeatherSource extends WeatherSource {
   private Set<String> headlineFields = Collections.emptySet();
-  private final Map<Point, IndividualTimeSeries<WeatherValue>> coordinateToTimeSeries;
+  private final ColumnarWeatherStore weatherStore;
 
   private final CsvDataSource dataSource;
 
@@ -65,9 +65,30 @@ public class CsvWeatherSource extends WeatherSource {
       IdCoordinateSource idCoordinateSource,
       TimeBasedWeatherValueFactory weatherFactory)
       throws SourceException {
+    this(
+        new CsvDataSource(csvSep, folderPath, fileNamingStrategy),
+        idCoordinateSource,
+        weatherFactory);
+  }
+
+  /**
+   * Initializes a CsvWeatherSource based on the given data source, e.g. one with a memory mapped
+   * {@link CsvFileConnector}, and immediately imports weather data, which will be kept for the
+   * lifetime of this source
+   *
+   * @param dataSource the data source to read the time series files from
+   * @param idCoordinateSource a coordinate source to map ids to points
+   * @param weatherFactory factory to transfer field to value mapping into actual java object
+   *     instances
+   */
+  public CsvWeatherSource(
+      CsvDataSource dataSource,
+      IdCoordinateSource idCoordinateSource,
+      TimeBasedWeatherValueFactory weatherFactory)
+      throws SourceException {
     super(idCoordinateSource, weatherFactory);
-    this.dataSource = new CsvDataSource(csvSep, folderPath, fileNamingStrategy);
-    this.coordinateToTimeSeries = getWeatherTimeSeries();
+    this.dataSource = dataSource;
+    this.weatherStore = getWeatherStore();
   }
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
@@ -80,53 +101,58 @@ public class CsvWeatherSource extends WeatherSource {
   @Override
   public Map<Point, IndividualTimeSeries<WeatherValue>> getWeather(
       ClosedInterval<ZonedDateTime> timeInterval) {
-    return trimMapToInterval(coordinateToTimeSeries, timeInterval);
+    return getWeather(timeInterval, weatherStore.getCoordinates());
   }
 
   @Override
   public Map<Point, IndividualTimeSeries<WeatherValue>> getWeather(
       ClosedInterval<ZonedDateTime> timeInterval, Collection<Point> coordinates) {
-    Map<Point, IndividualTimeSeries<WeatherValue>> filteredMap =
-        coordinateToTimeSeries.entrySet().stream()
-            .filter(entry -> coordinates.contains(entry.getKey()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    return trimMapToInterval(filteredMap, timeInterval);
+    Map<Point, IndividualTimeSeries<WeatherValue>> coordinateToTimeSeries = new HashMap<>();
+    for (Point coordinate : coordinates) {
+      weatherStore
+          .getTimeSeries(timeInterval, coordinate)
+          .ifPresent(timeSeries -> coordinateToTimeSeries.put(coordinate, timeSeries));
+    }
+    return coordinateToTimeSeries;
   }
 
   @Override
   public Optional<TimeBasedValue<WeatherValue>> getWeather(ZonedDateTime date, Point coordinate) {
-    IndividualTimeSeries<WeatherValue> timeSeries = coordinateToTimeSeries.get(coordinate);
-    if (timeSeries == null) return Optional.empty();
-    return timeSeries.getTimeBasedValue(date);
+    return weatherStore.getValue(date, coordinate);
   }
 
   @Override
   public Map<Point, List<ZonedDateTime>> getTimeKeysAfter(ZonedDateTime time) {
-    return coordinateToTimeSeries.entrySet().stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, t -> t.getValue().getTimeKeysAfter(time)));
+    return weatherStore.getCoordinates().stream()
+        .collect(
+            Collectors.toMap(
+                Function.identity(),
+                coordinate -> weatherStore.getTimeKeysAfter(time, coordinate)));
   }
 
-  // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
+  @Override
+  public List<ZonedDateTime> getTimeKeysAfter(ZonedDateTime time, Point coordinate) {
+    return weatherStore.getTimeKeysAfter(time, coordinate);
+  }
 
   /**
-   * Trims all time series in a map to the given time interval
+   * Opens a forward-only cursor over the weather of the given coordinates. As all weather is held
+   * in memory, the chunks are built on demand and nothing is prefetched in the background.
    *
-   * @param map the map to trim the time series value of
-   * @param timeInterval the interval to trim the data to
-   * @return a map with trimmed time series
+   * @param coordinates the coordinates to provide weather for
+   * @param start the first time to provide weather for
+   * @param config the chunk size, whereas the number of prefetched chunks is ignored
+   * @return the cursor
    */
-  private Map<Point, IndividualTimeSeries<WeatherValue>> trimMapToInterval(
-      Map<Point, IndividualTimeSeries<WeatherValue>> map,
-      ClosedInterval<ZonedDateTime> timeInterval) {
-    // decided against parallel mode here as it likely wouldn't pay off as the expected coordinate
-    // count is too low
-    return map.entrySet().stream()
-        .collect(
-            Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> TimeSeriesUtils.trimTimeSeriesToInterval(entry.getValue(), timeInterval)));
+  @Override
+  public WeatherCursor getWeatherCursor(
+      Collection<Point> coordinates, ZonedDateTime start, WeatherCursor.Config config) {
+    return new WeatherCursor(
+        this::getWeather, coordinates, start, new WeatherCursor.Config(config.chunkSize(), 0));
   }
 
+  // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
+
   /**
    * Merge two individual time series into a new time series with the UUID of the first parameter
    *
@@ -136,32 +162,32 @@ public class CsvWeatherSource extends WeatherSource {
    */
   protected <V extends Value> IndividualTimeSeries<V> mergeTimeSeries(
       IndividualTimeSeries<V> a, IndividualTimeSeries<V> b) {
-    SortedSet<TimeBasedValue<V>> entries = a.getEntries();
+    Set<TimeBasedValue<V>> entries = new HashSet<>(a.getEntries());
     entries.addAll(b.getEntries());
     return new IndividualTimeSeries<>(a.getUuid(), entries);
   }
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
-  private Map<Point, IndividualTimeSeries<WeatherValue>> getWeatherTimeSeries()
-      throws SourceException {
+  private ColumnarWeatherStore getWeatherStore() throws SourceException {
     /* Get only weather time series meta information */
     Collection<FileIndividualTimeSeriesMetaInformation> weatherCsvMetaInformation =
         dataSource.getCsvIndividualTimeSeriesMetaInformation(ColumnScheme.WEATHER).values();
-    return readWeatherTimeSeries(Set.copyOf(weatherCsvMetaInformation), dataSource.connector);
+    return readWeatherStore(Set.copyOf(weatherCsvMetaInformation), dataSource.connector);
   }
 
   /**
-   * Reads weather data to time series and maps them coordinate wise
+   * Reads weather data into a column wise store, in which the values are mapped coordinate wise.
+   * Values of the same coordinate from different files are merged.
    *
    * @param weatherMetaInformation Data needed for reading
-   * @return time series mapped to the represented coordinate
+   * @return store of the weather values mapped to the represented coordinate
    */
-  private Map<Point, IndividualTimeSeries<WeatherValue>> readWeatherTimeSeries(
+  private ColumnarWeatherStore readWeatherStore(
       Set<FileIndividualTimeSeriesMetaInformation> weatherMetaInformation,
       CsvFileConnector connector)
       throws SourceException {
-    final Map<Point, IndividualTimeSeries<WeatherValue>> weatherTimeSeries = new HashMap<>();
+    final ColumnarWeatherStore.Builder weatherStore = new ColumnarWeatherStore.Builder();
     Function<Map<String, String>, Optional<TimeBasedValue<WeatherValue>>> fieldToValueFunction =
         this::buildWeatherValue;
     /* Reading in weather time series */
@@ -169,27 +195,12 @@ public class CsvWeatherSource extends WeatherSource {
       Path path = data.getFullFilePath();
 
       // we need a reader for each file
-      try (BufferedReader reader = connector.initReader(path)) {
-        buildStreamWithFieldsToAttributesMap(reader, path.getFileName())
-            .getOrThrow()
-            .map(fieldToValueFunction)
+      try (CsvFileConnector.CsvRecords records = connector.initRecordReader(path);
+          Stream<Map<String, String>> rows =
+              buildStreamWithFieldsToAttributesMap(records, path.getFileName()).getOrThrow()) {
+        rows.map(fieldToValueFunction)
             .flatMap(Optional::stream)
-            .collect(Collectors.groupingBy(tbv -> tbv.getValue().getCoordinate()))
-            .forEach(
-                (point, timeBasedValues) -> {
-                  // We have to generate a random UUID as we'd risk running into duplicate key
-                  // issues
-                  // otherwise
-                  IndividualTimeSeries<WeatherValue> timeSeries =
-                      new IndividualTimeSeries<>(UUID.randomUUID(), new HashSet<>(timeBasedValues));
-                  if (weatherTimeSeries.containsKey(point)) {
-                    IndividualTimeSeries<WeatherValue> mergedTimeSeries =
-                        mergeTimeSeries(weatherTimeSeries.get(point), timeSeries);
-                    weatherTimeSeries.put(point, mergedTimeSeries);
-                  } else {
-                    weatherTimeSeries.put(point, timeSeries);
-                  }
-                });
+            .forEachOrdered(weatherStore::add);
       } catch (FileNotFoundException e) {
         throw new SourceException(
             "Cannot read file " + data.getFullFilePath() + ". File not found!", e);
@@ -197,47 +208,28 @@ public class CsvWeatherSource extends WeatherSource {
         throw new SourceException("Cannot read file " + data.getFullFilePath() + ".", e);
       } catch (ValidationException e) {
         throw new SourceException("Validation failed for file " + data.getFullFilePath() + ".", e);
+      } catch (StreamScanException e) {
+        throw toSourceException(e);
       }
     }
 
-    // checking the uniqueness before returning the time series
-    List<DuplicateEntitiesException> exceptions =
-        Try.getExceptions(
-            weatherTimeSeries.values().stream()
-                .map(
-                    ts ->
-                        Try.ofVoid(
-                            () -> checkWeatherUniqueness(ts.getEntries()),
-                            DuplicateEntitiesException.class)));
-
-    if (exceptions.isEmpty()) {
-      return weatherTimeSeries;
-    } else {
-      throw new SourceException("Due to: " + ExceptionUtils.combineExceptions(exceptions));
+    // checking the uniqueness while building the store
+    try {
+      return weatherStore.build();
+    } catch (DuplicateEntitiesException e) {
+      throw new SourceException("Due to: " + ExceptionUtils.combineExceptions(List.of(e)));
     }
   }
 
   private Try<Stream<Map<String, String>>, SourceException> buildStreamWithFieldsToAttributesMap(
-      BufferedReader bufferedReader, Path fileName) throws ValidationException {
-    Class<? extends Entity> entityClass = TimeBasedValue.class;
-
-    try (BufferedReader reader = bufferedReader) {
-      final String[] headline = dataSource.parseCsvRow(reader.readLine(), dataSource.csvSep);
+      CsvFileConnector.CsvRecords records, Path fileName) throws ValidationException {
+    final String[] headline = dataSource.parseCsvRow(records.headline(), dataSource.csvSep);
 
-      this.headlineFields = Set.of(headline);
-      // validating read file
-      validate();
+    this.headlineFields = Set.of(headline);
+    // validating read file
+    validate();
 
-      // by default try-with-resources closes the reader directly when we leave this method (which
-      // is wanted to avoid a lock on the file), but this causes a closing of the stream as well.
-      // As we still want to consume the data at other places, we start a new stream instead of
-      // returning the original one
-      return dataSource.csvRowFieldValueMapping(reader, headline, fileName);
-    } catch (IOException e) {
-      return Failure.of(
-          new SourceException(
-              "Cannot read file to build entity '" + entityClass.getSimpleName() + "'.", e));
-    }
+    return dataSource.csvRowFieldValueMapping(records.records(), headline, fileName);
   }
 
   /**
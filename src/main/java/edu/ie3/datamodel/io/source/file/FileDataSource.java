@@ -51,17 +51,28 @@ public abstract class FileDataSource implements DataSource {
                 "Cannot find a naming strategy for class '" + entityClass.getSimpleName() + "'."));
   }
 
+  /**
+   * Discovers the files of time series, whose name matches the given pattern. Compressed files
+   * (e.g. {@link FileType#CSV_GZ}) are discovered as well, unless an uncompressed file of the same
+   * name exists, which takes precedence.
+   *
+   * @param pattern the pattern of the file name without file ending
+   * @return the paths of the files relative to the base directory
+   */
   protected Set<Path> getTimeSeriesFilePaths(Pattern pattern) {
     try (Stream<Path> pathStream = Files.walk(baseDirectory)) {
-      return pathStream
-          .map(baseDirectory::relativize)
-          .filter(
-              path -> {
-                Path withoutEnding =
-                    Path.of(FileNamingStrategy.removeFileNameEnding(path.toString()));
-                return pattern.matcher(withoutEnding.toString()).matches();
-              })
-          .collect(Collectors.toSet());
+      Set<Path> paths =
+          pathStream
+              .map(baseDirectory::relativize)
+              .filter(
+                  path -> {
+                    Path withoutEnding =
+                        Path.of(FileNamingStrategy.removeFileNameEnding(path.toString()));
+                    return pattern.matcher(withoutEnding.toString()).matches();
+                  })
+              .collect(Collectors.toCollection(HashSet::new));
+      paths.removeIf(path -> isShadowedCompressedFile(path, paths));
+      return paths;
     } catch (IOException e) {
       log.error("Unable to determine time series files readers for time series.", e);
       return Collections.emptySet();
@@ -118,6 +129,15 @@ public abstract class FileDataSource implements DataSource {
                         .anyMatch(profile -> metaInformation.getProfileKey().equals(profile)));
   }
 
+  private static boolean isShadowedCompressedFile(Path path, Set<Path> paths) {
+    String fileName = path.toString();
+    if (!fileName.endsWith(FileType.CSV_GZ.fileEnding)) return false;
+    String uncompressed =
+        fileName.substring(0, fileName.length() - FileType.CSV_GZ.fileEnding.length())
+            + FileType.CSV.fileEnding;
+    return paths.contains(Path.of(uncompressed));
+  }
+
   private Optional<FileMetaDetails> resolveFileInformation(Path filePath, String metaType) {
     String fileName = filePath.getFileName().toString();
     try {
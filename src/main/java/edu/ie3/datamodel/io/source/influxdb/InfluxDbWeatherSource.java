@@ -84,27 +84,29 @@ public class InfluxDbWeatherSource extends WeatherSource {
   public Map<Point, IndividualTimeSeries<WeatherValue>> getWeather(
       ClosedInterval<ZonedDateTime> timeInterval, Collection<Point> coordinates) {
     if (coordinates == null) return getWeather(timeInterval);
-    Map<Point, Optional<Integer>> coordinatesToId =
-        coordinates.stream().collect(Collectors.toMap(point -> point, idCoordinateSource::getId));
-    HashMap<Point, IndividualTimeSeries<WeatherValue>> coordinateToTimeSeries = new HashMap<>();
+    Map<Integer, Point> idToCoordinate = new HashMap<>();
+    for (Point coordinate : coordinates)
+      idCoordinateSource.getId(coordinate).ifPresent(id -> idToCoordinate.put(id, coordinate));
+    if (idToCoordinate.isEmpty()) return Collections.emptyMap();
+
+    // all coordinates are queried at once to save round trips
+    Map<Point, Set<TimeBasedValue<WeatherValue>>> coordinateToValues = new HashMap<>();
+    idToCoordinate.values().forEach(point -> coordinateToValues.put(point, new HashSet<>()));
     try (InfluxDB session = connector.getSession()) {
-      for (Map.Entry<Point, Optional<Integer>> entry : coordinatesToId.entrySet()) {
-        Optional<Integer> coordinateId = entry.getValue();
-        if (coordinateId.isPresent()) {
-          String query =
-              createQueryStringForCoordinateAndTimeInterval(timeInterval, coordinateId.get());
-          QueryResult queryResult = session.query(new Query(query));
-          Stream<Optional<TimeBasedValue<WeatherValue>>> optValues =
-              optTimeBasedValueStream(queryResult);
-          Set<TimeBasedValue<WeatherValue>> timeBasedValues =
-              filterEmptyOptionals(optValues).collect(Collectors.toSet());
-          IndividualTimeSeries<WeatherValue> timeSeries =
-              new IndividualTimeSeries<>(timeBasedValues);
-          coordinateToTimeSeries.put(entry.getKey(), timeSeries);
-        }
-      }
+      String query =
+          createQueryStringForCoordinatesAndTimeInterval(timeInterval, idToCoordinate.keySet());
+      QueryResult queryResult = session.query(new Query(query));
+      filterEmptyOptionals(optTimeBasedValueStream(queryResult))
+          .forEach(
+              value -> {
+                Set<TimeBasedValue<WeatherValue>> values =
+                    coordinateToValues.get(value.getValue().getCoordinate());
+                if (values != null) values.add(value);
+              });
     }
-    return coordinateToTimeSeries;
+    return coordinateToValues.entrySet().stream()
+        .collect(
+            Collectors.toMap(Map.Entry::getKey, e -> new IndividualTimeSeries<>(e.getValue())));
   }
 
   @Override
@@ -196,7 +198,7 @@ public class InfluxDbWeatherSource extends WeatherSource {
     Map<String, Set<Map<String, String>>> measurementsMap =
         InfluxDbConnector.parseQueryResult(queryResult, MEASUREMENT_NAME_WEATHER);
     final String coordinateIdFieldName = weatherFactory.getCoordinateIdFieldString();
-    return measurementsMap.get(MEASUREMENT_NAME_WEATHER).stream()
+    return measurementsMap.getOrDefault(MEASUREMENT_NAME_WEATHER, Collections.emptySet()).stream()
         .map(
             fieldToValue -> {
               /* The factory expects flat case id's for fields -> Convert the keys */
@@ -229,6 +231,17 @@ public class InfluxDbWeatherSource extends WeatherSource {
         + createTimeConstraint(timeInterval);
   }
 
+  private String createQueryStringForCoordinatesAndTimeInterval(
+      ClosedInterval<ZonedDateTime> timeInterval, Collection<Integer> coordinateIds) {
+    return BASIC_QUERY_STRING
+        + WHERE
+        + coordinateIds.stream()
+            .map(this::createCoordinateConstraintString)
+            .collect(Collectors.joining(" or ", "(", ")"))
+        + AND
+        + createTimeConstraint(timeInterval);
+  }
+
   private String createQueryStringForCoordinateAndTime(ZonedDateTime date, int coordinateId) {
     return BASIC_QUERY_STRING
         + WHERE
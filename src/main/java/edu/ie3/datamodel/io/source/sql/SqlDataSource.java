@@ -6,15 +6,20 @@
 package edu.ie3.datamodel.io.source.sql;
 
 import edu.ie3.datamodel.exceptions.InvalidColumnNameException;
+import edu.ie3.datamodel.exceptions.SourceException;
 import edu.ie3.datamodel.io.connectors.SqlConnector;
+import edu.ie3.datamodel.io.connectors.SqlHeader;
+import edu.ie3.datamodel.io.connectors.SqlRow;
+import edu.ie3.datamodel.io.connectors.SqlSchemaMetadata;
 import edu.ie3.datamodel.io.naming.DatabaseNamingStrategy;
 import edu.ie3.datamodel.io.source.DataSource;
 import edu.ie3.datamodel.models.Entity;
-import edu.ie3.util.StringUtils;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +33,41 @@ public class SqlDataSource implements DataSource {
   protected final DatabaseNamingStrategy databaseNamingStrategy;
   protected String schemaName;
 
+  /** The cache shared by all time series sources of this data source or {@code null} */
+  private final SqlTimeSeriesCache timeSeriesCache;
+
   public SqlDataSource(
       SqlConnector connector, String schemaName, DatabaseNamingStrategy databaseNamingStrategy) {
+    this(connector, schemaName, databaseNamingStrategy, null);
+  }
+
+  /**
+   * Creates a data source, whose {@link SqlTimeSeriesSource}s serve values from a shared {@link
+   * SqlTimeSeriesCache}.
+   *
+   * @param connector the connector needed for database connection
+   * @param schemaName the database schema to use
+   * @param databaseNamingStrategy the naming strategy for database entities
+   * @param timeSeriesCacheConfig configuration of the time series cache or {@code null}, if every
+   *     access to a time series should be queried
+   */
+  public SqlDataSource(
+      SqlConnector connector,
+      String schemaName,
+      DatabaseNamingStrategy databaseNamingStrategy,
+      SqlTimeSeriesCache.Config timeSeriesCacheConfig) {
     this.connector = connector;
     this.schemaName = schemaName;
     this.databaseNamingStrategy = databaseNamingStrategy;
+    this.timeSeriesCache =
+        timeSeriesCacheConfig == null ? null : new SqlTimeSeriesCache(timeSeriesCacheConfig);
+  }
+
+  /**
+   * @return the cache shared by all time series sources of this data source, if enabled
+   */
+  public Optional<SqlTimeSeriesCache> getTimeSeriesCache() {
+    return Optional.ofNullable(timeSeriesCache);
   }
 
   /**
@@ -58,16 +93,9 @@ public class SqlDataSource implements DataSource {
    */
   protected String getDbColumnName(String factoryColumnName, String tableName) {
     try {
-      ResultSet rs =
-          connector.getConnection().getMetaData().getColumns(null, null, tableName, null);
-
-      while (rs.next()) {
-        String databaseColumnName = rs.getString("COLUMN_NAME");
-        if (StringUtils.snakeCaseToCamelCase(databaseColumnName)
-            .equalsIgnoreCase(factoryColumnName)) {
-          return databaseColumnName;
-        }
-      }
+      Optional<String> databaseColumnName =
+          getSchemaMetadata(tableName).getColumnName(tableName, factoryColumnName);
+      if (databaseColumnName.isPresent()) return databaseColumnName.get();
     } catch (SQLException ex) {
       log.error(
           "Cannot connect to database to retrieve db column name for factory column name '{}' in table '{}'",
@@ -83,29 +111,63 @@ public class SqlDataSource implements DataSource {
   }
 
   /**
-   * Determine the corresponding table names based on the provided table name pattern.
+   * Determine the corresponding table names based on the provided table name pattern. If no table
+   * matches, the metadata of the schema is reloaded once, as the tables may have been created after
+   * the metadata has been loaded. Patterns without a match after reloading are remembered and do
+   * not cause further reloads until the metadata is refreshed.
    *
-   * @param schemaPattern pattern of the schema to search in
+   * @param schemaName exact name of the schema to search in
    * @param tableNamePattern pattern of the table name
    * @return matching table names
    */
-  protected List<String> getDbTables(String schemaPattern, String tableNamePattern) {
-    LinkedList<String> tableNames = new LinkedList<>();
-
+  protected List<String> getDbTables(String schemaName, String tableNamePattern) {
     try {
-      ResultSet rs =
-          connector
-              .getConnection()
-              .getMetaData()
-              .getTables(null, schemaPattern, tableNamePattern, null);
-      while (rs.next()) {
-        String tableName = rs.getString("TABLE_NAME");
-        if (tableName != null) tableNames.add(tableName);
-      }
+      SqlSchemaMetadata metadata = connector.getSchemaMetadata(schemaName);
+      List<String> tableNames = metadata.getTableNames(tableNamePattern);
+      if (!tableNames.isEmpty() || metadata.isKnownMiss(tableNamePattern)) return tableNames;
+
+      SqlSchemaMetadata refreshed = connector.refreshSchemaMetadata(schemaName);
+      tableNames = refreshed.getTableNames(tableNamePattern);
+      if (tableNames.isEmpty()) refreshed.rememberMiss(tableNamePattern);
+      return tableNames;
     } catch (SQLException ex) {
       log.error("Cannot connect to database to retrieve tables meta information", ex);
     }
-    return tableNames;
+    return Collections.emptyList();
+  }
+
+  /**
+   * Reloads the tables and columns of the schema of this data source. The metadata is shared by
+   * all sources of the same {@link SqlConnector}, hence this is only needed, if columns have been
+   * altered after the metadata has been loaded. New tables are found without refreshing.
+   *
+   * @throws SourceException if the metadata cannot be loaded
+   */
+  public void refreshSchemaMetadata() throws SourceException {
+    try {
+      connector.refreshSchemaMetadata(schemaName);
+    } catch (SQLException e) {
+      throw new SourceException("Unable to load the metadata of schema '" + schemaName + "'.", e);
+    }
+  }
+
+  /**
+   * Returns the metadata of the schema of this data source. If the given table is unknown, the
+   * metadata is reloaded once, as the table may have been created after the metadata has been
+   * loaded. Tables, that are still missing afterwards, are remembered and do not cause further
+   * reloads until the metadata is refreshed.
+   *
+   * @param tableName the name of the table to access
+   * @return the metadata of the schema
+   * @throws SQLException if the metadata cannot be loaded
+   */
+  private SqlSchemaMetadata getSchemaMetadata(String tableName) throws SQLException {
+    SqlSchemaMetadata metadata = connector.getSchemaMetadata(schemaName);
+    if (metadata.containsTable(tableName) || metadata.isKnownMiss(tableName)) return metadata;
+
+    SqlSchemaMetadata refreshed = connector.refreshSchemaMetadata(schemaName);
+    if (!refreshed.containsTable(tableName)) refreshed.rememberMiss(tableName);
+    return refreshed;
   }
 
   @Override
@@ -122,15 +184,8 @@ public class SqlDataSource implements DataSource {
    */
   public Optional<Set<String>> getSourceFields(String tableName) {
     try {
-      ResultSet rs =
-          connector.getConnection().getMetaData().getColumns(null, null, tableName, null);
-      Set<String> columnNames = new HashSet<>();
-
-      while (rs.next()) {
-        String name = rs.getString("COLUMN_NAME");
-        columnNames.add(StringUtils.snakeCaseToCamelCase(name));
-      }
-
+      Set<String> columnNames =
+          getSchemaMetadata(tableName).getFieldNames(tableName).orElseGet(HashSet::new);
       return Optional.of(columnNames);
     } catch (SQLException e) {
       log.warn("The table '{}' couldn't be read and therefore not be validated!", tableName, e);
@@ -195,4 +250,57 @@ public class SqlDataSource implements DataSource {
   protected Stream<Map<String, String>> executeQuery(String query) {
     return executeQuery(query, x -> {});
   }
+
+  /**
+   * Executes the given query and hands every row of its result over to the given consumer. Other
+   * than {@link #executeQuery(String, AddParams)}, the result is read completely before returning
+   * and a failing query or row is not swallowed, but thrown.
+   *
+   * @param query the query to execute
+   * @param addParams function to insert the parameters of the query
+   * @param rowConsumer consumer of the rows of the result
+   * @throws SourceException if the query cannot be executed or its result cannot be read
+   */
+  protected void forEachRow(
+      String query, AddParams addParams, Consumer<Map<String, String>> rowConsumer)
+      throws SourceException {
+    Connection connection;
+    try {
+      connection = connector.getConnection();
+    } catch (SQLException e) {
+      throw new SourceException("Error during execution of query '" + query + "'.", e);
+    }
+    forEachRow(connection, query, addParams, rowConsumer);
+  }
+
+  /**
+   * Executes the given query on the given connection and hands every row of its result over to the
+   * given consumer, see {@link #forEachRow(String, AddParams, Consumer)}.
+   *
+   * @param connection the connection to execute the query on
+   * @param query the query to execute
+   * @param addParams function to insert the parameters of the query
+   * @param rowConsumer consumer of the rows of the result
+   * @throws SourceException if the query cannot be executed or its result cannot be read
+   */
+  protected void forEachRow(
+      Connection connection,
+      String query,
+      AddParams addParams,
+      Consumer<Map<String, String>> rowConsumer)
+      throws SourceException {
+    try (PreparedStatement ps = connection.prepareStatement(query)) {
+      addParams.addParams(ps);
+      ps.setFetchSize(1000);
+      try (ResultSet resultSet = ps.executeQuery()) {
+        SqlHeader header = null;
+        while (resultSet.next()) {
+          if (header == null) header = SqlHeader.of(resultSet.getMetaData());
+          rowConsumer.accept(SqlRow.read(header, resultSet));
+        }
+      }
+    } catch (SQLException e) {
+      throw new SourceException("Error during execution of query '" + query + "'.", e);
+    }
+  }
 }
@@ -0,0 +1,259 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.sql;
+
+import static edu.ie3.datamodel.io.source.sql.SqlDataSource.createBaseQueryString;
+
+import edu.ie3.datamodel.exceptions.FactoryException;
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.io.connectors.SqlConnector;
+import edu.ie3.datamodel.io.factory.timeseries.SimpleTimeBasedValueData;
+import edu.ie3.datamodel.io.factory.timeseries.TimeBasedSimpleValueFactory;
+import edu.ie3.datamodel.io.naming.DatabaseNamingStrategy;
+import edu.ie3.datamodel.io.naming.timeseries.ColumnScheme;
+import edu.ie3.datamodel.io.naming.timeseries.IndividualTimeSeriesMetaInformation;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.Value;
+import edu.ie3.datamodel.utils.ExceptionUtils;
+import edu.ie3.datamodel.utils.TimeSeriesUtils;
+import edu.ie3.datamodel.utils.Try;
+import edu.ie3.util.interval.ClosedInterval;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Source, that loads many individual time series at once. Instead of querying each time series on
+ * its own, as done by {@link SqlTimeSeriesSource}, all time series of one column scheme are loaded
+ * by a single query. The rows are read once and distributed to the time series.
+ */
+public class SqlTimeSeriesBulkSource {
+
+  private static final String TIME_SERIES = "time_series";
+  private static final String TIME_SERIES_FIELD = "timeSeries";
+
+  private final SqlDataSource dataSource;
+
+  /**
+   * Initializes a new bulk source on top of the given data source. If the data source has a {@link
+   * SqlTimeSeriesCache}, it can be warmed via {@link #warmCache(Collection, ClosedInterval)}.
+   *
+   * @param dataSource the data source to use
+   */
+  public SqlTimeSeriesBulkSource(SqlDataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Initializes a new bulk source
+   *
+   * @param connector the connector needed for database connection
+   * @param schemaName the database schema to use
+   * @param namingStrategy the naming strategy for database entities
+   */
+  public SqlTimeSeriesBulkSource(
+      SqlConnector connector, String schemaName, DatabaseNamingStrategy namingStrategy) {
+    this(new SqlDataSource(connector, schemaName, namingStrategy));
+  }
+
+  /**
+   * Loads the values of all given time series within the given interval
+   *
+   * @param metaInformation the meta information of the time series
+   * @param timeInterval the time interval, bounds included
+   * @return the time series by their uuid, whereas time series without values are empty
+   * @throws SourceException if a column scheme is not supported or the values cannot be built
+   */
+  public Map<UUID, IndividualTimeSeries<? extends Value>> getTimeSeries(
+      Collection<IndividualTimeSeriesMetaInformation> metaInformation,
+      ClosedInterval<ZonedDateTime> timeInterval)
+      throws SourceException {
+    Map<UUID, Set<TimeBasedValue<? extends Value>>> values = new ConcurrentHashMap<>();
+    metaInformation.forEach(meta -> values.put(meta.getUuid(), ConcurrentHashMap.newKeySet()));
+
+    forEachValue(metaInformation, timeInterval, (uuid, value) -> values.get(uuid).add(value));
+
+    return values.entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey, entry -> toTimeSeries(entry.getKey(), entry.getValue())));
+  }
+
+  /**
+   * Loads the values of all given time series within the given interval and puts them into the
+   * {@link SqlTimeSeriesCache} of the data source. Afterwards, {@link SqlTimeSeriesSource}s of the
+   * same data source serve all values within the interval without querying them. Only windows,
+   * that lie completely within the interval, are cached. The time keys within the interval are
+   * cached as well, so that the sources only query the time keys of their time series, if they
+   * navigate beyond the interval.
+   *
+   * @param metaInformation the meta information of the time series
+   * @param timeInterval the time interval, bounds included
+   * @throws SourceException if the data source has no cache, a column scheme is not supported or
+   *     the values cannot be built
+   */
+  public void warmCache(
+      Collection<IndividualTimeSeriesMetaInformation> metaInformation,
+      ClosedInterval<ZonedDateTime> timeInterval)
+      throws SourceException {
+    SqlTimeSeriesCache cache =
+        dataSource
+            .getTimeSeriesCache()
+            .orElseThrow(() -> new SourceException("The data source does not provide a cache."));
+    long windowMillis = cache.getConfig().windowSize().toMillis();
+    long firstWindow =
+        Math.floorDiv(timeInterval.getLower().toInstant().toEpochMilli() - 1, windowMillis) + 1;
+    long lastWindow =
+        Math.floorDiv(timeInterval.getUpper().toInstant().toEpochMilli() + 1, windowMillis) - 1;
+
+    Map<UUID, Map<Long, Map<Long, TimeBasedValue<?>>>> windows = new HashMap<>();
+    Map<UUID, Set<ZonedDateTime>> timeKeys = new HashMap<>();
+    metaInformation.forEach(
+        meta -> {
+          windows.put(meta.getUuid(), new HashMap<>());
+          timeKeys.put(meta.getUuid(), new HashSet<>());
+        });
+
+    forEachValue(
+        metaInformation,
+        timeInterval,
+        (uuid, value) -> {
+          // the time keys are taken from the same result as the values
+          timeKeys.get(uuid).add(value.getTime());
+
+          long epochMilli = value.getTime().toInstant().toEpochMilli();
+          long window = Math.floorDiv(epochMilli, windowMillis);
+          if (window < firstWindow || window > lastWindow) return;
+          windows
+              .get(uuid)
+              .computeIfAbsent(window, w -> new HashMap<>())
+              .putIfAbsent(epochMilli, value);
+        });
+
+    long coveredFrom = timeInterval.getLower().toInstant().toEpochMilli();
+    long coveredTo = timeInterval.getUpper().toInstant().toEpochMilli();
+    windows.forEach(
+        (uuid, windowValues) -> {
+          for (long window = firstWindow; window <= lastWindow; window++)
+            cache.put(uuid, window, windowValues.getOrDefault(window, new HashMap<>()));
+
+          // time keys, that cover a larger range, are kept
+          if (cache
+              .getTimeKeys(uuid)
+              .filter(cached -> cached.covers(coveredFrom, coveredTo))
+              .isEmpty())
+            cache.putTimeKeys(
+                uuid,
+                new SqlTimeSeriesCache.TimeKeys(
+                    timeKeys.get(uuid).stream().sorted().toArray(ZonedDateTime[]::new),
+                    coveredFrom,
+                    coveredTo));
+        });
+  }
+
+  /**
+   * Loads the values of all given time series within the given interval and hands them over to
+   * the consumer. The time series are loaded by one query per column scheme.
+   *
+   * @param metaInformation the meta information of the time series
+   * @param timeInterval the time interval, bounds included
+   * @param consumer consumer of the time series uuid and a value of it
+   * @throws SourceException if a column scheme is not supported, a query fails or the values cannot
+   *     be built
+   */
+  public void forEachValue(
+      Collection<IndividualTimeSeriesMetaInformation> metaInformation,
+      ClosedInterval<ZonedDateTime> timeInterval,
+      BiConsumer<UUID, TimeBasedValue<? extends Value>> consumer)
+      throws SourceException {
+    Map<ColumnScheme, Set<UUID>> uuidsByScheme = new EnumMap<>(ColumnScheme.class);
+    for (IndividualTimeSeriesMetaInformation meta : metaInformation) {
+      if (!TimeSeriesUtils.isSchemeAccepted(meta.getColumnScheme()))
+        throw new SourceException("Unsupported column scheme '" + meta.getColumnScheme() + "'.");
+      uuidsByScheme
+          .computeIfAbsent(meta.getColumnScheme(), scheme -> new HashSet<>())
+          .add(meta.getUuid());
+    }
+
+    for (Map.Entry<ColumnScheme, Set<UUID>> entry : uuidsByScheme.entrySet())
+      load(
+          entry.getKey(),
+          entry.getKey().getValueClass(),
+          entry.getValue(),
+          timeInterval,
+          consumer::accept);
+  }
+
+  /** Loads all values of the given time series of one column scheme by a single query */
+  private <V extends Value> void load(
+      ColumnScheme columnScheme,
+      Class<V> valueClass,
+      Set<UUID> uuids,
+      ClosedInterval<ZonedDateTime> timeInterval,
+      BiConsumer<UUID, TimeBasedValue<V>> consumer)
+      throws SourceException {
+    TimeBasedSimpleValueFactory<V> factory = new TimeBasedSimpleValueFactory<>(valueClass);
+    String tableName = dataSource.databaseNamingStrategy.getTimeSeriesEntityName(columnScheme);
+    String query =
+        createQueryForTimeSeriesAndInterval(
+            tableName, dataSource.getDbColumnName(factory.getTimeFieldString(), tableName));
+
+    List<FactoryException> failures = new ArrayList<>();
+    dataSource.forEachRow(
+        query,
+        ps -> {
+          ps.setArray(1, ps.getConnection().createArrayOf("uuid", uuids.toArray()));
+          ps.setTimestamp(2, Timestamp.from(timeInterval.getLower().toInstant()));
+          ps.setTimestamp(3, Timestamp.from(timeInterval.getUpper().toInstant()));
+        },
+        fieldToValues -> {
+          UUID uuid = UUID.fromString(fieldToValues.remove(TIME_SERIES_FIELD));
+          Try<TimeBasedValue<V>, FactoryException> value =
+              factory.get(new SimpleTimeBasedValueData<>(fieldToValues, valueClass));
+          value.getData().ifPresent(data -> consumer.accept(uuid, data));
+          value.getException().ifPresent(failures::add);
+        });
+
+    if (!failures.isEmpty())
+      throw new SourceException(
+          "Unable to load time series from table '"
+              + tableName
+              + "', as "
+              + failures.size()
+              + " value(s) cannot be built: \n "
+              + ExceptionUtils.combineExceptions(failures));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V extends Value> IndividualTimeSeries<V> toTimeSeries(
+      UUID uuid, Set<TimeBasedValue<? extends Value>> values) {
+    Set<TimeBasedValue<V>> typedValues = new HashSet<>();
+    values.forEach(value -> typedValues.add((TimeBasedValue<V>) value));
+    return new IndividualTimeSeries<>(uuid, typedValues);
+  }
+
+  /**
+   * Creates a query to retrieve all entities of the given time series within a time interval with
+   * the following pattern: <br>
+   * {@code <base query> WHERE time_series = ANY(?) AND <time column> BETWEEN ? AND ?;}
+   *
+   * @param tableName the name of the database table
+   * @param timeColumnName the name of the column holding the timestamp info
+   * @return the query string
+   */
+  private String createQueryForTimeSeriesAndInterval(String tableName, String timeColumnName) {
+    return createBaseQueryString(dataSource.schemaName, tableName)
+        + " WHERE "
+        + TIME_SERIES
+        + " = ANY(?) AND "
+        + timeColumnName
+        + " BETWEEN ? AND ?;";
+  }
+}
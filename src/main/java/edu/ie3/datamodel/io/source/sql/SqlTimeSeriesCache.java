@@ -0,0 +1,234 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.sql;
+
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Read-through cache for the values of {@link SqlTimeSeriesSource}s, that is shared by all sources
+ * of one {@link SqlDataSource}. The values are cached in time windows of fixed size per time
+ * series, alongside the sorted time keys of each time series. Once the number of cached values and
+ * time keys exceeds the configured maximum, the least recently used windows and time keys of all
+ * time series are evicted. As the cache is never refreshed, the time series should not be altered
+ * in the database while being cached, otherwise {@link #invalidate(UUID)} has to be called.
+ */
+public final class SqlTimeSeriesCache {
+
+  /**
+   * Configuration of the cache. The values are loaded in windows of the given size, that are
+   * aligned to the epoch. When accessing a value, all windows within the prefetch distance ahead
+   * are loaded by the same query.
+   *
+   * @param windowSize the time span covered by a single window
+   * @param prefetchDistance the time span ahead of an accessed value, that is loaded in advance
+   * @param maxValues the maximum number of values and time keys cached for all time series
+   *     together, whereas empty windows and empty time keys count as one value
+   */
+  public record Config(Duration windowSize, Duration prefetchDistance, long maxValues) {
+    public Config {
+      if (windowSize.toMillis() <= 0)
+        throw new IllegalArgumentException("The window size has to be positive.");
+      if (prefetchDistance.isNegative())
+        throw new IllegalArgumentException("The prefetch distance must not be negative.");
+      if (maxValues <= 0)
+        throw new IllegalArgumentException("The maximum number of values has to be positive.");
+    }
+  }
+
+  /**
+   * The sorted time keys of a time series within a covered range, alongside their epoch
+   * milliseconds
+   *
+   * @param times the time keys in ascending order
+   * @param epochMillis the epoch milliseconds of the time keys
+   * @param coveredFrom the epoch milliseconds, from which on all time keys are known (inclusive)
+   * @param coveredTo the epoch milliseconds, up to which all time keys are known (inclusive)
+   */
+  record TimeKeys(ZonedDateTime[] times, long[] epochMillis, long coveredFrom, long coveredTo) {
+    /** Creates the time keys of the whole time series */
+    TimeKeys(ZonedDateTime[] times) {
+      this(times, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /** Creates the time keys of the time series, that are known within the given range */
+    TimeKeys(ZonedDateTime[] times, long coveredFrom, long coveredTo) {
+      this(
+          times,
+          Arrays.stream(times).mapToLong(time -> time.toInstant().toEpochMilli()).toArray(),
+          coveredFrom,
+          coveredTo);
+    }
+
+    /** Returns true, if all time keys within the given range are known (bounds included) */
+    boolean covers(long from, long to) {
+      return coveredFrom <= from && to <= coveredTo;
+    }
+
+    /** Returns true, if the time keys of the whole time series are known */
+    boolean isComplete() {
+      return covers(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+  }
+
+  private sealed interface Key permits WindowKey, TimeKeysKey {
+    UUID timeSeries();
+  }
+
+  private record WindowKey(UUID timeSeries, long window) implements Key {}
+
+  private record TimeKeysKey(UUID timeSeries) implements Key {}
+
+  private final Config config;
+
+  /**
+   * Cached entries in access order, which are either windows, mapping the epoch milliseconds to
+   * the values, or the {@link TimeKeys} of a time series
+   */
+  private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private int cachedWindows = 0;
+
+  private long cachedValues = 0;
+  private long hits = 0;
+  private long misses = 0;
+
+  public SqlTimeSeriesCache(Config config) {
+    this.config = Objects.requireNonNull(config);
+  }
+
+  public Config getConfig() {
+    return config;
+  }
+
+  /**
+   * Returns the cached values of the given window and marks the window as recently used
+   *
+   * @param timeSeries the uuid of the time series
+   * @param window the number of the window
+   * @return the values by their epoch milliseconds or an empty optional, if not cached
+   */
+  @SuppressWarnings("unchecked")
+  synchronized Optional<Map<Long, TimeBasedValue<?>>> get(UUID timeSeries, long window) {
+    Map<Long, TimeBasedValue<?>> values =
+        (Map<Long, TimeBasedValue<?>>) entries.get(new WindowKey(timeSeries, window));
+    if (values == null) misses++;
+    else hits++;
+    return Optional.ofNullable(values);
+  }
+
+  /** Returns true, if the given window is cached, without marking it as recently used */
+  synchronized boolean contains(UUID timeSeries, long window) {
+    return entries.containsKey(new WindowKey(timeSeries, window));
+  }
+
+  /**
+   * Returns the cached time keys of the given time series and marks them as recently used
+   *
+   * @param timeSeries the uuid of the time series
+   * @return the time keys or an empty optional, if not cached
+   */
+  synchronized Optional<TimeKeys> getTimeKeys(UUID timeSeries) {
+    return Optional.ofNullable((TimeKeys) entries.get(new TimeKeysKey(timeSeries)));
+  }
+
+  /**
+   * Caches the time keys of the given time series and evicts the least recently used entries, if
+   * the maximum number of values is exceeded
+   *
+   * @param timeSeries the uuid of the time series
+   * @param timeKeys the sorted time keys of the time series
+   */
+  synchronized void putTimeKeys(UUID timeSeries, TimeKeys timeKeys) {
+    cache(new TimeKeysKey(timeSeries), timeKeys);
+  }
+
+  /**
+   * Caches the values of the given window and evicts the least recently used windows, if the
+   * maximum number of values is exceeded
+   *
+   * @param timeSeries the uuid of the time series
+   * @param window the number of the window
+   * @param values the values by their epoch milliseconds
+   */
+  synchronized void put(UUID timeSeries, long window, Map<Long, TimeBasedValue<?>> values) {
+    cache(new WindowKey(timeSeries, window), values);
+  }
+
+  private void cache(Key key, Object entry) {
+    Object previous = entries.put(key, entry);
+    if (previous != null) remove(key, previous);
+    if (key instanceof WindowKey) cachedWindows++;
+    cachedValues += weight(entry);
+
+    Iterator<Map.Entry<Key, Object>> eldest = entries.entrySet().iterator();
+    // the entry, that has just been cached, is kept in any case
+    while (cachedValues > config.maxValues() && entries.size() > 1) {
+      Map.Entry<Key, Object> evicted = eldest.next();
+      eldest.remove();
+      remove(evicted.getKey(), evicted.getValue());
+    }
+  }
+
+  /** Updates the counters for an entry, that has been removed */
+  private void remove(Key key, Object entry) {
+    if (key instanceof WindowKey) cachedWindows--;
+    cachedValues -= weight(entry);
+  }
+
+  /**
+   * Removes all cached values of the given time series
+   *
+   * @param timeSeries the uuid of the time series
+   */
+  public synchronized void invalidate(UUID timeSeries) {
+    Iterator<Map.Entry<Key, Object>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Key, Object> entry = iterator.next();
+      if (entry.getKey().timeSeries().equals(timeSeries)) {
+        iterator.remove();
+        remove(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /** Removes all cached values and time keys */
+  public synchronized void clear() {
+    entries.clear();
+    cachedWindows = 0;
+    cachedValues = 0;
+  }
+
+  /** Returns the number of values and time keys, that are currently cached */
+  public synchronized long getCachedValueCount() {
+    return cachedValues;
+  }
+
+  /** Returns the number of windows, that are currently cached */
+  public synchronized int getCachedWindowCount() {
+    return cachedWindows;
+  }
+
+  /** Returns the number of window look-ups, that have been served from the cache */
+  public synchronized long getHitCount() {
+    return hits;
+  }
+
+  /** Returns the number of window look-ups, that required a query */
+  public synchronized long getMissCount() {
+    return misses;
+  }
+
+  private static long weight(Object entry) {
+    int size =
+        entry instanceof TimeKeys timeKeys
+            ? timeKeys.epochMillis().length
+            : ((Map<?, ?>) entry).size();
+    return Math.max(1, size);
+  }
+}
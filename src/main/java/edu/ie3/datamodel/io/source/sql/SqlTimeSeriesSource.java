@@ -8,6 +8,7 @@ package edu.ie3.datamodel.io.source.sql;
 import static edu.ie3.datamodel.io.source.sql.SqlDataSource.createBaseQueryString;
 
 import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.exceptions.UncheckedSourceException;
 import edu.ie3.datamodel.exceptions.ValidationException;
 import edu.ie3.datamodel.io.connectors.SqlConnector;
 import edu.ie3.datamodel.io.factory.timeseries.TimeBasedSimpleValueFactory;
@@ -19,6 +20,7 @@ import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
 import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
 import edu.ie3.datamodel.models.value.Value;
 import edu.ie3.datamodel.utils.TimeSeriesUtils;
+import edu.ie3.datamodel.utils.Try;
 import edu.ie3.util.interval.ClosedInterval;
 import java.sql.Timestamp;
 import java.time.ZonedDateTime;
@@ -27,6 +29,12 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Source that is capable of providing information around time series from a sql database. If the
+ * {@link SqlDataSource} has a {@link SqlTimeSeriesCache}, point look-ups and the navigation to
+ * neighbouring time keys are served from the cache. Otherwise, each access is queried. Queries of
+ * the cache, that fail, are thrown as {@link UncheckedSourceException}.
+ */
 public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
   protected static final Logger log = LoggerFactory.getLogger(SqlTimeSeriesSource.class);
@@ -35,6 +43,9 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
   private final UUID timeSeriesUuid;
 
+  /** The cached time series or {@code null}, if every access is queried */
+  private final SqlTimeSeriesWindows<V> windows;
+
   // General fields
   private static final String WHERE = " WHERE ";
   private static final String TIME_SERIES = "time_series";
@@ -49,6 +60,8 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
   private final String queryTimeKeysAfter;
   private final String queryForValueBefore;
   private final String queryTime;
+  private final String queryTimeKeys;
+  private final String queryTimeRange;
 
   public SqlTimeSeriesSource(
       SqlDataSource sqlDataSource,
@@ -73,6 +86,23 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
     this.queryTimeKeysAfter = createQueryForTimeKeysAfter(schemaName, tableName, dbTimeColumnName);
     this.queryForValueBefore = createQueryForValueBefore(schemaName, tableName, dbTimeColumnName);
     this.queryTime = createQueryForTime(schemaName, tableName, dbTimeColumnName);
+    this.queryTimeKeys = createQueryForTimeKeys(schemaName, tableName, dbTimeColumnName);
+    this.queryTimeRange = createQueryForTimeRange(schemaName, tableName, dbTimeColumnName);
+
+    this.windows =
+        sqlDataSource
+            .getTimeSeriesCache()
+            .map(
+                cache ->
+                    new SqlTimeSeriesWindows<>(
+                        sqlDataSource,
+                        cache,
+                        timeSeriesUuid,
+                        queryTimeKeys,
+                        queryTimeRange,
+                        factory::extractTime,
+                        this::createEntity))
+            .orElse(null);
   }
 
   /**
@@ -120,24 +150,42 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
       DatabaseNamingStrategy namingStrategy,
       IndividualTimeSeriesMetaInformation metaInformation)
       throws SourceException {
+    return createSource(new SqlDataSource(connector, schemaName, namingStrategy), metaInformation);
+  }
+
+  /**
+   * Factory method to build a source from given meta information, that shares the given data
+   * source and therefore its {@link SqlTimeSeriesCache} (if any) with other sources
+   *
+   * @param dataSource the data source to use
+   * @param metaInformation the time series meta information
+   * @return a SqlTimeSeriesSource for given time series table
+   * @throws SourceException if the column scheme is not supported
+   */
+  public static SqlTimeSeriesSource<? extends Value> createSource(
+      SqlDataSource dataSource, IndividualTimeSeriesMetaInformation metaInformation)
+      throws SourceException {
     if (!TimeSeriesUtils.isSchemeAccepted(metaInformation.getColumnScheme()))
       throw new SourceException(
           "Unsupported column scheme '" + metaInformation.getColumnScheme() + "'.");
 
     Class<? extends Value> valClass = metaInformation.getColumnScheme().getValueClass();
 
-    return create(connector, schemaName, namingStrategy, metaInformation.getUuid(), valClass);
+    return create(dataSource, metaInformation.getUuid(), valClass);
   }
 
   private static <T extends Value> SqlTimeSeriesSource<T> create(
-      SqlConnector connector,
-      String schemaName,
-      DatabaseNamingStrategy namingStrategy,
-      UUID timeSeriesUuid,
-      Class<T> valClass) {
+      SqlDataSource dataSource, UUID timeSeriesUuid, Class<T> valClass) {
     TimeBasedSimpleValueFactory<T> valueFactory = new TimeBasedSimpleValueFactory<>(valClass);
-    return new SqlTimeSeriesSource<>(
-        connector, schemaName, namingStrategy, timeSeriesUuid, valClass, valueFactory);
+    return new SqlTimeSeriesSource<>(dataSource, timeSeriesUuid, valClass, valueFactory);
+  }
+
+  /**
+   * Drops all cached time keys and values of this time series, e.g. after the time series has been
+   * altered in the database. Without a {@link SqlTimeSeriesCache}, this does nothing.
+   */
+  public void invalidateCache() {
+    if (windows != null) windows.invalidate();
   }
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
@@ -162,6 +210,8 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
   @Override
   public Optional<V> getValue(ZonedDateTime time) {
+    if (windows != null)
+      return fromCache(() -> windows.getTimeBasedValue(time)).map(TimeBasedValue::getValue);
     Set<TimeBasedValue<V>> timeBasedValues =
         getTimeBasedValueSet(queryTime, ps -> ps.setTimestamp(1, Timestamp.from(time.toInstant())));
     if (timeBasedValues.isEmpty()) return Optional.empty();
@@ -172,6 +222,7 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
   @Override
   public Optional<TimeBasedValue<V>> getPreviousTimeBasedValue(ZonedDateTime time) {
+    if (windows != null) return fromCache(() -> windows.getPreviousTimeBasedValue(time));
     return getTimeBasedValueSet(
             queryForValueBefore, ps -> ps.setTimestamp(1, Timestamp.from(time.toInstant())))
         .stream()
@@ -180,6 +231,7 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
   @Override
   public List<ZonedDateTime> getTimeKeysAfter(ZonedDateTime time) {
+    if (windows != null) return fromCache(() -> windows.getTimeKeysAfter(time));
     return dataSource
         .executeQuery(
             queryTimeKeysAfter, ps -> ps.setTimestamp(1, Timestamp.from(time.toInstant())))
@@ -190,6 +242,7 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
   @Override
   public Optional<ZonedDateTime> getLastTimeKeyBefore(ZonedDateTime time) {
+    if (windows != null) return fromCache(() -> windows.getPreviousDateTime(time));
     return dataSource
         .executeQuery(
             queryForValueBefore, ps -> ps.setTimestamp(1, Timestamp.from(time.toInstant())))
@@ -199,6 +252,15 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
+  /** Serves a look-up from the cache, whose failure is thrown as unchecked exception */
+  private static <T> T fromCache(Try.TrySupplier<T, SourceException> lookUp) {
+    try {
+      return lookUp.get();
+    } catch (SourceException e) {
+      throw new UncheckedSourceException(e);
+    }
+  }
+
   /** Creates a set of TimeBasedValues from database */
   private Set<TimeBasedValue<V>> getTimeBasedValueSet(
       String query, SqlDataSource.AddParams addParams) {
@@ -310,6 +372,56 @@ public class SqlTimeSeriesSource<V extends Value> extends TimeSeriesSource<V> {
         + " DESC LIMIT 1;";
   }
 
+  /**
+   * Creates a query to retrieve all time keys of the given time series with the following pattern:
+   * <br>
+   * {@code SELECT <time column> FROM <schema>.<table> WHERE time_series = $timeSeriesUuid;}
+   *
+   * @param schemaName the name of the database schema
+   * @param tableName the name of the database table
+   * @param timeColumnName the name of the column holding the timestamp info
+   * @return the query string
+   */
+  private String createQueryForTimeKeys(
+      String schemaName, String tableName, String timeColumnName) {
+    return "SELECT "
+        + timeColumnName
+        + " FROM "
+        + schemaName
+        + "."
+        + tableName
+        + WHERE
+        + TIME_SERIES
+        + " = '"
+        + timeSeriesUuid
+        + "';";
+  }
+
+  /**
+   * Creates a base query to retrieve all entities for given time series uuid within a half-open
+   * time range with the following pattern: <br>
+   * {@code <base query> WHERE time_series = $timeSeriesUuid AND <time column> >= ? AND <time
+   * column> < ?;}
+   *
+   * @param schemaName the name of the database schema
+   * @param tableName the name of the database table
+   * @param timeColumnName the name of the column holding the timestamp info
+   * @return the query string
+   */
+  private String createQueryForTimeRange(
+      String schemaName, String tableName, String timeColumnName) {
+    return createBaseQueryString(schemaName, tableName)
+        + WHERE
+        + TIME_SERIES
+        + " = '"
+        + timeSeriesUuid
+        + "' AND "
+        + timeColumnName
+        + " >= ? AND "
+        + timeColumnName
+        + " < ?;";
+  }
+
   /**
    * Creates a base query to retrieve all time keys before a given time for given time series with
    * the following pattern: <br>
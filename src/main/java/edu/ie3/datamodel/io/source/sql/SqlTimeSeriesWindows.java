@@ -0,0 +1,211 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.sql;
+
+import edu.ie3.datamodel.exceptions.SourceException;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.Value;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Provides the values of a sql time series from a {@link SqlTimeSeriesCache}. On first access, the
+ * time keys of the time series are queried once and cached alongside the values, unless the cache
+ * already holds the time keys of the accessed range, e.g. as it has been warmed by {@link
+ * SqlTimeSeriesBulkSource}. Afterwards, point look-ups and the navigation to neighbouring time keys
+ * are served from memory, whereas the values are loaded in time windows by one range query, that
+ * covers all missing windows within the prefetch distance ahead. Failing queries are thrown and
+ * never cached.
+ *
+ * @param <V> type of the values
+ */
+final class SqlTimeSeriesWindows<V extends Value> {
+  private final SqlDataSource dataSource;
+  private final SqlTimeSeriesCache cache;
+  private final UUID timeSeriesUuid;
+  private final String queryTimeKeys;
+  private final String queryTimeRange;
+  private final Function<Map<String, String>, ZonedDateTime> timeExtractor;
+  private final Function<Map<String, String>, Optional<TimeBasedValue<V>>> valueBuilder;
+  private final long windowMillis;
+  private final long prefetchWindows;
+
+  SqlTimeSeriesWindows(
+      SqlDataSource dataSource,
+      SqlTimeSeriesCache cache,
+      UUID timeSeriesUuid,
+      String queryTimeKeys,
+      String queryTimeRange,
+      Function<Map<String, String>, ZonedDateTime> timeExtractor,
+      Function<Map<String, String>, Optional<TimeBasedValue<V>>> valueBuilder) {
+    this.dataSource = dataSource;
+    this.cache = cache;
+    this.timeSeriesUuid = timeSeriesUuid;
+    this.queryTimeKeys = queryTimeKeys;
+    this.queryTimeRange = queryTimeRange;
+    this.timeExtractor = timeExtractor;
+    this.valueBuilder = valueBuilder;
+    this.windowMillis = cache.getConfig().windowSize().toMillis();
+    this.prefetchWindows =
+        (cache.getConfig().prefetchDistance().toMillis() + windowMillis - 1) / windowMillis;
+  }
+
+  synchronized Optional<TimeBasedValue<V>> getTimeBasedValue(ZonedDateTime time)
+      throws SourceException {
+    long epochMilli = time.toInstant().toEpochMilli();
+    long[] epochMillis = timeKeys(epochMilli, epochMilli).epochMillis();
+    int position = countBefore(epochMillis, epochMilli);
+    if (position == epochMillis.length || epochMillis[position] != epochMilli)
+      return Optional.empty();
+    return valueAt(epochMilli);
+  }
+
+  synchronized Optional<TimeBasedValue<V>> getPreviousTimeBasedValue(ZonedDateTime time)
+      throws SourceException {
+    long epochMilli = time.toInstant().toEpochMilli();
+    long[] epochMillis = timeKeysBefore(epochMilli).epochMillis();
+    int position = countBefore(epochMillis, epochMilli) - 1;
+    return position < 0 ? Optional.empty() : valueAt(epochMillis[position]);
+  }
+
+  synchronized Optional<ZonedDateTime> getPreviousDateTime(ZonedDateTime time)
+      throws SourceException {
+    long epochMilli = time.toInstant().toEpochMilli();
+    SqlTimeSeriesCache.TimeKeys timeKeys = timeKeysBefore(epochMilli);
+    int position = countBefore(timeKeys.epochMillis(), epochMilli) - 1;
+    return position < 0 ? Optional.empty() : Optional.of(timeKeys.times()[position]);
+  }
+
+  synchronized List<ZonedDateTime> getTimeKeysAfter(ZonedDateTime time) throws SourceException {
+    long epochMilli = time.toInstant().toEpochMilli();
+    SqlTimeSeriesCache.TimeKeys timeKeys = timeKeys(epochMilli, Long.MAX_VALUE);
+    int from = countAtOrBefore(timeKeys.epochMillis(), epochMilli);
+    return List.of(Arrays.copyOfRange(timeKeys.times(), from, timeKeys.times().length));
+  }
+
+  /** Drops the time keys and all cached values of the time series */
+  synchronized void invalidate() {
+    cache.invalidate(timeSeriesUuid);
+  }
+
+  /** Returns the number of time keys before the given time */
+  private static int countBefore(long[] epochMillis, long epochMilli) {
+    int low = 0;
+    int high = epochMillis.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (epochMillis[mid] < epochMilli) low = mid + 1;
+      else high = mid;
+    }
+    return low;
+  }
+
+  /** Returns the number of time keys at or before the given time */
+  private static int countAtOrBefore(long[] epochMillis, long epochMilli) {
+    return epochMilli == Long.MAX_VALUE
+        ? epochMillis.length
+        : countBefore(epochMillis, epochMilli + 1);
+  }
+
+  /**
+   * Returns the cached time keys, if they cover the given range (bounds included), or queries all
+   * time keys otherwise
+   */
+  private SqlTimeSeriesCache.TimeKeys timeKeys(long from, long to) throws SourceException {
+    Optional<SqlTimeSeriesCache.TimeKeys> cached = cache.getTimeKeys(timeSeriesUuid);
+    if (cached.isPresent() && cached.get().covers(from, to)) return cached.get();
+    return queryTimeKeys();
+  }
+
+  /**
+   * Returns the cached time keys, if they allow to determine the last time key before the given
+   * time, or queries all time keys otherwise. Time keys, that only cover a range, suffice, if they
+   * hold a time key before the given time, whereas all time keys in between are covered.
+   */
+  private SqlTimeSeriesCache.TimeKeys timeKeysBefore(long epochMilli) throws SourceException {
+    Optional<SqlTimeSeriesCache.TimeKeys> cached = cache.getTimeKeys(timeSeriesUuid);
+    if (cached.isPresent()) {
+      SqlTimeSeriesCache.TimeKeys timeKeys = cached.get();
+      int position = countBefore(timeKeys.epochMillis(), epochMilli) - 1;
+      if (timeKeys.isComplete()
+          || (position >= 0 && timeKeys.covers(timeKeys.epochMillis()[position], epochMilli - 1)))
+        return timeKeys;
+    }
+    return queryTimeKeys();
+  }
+
+  /** Queries all time keys of the time series and caches them */
+  private SqlTimeSeriesCache.TimeKeys queryTimeKeys() throws SourceException {
+    Set<ZonedDateTime> times = new HashSet<>();
+    dataSource.forEachRow(queryTimeKeys, ps -> {}, row -> times.add(timeExtractor.apply(row)));
+
+    SqlTimeSeriesCache.TimeKeys timeKeys =
+        new SqlTimeSeriesCache.TimeKeys(times.stream().sorted().toArray(ZonedDateTime[]::new));
+    cache.putTimeKeys(timeSeriesUuid, timeKeys);
+    return timeKeys;
+  }
+
+  /**
+   * Returns the value at the given time key. All windows from the one holding the value up to the
+   * prefetch distance ahead, that are not cached, are loaded by a single query.
+   */
+  @SuppressWarnings("unchecked")
+  private Optional<TimeBasedValue<V>> valueAt(long epochMilli) throws SourceException {
+    long window = Math.floorDiv(epochMilli, windowMillis);
+    long lastWindow = window + prefetchWindows;
+
+    long missingFrom = window;
+    while (missingFrom <= lastWindow && cache.contains(timeSeriesUuid, missingFrom)) missingFrom++;
+
+    Map<Long, TimeBasedValue<?>> values = null;
+    if (missingFrom <= lastWindow) values = load(missingFrom, lastWindow).get(window);
+    // the window may have been evicted in the meantime by other sources of the cache
+    if (values == null) {
+      Optional<Map<Long, TimeBasedValue<?>>> cached = cache.get(timeSeriesUuid, window);
+      values = cached.isPresent() ? cached.get() : load(window, window).get(window);
+    }
+
+    return Optional.ofNullable((TimeBasedValue<V>) values.get(epochMilli));
+  }
+
+  /**
+   * Loads all windows within the given range of window numbers (inclusive) by one query and puts
+   * them into the cache, once the query succeeded
+   *
+   * @return the loaded windows by their number
+   */
+  private Map<Long, Map<Long, TimeBasedValue<?>>> load(long firstWindow, long lastWindow)
+      throws SourceException {
+    Map<Long, Map<Long, TimeBasedValue<?>>> loaded = new HashMap<>();
+    for (long window = firstWindow; window <= lastWindow; window++)
+      loaded.put(window, new HashMap<>());
+
+    dataSource.forEachRow(
+        queryTimeRange,
+        ps -> {
+          ps.setTimestamp(1, Timestamp.from(Instant.ofEpochMilli(firstWindow * windowMillis)));
+          ps.setTimestamp(2, Timestamp.from(Instant.ofEpochMilli((lastWindow + 1) * windowMillis)));
+        },
+        row ->
+            valueBuilder
+                .apply(row)
+                .ifPresent(
+                    value -> {
+                      long epochMilli = value.getTime().toInstant().toEpochMilli();
+                      Map<Long, TimeBasedValue<?>> windowValues =
+                          loaded.get(Math.floorDiv(epochMilli, windowMillis));
+                      if (windowValues != null) windowValues.putIfAbsent(epochMilli, value);
+                    }));
+
+    // the windows ahead are cached first, so that the requested window is the most recently used
+    for (long window = lastWindow; window >= firstWindow; window--)
+      cache.put(timeSeriesUuid, window, loaded.get(window));
+    return loaded;
+  }
+}
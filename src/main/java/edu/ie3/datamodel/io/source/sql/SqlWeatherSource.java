@@ -7,18 +7,25 @@ package edu.ie3.datamodel.io.source.sql;
 
 import static edu.ie3.datamodel.io.source.sql.SqlDataSource.createBaseQueryString;
 
+import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.exceptions.SourceException;
 import edu.ie3.datamodel.exceptions.ValidationException;
 import edu.ie3.datamodel.io.connectors.SqlConnector;
+import edu.ie3.datamodel.io.factory.timeseries.TimeBasedWeatherValueData;
 import edu.ie3.datamodel.io.factory.timeseries.TimeBasedWeatherValueFactory;
 import edu.ie3.datamodel.io.naming.DatabaseNamingStrategy;
 import edu.ie3.datamodel.io.source.IdCoordinateSource;
+import edu.ie3.datamodel.io.source.WeatherCursor;
 import edu.ie3.datamodel.io.source.WeatherSource;
 import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
 import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
 import edu.ie3.datamodel.models.value.WeatherValue;
+import edu.ie3.datamodel.utils.ExceptionUtils;
+import edu.ie3.datamodel.utils.Try;
 import edu.ie3.util.interval.ClosedInterval;
 import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -28,6 +35,7 @@ import org.locationtech.jts.geom.Point;
 /** SQL source for weather data */
 public class SqlWeatherSource extends WeatherSource {
 
+  private final SqlConnector connector;
   private final SqlDataSource dataSource;
 
   private static final String WHERE = " WHERE ";
@@ -43,6 +51,7 @@ public class SqlWeatherSource extends WeatherSource {
   private final String queryTimeIntervalAndCoordinates;
   private final String queryTimeKeysAfter;
   private final String getQueryTimeKeysAfterAndCoordinate;
+  private final String queryCursorChunk;
 
   /**
    * Initializes a new SqlWeatherSource
@@ -61,6 +70,7 @@ public class SqlWeatherSource extends WeatherSource {
       TimeBasedWeatherValueFactory weatherFactory) {
     super(idCoordinateSource, weatherFactory);
     String factoryCoordinateFieldName = weatherFactory.getCoordinateIdFieldString();
+    this.connector = connector;
     this.dataSource = new SqlDataSource(connector, schemaName, new DatabaseNamingStrategy());
     this.tableName = weatherTableName;
 
@@ -84,6 +94,9 @@ public class SqlWeatherSource extends WeatherSource {
     this.getQueryTimeKeysAfterAndCoordinate =
         createQueryStringForTimeKeysAfterAndCoordinate(
             schemaName, weatherTableName, dbTimeColumnName, dbCoordinateIdColumnName);
+    this.queryCursorChunk =
+        createQueryStringForCursorChunk(
+            schemaName, weatherTableName, dbTimeColumnName, dbCoordinateIdColumnName);
   }
 
   @Override
@@ -110,11 +123,7 @@ public class SqlWeatherSource extends WeatherSource {
   public Map<Point, IndividualTimeSeries<WeatherValue>> getWeather(
       ClosedInterval<ZonedDateTime> timeInterval, Collection<Point> coordinates)
       throws SourceException {
-    Set<Integer> coordinateIds =
-        coordinates.stream()
-            .map(idCoordinateSource::getId)
-            .flatMap(Optional::stream)
-            .collect(Collectors.toSet());
+    Set<Integer> coordinateIds = toCoordinateIds(coordinates);
     if (coordinateIds.isEmpty()) {
       log.warn("Unable to match coordinates to coordinate ID");
       return Collections.emptyMap();
@@ -191,6 +200,96 @@ public class SqlWeatherSource extends WeatherSource {
         .toList();
   }
 
+  /**
+   * Opens a forward-only cursor over the weather of the given coordinates. As the chunks may be
+   * prefetched in a background thread, the cursor reads them on a connection of its own instead of
+   * the shared connection of the connector. The connection is closed together with the cursor.
+   *
+   * @param coordinates the coordinates to provide weather for
+   * @param start the first time to provide weather for
+   * @param config the chunk size and the number of prefetched chunks
+   * @return the cursor, which has to be closed after usage
+   */
+  @Override
+  public WeatherCursor getWeatherCursor(
+      Collection<Point> coordinates, ZonedDateTime start, WeatherCursor.Config config) {
+    return new WeatherCursor(new CursorChunkLoader(), coordinates, start, config);
+  }
+
+  private Set<Integer> toCoordinateIds(Collection<Point> coordinates) {
+    return coordinates.stream()
+        .map(idCoordinateSource::getId)
+        .flatMap(Optional::stream)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Loads the chunks of a {@link WeatherCursor} on a connection of its own, which is opened on the
+   * first load. The rows of a chunk are queried in order of time and fetched page wise by the
+   * driver, so that they are built into values while reading.
+   */
+  private class CursorChunkLoader implements WeatherCursor.ChunkLoader {
+    private Connection connection;
+
+    @Override
+    public Map<Point, IndividualTimeSeries<WeatherValue>> load(
+        ClosedInterval<ZonedDateTime> timeInterval, Collection<Point> coordinates)
+        throws SourceException {
+      Set<Integer> coordinateIds = toCoordinateIds(coordinates);
+      if (coordinateIds.isEmpty()) {
+        log.warn("Unable to match coordinates to coordinate ID");
+        return Collections.emptyMap();
+      }
+
+      List<TimeBasedValue<WeatherValue>> timeBasedValues = new ArrayList<>();
+      List<FactoryException> failures = new ArrayList<>();
+      dataSource.forEachRow(
+          connection(),
+          queryCursorChunk,
+          ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("integer", coordinateIds.toArray()));
+            ps.setTimestamp(2, Timestamp.from(timeInterval.getLower().toInstant()));
+            ps.setTimestamp(3, Timestamp.from(timeInterval.getUpper().toInstant()));
+          },
+          fieldsToAttributes -> {
+            fieldsToAttributes.remove("tid");
+            Optional<TimeBasedWeatherValueData> data =
+                toTimeBasedWeatherValueData(fieldsToAttributes);
+            Try<TimeBasedValue<WeatherValue>, FactoryException> value =
+                weatherFactory.get(
+                    Try.from(data, () -> new SourceException("Missing data in: " + data)));
+            value.getData().ifPresent(timeBasedValues::add);
+            value.getException().ifPresent(failures::add);
+          });
+
+      if (!failures.isEmpty())
+        throw new SourceException(
+            failures.size()
+                + " exception(s) occurred within \"TimeBasedValue<WeatherValue>\" data: \n "
+                + ExceptionUtils.combineExceptions(failures));
+      return mapWeatherValuesToPoints(timeBasedValues);
+    }
+
+    @Override
+    public void close() {
+      if (connection == null) return;
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        log.warn("Unable to close the connection of a weather cursor.", e);
+      }
+    }
+
+    private Connection connection() throws SourceException {
+      try {
+        if (connection == null) connection = connector.openConnection();
+        return connection;
+      } catch (SQLException e) {
+        throw new SourceException("Unable to open a connection for the weather cursor.", e);
+      }
+    }
+  }
+
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
 
   /**
@@ -306,4 +405,33 @@ public class SqlWeatherSource extends WeatherSource {
         + timeColumnName
         + " BETWEEN ? AND ?;";
   }
+
+  /**
+   * Creates a basic query to retrieve all entities in the given time frame and coordinates ordered
+   * by time with the following pattern: <br>
+   * {@code <base query> WHERE <coordinate column>= ANY (?) AND <time column> BETWEEN ? AND ? ORDER
+   * BY <time column>, <coordinate column>;}
+   *
+   * @param schemaName the name of the database schema
+   * @param weatherTableName the name of the database table
+   * @param timeColumnName the name of the column holding the timestamp info
+   * @param coordinateColumnName name of the column holding the coordinate id
+   * @return the query string
+   */
+  private static String createQueryStringForCursorChunk(
+      String schemaName,
+      String weatherTableName,
+      String timeColumnName,
+      String coordinateColumnName) {
+    return createBaseQueryString(schemaName, weatherTableName)
+        + WHERE
+        + coordinateColumnName
+        + "= ANY (?) AND "
+        + timeColumnName
+        + " BETWEEN ? AND ? ORDER BY "
+        + timeColumnName
+        + ", "
+        + coordinateColumnName
+        + ";";
+  }
 }
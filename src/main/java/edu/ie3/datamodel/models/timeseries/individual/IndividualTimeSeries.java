@@ -9,26 +9,77 @@ import edu.ie3.datamodel.models.timeseries.TimeSeries;
 import edu.ie3.datamodel.models.value.Value;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
-/** Describes a TimeSeries with individual values per time step */
+/**
+ * Describes a TimeSeries with individual values per time step. The entries are held in ascending
+ * order of their time alongside a primitive array of their epoch seconds, so that all look-ups are
+ * performed by binary search. Sub series and the sorted entries are provided as views on the same
+ * arrays without copying.
+ */
 public class IndividualTimeSeries<V extends Value> extends TimeSeries<TimeBasedValue<V>, V, V> {
-  /** Maps a time to its respective value to retrieve faster */
-  private final Map<ZonedDateTime, TimeBasedValue<V>> timeToValue;
+  /** Epoch seconds of the entries, in the same order as the entries */
+  private final long[] epochSeconds;
 
-  public IndividualTimeSeries(Set<TimeBasedValue<V>> values) {
-    super(values);
+  /** All entries in ascending order of their time */
+  private final TimeBasedValue<V>[] entries;
+
+  /** First position of this time series within the arrays (inclusive) */
+  private final int from;
+
+  /** Last position of this time series within the arrays (exclusive) */
+  private final int to;
+
+  private final EntryView<V> entryView;
 
-    timeToValue =
-        values.stream().collect(Collectors.toMap(TimeBasedValue::getTime, Function.identity()));
+  public IndividualTimeSeries(Set<TimeBasedValue<V>> values) {
+    this(UUID.randomUUID(), values);
   }
 
   public IndividualTimeSeries(UUID uuid, Set<TimeBasedValue<V>> values) {
-    super(uuid, values);
+    this(uuid, sort(values));
+  }
+
+  private IndividualTimeSeries(UUID uuid, TimeBasedValue<V>[] entries) {
+    this(uuid, toEpochSeconds(entries), entries, 0, entries.length);
+  }
+
+  private IndividualTimeSeries(
+      UUID uuid, long[] epochSeconds, TimeBasedValue<V>[] entries, int from, int to) {
+    this(uuid, epochSeconds, new EntryView<>(entries, from, to));
+  }
+
+  private IndividualTimeSeries(UUID uuid, long[] epochSeconds, EntryView<V> entryView) {
+    super(uuid, entryView);
+    this.epochSeconds = epochSeconds;
+    this.entries = entryView.entries;
+    this.from = entryView.from;
+    this.to = entryView.to;
+    this.entryView = entryView;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V extends Value> TimeBasedValue<V>[] sort(Set<TimeBasedValue<V>> values) {
+    TimeBasedValue<V>[] sorted = values.toArray(new TimeBasedValue[0]);
+    Arrays.sort(sorted);
 
-    timeToValue =
-        values.stream().collect(Collectors.toMap(TimeBasedValue::getTime, Function.identity()));
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i].getTime().equals(sorted[i - 1].getTime()))
+        throw new IllegalStateException(
+            "Duplicate key "
+                + sorted[i].getTime()
+                + " (attempted merging values "
+                + sorted[i - 1]
+                + " and "
+                + sorted[i]
+                + ")");
+    }
+    return sorted;
+  }
+
+  private static long[] toEpochSeconds(TimeBasedValue<?>[] entries) {
+    long[] epochSeconds = new long[entries.length];
+    for (int i = 0; i < entries.length; i++) epochSeconds[i] = entries[i].getTime().toEpochSecond();
+    return epochSeconds;
   }
 
   /**
@@ -38,13 +89,18 @@ public class IndividualTimeSeries<V extends Value> extends TimeSeries<TimeBasedV
    */
   @Override
   public SortedSet<TimeBasedValue<V>> getEntries() {
-    TreeSet<TimeBasedValue<V>> sortedEntries = new TreeSet<>(timeToValue.values());
-    return Collections.unmodifiableSortedSet(sortedEntries);
+    return entryView;
   }
 
   @Override
   public Optional<TimeBasedValue<V>> getTimeBasedValue(ZonedDateTime time) {
-    return Optional.ofNullable(timeToValue.get(time));
+    // there may be multiple entries at the same instant, but in different time zones
+    for (int i = firstAfter(time, true, true);
+        i < to && epochSeconds[i] == time.toEpochSecond();
+        i++) {
+      if (entries[i].getTime().equals(time)) return Optional.of(entries[i]);
+    }
+    return Optional.empty();
   }
 
   @Override
@@ -54,26 +110,92 @@ public class IndividualTimeSeries<V extends Value> extends TimeSeries<TimeBasedV
 
   @Override
   public Optional<ZonedDateTime> getPreviousDateTime(ZonedDateTime time) {
-    return timeToValue.keySet().stream()
-        .filter(valueTime -> valueTime.isBefore(time))
-        .max(ZonedDateTime::compareTo);
+    return getPreviousTimeBasedValue(time).map(TimeBasedValue::getTime);
   }
 
   @Override
   public Optional<ZonedDateTime> getNextDateTime(ZonedDateTime time) {
-    return timeToValue.keySet().stream()
-        .filter(valueTime -> valueTime.compareTo(time) > 0)
-        .min(Comparator.naturalOrder());
+    return getNextTimeBasedValue(time).map(TimeBasedValue::getTime);
+  }
+
+  @Override
+  public Optional<TimeBasedValue<V>> getPreviousTimeBasedValue(ZonedDateTime time) {
+    int position = firstAfter(time, true, true) - 1;
+    return position < from ? Optional.empty() : Optional.of(entries[position]);
+  }
+
+  @Override
+  public Optional<TimeBasedValue<V>> getNextTimeBasedValue(ZonedDateTime time) {
+    int position = firstAfter(time, false, false);
+    return position == to ? Optional.empty() : Optional.of(entries[position]);
   }
 
   /**
    * Get all {@link ZonedDateTime}s after the given time.
    *
    * @param time given time
-   * @return a list of all time keys
+   * @return an unmodifiable, sorted list of all time keys
    */
   public List<ZonedDateTime> getTimeKeysAfter(ZonedDateTime time) {
-    return timeToValue.keySet().stream().filter(timeKey -> timeKey.isAfter(time)).sorted().toList();
+    int start = firstAfter(time, true, false);
+    return new AbstractList<>() {
+      @Override
+      public ZonedDateTime get(int index) {
+        Objects.checkIndex(index, size());
+        return entries[start + index].getTime();
+      }
+
+      @Override
+      public int size() {
+        return to - start;
+      }
+    };
+  }
+
+  /**
+   * Returns the part of this time series within the given bounds. The returned time series shares
+   * the entries with this time series, hence no entries are copied.
+   *
+   * @param lower the lower bound (inclusive)
+   * @param upper the upper bound (inclusive)
+   * @return the time series within the given bounds, having the same uuid as this time series
+   */
+  public IndividualTimeSeries<V> slice(ZonedDateTime lower, ZonedDateTime upper) {
+    int start = firstAfter(lower, false, true);
+    int end = Math.max(start, firstAfter(upper, false, false));
+    return new IndividualTimeSeries<>(getUuid(), epochSeconds, entries, start, end);
+  }
+
+  /**
+   * Determines the first position, whose time is after (or equal to) the given time. The epoch
+   * seconds are compared first. Only for entries within the same second, the full time is compared.
+   *
+   * @param time the time to compare to
+   * @param byInstant whether to compare the instants only or to compare the times with regard to
+   *     their natural order
+   * @param orEqual whether the time of the returned position may also be equal to the given time
+   * @return the first position fulfilling the condition or the end of this time series
+   */
+  private int firstAfter(ZonedDateTime time, boolean byInstant, boolean orEqual) {
+    long epochSecond = time.toEpochSecond();
+
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int comparison = Long.compare(epochSeconds[mid], epochSecond);
+      if (comparison == 0) {
+        ZonedDateTime midTime = entries[mid].getTime();
+        comparison =
+            byInstant
+                ? midTime.toInstant().compareTo(time.toInstant())
+                : midTime.compareTo(time);
+      }
+
+      if (comparison > 0 || (orEqual && comparison == 0)) high = mid;
+      else low = mid + 1;
+    }
+    return low;
   }
 
   @Override
@@ -82,16 +204,111 @@ public class IndividualTimeSeries<V extends Value> extends TimeSeries<TimeBasedV
     if (o == null || getClass() != o.getClass()) return false;
     if (!super.equals(o)) return false;
     IndividualTimeSeries<?> that = (IndividualTimeSeries<?>) o;
-    return timeToValue.equals(that.timeToValue);
+    return Arrays.equals(entries, from, to, that.entries, that.from, that.to);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), timeToValue);
+    return Objects.hash(super.hashCode(), to - from);
   }
 
   @Override
   public String toString() {
-    return "IndividualTimeSeries{" + ", #entries=" + timeToValue.size() + '}';
+    return "IndividualTimeSeries{" + ", #entries=" + (to - from) + '}';
+  }
+
+  /**
+   * Unmodifiable, sorted view on a range of the sorted entries. Sub sets are determined by binary
+   * search and are views on the same entries.
+   */
+  private static final class EntryView<V extends Value> extends AbstractSet<TimeBasedValue<V>>
+      implements SortedSet<TimeBasedValue<V>> {
+    private final TimeBasedValue<V>[] entries;
+    private final int from;
+    private final int to;
+
+    private EntryView(TimeBasedValue<V>[] entries, int from, int to) {
+      this.entries = entries;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public Iterator<TimeBasedValue<V>> iterator() {
+      return new Iterator<>() {
+        private int next = from;
+
+        @Override
+        public boolean hasNext() {
+          return next < to;
+        }
+
+        @Override
+        public TimeBasedValue<V> next() {
+          if (next >= to) throw new NoSuchElementException();
+          return entries[next++];
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof TimeBasedValue<?> value)) return false;
+      int position = position(value);
+      return position < to && entries[position].equals(value);
+    }
+
+    @Override
+    public Comparator<? super TimeBasedValue<V>> comparator() {
+      // natural ordering
+      return null;
+    }
+
+    @Override
+    public SortedSet<TimeBasedValue<V>> subSet(
+        TimeBasedValue<V> fromElement, TimeBasedValue<V> toElement) {
+      if (fromElement.compareTo(toElement) > 0)
+        throw new IllegalArgumentException("fromElement > toElement");
+      return new EntryView<>(entries, position(fromElement), position(toElement));
+    }
+
+    @Override
+    public SortedSet<TimeBasedValue<V>> headSet(TimeBasedValue<V> toElement) {
+      return new EntryView<>(entries, from, position(toElement));
+    }
+
+    @Override
+    public SortedSet<TimeBasedValue<V>> tailSet(TimeBasedValue<V> fromElement) {
+      return new EntryView<>(entries, position(fromElement), to);
+    }
+
+    @Override
+    public TimeBasedValue<V> first() {
+      if (from == to) throw new NoSuchElementException();
+      return entries[from];
+    }
+
+    @Override
+    public TimeBasedValue<V> last() {
+      if (from == to) throw new NoSuchElementException();
+      return entries[to - 1];
+    }
+
+    /** Returns the first position, whose entry is not less than the given value */
+    private int position(TimeBasedValue<?> value) {
+      int low = from;
+      int high = to;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (entries[mid].compareTo(value) < 0) low = mid + 1;
+        else high = mid;
+      }
+      return low;
+    }
   }
 }
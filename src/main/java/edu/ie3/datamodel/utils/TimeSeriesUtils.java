@@ -15,7 +15,6 @@ import edu.ie3.util.interval.ClosedInterval;
 import java.time.ZonedDateTime;
 import java.util.EnumSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class TimeSeriesUtils {
   private static final Set<ColumnScheme> ACCEPTED_COLUMN_SCHEMES =
@@ -34,7 +33,8 @@ public class TimeSeriesUtils {
   }
 
   /**
-   * Trims a time series to the given time interval
+   * Trims a time series to the given time interval. The trimmed time series is a view on the
+   * entries of the given time series, that is determined by binary search.
    *
    * @param timeSeries the time series to trim
    * @param timeInterval the interval to trim the data to
@@ -43,12 +43,7 @@ public class TimeSeriesUtils {
    */
   public static <V extends Value> IndividualTimeSeries<V> trimTimeSeriesToInterval(
       IndividualTimeSeries<V> timeSeries, ClosedInterval<ZonedDateTime> timeInterval) {
-    return new IndividualTimeSeries<>(
-        timeSeries.getUuid(),
-        timeSeries.getEntries().stream()
-            .parallel()
-            .filter(value -> timeInterval.includes(value.getTime()))
-            .collect(Collectors.toSet()));
+    return timeSeries.slice(timeInterval.getLower(), timeInterval.getUpper());
   }
 
   /**
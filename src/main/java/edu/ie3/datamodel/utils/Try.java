@@ -7,13 +7,18 @@ package edu.ie3.datamodel.utils;
 
 import static java.util.stream.Collectors.partitioningBy;
 
+import edu.ie3.datamodel.exceptions.StreamScanException;
 import edu.ie3.datamodel.exceptions.TryException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.tuple.Pair;
 
 public abstract class Try<T, E extends Exception> {
@@ -208,6 +213,59 @@ public abstract class Try<T, E extends Exception> {
     }
   }
 
+  /**
+   * Method to lazily scan a stream of {@link Try} objects for {@link Failure}'s. Other than {@link
+   * #scanStream(Stream, String, Function)}, the given stream is not collected in advance, but the
+   * data of all {@link Success}'s is passed on, while the returned stream is consumed. Failures are
+   * collected on the way. As soon as the stream is consumed completely or closed, a {@link
+   * StreamScanException} is thrown, if failures occurred. Its cause is the exception built by the
+   * given builder and contains the same message as for {@link #scanStream(Stream, String,
+   * Function)}.
+   *
+   * <p>The given stream is closed, once the returned stream is consumed completely, its consumption
+   * is aborted by an exception or the returned stream is closed. As short-circuiting operations do
+   * not consume the stream completely, the returned stream should always be closed, e.g. by a
+   * try-with-resources statement.
+   *
+   * @param stream of {@link Try} objects
+   * @param typeOfData information added to exception to help identify the place, that needs to be
+   *     fixed
+   * @param exceptionBuilder function to build the failure message
+   * @return a lazy stream of the data of all {@link Success}'s
+   * @param <U> type of data
+   */
+  public static <U, E extends Exception, R extends Exception> Stream<U> scanStreamLazily(
+      Stream<Try<U, E>> stream, String typeOfData, Function<String, R> exceptionBuilder) {
+    return scanStreamLazily(stream, typeOfData, exceptionBuilder, 0);
+  }
+
+  /**
+   * Method to lazily scan a stream of {@link Try} objects for {@link Failure}'s, that aborts the
+   * consumption as soon as the given number of failures occurred. See {@link
+   * #scanStreamLazily(Stream, String, Function)} for details. Only the messages of the first
+   * failures are retained for the combined exception, further failures are only counted.
+   *
+   * @param stream of {@link Try} objects
+   * @param typeOfData information added to exception to help identify the place, that needs to be
+   *     fixed
+   * @param exceptionBuilder function to build the failure message
+   * @param maxFailures number of failures, after which a {@link StreamScanException} is thrown
+   *     right away, or a non-positive number, if the stream should be consumed completely
+   * @return a lazy stream of the data of all {@link Success}'s
+   * @param <U> type of data
+   */
+  public static <U, E extends Exception, R extends Exception> Stream<U> scanStreamLazily(
+      Stream<Try<U, E>> stream,
+      String typeOfData,
+      Function<String, R> exceptionBuilder,
+      int maxFailures) {
+    ScanState<E, R> state = new ScanState<>(stream, typeOfData, exceptionBuilder, maxFailures);
+
+    return StreamSupport.stream(
+            new ScanningSpliterator<>(stream.spliterator(), state), stream.isParallel())
+        .onClose(state::close);
+  }
+
   // methods of try object
 
   /**
@@ -676,4 +734,175 @@ public abstract class Try<T, E extends Exception> {
   public interface ExceptionSupplier<E extends Exception> {
     E get();
   }
+
+  /**
+   * State of a lazy scan, that is shared by all splits of the scanned stream. The scan is finished,
+   * once all splits are exhausted, the consumption is aborted or the stream is closed. In all
+   * cases, the source stream is closed and the failures are reported, if there are any.
+   */
+  private static final class ScanState<E extends Exception, R extends Exception> {
+    /** Maximum number of failures, that are retained, if the scan is not aborted early */
+    private static final int MAX_RETAINED_FAILURES = 100;
+
+    private final Stream<?> source;
+    private final String typeOfData;
+    private final Function<String, R> exceptionBuilder;
+    private final int maxFailures;
+
+    private final AtomicInteger pendingSplits = new AtomicInteger(1);
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private final List<E> retainedFailures = new ArrayList<>();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile StreamScanException reported;
+
+    private ScanState(
+        Stream<?> source, String typeOfData, Function<String, R> exceptionBuilder, int maxFailures) {
+      this.source = source;
+      this.typeOfData = typeOfData;
+      this.exceptionBuilder = exceptionBuilder;
+      this.maxFailures = maxFailures;
+    }
+
+    private void addFailure(E exception) {
+      int count = failureCount.incrementAndGet();
+      int retainable = maxFailures > 0 ? maxFailures : MAX_RETAINED_FAILURES;
+
+      synchronized (retainedFailures) {
+        if (retainedFailures.size() < retainable) retainedFailures.add(exception);
+      }
+
+      if (maxFailures > 0 && count >= maxFailures) throw report();
+    }
+
+    private void splitExhausted() {
+      if (pendingSplits.decrementAndGet() == 0) finish();
+    }
+
+    private void close() {
+      finish();
+    }
+
+    private void finish() {
+      if (!finished.compareAndSet(false, true)) return;
+
+      RuntimeException closeException = closeSource();
+      // failures, that already aborted the scan, are not reported twice
+      if (failureCount.get() > 0 && reported == null) {
+        StreamScanException exception = report();
+        if (closeException != null) exception.addSuppressed(closeException);
+        throw exception;
+      }
+      if (closeException != null) throw closeException;
+    }
+
+    /**
+     * Finishes the scan, after the consumption was aborted by the given throwable, which is
+     * propagated instead of the failures. Therefore, the failures, that were not reported yet, as
+     * well as exceptions while closing the source are added as suppressed exceptions to it.
+     */
+    private void abort(Throwable cause) {
+      if (!finished.compareAndSet(false, true)) return;
+
+      RuntimeException closeException = closeSource();
+      if (failureCount.get() > 0 && reported == null)
+        cause.addSuppressed(report());
+      if (closeException != null) cause.addSuppressed(closeException);
+    }
+
+    private RuntimeException closeSource() {
+      try {
+        source.close();
+        return null;
+      } catch (RuntimeException e) {
+        return e;
+      }
+    }
+
+    private synchronized StreamScanException report() {
+      if (reported == null) {
+        List<E> exceptions;
+        synchronized (retainedFailures) {
+          exceptions = List.copyOf(retainedFailures);
+        }
+        int count = failureCount.get();
+
+        String message =
+            count
+                + " exception(s) occurred within \""
+                + typeOfData
+                + "\" data: \n "
+                + ExceptionUtils.combineExceptions(exceptions);
+        if (count > exceptions.size())
+          message += "\n (" + (count - exceptions.size()) + " further exception(s) omitted)";
+
+        reported = new StreamScanException(exceptionBuilder.apply(message));
+      }
+      return reported;
+    }
+  }
+
+  /**
+   * Spliterator, that passes on the data of all {@link Success}'s and hands all {@link Failure}'s
+   * to the shared {@link ScanState}.
+   */
+  private static final class ScanningSpliterator<U, E extends Exception, R extends Exception>
+      implements Spliterator<U> {
+    private final Spliterator<Try<U, E>> source;
+    private final ScanState<E, R> state;
+    private Try<U, E> current;
+    private boolean exhausted = false;
+
+    private ScanningSpliterator(Spliterator<Try<U, E>> source, ScanState<E, R> state) {
+      this.source = source;
+      this.state = state;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super U> action) {
+      try {
+        while (!exhausted) {
+          if (!source.tryAdvance(t -> current = t)) {
+            exhausted = true;
+            state.splitExhausted();
+            return false;
+          }
+
+          Try<U, E> next = current;
+          current = null;
+          if (next instanceof Success<U, E> success) {
+            action.accept(success.data);
+            return true;
+          }
+          state.addFailure(((Failure<U, E>) next).exception);
+        }
+        return false;
+      } catch (RuntimeException | Error e) {
+        // the source is released right away, as an aborted stream might never be closed
+        state.abort(e);
+        throw e;
+      }
+    }
+
+    @Override
+    public Spliterator<U> trySplit() {
+      if (exhausted) return null;
+
+      Spliterator<Try<U, E>> split = source.trySplit();
+      if (split == null) return null;
+
+      state.pendingSplits.incrementAndGet();
+      return new ScanningSpliterator<>(split, state);
+    }
+
+    @Override
+    public long estimateSize() {
+      return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      // failures are filtered, hence the exact size is not known in advance
+      return source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+  }
 }
@@ -7,18 +7,31 @@ package edu.ie3.datamodel.io.connectors
 
 import edu.ie3.datamodel.exceptions.ConnectorException
 import edu.ie3.datamodel.io.csv.CsvFileDefinition
+import edu.ie3.datamodel.io.csv.CsvWriterPool
+import edu.ie3.datamodel.io.file.FileType
 import edu.ie3.datamodel.io.naming.DefaultDirectoryHierarchy
 import edu.ie3.datamodel.io.naming.EntityPersistenceNamingStrategy
 import edu.ie3.datamodel.io.naming.FileNamingStrategy
 import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries
 import edu.ie3.util.io.FileIOUtils
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Requires
 import spock.lang.Shared
 import spock.lang.Specification
 
 import java.nio.file.Files
 import java.nio.file.Path
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
 
 class CsvFileConnectorTest extends Specification {
+  private static final Logger log = LoggerFactory.getLogger(CsvFileConnectorTest)
+
   @Shared
   Path tmpDirectory
 
@@ -117,4 +130,164 @@ class CsvFileConnectorTest extends Specification {
     def e = thrown(ConnectorException)
     e.message == "Directory '" + baseFolder + "' already exists and is a file!"
   }
+
+  def "The csv file connector reads the records of a file in both, buffered and memory mapped mode"() {
+    given:
+    def baseDirectory = tmpDirectory.resolve("records")
+    Files.createDirectories(baseDirectory)
+    def rows = (0..<1000).collect { "${it},\"value ${it}\"".toString() }
+    Files.writeString(baseDirectory.resolve("records.csv"), (["id,value"] + rows).join("\n") + "\n")
+    def connector = new CsvFileConnector(baseDirectory, memoryMapped)
+
+    when:
+    def records = connector.initRecordReader(Path.of("records"))
+    def actualRows = records.records().toList()
+    records.close()
+
+    then:
+    records.headline() == "id,value"
+    actualRows == rows
+
+    where:
+    memoryMapped << [false, true]
+  }
+
+  def "The csv file connector throws an Exception on memory mapped reading, if the foreseen file cannot be found"() {
+    given:
+    def connector = new CsvFileConnector(tmpDirectory, true)
+
+    when:
+    connector.initRecordReader(Path.of("path-does-not-exist"))
+
+    then:
+    thrown(FileNotFoundException)
+  }
+
+  def "The csv file connector writes gzip compressed files, that are read transparently"() {
+    given:
+    def baseDirectory = tmpDirectory.resolve("compressed_" + (asyncWriting != null))
+    def connector = new CsvFileConnector(baseDirectory, FileType.CSV_GZ, asyncWriting)
+    def definition = new CsvFileDefinition(Path.of("compressed.csv"), ["id", "value"] as String[], ",")
+    def rows = (0..<10000).collect { ["id": it.toString(), "value": "value " + it] }
+
+    when:
+    def writer = connector.getOrInitWriter(NodeInput, definition)
+    rows.forEach { writer.write(it) }
+    connector.shutdown()
+    def lines = connector.initReader(Path.of("compressed")).readLines()
+    def records = new CsvFileConnector(baseDirectory, true).initRecordReader(Path.of("compressed"))
+    def recordRows = records.records().toList()
+    records.close()
+
+    then:
+    !Files.exists(baseDirectory.resolve("compressed.csv"))
+    Files.exists(baseDirectory.resolve("compressed.csv.gz"))
+    new GZIPInputStream(Files.newInputStream(baseDirectory.resolve("compressed.csv.gz"))).text.readLines() == lines
+    lines.size() == 10001
+    lines.first() == "id,value"
+    lines.last() == "9999,value 9999"
+    records.headline() == "id,value"
+    recordRows == lines.tail()
+
+    where:
+    asyncWriting << [null, CsvWriterPool.Config.DEFAULT]
+  }
+
+  def "The csv file connector prefers plain csv files over compressed ones"() {
+    given:
+    def baseDirectory = tmpDirectory.resolve("preference")
+    Files.createDirectories(baseDirectory)
+    Files.writeString(baseDirectory.resolve("file.csv"), "plain\n")
+    def compressed = baseDirectory.resolve("file.csv.gz")
+    new GZIPOutputStream(Files.newOutputStream(compressed)).withCloseable { it.write("compressed\n".bytes) }
+    def connector = new CsvFileConnector(baseDirectory)
+
+    expect:
+    connector.initReader(Path.of("file")).readLine() == "plain"
+    connector.initReader(Path.of("file.csv.gz")).readLine() == "compressed"
+  }
+
+  def "The csv file connector refuses random access to compressed files"() {
+    given:
+    def baseDirectory = tmpDirectory.resolve("random_access")
+    Files.createDirectories(baseDirectory)
+    new GZIPOutputStream(Files.newOutputStream(baseDirectory.resolve("file.csv.gz"))).close()
+    def connector = new CsvFileConnector(baseDirectory)
+
+    when:
+    connector.initFileChannel(Path.of("file"))
+
+    then:
+    def exception = thrown(IOException)
+    exception.message.contains("compressed")
+  }
+
+  def "The csv file connector initialises each writer once, if it is requested concurrently"() {
+    given:
+    def baseDirectory = tmpDirectory.resolve("concurrent_writers")
+    def connector = new CsvFileConnector(baseDirectory)
+    def timeSeries = (0..<8).collect { new IndividualTimeSeries(UUID.randomUUID(), [] as Set) }
+    def executor = Executors.newFixedThreadPool(8)
+    def start = new CountDownLatch(1)
+
+    when:
+    def futures = (0..<64).collect { index ->
+      executor.submit({
+        start.await()
+        def series = timeSeries[index % timeSeries.size()]
+        def writer = connector.getOrInitWriter(series, new CsvFileDefinition(Path.of(series.uuid.toString() + ".csv"), ["index"] as String[], ","))
+        writer.writeRow([index.toString()] as String[])
+        writer
+      } as Callable)
+    }
+    start.countDown()
+    def writers = futures.collect { it.get() }
+    connector.shutdown()
+
+    then:
+    writers.toSet().size() == timeSeries.size()
+    timeSeries.every { series ->
+      def lines = Files.readAllLines(baseDirectory.resolve(series.uuid.toString() + ".csv"))
+      lines.first() == "index" && lines.size() == 9
+    }
+
+    cleanup:
+    executor.shutdown()
+  }
+
+  /* Only executed on demand, e.g. by running "gradle test -Dbenchmark=true" */
+  @Requires({ sys.benchmark })
+  def "Benchmark: Writing different files with the csv file connector scales with the number of threads"() {
+    given:
+    def rowsPerFile = 50_000
+    def files = 8
+
+    when:
+    def nanos = [1, 2, 4, 8].collectEntries { threads ->
+      def baseDirectory = tmpDirectory.resolve("benchmark_" + threads)
+      def connector = new CsvFileConnector(baseDirectory)
+      def timeSeries = (0..<files).collect { new IndividualTimeSeries(UUID.randomUUID(), [] as Set) }
+      def executor = Executors.newFixedThreadPool(threads)
+      def start = System.nanoTime()
+      timeSeries.collect { series ->
+        executor.submit({
+          def definition = new CsvFileDefinition(Path.of(series.uuid.toString() + ".csv"), ["index", "value"] as String[], ",")
+          for (int row = 0; row < rowsPerFile; row++) {
+            // look up the writer on each row, as done by the sinks
+            connector.getOrInitWriter(series, definition).writeRow([row.toString(), "value"] as String[])
+          }
+        } as Callable)
+      }.each { it.get() }
+      def duration = System.nanoTime() - start
+      executor.shutdown()
+      connector.shutdown()
+      [(threads): duration]
+    }
+    nanos.each { threads, duration ->
+      log.info("Writing {} rows to {} files with {} threads: {} ms", files * rowsPerFile, files, threads, duration / 1_000_000)
+    }
+
+    then:
+    nanos[8] < nanos[1]
+  }
 }
@@ -13,6 +13,7 @@ import spock.lang.Shared
 import spock.lang.Specification
 
 import java.sql.SQLException
+import java.time.Duration
 
 @Testcontainers
 class SqlConnectorIT extends Specification implements TestContainerHelper {
@@ -132,6 +133,111 @@ class SqlConnectorIT extends Specification implements TestContainerHelper {
     preparedStatement.close()
   }
 
+  def "A SQL connector provides typed rows with the same field to value mapping as the extracted maps"() {
+    given:
+    def preparedStatement = connector.getConnection(false).prepareStatement("SELECT * FROM public.test ORDER BY id;")
+
+    when:
+    def actual = connector.toStream(preparedStatement, 1).toList().sort { it.get("id") }
+
+    then:
+    actual.every { it instanceof SqlRow }
+    actual.first() == [a: "hello", b: "1", id: "1"]
+    actual.first().get("ID") == "1"
+
+    cleanup:
+    preparedStatement.close()
+  }
+
+  def "A SQL connector shares the metadata of a schema until it is refreshed"() {
+    given:
+    def metadata = connector.getSchemaMetadata("public")
+    connector.executeUpdate("CREATE TABLE public.metadata_test (id INT PRIMARY KEY, some_value TEXT);")
+
+    expect:
+    metadata.getColumnName("test", "A") == Optional.of("a")
+    metadata.getFieldNames("test") == Optional.of(["id", "a", "b"] as Set)
+    connector.getSchemaMetadata("public").is(metadata)
+    !connector.getSchemaMetadata("public").containsTable("metadata_test")
+
+    when:
+    def refreshed = connector.refreshSchemaMetadata("public")
+
+    then:
+    connector.getSchemaMetadata("public").is(refreshed)
+    refreshed.getColumnName("metadata_test", "someValue") == Optional.of("some_value")
+
+    cleanup:
+    connector.executeUpdate("DROP TABLE public.metadata_test;")
+    connector.clearSchemaMetadata()
+  }
+
+  def "A SQL connector commits a transaction on a pooled connection and rolls it back on failure"() {
+    given:
+    def pooledConnector = new SqlConnector(postgreSQLContainer.jdbcUrl, postgreSQLContainer.username, postgreSQLContainer.password, 2)
+    pooledConnector.executeUpdate("CREATE TABLE public.transaction_test (id INT PRIMARY KEY);")
+
+    when:
+    pooledConnector.inTransaction { connection ->
+      pooledConnector.executeUpdate("INSERT INTO public.transaction_test VALUES (1);")
+      pooledConnector.executeUpdate("INSERT INTO public.transaction_test VALUES (2);")
+    }
+    pooledConnector.inTransaction { connection ->
+      pooledConnector.executeUpdate("INSERT INTO public.transaction_test VALUES (3);")
+      pooledConnector.executeUpdate("INSERT INTO public.transaction_test VALUES (1);")
+    }
+
+    then:
+    thrown(SQLException)
+    !pooledConnector.inTransaction
+    def ps = pooledConnector.getConnection().prepareStatement("SELECT * FROM public.transaction_test;")
+    pooledConnector.toStream(ps, 10).map { it.get("id") }.toList().toSorted() == ["1", "2"]
+
+    cleanup:
+    pooledConnector.executeUpdate("DROP TABLE public.transaction_test;")
+    pooledConnector.shutdown()
+  }
+
+  def "A SQL connector closes the connection of a transaction, that ends after shutdown"() {
+    given:
+    def pooledConnector = new SqlConnector(postgreSQLContainer.jdbcUrl, postgreSQLContainer.username, postgreSQLContainer.password, 2)
+    def pooled = null
+
+    when:
+    def openDuringTransaction = pooledConnector.inTransaction { connection ->
+      pooled = connection
+      pooledConnector.shutdown()
+      !connection.closed
+    }
+
+    then:
+    openDuringTransaction
+    pooled.closed
+  }
+
+  def "A SQL connector refuses to start a transaction after shutdown"() {
+    given:
+    def pooledConnector = new SqlConnector(postgreSQLContainer.jdbcUrl, postgreSQLContainer.username, postgreSQLContainer.password, 2)
+    pooledConnector.inTransaction { connection -> connection.isValid(1) }
+    pooledConnector.shutdown(Duration.ofSeconds(1))
+
+    when:
+    pooledConnector.inTransaction { connection -> true }
+
+    then:
+    def exception = thrown(SQLException)
+    exception.message == "The connector has already been shut down."
+  }
+
+  def "A SQL connector refuses a non-positive pool size"() {
+    when:
+    new SqlConnector(postgreSQLContainer.jdbcUrl, postgreSQLContainer.username, postgreSQLContainer.password, 0)
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == "The pool size has to be positive."
+  }
+
   def "A SQL connector shuts down correctly, if no connection was opened"() {
     given:
     def testConnector = new SqlConnector(postgreSQLContainer.jdbcUrl, postgreSQLContainer.username, postgreSQLContainer.password)
@@ -0,0 +1,135 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.connectors
+
+import edu.ie3.datamodel.io.factory.EntityData
+import edu.ie3.datamodel.models.result.NodeResult
+import edu.ie3.util.TimeUtil
+import spock.lang.Specification
+
+import java.sql.ResultSet
+import java.sql.ResultSetMetaData
+import java.sql.Timestamp
+import java.sql.Types
+import java.time.ZonedDateTime
+
+class SqlRowTest extends Specification {
+
+  private static final UUID INPUT_MODEL = UUID.fromString("5ebd8f7e-dedb-4017-bb86-6373c4b68eb8")
+  private static final Timestamp TIME = Timestamp.from(ZonedDateTime.parse("2020-01-01T10:15:00Z").toInstant())
+
+  private ResultSet resultSet() {
+    def names = ["input_model", "time", "v_mag", "v_ang", "id", "count"]
+    def types = [Types.OTHER, Types.TIMESTAMP_WITH_TIMEZONE, Types.DOUBLE, Types.DOUBLE, Types.VARCHAR, Types.INTEGER]
+    def typeNames = ["uuid", "timestamptz", "float8", "float8", "varchar", "int4"]
+    def values = [INPUT_MODEL, TIME, 1.01d, null, "node", 7]
+
+    def metaData = Stub(ResultSetMetaData) {
+      getColumnCount() >> names.size()
+      getColumnName(_ as Integer) >> { int column -> names[column - 1] }
+      getColumnType(_ as Integer) >> { int column -> types[column - 1] }
+      getColumnTypeName(_ as Integer) >> { int column -> typeNames[column - 1] }
+    }
+    def lastValue = null
+    return Stub(ResultSet) {
+      getMetaData() >> metaData
+      getObject(_ as Integer, UUID) >> { int column, Class clazz -> values[column - 1] }
+      getObject(_ as Integer) >> { int column -> values[column - 1] }
+      getTimestamp(_ as Integer) >> { int column -> values[column - 1] }
+      getDouble(_ as Integer) >> { int column ->
+        lastValue = values[column - 1]
+        lastValue == null ? 0d : lastValue
+      }
+      wasNull() >> { lastValue == null }
+    }
+  }
+
+  def "A SqlHeader resolves the columns to camel case field names with a case-insensitive index"() {
+    when:
+    def header = SqlHeader.of(resultSet().getMetaData())
+
+    then:
+    header.size() == 6
+    header.getFieldName(2) == "vMag"
+    header.indexOf("vMag") == 2
+    header.indexOf("VMAG") == 2
+    header.indexOf("inputModel") == 0
+    header.indexOf("p") == -1
+  }
+
+  def "A SqlRow provides the same field to value mapping as the connector"() {
+    given:
+    def rs = resultSet()
+
+    when:
+    def row = SqlRow.read(SqlHeader.of(rs.getMetaData()), rs)
+
+    then:
+    row == [
+      inputModel: INPUT_MODEL.toString(),
+      time: TimeUtil.withDefaults.toString(TIME.toInstant()),
+      vMag: "1.01",
+      vAng: "null",
+      id: "node",
+      count: "7"
+    ]
+    row.get("VMAG") == "1.01"
+    row.containsKey("Id")
+    !row.containsKey("p")
+  }
+
+  def "A SqlRow provides typed values without parsing"() {
+    given:
+    def rs = resultSet()
+    def row = SqlRow.read(SqlHeader.of(rs.getMetaData()), rs)
+
+    expect:
+    row.getDouble("vMag") == Optional.of(1.01d)
+    row.getDouble("count") == Optional.of(7d)
+    row.getDouble("vAng") == Optional.empty()
+    row.getDouble("id") == Optional.empty()
+    row.getUUID("inputModel") == Optional.of(INPUT_MODEL)
+    row.getZonedDateTime("time", TimeUtil.withDefaults) == Optional.of(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T10:15:00Z"))
+  }
+
+  def "A SqlRow can be modified without affecting its copies"() {
+    given:
+    def rs = resultSet()
+    def row = SqlRow.read(SqlHeader.of(rs.getMetaData()), rs)
+    def copy = row.copy()
+
+    when:
+    row.keySet().remove("ID")
+    row.remove("count")
+    row.put("vMag", "2.0")
+    row.put("operator", "test")
+
+    then:
+    row.size() == 5
+    !row.containsKey("id")
+    row.get("operator") == "test"
+    row.get("vMag") == "2.0"
+    row.getDouble("vMag") == Optional.empty()
+    copy.size() == 6
+    copy.get("id") == "node"
+    copy.getDouble("vMag") == Optional.of(1.01d)
+  }
+
+  def "Factory data consumes the typed values of a SqlRow"() {
+    given:
+    def rs = resultSet()
+    def row = SqlRow.read(SqlHeader.of(rs.getMetaData()), rs)
+    def data = new EntityData(row, NodeResult)
+
+    expect:
+    data.getUUID("inputModel") == INPUT_MODEL
+    data.getZonedDateTime("time", TimeUtil.withDefaults) == TimeUtil.withDefaults.toZonedDateTime("2020-01-01T10:15:00Z")
+    data.getDouble("vMag") == 1.01d
+    !data.containsKey("inputModel")
+    !data.containsKey("vMag")
+    row.containsKey("vMag")
+  }
+}
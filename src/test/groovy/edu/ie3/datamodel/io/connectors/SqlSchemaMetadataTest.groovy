@@ -0,0 +1,98 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.connectors
+
+import spock.lang.Specification
+
+import java.sql.DatabaseMetaData
+import java.sql.ResultSet
+
+class SqlSchemaMetadataTest extends Specification {
+
+  SqlSchemaMetadata metadata
+
+  private ResultSet rows(List<Map<String, String>> rows) {
+    def position = -1
+    return Stub(ResultSet) {
+      next() >> { ++position < rows.size() }
+      getString(_ as String) >> { String column -> rows[position][column] }
+    }
+  }
+
+  def setup() {
+    def metaData = Stub(DatabaseMetaData) {
+      getTables(null, "public", null, null) >> rows([
+        [TABLE_SCHEM: "public", TABLE_NAME: "its_p"],
+        [TABLE_SCHEM: "public", TABLE_NAME: "its_pq"],
+        [TABLE_SCHEM: "public", TABLE_NAME: "empty"],
+        [TABLE_SCHEM: "publicXprivate", TABLE_NAME: "other"]
+      ])
+      getColumns(null, "public", null, null) >> rows([
+        [TABLE_SCHEM: "public", TABLE_NAME: "its_p", COLUMN_NAME: "time_series"],
+        [TABLE_SCHEM: "public", TABLE_NAME: "its_p", COLUMN_NAME: "time"],
+        [TABLE_SCHEM: "public", TABLE_NAME: "its_p", COLUMN_NAME: "p"],
+        [TABLE_SCHEM: "public", TABLE_NAME: "its_pq", COLUMN_NAME: "q"],
+        [TABLE_SCHEM: "publicXprivate", TABLE_NAME: "other", COLUMN_NAME: "id"]
+      ])
+    }
+    metadata = SqlSchemaMetadata.load(metaData, "public")
+  }
+
+  def "The metadata of a schema only contains the tables of exactly this schema"() {
+    expect:
+    metadata.getSchemaName() == "public"
+    metadata.containsTable("its_p")
+    metadata.containsTable("empty")
+    !metadata.containsTable("other")
+  }
+
+  def "The metadata of a schema finds tables by pattern"() {
+    expect:
+    metadata.getTableNames(pattern) == expected
+
+    where:
+    pattern  || expected
+    "its_%"  || ["its_p", "its_pq"]
+    "its_p"  || ["its_p"]
+    "its___" || ["its_pq"]
+    "%"      || ["empty", "its_p", "its_pq"]
+    "other"  || []
+  }
+
+  def "The metadata of a schema resolves column names by their camel case field names"() {
+    expect:
+    metadata.getColumnName(table, field) == Optional.ofNullable(expected)
+
+    where:
+    table    | field        || expected
+    "its_p"  | "timeSeries" || "time_series"
+    "its_p"  | "TIMESERIES" || "time_series"
+    "its_p"  | "time"       || "time"
+    "its_p"  | "q"          || null
+    "its_pq" | "q"          || "q"
+    "other"  | "id"         || null
+  }
+
+  def "The metadata of a schema provides the columns and field names of a table"() {
+    expect:
+    metadata.getColumnNames("its_p") == Optional.of(["time_series", "time", "p"])
+    metadata.getFieldNames("its_p") == Optional.of(["timeSeries", "time", "p"] as Set)
+    metadata.getFieldNames("empty") == Optional.of([] as Set)
+    metadata.getFieldNames("other") == Optional.empty()
+  }
+
+  def "The metadata of a schema remembers look-ups without a match"() {
+    expect:
+    !metadata.isKnownMiss("load_profiles")
+    metadata.rememberMiss("load_profiles")
+    !metadata.rememberMiss("load_profiles")
+    metadata.isKnownMiss("load_profiles")
+    !SqlSchemaMetadata.load(Stub(DatabaseMetaData) {
+      getTables(*_) >> rows([])
+      getColumns(*_) >> rows([])
+    }, "public").isKnownMiss("load_profiles")
+  }
+}
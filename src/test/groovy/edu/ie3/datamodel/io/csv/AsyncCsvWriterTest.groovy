@@ -0,0 +1,124 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.datamodel.exceptions.SinkException
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.util.stream.IntStream
+
+class AsyncCsvWriterTest extends Specification {
+  @Shared
+  Path tmpDirectory
+
+  def setupSpec() {
+    tmpDirectory = Files.createTempDirectory("psdm_csv_async_writer_")
+  }
+
+  def cleanupSpec() {
+    FileIOUtils.deleteRecursively(tmpDirectory)
+  }
+
+  def "An AsyncCsvWriter writes all rows of concurrent producers in one piece each"() {
+    given:
+    def pool = new CsvWriterPool(new CsvWriterPool.Config(2, 16, 100, 1 << 20, Duration.ZERO))
+    def targetFile = tmpDirectory.resolve("concurrent.csv")
+    def writer = pool.open(targetFile, ["a", "b"] as String[], ",", false)
+    writer.writeFileHeader()
+
+    when:
+    IntStream.range(0, 10000).parallel().forEach {
+      writer.write(["a": it.toString(), "b": "value"])
+    }
+    writer.flush()
+    def lines = Files.readAllLines(targetFile)
+
+    then:
+    lines.size() == 10001
+    lines.first() == "a,b"
+    lines.tail().collect { it.split(",")[0] as int }.toSet() == (0..<10000).toSet()
+    lines.tail().every { it.endsWith(",value") }
+
+    cleanup:
+    writer.close()
+    pool.close()
+  }
+
+  def "An AsyncCsvWriter flushes rows after the configured interval"() {
+    given:
+    def pool = new CsvWriterPool(new CsvWriterPool.Config(1, 16, 1000, 1 << 20, Duration.ofMillis(50)))
+    def targetFile = tmpDirectory.resolve("timed.csv")
+    def writer = pool.open(targetFile, ["a", "b"] as String[], ",", false)
+
+    when:
+    writer.write(["a": "1", "b": "2"])
+
+    then:
+    new PollingConditions(timeout: 5).eventually {
+      assert Files.readAllLines(targetFile) == ["1,2"]
+    }
+
+    cleanup:
+    writer.close()
+    pool.close()
+  }
+
+  def "An AsyncCsvWriter refuses rows, that do not meet the head line, right away"() {
+    given:
+    def pool = new CsvWriterPool(CsvWriterPool.Config.DEFAULT)
+    def writer = pool.open(tmpDirectory.resolve("malformed.csv"), ["a", "b"] as String[], ",", false)
+
+    when:
+    writer.write(["a": "1", "c": "2"])
+
+    then:
+    def e = thrown(SinkException)
+    e.message == "The provided data does not meet the pre-defined head line elements 'a,b'."
+
+    cleanup:
+    writer.close()
+    pool.close()
+  }
+
+  def "An AsyncCsvWriter refuses rows after it has been closed"() {
+    given:
+    def pool = new CsvWriterPool(CsvWriterPool.Config.DEFAULT)
+    def writer = pool.open(tmpDirectory.resolve("closed.csv"), ["a", "b"] as String[], ",", false)
+    writer.close()
+
+    when:
+    writer.write(["a": "1", "b": "2"])
+
+    then:
+    def e = thrown(IOException)
+    e.message == "The writer is already closed."
+
+    cleanup:
+    pool.close()
+  }
+
+  def "A CsvWriterPool config refuses invalid values"() {
+    when:
+    new CsvWriterPool.Config(writerThreads, queueCapacity, flushRows, 1024, flushInterval)
+
+    then:
+    def e = thrown(IllegalArgumentException)
+    e.message == expectedMessage
+
+    where:
+    writerThreads | queueCapacity | flushRows | flushInterval          || expectedMessage
+    0             | 1             | 1         | Duration.ZERO          || "The number of writer threads has to be positive."
+    1             | 0             | 1         | Duration.ZERO          || "The queue capacity has to be positive."
+    1             | 1             | 0         | Duration.ZERO          || "The flush limits have to be positive."
+    1             | 1             | 1         | Duration.ofSeconds(-1) || "The flush interval must not be negative."
+  }
+}
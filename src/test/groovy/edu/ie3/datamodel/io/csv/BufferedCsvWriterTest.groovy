@@ -110,4 +110,29 @@ class BufferedCsvWriterTest extends Specification {
     headline == "third_header,second_header,first_header"
     writtenContent == "third_value,second_value,first_value"
   }
+
+  def "The buffered csv writer writes rows in the given order of values"() {
+    given:
+    def targetFile = tmpDirectory.resolve("row_test.csv")
+    def writer = new BufferedCsvWriter(targetFile, ["a", "b", "c"] as String[], ",", false)
+
+    when:
+    writer.writeRow(["1", "", "3"] as String[])
+    writer.close()
+
+    then:
+    Files.readAllLines(targetFile) == ["1,,3"]
+  }
+
+  def "The buffered csv writer refuses to write rows, whose length does not conform the needed length of head line elements"() {
+    given:
+    def writer = new BufferedCsvWriter(tmpDirectory.resolve("row_test.csv"), ["a", "b", "c"] as String[], ",", false)
+
+    when:
+    writer.writeRow(["1", "2"] as String[])
+
+    then:
+    def e = thrown(SinkException)
+    e.message == "The provided row of 2 values does not meet the pre-defined head line elements 'a,b,c'."
+  }
 }
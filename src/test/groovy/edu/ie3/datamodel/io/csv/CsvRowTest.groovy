@@ -0,0 +1,96 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.datamodel.exceptions.SourceException
+import spock.lang.Specification
+
+class CsvRowTest extends Specification {
+
+  def "A CsvHeader resolves the headline to camel case field names with a case-insensitive index"() {
+    when:
+    def header = CsvHeader.of(["uuid", "s_rated", "cos_phi_rated"] as String[])
+
+    then:
+    header.size() == 3
+    header.getFieldName(1) == "sRated"
+    header.indexOf("sRated") == 1
+    header.indexOf("srated") == 1
+    header.indexOf("COSPHIRATED") == 2
+    header.indexOf("id") == -1
+    header.getHeadline() == ["uuid", "s_rated", "cos_phi_rated"] as String[]
+  }
+
+  def "A CsvHeader cannot be built from a headline with duplicated elements"() {
+    when:
+    CsvHeader.of(["uuid", "s_rated", "sRated"] as String[])
+
+    then:
+    def exception = thrown(SourceException)
+    exception.message.startsWith("Headline element 'sRated' is duplicated.")
+  }
+
+  def "A CsvRow provides case-insensitive access to its fields"() {
+    given:
+    def header = CsvHeader.of(["uuid", "s_rated", "id"] as String[])
+    def row = new CsvRow(header, ["5ebd8f7e-dedb-4017-bb86-6373c4b68eb8", "25.0", "test"] as String[])
+
+    expect:
+    row.size() == 3
+    row.get("sRated") == "25.0"
+    row.get("SRATED") == "25.0"
+    row.containsKey("Id")
+    !row.containsKey("operator")
+    row.get("operator") == null
+    row == [uuid: "5ebd8f7e-dedb-4017-bb86-6373c4b68eb8", sRated: "25.0", id: "test"]
+    row.hashCode() == [uuid: "5ebd8f7e-dedb-4017-bb86-6373c4b68eb8", sRated: "25.0", id: "test"].hashCode()
+  }
+
+  def "A CsvRow can be modified without affecting its copies"() {
+    given:
+    def header = CsvHeader.of(["uuid", "s_rated", "id"] as String[])
+    def row = new CsvRow(header, ["5ebd8f7e-dedb-4017-bb86-6373c4b68eb8", "25.0", "test"] as String[])
+    def copy = row.copy()
+
+    when:
+    row.keySet().remove("UUID")
+    row.remove("id")
+    row.put("srated", "30.0")
+    row.put("operator", "op")
+
+    then:
+    row == [sRated: "30.0", operator: "op"]
+    row.size() == 2
+    !row.containsKey("uuid")
+    row.get("OPERATOR") == "op"
+    copy == [uuid: "5ebd8f7e-dedb-4017-bb86-6373c4b68eb8", sRated: "25.0", id: "test"]
+    copy.getHeader().is(row.getHeader())
+
+    when:
+    row.put("uuid", "c3b0d9d6-5044-4f51-80b4-f221d8b1f14b")
+    def iterator = row.entrySet().iterator()
+    iterator.next()
+    iterator.remove()
+
+    then:
+    row == [sRated: "30.0", operator: "op"]
+
+    when:
+    row.clear()
+
+    then:
+    row.isEmpty()
+  }
+
+  def "A CsvRow cannot be created with a number of values not fitting to the header"() {
+    when:
+    new CsvRow(CsvHeader.of(["uuid", "id"] as String[]), ["a"] as String[])
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == "The number of values (1) does not fit to the size of the header (2)."
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.util.StringUtils
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Requires
+import spock.lang.Specification
+
+class CsvRowTokenizerTest extends Specification {
+
+  private static final Logger log = LoggerFactory.getLogger(CsvRowTokenizerTest)
+
+  /** The former, regex based implementation of parsing a csv row, kept as reference */
+  static String[] parseWithRegex(String csvRow, String csvSep) {
+    return Arrays.stream(csvRow.split(csvSep + "(?=(?:[^\"]*\"[^\"]*\")*[^\"]*\$)", -1))
+        .map { field -> StringUtils.unquoteStartEnd(field.trim()).replaceAll("\"{2}", "\"").trim() }
+        .toArray { size -> new String[size] }
+  }
+
+  def "A CsvRowTokenizer parses rows the same way as the former regex based implementation"() {
+    given:
+    def tokenizer = new CsvRowTokenizer(csvSep)
+
+    when:
+    def count = tokenizer.parse(csvRow)
+
+    then:
+    count == tokenizer.size()
+    tokenizer.toArray() == parseWithRegex(csvRow, csvSep)
+
+    where:
+    csvSep | csvRow
+    ","    | "\"4ca90220-74c2-4369-9afa-a18bf068840d\",\"{\"type\":\"Point\",\"coordinates\":[7.411111,51.492528],\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:4326\"}}}\",\"node_a\""
+    ";"    | "1;abc;def;\"He said \"\"run; run\"\"\"; 6.0; \"thats \"\"good\"\"\""
+    ","    | "1,abc,def,\"He said \"\"test, test\"\" and was happy\",\"obviously, yet.\", 5.0"
+    ","    | "1,abc,def,\"He said \"\"test, test\"\" and was happy\", 5.0, \"... and felt like a \"\"genius\"\" with this.\","
+    ","    | ""
+    ","    | ",,"
+    ","    | "\" padded \", \"\"\"\"\"\", \"\"\""
+    "::"   | "a::\"b::c\"::d"
+  }
+
+  def "A CsvRowTokenizer reuses its buffer and discards previously parsed fields"() {
+    given:
+    def tokenizer = new CsvRowTokenizer(",")
+    def longRow = (0..<40).collect { it.toString() }.join(",")
+
+    when:
+    tokenizer.parse(longRow)
+    def count = tokenizer.parse("a,b")
+
+    then:
+    count == 2
+    tokenizer.toArray() == ["a", "b"] as String[]
+    tokenizer.get(1) == "b"
+
+    when:
+    tokenizer.get(2)
+
+    then:
+    thrown(IndexOutOfBoundsException)
+  }
+
+  def "A CsvRowTokenizer cannot be created with an empty separator"() {
+    when:
+    new CsvRowTokenizer("")
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == "The csv separator must not be empty."
+  }
+
+  /* Only executed on demand, e.g. by running "gradle test -Dbenchmark=true" */
+  @Requires({ sys.benchmark })
+  def "Benchmark: A CsvRowTokenizer is faster than the regex based implementation on quote heavy rows"() {
+    given:
+    def geoPosition = "\"{\"\"type\"\":\"\"LineString\"\",\"\"coordinates\"\":[" + (0..<50).collect { "[7.4${it},51.4${it}]" }.join(",") + "],\"\"crs\"\":{\"\"type\"\":\"\"name\"\",\"\"properties\"\":{\"\"name\"\":\"\"EPSG:4326\"\"}}}\""
+    def row = ["91ec3bcf-1777-4d38-af67-0bf7c9fa73c7", "\"line_a\"", geoPosition, "2020-03-25T15:11:31Z", "1.0"].join(",")
+    def rows = 20_000
+    def tokenizer = new CsvRowTokenizer(",")
+
+    when:
+    // warm up both implementations
+    (0..<2_000).each {
+      parseWithRegex(row, ",")
+      tokenizer.parse(row)
+    }
+    def regexStart = System.nanoTime()
+    (0..<rows).each { parseWithRegex(row, ",") }
+    def regexNanos = System.nanoTime() - regexStart
+
+    def tokenizerStart = System.nanoTime()
+    (0..<rows).each { tokenizer.parse(row) }
+    def tokenizerNanos = System.nanoTime() - tokenizerStart
+
+    log.info("Parsing {} rows: regex {} ms, tokenizer {} ms", rows, regexNanos / 1_000_000, tokenizerNanos / 1_000_000)
+
+    then:
+    tokenizerNanos < regexNanos
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class MappedCsvFileTest extends Specification {
+  @Shared
+  Path tmpDirectory
+
+  def setupSpec() {
+    tmpDirectory = Files.createTempDirectory("psdm_mapped_csv_file_")
+  }
+
+  def cleanupSpec() {
+    FileIOUtils.deleteRecursively(tmpDirectory)
+  }
+
+  def "A MappedCsvFile splits a file into byte ranges without splitting records"() {
+    given:
+    def file = tmpDirectory.resolve("chunks.csv")
+    def rows = (0..<500).collect { "${it},\"multi\nline, ${it}\",Höchstspannung".toString() }
+    Files.writeString(file, "id,text,voltLvl\r\n" + rows.join("\r\n") + "\r\n")
+
+    when:
+    def mappedFile = MappedCsvFile.open(file, 256)
+
+    then:
+    mappedFile.headline == "id,text,voltLvl"
+    mappedFile.chunkCount > 1
+    mappedFile.records().toList() == rows
+  }
+
+  def "A MappedCsvFile handles files without records correctly"() {
+    given:
+    def file = tmpDirectory.resolve(fileName)
+    Files.writeString(file, content)
+
+    when:
+    def mappedFile = MappedCsvFile.open(file)
+
+    then:
+    mappedFile.headline == expectedHeadline
+    mappedFile.records().count() == 0
+
+    where:
+    fileName        | content   || expectedHeadline
+    "empty.csv"     | ""        || null
+    "headline.csv"  | "a,b"     || "a,b"
+    "headline2.csv" | "a,b\n"   || "a,b"
+  }
+
+  def "A MappedCsvFile cannot be opened with a non-positive chunk size"() {
+    when:
+    MappedCsvFile.open(tmpDirectory.resolve("chunks.csv"), 0)
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == "The chunk size has to be positive."
+  }
+}
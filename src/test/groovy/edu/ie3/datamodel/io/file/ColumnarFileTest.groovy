@@ -0,0 +1,217 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.file
+
+import edu.ie3.datamodel.exceptions.SinkException
+import edu.ie3.util.TimeUtil
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.time.ZonedDateTime
+
+class ColumnarFileTest extends Specification {
+
+  @Shared
+  Path tmpFile
+
+  @Shared
+  ZonedDateTime start = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"))
+
+  String[] columns = ["input_model", "p", "q", "time", "name"]
+
+  def setup() {
+    tmpFile = Files.createTempFile("psdm_columnar_", FileType.COLUMNAR.fileEnding)
+  }
+
+  def cleanup() {
+    Files.deleteIfExists(tmpFile)
+  }
+
+  def rows(int count) {
+    def uuids = (0..<10).collect { UUID.randomUUID() }
+    (0..<count).collect {
+      [
+        uuids[it % 10].toString(),
+        Double.toString(Math.sin(it)),
+        it % 7 == 0 ? "" : Double.toString(it * 0.5d),
+        TimeUtil.withDefaults.toString(start.plusMinutes(15L * it.intdiv(10))),
+        it % 3 == 0 ? "quoted,\"name\"" : ""
+      ] as String[]
+    }
+  }
+
+  def readAll(ColumnarFileReader reader, long from, long to) {
+    def rows = []
+    String[][] rowGroup
+    while ((rowGroup = reader.nextRowGroup(from, to)) != null) rows.addAll(rowGroup)
+    rows
+  }
+
+  def "A ColumnarFileWriter writes rows, that are restored exactly by a ColumnarFileReader"() {
+    given:
+    def rows = rows(1000)
+
+    when:
+    new ColumnarFileWriter(tmpFile, columns, 128).withCloseable { writer ->
+      rows.each { writer.writeRow(it) }
+    }
+    def reader = ColumnarFileReader.open(tmpFile)
+    def actual = readAll(reader, Long.MIN_VALUE, Long.MAX_VALUE)
+    reader.close()
+
+    then:
+    reader.columns == columns
+    reader.readRowGroups == 8
+    actual.size() == rows.size()
+    (0..<rows.size()).every { actual[it] == rows[it] }
+  }
+
+  def "A ColumnarFileWriter writes values as strings, if they cannot be restored exactly by a typed encoding"() {
+    given:
+    def rows = [
+      [
+        UUID.randomUUID().toString(),
+        "1.0",
+        "",
+        "2020-01-01T00:00Z",
+        "a"
+      ] as String[],
+      [
+        UUID.randomUUID().toString().toUpperCase(),
+        "1",
+        "1e3",
+        "2020-01-01T00:15:00+01:00",
+        ""
+      ] as String[]
+    ]
+
+    when:
+    new ColumnarFileWriter(tmpFile, columns, 16).withCloseable { writer ->
+      rows.each { writer.writeRow(it) }
+    }
+    def reader = ColumnarFileReader.open(tmpFile)
+    def actual = readAll(reader, Long.MIN_VALUE, Long.MAX_VALUE)
+    reader.close()
+
+    then:
+    actual.size() == 2
+    actual[0] == rows[0]
+    actual[1] == rows[1]
+  }
+
+  def "A ColumnarFileReader skips all row groups, that do not overlap the requested interval"() {
+    given:
+    def rows = rows(1000)
+    new ColumnarFileWriter(tmpFile, columns, 100).withCloseable { writer ->
+      rows.each { writer.writeRow(it) }
+    }
+    // each row group covers 10 quarter hours
+    def from = start.plusMinutes(15L * 25).toInstant().toEpochMilli()
+    def to = start.plusMinutes(15L * 35).toInstant().toEpochMilli()
+
+    when:
+    def reader = ColumnarFileReader.open(tmpFile)
+    def actual = readAll(reader, from, to)
+    reader.close()
+
+    then:
+    reader.readRowGroups == 2
+    reader.skippedRowGroups == 8
+    actual.size() == 200
+    (0..<200).every { actual[it] == rows[200 + it] }
+  }
+
+  def "A ColumnarFileReader skips row groups, whose times of mixed formats are written as strings"() {
+    given:
+    // the formats alternate, hence the time column cannot be delta encoded
+    def rows = rows(400).withIndex().collect { row, index ->
+      def time = start.plusMinutes(15L * index.intdiv(10))
+      row[3] = index % 2 == 0 ? TimeUtil.withDefaults.toString(time) : time.withZoneSameInstant(ZoneOffset.ofHours(1)).toOffsetDateTime().toString()
+      row
+    }
+    new ColumnarFileWriter(tmpFile, columns, 100).withCloseable { writer ->
+      rows.each { writer.writeRow(it) }
+    }
+    def from = start.plusMinutes(15L * 25).toInstant().toEpochMilli()
+    def to = start.plusMinutes(15L * 25).toInstant().toEpochMilli()
+
+    when:
+    def reader = ColumnarFileReader.open(tmpFile)
+    def actual = readAll(reader, from, to)
+    reader.close()
+
+    then:
+    reader.readRowGroups == 1
+    reader.skippedRowGroups == 3
+    actual.size() == 100
+    (0..<100).every { actual[it] == rows[200 + it] }
+  }
+
+  def "A ColumnarFileWriter is smaller than the corresponding csv file"() {
+    given:
+    def rows = rows(10000)
+
+    when:
+    new ColumnarFileWriter(tmpFile, columns, ColumnarFileWriter.DEFAULT_ROW_GROUP_SIZE).withCloseable { writer ->
+      rows.each { writer.writeRow(it) }
+    }
+    def csvSize = rows.sum { String.join(",", it).length() + 1 } as long
+
+    then:
+    Files.size(tmpFile) < csvSize / 2
+  }
+
+  def "A ColumnarFileWriter refuses rows, that do not meet its columns"() {
+    given:
+    def writer = new ColumnarFileWriter(tmpFile, columns, 16)
+
+    when:
+    writer.writeRow(["a", "b"] as String[])
+
+    then:
+    def e = thrown(SinkException)
+    e.message == "The provided row of 2 values does not meet the pre-defined columns 'input_model,p,q,time,name'."
+
+    cleanup:
+    writer.close()
+  }
+
+  def "A ColumnarFileWriter refuses a non-positive row group size"() {
+    when:
+    new ColumnarFileWriter(tmpFile, columns, 0)
+
+    then:
+    def e = thrown(IllegalArgumentException)
+    e.message == "The row group size has to be positive."
+  }
+
+  def "A ColumnarFileReader refuses files, that are not columnar or truncated"() {
+    when:
+    Files.writeString(tmpFile, content)
+    ColumnarFileReader.open(tmpFile)
+
+    then:
+    def e = thrown(IOException)
+    e.message == "The file '" + tmpFile + "' is " + expected + "."
+
+    where:
+    content        || expected
+    "uuid,p,q"     || "not a columnar file"
+    "PSDMCOL"      || "truncated"
+  }
+
+  def "A ColumnarFileReader refuses missing files"() {
+    when:
+    ColumnarFileReader.open(tmpFile.resolveSibling("missing.psdmcol"))
+
+    then:
+    thrown(FileNotFoundException)
+  }
+}
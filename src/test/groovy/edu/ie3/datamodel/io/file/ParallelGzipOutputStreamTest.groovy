@@ -0,0 +1,66 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.file
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.Executors
+import java.util.zip.GZIPInputStream
+
+class ParallelGzipOutputStreamTest extends Specification {
+
+  def "A ParallelGzipOutputStream writes data, that is readable by a plain gzip decoder"() {
+    given:
+    def executor = Executors.newFixedThreadPool(4)
+    def data = (0..<length).collect { "line ${it}\n" }.join("").getBytes(StandardCharsets.UTF_8)
+    def compressed = new ByteArrayOutputStream()
+
+    when:
+    new ParallelGzipOutputStream(compressed, 1000, 3, executor).withCloseable { stream ->
+      // mix single bytes and chunks, that span multiple blocks
+      stream.write(data, 0, data.length.intdiv(2))
+      stream.flush()
+      data[data.length.intdiv(2)..<data.length].each { stream.write(it) }
+    }
+    def decompressed = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())).readAllBytes()
+
+    then:
+    decompressed == data
+
+    cleanup:
+    executor.shutdown()
+
+    where:
+    length << [0, 10, 5000]
+  }
+
+  def "A closed ParallelGzipOutputStream refuses further data"() {
+    given:
+    def stream = new ParallelGzipOutputStream(new ByteArrayOutputStream())
+    stream.close()
+
+    when:
+    stream.write(1)
+
+    then:
+    thrown(IOException)
+  }
+
+  def "A ParallelGzipOutputStream refuses invalid settings"() {
+    when:
+    new ParallelGzipOutputStream(new ByteArrayOutputStream(), blockSize, maxPendingBlocks, Runnable::run)
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == expectedMessage
+
+    where:
+    blockSize | maxPendingBlocks || expectedMessage
+    0         | 1                || "The block size has to be positive."
+    1         | 0                || "The number of pending blocks has to be positive."
+  }
+}
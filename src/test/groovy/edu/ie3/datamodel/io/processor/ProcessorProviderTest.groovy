@@ -257,6 +257,30 @@ class ProcessorProviderTest extends Specification implements TimeSeriesTestData
     .every { str -> ex.message.contains(str) }
   }
 
+  def "A ProcessorProvider writes the values of an entity in the order of its header elements"() {
+    given:
+    ProcessorProvider provider = new ProcessorProvider([
+      new ResultEntityProcessor(PvResult)
+    ], [] as Map<TimeSeriesProcessorKey, TimeSeriesProcessor<TimeSeries<TimeSeriesEntry<Value>, Value, Value>, TimeSeriesEntry<Value>, Value, Value>>)
+    UUID inputModel = UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52")
+    Quantity<Power> p = Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN)
+    PvResult pvResult = new PvResult(TimeUtil.withDefaults.toZonedDateTime("2020-01-30T17:26:44Z"), inputModel, p, p)
+    String[] values = new String[4]
+
+    when:
+    provider.handleEntity(pvResult, values)
+
+    then:
+    provider.getHeaderElements(PvResult) == ["inputModel", "p", "q", "time"] as String[]
+    values == ["22bea5fc-2cb2-4c61-beb9-b476e0107f52", "0.01", "0.01", "2020-01-30T17:26:44Z"] as String[]
+
+    when:
+    provider.handleEntity(pvResult, new String[3])
+
+    then:
+    thrown(ProcessorProviderException)
+  }
+
   def "A ProcessorProvider returns an empty Optional, if none of the assigned processors is able to handle a time series"() {
     given:
     TimeSeriesProcessorKey key = new TimeSeriesProcessorKey(IndividualTimeSeries, TimeBasedValue, EnergyPriceValue)
@@ -288,4 +312,21 @@ class ProcessorProviderTest extends Specification implements TimeSeriesTestData
     then:
     actual == individualEnergyPriceTimeSeriesProcessed
   }
+
+  def "A ProcessorProvider hands the entries of a time series to a consumer one by one"() {
+    given:
+    TimeSeriesProcessorKey key = new TimeSeriesProcessorKey(IndividualTimeSeries, TimeBasedValue, EnergyPriceValue)
+    TimeSeriesProcessor<IndividualTimeSeries, TimeBasedValue, EnergyPriceValue, EnergyPriceValue> processor = new TimeSeriesProcessor<>(IndividualTimeSeries, TimeBasedValue, EnergyPriceValue)
+    Map<TimeSeriesProcessorKey, TimeSeriesProcessor> timeSeriesProcessorMap = new HashMap<>()
+    timeSeriesProcessorMap.put(key, processor)
+    ProcessorProvider provider = new ProcessorProvider([], timeSeriesProcessorMap)
+    List<Map<String, String>> actual = []
+
+    when:
+    provider.handleTimeSeries(individualEnergyPriceTimeSeries) { Map<String, String> entry -> actual.add(entry) }
+
+    then:
+    actual.size() == individualEnergyPriceTimeSeries.entries.size()
+    actual as Set == individualEnergyPriceTimeSeriesProcessed
+  }
 }
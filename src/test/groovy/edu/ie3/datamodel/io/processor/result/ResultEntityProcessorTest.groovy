@@ -93,6 +93,23 @@ class ResultEntityProcessorTest extends Specification {
     EmResult          | new EmResult(ZonedDateTime.parse("2020-01-30T17:26:44Z"), inputModel, p, q)           || expectedStandardResults
   }
 
+  def "A ResultEntityProcessor appends single field values to a provided buffer"() {
+    given:
+    def processor = new ResultEntityProcessor(EvResult)
+    def result = new EvResult(ZonedDateTime.parse("2020-01-30T17:26:44Z"), inputModel, p, q, soc)
+    def buffer = new StringBuilder()
+
+    when:
+    def values = processor.headerElements.collect { fieldName ->
+      buffer.setLength(0)
+      processor.appendFieldValue(result, processor.headerElements.findIndexOf { it == fieldName }, buffer)
+      [(fieldName): buffer.toString()]
+    }.collectEntries()
+
+    then:
+    values == expectedSocResults
+  }
+
   def "A ResultEntityProcessor should throw an exception if the provided class is not registered"() {
     given:
     def sysPartResProcessor = new ResultEntityProcessor(LoadResult)
@@ -0,0 +1,122 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.sink
+
+import edu.ie3.datamodel.io.naming.FileNamingStrategy
+import edu.ie3.datamodel.io.processor.ProcessorProvider
+import edu.ie3.datamodel.io.source.ResultEntitySource
+import edu.ie3.datamodel.io.source.columnar.ColumnarDataSource
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.result.connector.LineResult
+import edu.ie3.util.interval.ClosedInterval
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class ColumnarResultSinkTest extends Specification {
+
+  @Shared
+  Path tmpDirectory
+
+  @Shared
+  ZonedDateTime start = ZonedDateTime.of(2020, 5, 3, 0, 0, 0, 0, ZoneId.of("UTC"))
+
+  def setup() {
+    tmpDirectory = Files.createTempDirectory("psdm_columnar_result_sink_")
+  }
+
+  def cleanup() {
+    FileIOUtils.deleteRecursively(tmpDirectory)
+  }
+
+  def lineResults(int hours) {
+    (0..<hours).collect {
+      new LineResult(start.plusHours(it),
+          UUID.randomUUID(),
+          Quantities.getQuantity(1.13d + it, StandardUnits.ELECTRIC_CURRENT_MAGNITUDE),
+          Quantities.getQuantity(1.23d, StandardUnits.ELECTRIC_CURRENT_ANGLE),
+          Quantities.getQuantity(20.13d, StandardUnits.ELECTRIC_CURRENT_MAGNITUDE),
+          Quantities.getQuantity(1.23d, StandardUnits.ELECTRIC_CURRENT_ANGLE))
+    }
+  }
+
+  def "A ColumnarResultSink writes results, that are read back completely by a ColumnarDataSource"() {
+    given:
+    def sink = new ColumnarResultSink(tmpDirectory, new ProcessorProvider(), new FileNamingStrategy(), 16)
+    def results = lineResults(100)
+    sink.persistAll(results)
+    sink.shutdown()
+    def source = new ResultEntitySource(new ColumnarDataSource(tmpDirectory, new FileNamingStrategy()))
+
+    when:
+    def actual = source.lineResults
+
+    then:
+    Files.exists(tmpDirectory.resolve("line_res.psdmcol"))
+    actual.size() == results.size()
+    actual.collect { it.inputModel }.toSet() == results.collect { it.inputModel }.toSet()
+    actual.find { it.inputModel == results[42].inputModel }.iAMag == results[42].iAMag
+  }
+
+  def "A ResultEntitySource reads only the results of a requested interval from a ColumnarDataSource"() {
+    given:
+    def sink = new ColumnarResultSink(tmpDirectory, new ProcessorProvider(), new FileNamingStrategy(), 16)
+    def results = lineResults(100)
+    sink.persistAll(results)
+    sink.shutdown()
+    def source = new ResultEntitySource(new ColumnarDataSource(tmpDirectory, new FileNamingStrategy()))
+
+    when:
+    def interval = new ClosedInterval<>(start.plusHours(20), start.plusHours(40))
+    def actual = source.getResultEntities(LineResult, interval)
+
+    then:
+    actual.size() == 21
+    actual.collect { it.inputModel }.toSet() == results.subList(20, 41).collect { it.inputModel }.toSet()
+  }
+
+  def "A ColumnarResultSink writes smaller files than a CsvFileSink"() {
+    given:
+    def csvDirectory = tmpDirectory.resolve("csv")
+    def columnarDirectory = tmpDirectory.resolve("columnar")
+    def csvSink = new CsvFileSink(csvDirectory)
+    def columnarSink = new ColumnarResultSink(columnarDirectory)
+    def results = lineResults(5000)
+
+    when:
+    csvSink.persistAll(results)
+    csvSink.shutdown()
+    columnarSink.persistAll(results)
+    columnarSink.shutdown()
+
+    then:
+    Files.size(columnarDirectory.resolve("line_res.psdmcol")) < Files.size(csvDirectory.resolve("line_res.csv")) / 2
+  }
+
+  def "A ColumnarDataSource provides no data for missing files"() {
+    given:
+    def source = new ColumnarDataSource(tmpDirectory, new FileNamingStrategy())
+
+    expect:
+    source.getSourceFields(LineResult).empty
+    source.getSourceData(LineResult).count() == 0
+  }
+
+  def "A ColumnarResultSink refuses a non-positive row group size"() {
+    when:
+    new ColumnarResultSink(tmpDirectory, new ProcessorProvider(), new FileNamingStrategy(), 0)
+
+    then:
+    def e = thrown(IllegalArgumentException)
+    e.message == "The row group size has to be positive."
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.sink
+
+import com.sun.net.httpserver.HttpServer
+import edu.ie3.datamodel.io.connectors.InfluxDbConnector
+import edu.ie3.datamodel.io.naming.EntityPersistenceNamingStrategy
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.result.connector.LineResult
+import org.influxdb.InfluxDBException
+import org.influxdb.InfluxDBFactory
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+import java.nio.charset.StandardCharsets
+import java.time.ZoneId
+import java.time.ZonedDateTime
+import java.util.concurrent.CopyOnWriteArrayList
+
+class InfluxDbBatchWriterTest extends Specification {
+
+  /** Local stand-in for the write endpoint of an InfluxDB, that records the received line protocol */
+  HttpServer server
+  List<String> requests = new CopyOnWriteArrayList<>()
+  int writeStatus = 204
+
+  def setup() {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0)
+    server.createContext("/write") { exchange ->
+      requests.add(new String(exchange.requestBody.readAllBytes(), StandardCharsets.UTF_8))
+      if (writeStatus == 204) {
+        exchange.sendResponseHeaders(204, -1)
+      } else {
+        def body = '{"error":"database unavailable"}'.getBytes(StandardCharsets.UTF_8)
+        exchange.responseHeaders.add("Content-Type", "application/json")
+        exchange.sendResponseHeaders(writeStatus, body.length)
+        exchange.responseBody.write(body)
+      }
+      exchange.close()
+    }
+    server.start()
+  }
+
+  def cleanup() {
+    server.stop(0)
+  }
+
+  def connector() {
+    new InfluxDbConnector(InfluxDBFactory.connect("http://localhost:" + server.address.port), "test_scenario", "test_out", false)
+  }
+
+  static def lineResults(int count) {
+    (0..<count).collect {
+      new LineResult(ZonedDateTime.of(2020, 5, 3, 14, 18, 0, 0, ZoneId.of("UTC")).plusMinutes(it),
+          UUID.randomUUID(),
+          Quantities.getQuantity(1.13d, StandardUnits.ELECTRIC_CURRENT_MAGNITUDE),
+          Quantities.getQuantity(1.23d, StandardUnits.ELECTRIC_CURRENT_ANGLE),
+          Quantities.getQuantity(20.13d, StandardUnits.ELECTRIC_CURRENT_MAGNITUDE),
+          null)
+    }
+  }
+
+  def "An InfluxDbSink in streaming mode sends all points in batches of fixed size"() {
+    given:
+    def sink = new InfluxDbSink(connector(), new EntityPersistenceNamingStrategy(), new InfluxDbBatchWriter.Config(10, 2, parallelism))
+
+    when:
+    sink.persistAll(lineResults(95))
+
+    then:
+    requests.size() == 10
+    requests.collect { it.readLines().size() }.toSorted() == [5] + [10] * 9
+    requests.every { it.readLines().every { line -> line.startsWith("line_res,") && line.contains("scenario=test_scenario") } }
+    sink.writeStatistics.points() == 95
+    sink.writeStatistics.batches() == 10
+    sink.writeStatistics.pointsPerSecond() > 0
+
+    cleanup:
+    sink.shutdown()
+
+    where:
+    parallelism << [1, 4]
+  }
+
+  def "An InfluxDbSink in streaming mode reports failures of the database"() {
+    given:
+    writeStatus = 500
+    def sink = new InfluxDbSink(connector(), new EntityPersistenceNamingStrategy(), new InfluxDbBatchWriter.Config(10, 1, 1))
+
+    when:
+    sink.persistAll(lineResults(100))
+
+    then:
+    thrown(InfluxDBException)
+    // producing stops, once a batch has failed
+    requests.size() < 10
+
+    cleanup:
+    sink.shutdown()
+  }
+
+  def "An InfluxDbBatchWriter config refuses invalid values"() {
+    when:
+    new InfluxDbBatchWriter.Config(batchSize, maxInFlightBatches, parallelism)
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == expectedMessage
+
+    where:
+    batchSize | maxInFlightBatches | parallelism || expectedMessage
+    0         | 1                  | 1           || "The batch size has to be positive."
+    1         | 0                  | 1           || "The maximum number of batches in flight has to be positive."
+    1         | 1                  | 0           || "The parallelism has to be positive."
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.sink
+
+import edu.ie3.datamodel.io.csv.CsvPartitionManifest
+import edu.ie3.datamodel.io.csv.PartitionWindow
+import edu.ie3.datamodel.io.naming.FileNamingStrategy
+import edu.ie3.datamodel.io.source.ResultEntitySource
+import edu.ie3.datamodel.io.source.csv.CsvPartitionedResultDataSource
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.result.connector.LineResult
+import edu.ie3.util.interval.ClosedInterval
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class PartitionedCsvResultSinkTest extends Specification {
+
+  @Shared
+  Path tmpDirectory
+
+  @Shared
+  ZonedDateTime start = ZonedDateTime.of(2020, 5, 3, 0, 0, 0, 0, ZoneId.of("UTC"))
+
+  def setup() {
+    tmpDirectory = Files.createTempDirectory("psdm_partitioned_result_sink_")
+  }
+
+  def cleanup() {
+    FileIOUtils.deleteRecursively(tmpDirectory)
+  }
+
+  def lineResults(int hours) {
+    (0..<hours).collect {
+      new LineResult(start.plusHours(it),
+          UUID.randomUUID(),
+          Quantities.getQuantity(1.13d, StandardUnits.ELECTRIC_CURRENT_MAGNITUDE),
+          Quantities.getQuantity(1.23d, StandardUnits.ELECTRIC_CURRENT_ANGLE),
+          Quantities.getQuantity(20.13d, StandardUnits.ELECTRIC_CURRENT_MAGNITUDE),
+          Quantities.getQuantity(1.23d, StandardUnits.ELECTRIC_CURRENT_ANGLE))
+    }
+  }
+
+  def "A PartitionedCsvResultSink writes one file per time window and lists them in a manifest"() {
+    given:
+    def sink = new PartitionedCsvResultSink(tmpDirectory, PartitionWindow.DAY)
+    def results = lineResults(72)
+
+    when:
+    // results of a previous window are appended to its partition
+    sink.persistAll(results.drop(1))
+    sink.persist(results.first())
+    sink.shutdown()
+    def directory = tmpDirectory.resolve("line_res")
+    def partitions = CsvPartitionManifest.read(CsvPartitionManifest.manifestPath(directory))
+
+    then:
+    partitions.collect { it.fileName() } == [
+      "line_res_2020-05-03.csv",
+      "line_res_2020-05-04.csv",
+      "line_res_2020-05-05.csv"
+    ]
+    partitions.collect { it.start() } == [start, start.plusDays(1), start.plusDays(2)]
+    partitions.collect { it.end() } == [start.plusDays(1), start.plusDays(2), start.plusDays(3)]
+    partitions.every { it.entries() == 24 }
+    partitions.every { Files.readAllLines(directory.resolve(it.fileName())).size() == 25 }
+  }
+
+  def "A PartitionedCsvResultSink removes the partitions of a former run"() {
+    given:
+    def formerSink = new PartitionedCsvResultSink(tmpDirectory, PartitionWindow.DAY)
+    formerSink.persistAll(lineResults(72))
+    formerSink.shutdown()
+    def sink = new PartitionedCsvResultSink(tmpDirectory, PartitionWindow.DAY)
+    def source = new ResultEntitySource(new CsvPartitionedResultDataSource(",", tmpDirectory, new FileNamingStrategy()))
+
+    when:
+    sink.persistAll(lineResults(24))
+    sink.shutdown()
+    def directory = tmpDirectory.resolve("line_res")
+
+    then:
+    Files.list(directory).map { it.fileName.toString() }.toList().toSorted() == [
+      "line_res_2020-05-03.csv",
+      "line_res_manifest.csv"
+    ]
+    CsvPartitionManifest.read(CsvPartitionManifest.manifestPath(directory)).collect { it.fileName() } == ["line_res_2020-05-03.csv"]
+    source.lineResults.size() == 24
+  }
+
+  def "A ResultEntitySource reads only the partitions, that overlap a requested interval"() {
+    given:
+    def sink = new PartitionedCsvResultSink(tmpDirectory, PartitionWindow.DAY)
+    def results = lineResults(72)
+    sink.persistAll(results)
+    sink.shutdown()
+    def source = new ResultEntitySource(new CsvPartitionedResultDataSource(",", tmpDirectory, new FileNamingStrategy()))
+
+    when: "the last partition is not readable anymore"
+    Files.writeString(tmpDirectory.resolve("line_res").resolve("line_res_2020-05-05.csv"), "malformed")
+    def interval = new ClosedInterval<>(start.plusHours(12), start.plusHours(30))
+    def actual = source.getResultEntities(LineResult, interval)
+
+    then:
+    actual.size() == 19
+    actual.collect { it.inputModel }.toSet() == results.subList(12, 31).collect { it.inputModel }.toSet()
+  }
+
+  def "A ResultEntitySource reads all partitions of a class"() {
+    given:
+    def sink = new PartitionedCsvResultSink(tmpDirectory, PartitionWindow.WEEK)
+    def results = lineResults(24 * 10)
+    sink.persistAll(results)
+    sink.shutdown()
+    def source = new ResultEntitySource(new CsvPartitionedResultDataSource(",", tmpDirectory, new FileNamingStrategy()))
+
+    when:
+    def actual = source.lineResults
+
+    then:
+    // three weeks and the manifest
+    Files.list(tmpDirectory.resolve("line_res")).count() == 4
+    actual.size() == results.size()
+  }
+}
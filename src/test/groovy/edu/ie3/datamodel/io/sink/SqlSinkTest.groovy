@@ -211,6 +211,61 @@ class SqlSinkTest extends Specification implements TestContainerHelper, TimeSeri
     sink.shutdown()
   }
 
+  def "A SqlSink writes entities and time series in bulk"() {
+    given:
+    def sink = new SqlSink(schemaName, new ProcessorProvider(), namingStrategy, connector, new SqlBulkWriter.Config(2, useCopy))
+    UUID inputModel = UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52")
+    Quantity<Power> p = Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN)
+    Quantity<Power> q = Quantities.getQuantity(10, StandardUnits.REACTIVE_POWER_IN)
+    def pvResults = (0..4).collect {
+      new PvResult(TimeUtil.withDefaults.toZonedDateTime("2020-01-30T17:26:44Z").plusHours(it), inputModel, p, q)
+    }
+
+    when:
+    sink.persistAll(pvResults + [individualEnergyPriceTimeSeries], identifier)
+    sink.persistJointGrid(SampleJointGrid.grid(), UUID.fromString("297dfac8-83cc-11ee-b962-0242ac120002"))
+
+    then:
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "pv_res", ps -> {}).count() == 5
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "time_series_c", ps -> {}).count() == 3
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "node_input", ps -> {}).count() == 7
+
+    cleanup:
+    sink.shutdown()
+
+    where:
+    useCopy << [false, true]
+  }
+
+  def "A SqlSink with a pooled connector writes the tables of a joint grid in parallel waves"() {
+    given:
+    def pooledConnector = new SqlConnector(postgreSQLContainer.jdbcUrl, postgreSQLContainer.username, postgreSQLContainer.password, 4)
+    def sink = new SqlSink(schemaName, namingStrategy, pooledConnector)
+
+    when:
+    sink.persistJointGrid(SampleJointGrid.grid(), UUID.fromString("297dfac8-83cc-11ee-b962-0242ac120002"))
+
+    then:
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "line_input", ps -> {}).count() == 6
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "line_type_input", ps -> {}).count() == 2
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "load_input", ps -> {}).count() == 2
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "node_input", ps -> {}).count() == 7
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "pv_input", ps -> {}).count() == 1
+    sqlSource.executeQuery("SELECT * FROM " + schemaName + "." + "transformer_2_w_input", ps -> {}).count() == 2
+
+    cleanup:
+    sink.shutdown()
+  }
+
+  def "A SqlBulkWriter config refuses a non-positive batch size"() {
+    when:
+    new SqlBulkWriter.Config(0, false)
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == "The batch size has to be positive."
+  }
+
   def "A valid SqlSink throws an exception if an entity has null for a not null attribute."() {
     given:
     def sink = new SqlSink(schemaName, namingStrategy, connector)
@@ -0,0 +1,61 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source
+
+import edu.ie3.datamodel.io.source.TimeSeriesMappingSource.MappingEntry
+import spock.lang.Specification
+
+class TimeSeriesMappingIndexTest extends Specification {
+
+  private static final UUID ASSET_A = UUID.fromString("b86e95b0-e579-4a80-a534-37c7a470a409")
+  private static final UUID ASSET_B = UUID.fromString("c7ebcc6c-55fc-479b-aa6b-6fa82ccac6b8")
+  private static final UUID ASSET_C = UUID.fromString("90a96daa-012b-4fea-82dc-24ba7a7ab81c")
+  private static final UUID TIME_SERIES_1 = UUID.fromString("9185b8c1-86ba-4a16-8dea-5ac898e8caa5")
+  private static final UUID TIME_SERIES_2 = UUID.fromString("3fbfaa97-cff4-46d4-95ba-a95665e87c26")
+
+  def "A TimeSeriesMappingIndex provides the time series of assets and the assets of time series"() {
+    given:
+    def index = new TimeSeriesMappingIndex([
+      new MappingEntry(ASSET_A, TIME_SERIES_1),
+      new MappingEntry(ASSET_B, TIME_SERIES_1),
+      new MappingEntry(ASSET_C, TIME_SERIES_2),
+      new MappingEntry(ASSET_C, TIME_SERIES_2)
+    ])
+
+    expect:
+    index.size() == 3
+    index.getTimeSeriesUuid(ASSET_A) == Optional.of(TIME_SERIES_1)
+    index.getTimeSeriesUuid(ASSET_C) == Optional.of(TIME_SERIES_2)
+    index.getTimeSeriesUuid(TIME_SERIES_1) == Optional.empty()
+    index.getAssetUuids(TIME_SERIES_1) == [ASSET_A, ASSET_B] as Set
+    index.getAssetUuids(TIME_SERIES_2) == [ASSET_C] as Set
+    index.getAssetUuids(ASSET_A) == [] as Set
+    index.getMapping() == [(ASSET_A): TIME_SERIES_1, (ASSET_B): TIME_SERIES_1, (ASSET_C): TIME_SERIES_2]
+  }
+
+  def "A TimeSeriesMappingIndex cannot be modified"() {
+    given:
+    def index = new TimeSeriesMappingIndex([new MappingEntry(ASSET_A, TIME_SERIES_1)])
+
+    when:
+    index.getMapping().put(ASSET_B, TIME_SERIES_2)
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+
+  def "A TimeSeriesMappingIndex cannot be built, if an asset is mapped to different time series"() {
+    when:
+    new TimeSeriesMappingIndex([
+      new MappingEntry(ASSET_A, TIME_SERIES_1),
+      new MappingEntry(ASSET_A, TIME_SERIES_2)
+    ])
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == "The asset '" + ASSET_A + "' is mapped to the time series '" + TIME_SERIES_1 + "' and '" + TIME_SERIES_2 + "'."
+  }
+}
@@ -27,6 +27,7 @@ class TimeSeriesMappingSourceTest extends Specification {
 
     private boolean validAsset
     private boolean validTimeSeries
+    int reads = 0
 
     MixedMappingSource(boolean validAsset, boolean validTimeSeries) {
       this.validAsset = validAsset
@@ -35,6 +36,7 @@ class TimeSeriesMappingSourceTest extends Specification {
 
     @Override
     Stream<Map<String, String>> getMappingSourceData() throws SourceException {
+      reads++
       switch (getCase()){
         case "VALID":
           return Stream.of(
@@ -124,4 +126,49 @@ class TimeSeriesMappingSourceTest extends Specification {
         "        An error occurred when creating instance of MappingEntry.class. Caused by: Exception while trying to parse UUID of field \"asset\" with value \"invalidAsset\"\n" +
         "        An error occurred when creating instance of MappingEntry.class. Caused by: Exception while trying to parse UUID of field \"asset\" with value \"invalidAsset2\""
   }
+
+  def "the mapping is read once and answered from the index until it is invalidated"() {
+    given:
+    def source = new MixedMappingSource(true, true)
+    def asset = UUID.fromString("b86e95b0-e579-4a80-a534-37c7a470a409")
+    def timeSeries = UUID.fromString("9185b8c1-86ba-4a16-8dea-5ac898e8caa5")
+
+    when:
+    def first = source.getTimeSeriesUuid(asset)
+    def second = source.getTimeSeriesUuid(asset)
+    def assets = source.getAssetUuids(timeSeries)
+
+    then:
+    first == Optional.of(timeSeries)
+    second == Optional.of(timeSeries)
+    source.getTimeSeriesUuid(UUID.randomUUID()) == Optional.empty()
+    assets == [asset] as Set
+    source.getAssetUuids(UUID.randomUUID()) == [] as Set
+    source.reads == 1
+
+    when:
+    source.invalidate()
+    source.getMapping()
+
+    then:
+    source.reads == 2
+  }
+
+  def "a failed read of the mapping is not kept in the index"() {
+    given:
+    def source = new MixedMappingSource(false, true)
+
+    when:
+    source.getMapping()
+
+    then:
+    thrown(SourceException)
+
+    when:
+    source.getMapping()
+
+    then:
+    thrown(SourceException)
+    source.reads == 2
+  }
 }
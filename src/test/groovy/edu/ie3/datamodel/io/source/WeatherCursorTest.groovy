@@ -0,0 +1,152 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source
+
+import edu.ie3.datamodel.exceptions.SourceException
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue
+import edu.ie3.test.common.CosmoWeatherTestData
+import edu.ie3.util.interval.ClosedInterval
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+class WeatherCursorTest extends Specification {
+
+  def values = [
+    new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193186_15H),
+    new TimeBasedValue(CosmoWeatherTestData.TIME_16H, CosmoWeatherTestData.WEATHER_VALUE_193186_16H),
+    new TimeBasedValue(CosmoWeatherTestData.TIME_17H, CosmoWeatherTestData.WEATHER_VALUE_193186_17H),
+    new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193187_15H),
+    new TimeBasedValue(CosmoWeatherTestData.TIME_16H, CosmoWeatherTestData.WEATHER_VALUE_193187_16H)
+  ]
+
+  def requestedIntervals = new CopyOnWriteArrayList<ClosedInterval>()
+
+  def loader = { ClosedInterval interval, Collection coordinates ->
+    requestedIntervals.add(interval)
+    values.findAll {
+      coordinates.contains(it.value.coordinate) && !it.time.isBefore(interval.lower) && !it.time.isAfter(interval.upper)
+    }.groupBy { it.value.coordinate }.collectEntries { coordinate, entries ->
+      [(coordinate): new IndividualTimeSeries(entries as Set)]
+    }
+  } as WeatherCursor.ChunkLoader
+
+  def "A WeatherCursor provides the weather of all coordinates per tick"() {
+    given:
+    def coordinates = [
+      CosmoWeatherTestData.COORDINATE_193186,
+      CosmoWeatherTestData.COORDINATE_193187
+    ]
+    def cursor = new WeatherCursor(loader, coordinates, CosmoWeatherTestData.TIME_15H, new WeatherCursor.Config(Duration.ofHours(2), prefetchChunks))
+
+    when:
+    def at15h = cursor.getWeather(CosmoWeatherTestData.TIME_15H)
+    def at16h = cursor.getWeather(CosmoWeatherTestData.TIME_16H)
+    def at17h = cursor.getWeather(CosmoWeatherTestData.TIME_17H)
+
+    then:
+    at15h.keySet() == coordinates as Set
+    at15h.get(CosmoWeatherTestData.COORDINATE_193187).value == CosmoWeatherTestData.WEATHER_VALUE_193187_15H
+    at16h.keySet() == coordinates as Set
+    at17h.keySet() == [CosmoWeatherTestData.COORDINATE_193186] as Set
+    at17h.get(CosmoWeatherTestData.COORDINATE_193186).value == CosmoWeatherTestData.WEATHER_VALUE_193186_17H
+    requestedIntervals.first().lower == CosmoWeatherTestData.TIME_15H
+    // the last chunk may still be prefetched in the background
+    new PollingConditions(timeout: 5).eventually {
+      assert requestedIntervals.size() == expectedRequests
+    }
+
+    cleanup:
+    cursor.close()
+
+    where:
+    prefetchChunks || expectedRequests
+    0              || 2
+    1              || 3
+  }
+
+  def "A WeatherCursor refuses to move backwards"() {
+    given:
+    def cursor = new WeatherCursor(loader, [CosmoWeatherTestData.COORDINATE_193186], CosmoWeatherTestData.TIME_15H, WeatherCursor.Config.DEFAULT)
+    cursor.getWeather(CosmoWeatherTestData.TIME_16H)
+
+    when:
+    cursor.getWeather(CosmoWeatherTestData.TIME_15H)
+
+    then:
+    thrown(IllegalArgumentException)
+
+    cleanup:
+    cursor.close()
+  }
+
+  def "A WeatherCursor hands back failures of the source"() {
+    given:
+    def failingLoader = { interval, coordinates -> throw new SourceException("Source unavailable.") } as WeatherCursor.ChunkLoader
+    def cursor = new WeatherCursor(failingLoader, [CosmoWeatherTestData.COORDINATE_193186], CosmoWeatherTestData.TIME_15H, WeatherCursor.Config.DEFAULT)
+
+    when:
+    cursor.getWeather(CosmoWeatherTestData.TIME_15H)
+
+    then:
+    def exception = thrown(SourceException)
+    exception.message == "Source unavailable."
+
+    cleanup:
+    cursor.close()
+  }
+
+  def "A WeatherCursor closes its loader once after the last fetch"() {
+    given:
+    def closings = new CopyOnWriteArrayList<String>()
+    def closableLoader = new WeatherCursor.ChunkLoader() {
+          @Override
+          Map load(ClosedInterval interval, Collection coordinates) {
+            loader.load(interval, coordinates)
+          }
+
+          @Override
+          void close() {
+            closings.add(Thread.currentThread().name)
+          }
+        }
+    def cursor = new WeatherCursor(closableLoader, [CosmoWeatherTestData.COORDINATE_193186], CosmoWeatherTestData.TIME_15H, new WeatherCursor.Config(Duration.ofHours(1), prefetchChunks))
+    cursor.getWeather(CosmoWeatherTestData.TIME_15H)
+
+    when:
+    cursor.close()
+    cursor.close()
+
+    then:
+    new PollingConditions(timeout: 5).eventually {
+      assert closings.size() == 1
+    }
+    (closings.first() == "weather-cursor-prefetch") == closedByPrefetchThread
+
+    where:
+    prefetchChunks || closedByPrefetchThread
+    0              || false
+    1              || true
+  }
+
+  def "A WeatherCursor config refuses invalid values"() {
+    when:
+    new WeatherCursor.Config(chunkSize, prefetchChunks)
+
+    then:
+    def exception = thrown(IllegalArgumentException)
+    exception.message == expectedMessage
+
+    where:
+    chunkSize            | prefetchChunks || expectedMessage
+    Duration.ZERO        | 1              || "The chunk size has to be positive."
+    Duration.ofHours(-1) | 1              || "The chunk size has to be positive."
+    Duration.ofHours(1)  | -1             || "The number of prefetched chunks must not be negative."
+  }
+}
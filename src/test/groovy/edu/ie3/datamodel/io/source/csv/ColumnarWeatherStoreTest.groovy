@@ -0,0 +1,98 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.csv
+
+import edu.ie3.datamodel.exceptions.DuplicateEntitiesException
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue
+import edu.ie3.datamodel.models.value.WeatherValue
+import edu.ie3.test.common.CosmoWeatherTestData
+import edu.ie3.test.helper.WeatherSourceTestHelper
+import edu.ie3.util.interval.ClosedInterval
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+import tech.units.indriya.unit.Units
+
+class ColumnarWeatherStoreTest extends Specification implements WeatherSourceTestHelper {
+
+  def "A ColumnarWeatherStore provides the added values sorted by time and merged across additions"() {
+    given:
+    def store = new ColumnarWeatherStore.Builder()
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_17H, CosmoWeatherTestData.WEATHER_VALUE_193186_17H))
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193186_15H))
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_16H, CosmoWeatherTestData.WEATHER_VALUE_193187_16H))
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_16H, CosmoWeatherTestData.WEATHER_VALUE_193186_16H))
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193186_15H))
+        .build()
+    def interval = new ClosedInterval(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.TIME_16H)
+
+    when:
+    def timeSeries = store.getTimeSeries(interval, CosmoWeatherTestData.COORDINATE_193186)
+
+    then:
+    store.coordinates == [
+      CosmoWeatherTestData.COORDINATE_193186,
+      CosmoWeatherTestData.COORDINATE_193187
+    ] as Set
+    timeSeries.present
+    equalsIgnoreUUID(timeSeries.get().entries, [
+      new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193186_15H),
+      new TimeBasedValue(CosmoWeatherTestData.TIME_16H, CosmoWeatherTestData.WEATHER_VALUE_193186_16H)
+    ])
+    store.getTimeKeysAfter(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.COORDINATE_193186) == [
+      CosmoWeatherTestData.TIME_16H,
+      CosmoWeatherTestData.TIME_17H
+    ]
+    store.getValue(CosmoWeatherTestData.TIME_17H, CosmoWeatherTestData.COORDINATE_193187).empty
+    store.getTimeSeries(interval, CosmoWeatherTestData.COORDINATE_193188).empty
+  }
+
+  def "A ColumnarWeatherStore normalises the units of the added values and keeps missing values empty"() {
+    given:
+    def value = new WeatherValue(
+        CosmoWeatherTestData.COORDINATE_193186,
+        Quantities.getQuantity(1.5d, StandardUnits.SOLAR_IRRADIANCE),
+        null,
+        Quantities.getQuantity(283.15d, Units.KELVIN),
+        Quantities.getQuantity(90d, StandardUnits.WIND_DIRECTION),
+        Quantities.getQuantity(3.6d, Units.KILOMETRE_PER_HOUR),
+        Optional.empty(),
+        Optional.empty())
+    def store = new ColumnarWeatherStore.Builder()
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_15H, value))
+        .build()
+
+    when:
+    def actual = store.getValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.COORDINATE_193186)
+
+    then:
+    actual.present
+    actual.get().time == CosmoWeatherTestData.TIME_15H
+    with(actual.get().value) {
+      solarIrradiance.directIrradiance.get() == Quantities.getQuantity(1.5d, StandardUnits.SOLAR_IRRADIANCE)
+      solarIrradiance.diffuseIrradiance.empty
+      temperature.temperature.get().unit == StandardUnits.TEMPERATURE
+      Math.abs(temperature.temperature.get().value.doubleValue() - 10d) < 1e-10
+      Math.abs(wind.velocity.get().value.doubleValue() - 1d) < 1e-10
+      groundTemperatureLevel1.empty
+      groundTemperatureLevel2.empty
+    }
+  }
+
+  def "A ColumnarWeatherStore refuses different values for the same coordinate and time"() {
+    given:
+    def builder = new ColumnarWeatherStore.Builder()
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193186_15H))
+        .add(new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193186_16H))
+
+    when:
+    builder.build()
+
+    then:
+    def exception = thrown(DuplicateEntitiesException)
+    exception.message.contains("TimeBasedValue<WeatherValue>")
+  }
+}
@@ -6,6 +6,7 @@
 package edu.ie3.datamodel.io.source.csv
 
 import edu.ie3.datamodel.exceptions.SourceException
+import edu.ie3.datamodel.exceptions.StreamScanException
 import edu.ie3.datamodel.io.connectors.CsvFileConnector
 import edu.ie3.datamodel.io.file.FileType
 import edu.ie3.datamodel.io.naming.FileNamingStrategy
@@ -344,6 +345,25 @@ class CsvDataSourceTest extends Specification implements CsvTestDataMeta {
     "5ebd8f7e-dedb-4017-bb86-6373c4b68eb8,25.0,100.0,0.95,98.0,test_bmTypeInput,,,,"       || "too many columns"   || "The size of the headline (8) does not fit to the size of the attribute fields (10).\n     Headline fields: ['uuid', 'active_power_gradient', 'capex', 'cos_phi_rated', 'eta_conv', 'id', 'opex', 's_rated']\n     Row values: ['5ebd8f7e-dedb-4017-bb86-6373c4b68eb8', '25.0', '100.0', '0.95', '98.0', 'test_bmTypeInput', '', '', '', ''].\n     Please check:\n      - is the csv separator in the row matching the provided separator ','\n      - does the number of columns match the number of headline fields \n      - are you using a valid RFC 4180 formatted csv row?"
   }
 
+  def "A CsvDataSource reports malformed rows not before the stream of fields to attributes maps is consumed"() {
+    given:
+    Files.writeString(testBaseFolderPath.resolve("lazy_rows.csv"), "uuid,id\n1,first\n2\n3,third\n")
+
+    when:
+    def rows = dummyCsvSource.buildStreamWithFieldsToAttributesMap(Path.of("lazy_rows"), false)
+
+    then:
+    rows.success
+
+    when:
+    rows.getOrThrow().toList()
+
+    then:
+    def exception = thrown(StreamScanException)
+    exception.failure instanceof SourceException
+    exception.failure.message.contains("1 exception(s) occurred within \"lazy_rows.csv\" data")
+  }
+
   def "A CsvDataSource should throw an exception if there are duplicate headlines"() {
     given:
     def invalidHeadline = [
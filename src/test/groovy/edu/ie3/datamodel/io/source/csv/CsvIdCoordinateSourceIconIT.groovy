@@ -155,6 +155,25 @@ class CsvIdCoordinateSourceIconIT extends Specification implements CsvTestDataMe
     actualDistances == expectedDistances
   }
 
+  def "The CsvIdCoordinateSource will return the nearest n coordinates for multiple coordinates at once" () {
+    given:
+    def basePoints = [
+      GeoUtils.buildPoint(51.5, 7.38),
+      GeoUtils.buildPoint(51.45, 7.4),
+      GeoUtils.buildPoint(39.617162, 1.438029)
+    ]
+
+    when:
+    def actualDistances = source.getNearestCoordinates(basePoints, 2)
+
+    then:
+    actualDistances.keySet() == basePoints as Set
+    basePoints.every { basePoint ->
+      actualDistances.get(basePoint) == source.calculateCoordinateDistances(basePoint, 2, source.allCoordinates)
+    }
+    source.coordinateCount == 4
+  }
+
   def "The CsvIdCoordinateSource will return no coordinates if no coordinates are in the given radius" () {
     given:
     def n = 5
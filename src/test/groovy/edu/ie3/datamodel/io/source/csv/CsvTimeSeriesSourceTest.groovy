@@ -16,10 +16,14 @@ import edu.ie3.datamodel.io.naming.timeseries.FileIndividualTimeSeriesMetaInform
 import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue
 import edu.ie3.datamodel.models.value.*
 import edu.ie3.util.TimeUtil
+import edu.ie3.util.io.FileIOUtils
 import spock.lang.Specification
 import tech.units.indriya.quantity.Quantities
 
+import java.nio.file.Files
 import java.nio.file.Path
+import java.time.Duration
+import java.util.zip.GZIPOutputStream
 
 class CsvTimeSeriesSourceTest extends Specification implements CsvTestDataMeta {
 
@@ -97,6 +101,140 @@ class CsvTimeSeriesSourceTest extends Specification implements CsvTestDataMeta {
     "2020-01-03T00:00:00Z" | Optional.of(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:15:00Z"))
   }
 
+  def "The csv time series source provides the same information, if the values are loaded on demand"() {
+    given:
+    def factory = new TimeBasedSimpleValueFactory(EnergyPriceValue)
+    def uuid = UUID.fromString("2fcb3e53-b94a-4b96-bea4-c469e499f1a1")
+    def path = Path.of("its_c_2fcb3e53-b94a-4b96-bea4-c469e499f1a1")
+    def eagerSource = new CsvTimeSeriesSource(";", timeSeriesFolderPath, new FileNamingStrategy(), uuid, path, EnergyPriceValue, factory)
+    def lazySource = new CsvTimeSeriesSource(";", timeSeriesFolderPath, new FileNamingStrategy(), uuid, path, EnergyPriceValue, factory, new CsvTimeSeriesSource.WindowConfig(Duration.ofMinutes(10), Duration.ZERO))
+    def time = TimeUtil.withDefaults.toZonedDateTime(timeKey)
+
+    expect:
+    lazySource.getValue(time) == eagerSource.getValue(time)
+    lazySource.getValueOrLast(time) == eagerSource.getValueOrLast(time)
+    lazySource.getNextTimeBasedValue(time) == eagerSource.getNextTimeBasedValue(time)
+    lazySource.getTimeKeysAfter(time) == eagerSource.getTimeKeysAfter(time)
+    lazySource.getLastTimeKeyBefore(time) == eagerSource.getLastTimeKeyBefore(time)
+    lazySource.timeSeries.entries == eagerSource.timeSeries.entries
+
+    where:
+    timeKey << [
+      "2019-12-31T23:59:59Z",
+      "2020-01-01T00:00:00Z",
+      "2020-01-01T00:13:00Z",
+      "2020-01-01T00:15:00Z",
+      "2020-01-03T00:00:00Z"
+    ]
+  }
+
+  def "The csv time series source loads and evicts windows, while the requested time moves forward"() {
+    given:
+    def factory = new TimeBasedSimpleValueFactory(EnergyPriceValue)
+    def source = new CsvTimeSeriesSource(";", timeSeriesFolderPath, new FileNamingStrategy(), UUID.fromString("2fcb3e53-b94a-4b96-bea4-c469e499f1a1"), Path.of("its_c_2fcb3e53-b94a-4b96-bea4-c469e499f1a1"), EnergyPriceValue, factory, new CsvTimeSeriesSource.WindowConfig(Duration.ofMinutes(5), Duration.ofMinutes(5)))
+
+    expect:
+    source.windows.loadedWindowCount == 0
+
+    when:
+    source.getValue(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:00:00Z"))
+
+    then:
+    source.windows.loadedWindowCount == 2
+
+    when:
+    def value = source.getValue(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:15:00Z"))
+
+    then:
+    value.present
+    source.windows.loadedWindowCount == 2
+  }
+
+  def "The csv time series source validates the file on creation, if the values are loaded on demand"() {
+    given:
+    def folder = Files.createTempDirectory("psdm_csv_time_series_")
+    def uuid = UUID.fromString("2fcb3e53-b94a-4b96-bea4-c469e499f1a1")
+    Files.writeString(folder.resolve("its_c_" + uuid + ".csv"), "price;\"uuid\"\n52.4;78ca078a-e6e9-4972-a58d-b2cadbc2df2c\n")
+    def factory = new TimeBasedSimpleValueFactory(EnergyPriceValue)
+
+    when:
+    new CsvTimeSeriesSource(";", folder, new FileNamingStrategy(), uuid, Path.of("its_c_" + uuid), EnergyPriceValue, factory, new CsvTimeSeriesSource.WindowConfig(Duration.ofMinutes(5), Duration.ZERO))
+
+    then:
+    def e = thrown(SourceException)
+    e.message == "Unable to index time series with UUID '" + uuid + "' from file 'its_c_" + uuid + "'."
+    e.cause.message == "The time series file does not contain a 'time' field."
+
+    cleanup:
+    FileIOUtils.deleteRecursively(folder)
+  }
+
+  def "The csv time series source validates all values on creation, if the values are loaded on demand"() {
+    given:
+    def folder = Files.createTempDirectory("psdm_csv_time_series_")
+    def uuid = UUID.fromString("2fcb3e53-b94a-4b96-bea4-c469e499f1a1")
+    Files.writeString(folder.resolve("its_c_" + uuid + ".csv"), "price;time\n52.4;2020-01-01T00:00:00Z\nnot_a_price;2020-01-01T00:15:00Z\n")
+    def factory = new TimeBasedSimpleValueFactory(EnergyPriceValue)
+
+    when:
+    new CsvTimeSeriesSource(";", folder, new FileNamingStrategy(), uuid, Path.of("its_c_" + uuid), EnergyPriceValue, factory, new CsvTimeSeriesSource.WindowConfig(Duration.ofMinutes(5), Duration.ZERO))
+
+    then:
+    def e = thrown(SourceException)
+    e.message == "Unable to index time series with UUID '" + uuid + "' from file 'its_c_" + uuid + "'."
+    e.cause.message.startsWith("Invalid record at byte ")
+
+    cleanup:
+    FileIOUtils.deleteRecursively(folder)
+  }
+
+  def "A closed csv time series source, that loads its values on demand, cannot load values anymore"() {
+    given:
+    def factory = new TimeBasedSimpleValueFactory(EnergyPriceValue)
+    def source = new CsvTimeSeriesSource(";", timeSeriesFolderPath, new FileNamingStrategy(), UUID.fromString("2fcb3e53-b94a-4b96-bea4-c469e499f1a1"), Path.of("its_c_2fcb3e53-b94a-4b96-bea4-c469e499f1a1"), EnergyPriceValue, factory, new CsvTimeSeriesSource.WindowConfig(Duration.ofMinutes(5), Duration.ZERO))
+
+    when:
+    source.close()
+    source.getValue(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:00:00Z"))
+
+    then:
+    thrown(UncheckedIOException)
+    source.windows.loadedWindowCount == 0
+  }
+
+  def "The csv time series source reads a compressed file completely, if the values should be loaded on demand"() {
+    given:
+    def folder = Files.createTempDirectory("psdm_csv_time_series_")
+    def uuid = UUID.fromString("2fcb3e53-b94a-4b96-bea4-c469e499f1a1")
+    def path = Path.of("its_c_" + uuid)
+    new GZIPOutputStream(Files.newOutputStream(folder.resolve("its_c_" + uuid + ".csv.gz"))).withCloseable {
+      it.write(Files.readAllBytes(timeSeriesFolderPath.resolve("its_c_" + uuid + ".csv")))
+    }
+    def factory = new TimeBasedSimpleValueFactory(EnergyPriceValue)
+    def eagerSource = new CsvTimeSeriesSource(";", timeSeriesFolderPath, new FileNamingStrategy(), uuid, path, EnergyPriceValue, factory)
+
+    when:
+    def source = new CsvTimeSeriesSource(";", folder, new FileNamingStrategy(), uuid, path, EnergyPriceValue, factory, new CsvTimeSeriesSource.WindowConfig(Duration.ofMinutes(5), Duration.ZERO))
+    def time = TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:15:00Z")
+
+    then:
+    source.windows == null
+    source.timeSeries.entries == eagerSource.timeSeries.entries
+    source.getValue(time) == eagerSource.getValue(time)
+
+    cleanup:
+    FileIOUtils.deleteRecursively(folder)
+  }
+
+  def "A window configuration for the csv time series source requires a positive window size"() {
+    when:
+    new CsvTimeSeriesSource.WindowConfig(Duration.ZERO, Duration.ZERO)
+
+    then:
+    def e = thrown(IllegalArgumentException)
+    e.message == "The window size has to be positive."
+  }
+
   def "The factory method in csv time series source refuses to build time series with unsupported column type"() {
     given:
     def metaInformation = new FileIndividualTimeSeriesMetaInformation(UUID.fromString("8bc9120d-fb9b-4484-b4e3-0cdadf0feea9"), ColumnScheme.WEATHER, Path.of("its_weather_8bc9120d-fb9b-4484-b4e3-0cdadf0feea9"), FileType.CSV)
@@ -111,6 +111,27 @@ class CsvWeatherSourceCosmoTest extends Specification implements CsvTestDataMeta
     equalsIgnoreUUID(coordinateToTimeSeries.get(CosmoWeatherTestData.COORDINATE_193188).entries, timeSeries193188.entries)
   }
 
+  def "A CsvWeatherSource provides the weather of multiple coordinates tick wise via a cursor"() {
+    given:
+    def coordinates = [
+      CosmoWeatherTestData.COORDINATE_193186,
+      CosmoWeatherTestData.COORDINATE_193187
+    ]
+
+    when:
+    def cursor = source.getWeatherCursor(coordinates, CosmoWeatherTestData.TIME_15H)
+    def at15h = cursor.getWeather(CosmoWeatherTestData.TIME_15H)
+    def at17h = cursor.getWeather(CosmoWeatherTestData.TIME_17H)
+
+    then:
+    at15h.keySet() == coordinates as Set
+    equalsIgnoreUUID(at15h.get(CosmoWeatherTestData.COORDINATE_193187), new TimeBasedValue(CosmoWeatherTestData.TIME_15H, CosmoWeatherTestData.WEATHER_VALUE_193187_15H))
+    at17h.keySet() == [CosmoWeatherTestData.COORDINATE_193186] as Set
+
+    cleanup:
+    cursor?.close()
+  }
+
   def "The CsvWeatherSource is able to build a single WeatherValue from field to value mapping"() {
     given:
     def defaultCoordinate = GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(7.4116482, 51.4843281))
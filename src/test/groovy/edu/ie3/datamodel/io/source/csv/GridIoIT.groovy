@@ -16,6 +16,7 @@ import spock.lang.Specification
 
 import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.attribute.FileTime
 
 /**
  * Testing whether PSDM CSV grids are equal when serialized and deserialized sequentially.
@@ -82,6 +83,64 @@ class GridIoIT extends Specification implements CsvTestDataMeta {
     firstGridContainer == secondGridContainer
   }
 
+  def "A JointGridContainer read from a snapshot equals the JointGridContainer read from csv files."() {
+    given:
+    def gridName = "vn_simona"
+    def separator = ","
+    def snapshotFile = tempDirectory.resolve("vn_simona.snapshot")
+    def expected = CsvJointGridContainerSource.read(gridName, separator, jointGridFolderPath, false)
+
+    when:
+    def recorded = CsvJointGridContainerSource.read(gridName, separator, jointGridFolderPath, false, snapshotFile)
+    def snapshot = CsvGridSnapshot.read(snapshotFile, gridName, CsvGridSnapshot.fingerprint(jointGridFolderPath), false)
+    def replayed = CsvJointGridContainerSource.read(gridName, separator, jointGridFolderPath, false, snapshotFile, true)
+
+    then:
+    snapshot.present
+    snapshot.get() == expected
+    snapshot.get().subGridTopologyGraph.vertexSet() == expected.subGridTopologyGraph.vertexSet()
+    snapshot.get().subGridTopologyGraph.edgeSet() == expected.subGridTopologyGraph.edgeSet()
+    // a snapshot of another grid is not used
+    CsvGridSnapshot.read(snapshotFile, "other_grid", CsvGridSnapshot.fingerprint(jointGridFolderPath), false).empty
+    recorded == expected
+    replayed == expected
+  }
+
+  def "A grid snapshot is only used as long as the csv files are not altered."() {
+    given:
+    def gridName = "vn_simona"
+    def csvFolder = Files.createDirectory(tempDirectory.resolve("fingerprint"))
+    def csvFile = csvFolder.resolve("node_input.csv")
+    Files.writeString(csvFile, "uuid,id\n1,a\n")
+    def lastModified = Files.getLastModifiedTime(csvFile)
+    def snapshotFile = tempDirectory.resolve("fingerprint.snapshot")
+    def grid = CsvJointGridContainerSource.read(gridName, ",", jointGridFolderPath, false)
+    CsvGridSnapshot.write(snapshotFile, CsvGridSnapshot.fingerprint(csvFolder), grid)
+
+    when: "the file is only touched"
+    Files.setLastModifiedTime(csvFile, FileTime.fromMillis(lastModified.toMillis() + 10000))
+    def touched = CsvGridSnapshot.fingerprint(csvFolder)
+
+    then: "its content is compared"
+    CsvGridSnapshot.read(snapshotFile, gridName, touched, false).get() == grid
+    touched.outdated
+
+    when: "the content is altered, but neither its size nor its modification time"
+    Files.writeString(csvFile, "uuid,id\n2,b\n")
+    Files.setLastModifiedTime(csvFile, lastModified)
+
+    then: "it is only detected, if the snapshot is verified"
+    CsvGridSnapshot.read(snapshotFile, gridName, CsvGridSnapshot.fingerprint(csvFolder), false).present
+    CsvGridSnapshot.read(snapshotFile, gridName, CsvGridSnapshot.fingerprint(csvFolder), true).empty
+
+    when: "the size of the file changes"
+    Files.writeString(csvFile, "uuid,id\n3,cc\n")
+    Files.setLastModifiedTime(csvFile, lastModified)
+
+    then:
+    CsvGridSnapshot.read(snapshotFile, gridName, CsvGridSnapshot.fingerprint(csvFolder), false).empty
+  }
+
   def "CsvJointGridContainerSource throws exception if a hierarchic grid is expected but a flat grid is presented."() {
     given:
     def gridName = "vn_simona"
@@ -0,0 +1,73 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.sql
+
+import edu.ie3.datamodel.io.connectors.SqlConnector
+import edu.ie3.datamodel.io.connectors.SqlSchemaMetadata
+import edu.ie3.datamodel.io.naming.DatabaseNamingStrategy
+import spock.lang.Specification
+
+import java.sql.DatabaseMetaData
+import java.sql.ResultSet
+
+class SqlDataSourceTest extends Specification {
+
+  private ResultSet rows(List<Map<String, String>> rows) {
+    def position = -1
+    return Stub(ResultSet) {
+      next() >> { ++position < rows.size() }
+      getString(_ as String) >> { String column -> rows[position][column] }
+    }
+  }
+
+  private SqlSchemaMetadata metadata(List<String> tables) {
+    def metaData = Stub(DatabaseMetaData) {
+      getTables(null, "public", null, null) >> {
+        rows(tables.collect { [TABLE_SCHEM: "public", TABLE_NAME: it] })
+      }
+      getColumns(null, "public", null, null) >> {
+        rows(tables.collect { [TABLE_SCHEM: "public", TABLE_NAME: it, COLUMN_NAME: "time"] })
+      }
+    }
+    return SqlSchemaMetadata.load(metaData, "public")
+  }
+
+  def "A SqlDataSource reloads the schema metadata only once for a table, that does not exist"() {
+    given:
+    def connector = Mock(SqlConnector)
+    def current = metadata(["its_p"])
+    connector.getSchemaMetadata("public") >> { current }
+    def dataSource = new SqlDataSource(connector, "public", new DatabaseNamingStrategy())
+
+    when:
+    def first = dataSource.getSourceFields("load_profiles")
+    def second = dataSource.getSourceFields("load_profiles")
+    def third = dataSource.getDbTables("public", "load_profiles")
+
+    then:
+    1 * connector.refreshSchemaMetadata("public") >> { current = metadata(["its_p"]) }
+    first == Optional.of([] as Set)
+    second == Optional.of([] as Set)
+    third == []
+  }
+
+  def "A SqlDataSource finds a table, that has been created after the schema metadata has been loaded"() {
+    given:
+    def connector = Mock(SqlConnector)
+    def current = metadata(["its_p"])
+    connector.getSchemaMetadata("public") >> { current }
+    def dataSource = new SqlDataSource(connector, "public", new DatabaseNamingStrategy())
+
+    when:
+    def tables = dataSource.getDbTables("public", "its_pq")
+    def fields = dataSource.getSourceFields("its_pq")
+
+    then:
+    1 * connector.refreshSchemaMetadata("public") >> { current = metadata(["its_p", "its_pq"]) }
+    tables == ["its_pq"]
+    fields == Optional.of(["time"] as Set)
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.sql
+
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue
+import edu.ie3.datamodel.models.value.PValue
+import edu.ie3.util.quantities.PowerSystemUnits
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+import java.time.Duration
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+class SqlTimeSeriesCacheTest extends Specification {
+
+  static ZonedDateTime start = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"))
+
+  def values(int count) {
+    (0..<count).collectEntries {
+      def time = start.plusMinutes(15L * it)
+      [
+        (time.toInstant().toEpochMilli()): new TimeBasedValue<>(time, new PValue(Quantities.getQuantity(it, PowerSystemUnits.KILOWATT)))
+      ]
+    }
+  }
+
+  def "A SqlTimeSeriesCache.Config refuses invalid parameters"() {
+    when:
+    new SqlTimeSeriesCache.Config(windowSize, prefetchDistance, maxValues)
+
+    then:
+    def e = thrown(IllegalArgumentException)
+    e.message == expectedMessage
+
+    where:
+    windowSize          | prefetchDistance      | maxValues || expectedMessage
+    Duration.ZERO       | Duration.ZERO         | 1         || "The window size has to be positive."
+    Duration.ofHours(1) | Duration.ofHours(-1)  | 1         || "The prefetch distance must not be negative."
+    Duration.ofHours(1) | Duration.ZERO         | 0         || "The maximum number of values has to be positive."
+  }
+
+  def "A SqlTimeSeriesCache evicts the least recently used windows of all time series"() {
+    given:
+    def cache = new SqlTimeSeriesCache(new SqlTimeSeriesCache.Config(Duration.ofHours(1), Duration.ZERO, 10))
+    def first = UUID.randomUUID()
+    def second = UUID.randomUUID()
+
+    when:
+    cache.put(first, 0, values(4))
+    cache.put(second, 0, values(4))
+    cache.get(first, 0)
+    cache.put(second, 1, values(4))
+
+    then:
+    cache.contains(first, 0)
+    !cache.contains(second, 0)
+    cache.contains(second, 1)
+    cache.cachedValueCount == 8
+    cache.cachedWindowCount == 2
+  }
+
+  def "A SqlTimeSeriesCache keeps the most recent window, even if it exceeds the maximum number of values"() {
+    given:
+    def cache = new SqlTimeSeriesCache(new SqlTimeSeriesCache.Config(Duration.ofHours(1), Duration.ZERO, 2))
+    def timeSeries = UUID.randomUUID()
+
+    when:
+    cache.put(timeSeries, 0, values(4))
+    cache.put(timeSeries, 1, values(4))
+
+    then:
+    !cache.contains(timeSeries, 0)
+    cache.get(timeSeries, 1).get().size() == 4
+    cache.cachedValueCount == 4
+  }
+
+  def "A SqlTimeSeriesCache counts empty windows and invalidates single time series"() {
+    given:
+    def cache = new SqlTimeSeriesCache(new SqlTimeSeriesCache.Config(Duration.ofHours(1), Duration.ZERO, 100))
+    def first = UUID.randomUUID()
+    def second = UUID.randomUUID()
+    cache.put(first, 0, [:])
+    cache.put(first, 1, values(4))
+    cache.put(second, 0, values(4))
+
+    when:
+    cache.invalidate(first)
+
+    then:
+    !cache.contains(first, 0)
+    !cache.contains(first, 1)
+    cache.contains(second, 0)
+    cache.cachedValueCount == 4
+  }
+
+  def "A SqlTimeSeriesCache counts the time keys of a time series and evicts them with the windows"() {
+    given:
+    def cache = new SqlTimeSeriesCache(new SqlTimeSeriesCache.Config(Duration.ofHours(1), Duration.ZERO, 10))
+    def first = UUID.randomUUID()
+    def second = UUID.randomUUID()
+    def timeKeys = new SqlTimeSeriesCache.TimeKeys((0..<4).collect { start.plusMinutes(15L * it) } as ZonedDateTime[])
+
+    when:
+    cache.putTimeKeys(first, timeKeys)
+    cache.put(first, 0, values(4))
+
+    then:
+    timeKeys.epochMillis() == (0..<4).collect { start.plusMinutes(15L * it).toInstant().toEpochMilli() } as long[]
+    cache.cachedValueCount == 8
+    cache.cachedWindowCount == 1
+
+    when:
+    cache.put(second, 0, values(4))
+
+    then:
+    cache.getTimeKeys(first).empty
+    cache.contains(first, 0)
+    cache.cachedValueCount == 8
+
+    when:
+    cache.putTimeKeys(second, timeKeys)
+    cache.invalidate(second)
+
+    then:
+    cache.getTimeKeys(second).empty
+    cache.cachedValueCount == 4
+  }
+
+  def "Time keys of a SqlTimeSeriesCache report the range they cover"() {
+    given:
+    def times = [start, start.plusMinutes(15)] as ZonedDateTime[]
+    def partial = new SqlTimeSeriesCache.TimeKeys(times, 0L, 100L)
+
+    expect:
+    new SqlTimeSeriesCache.TimeKeys(times).complete
+    !partial.complete
+    partial.covers(0L, 100L)
+    !partial.covers(-1L, 100L)
+    !partial.covers(0L, Long.MAX_VALUE)
+  }
+
+  def "A SqlTimeSeriesCache counts hits and misses"() {
+    given:
+    def cache = new SqlTimeSeriesCache(new SqlTimeSeriesCache.Config(Duration.ofHours(1), Duration.ZERO, 100))
+    def timeSeries = UUID.randomUUID()
+    cache.put(timeSeries, 0, values(4))
+
+    when:
+    cache.get(timeSeries, 0)
+    cache.get(timeSeries, 0)
+    cache.get(timeSeries, 1)
+
+    then:
+    cache.hitCount == 2
+    cache.missCount == 1
+  }
+}
@@ -66,4 +66,36 @@ class SqlTimeSeriesMappingSourceIT extends Specification implements TestContaine
     actual.present
     actual.get() == expectedUuid
   }
+
+  def "The sql time series mapping source provides the assets of a time series"() {
+    when:
+    def actual = source.getAssetUuids(UUID.fromString("3fbfaa97-cff4-46d4-95ba-a95665e87c26"))
+
+    then:
+    actual == [
+      UUID.fromString("c7ebcc6c-55fc-479b-aa6b-6fa82ccac6b8"),
+      UUID.fromString("90a96daa-012b-4fea-82dc-24ba7a7ab81c")
+    ] as Set
+  }
+
+  def "The sql time series mapping source reads altered mappings only after invalidation"() {
+    given:
+    def modelUuid = UUID.fromString("60b9a3da-e56c-40ff-ace7-8060cea84baf")
+    def timeSeriesUuid = UUID.fromString("9185b8c1-86ba-4a16-8dea-5ac898e8caa5")
+    source.getMapping()
+    connector.executeUpdate("INSERT INTO public.time_series_mapping (asset, time_series) VALUES ('" + modelUuid + "', '" + timeSeriesUuid + "');")
+
+    when:
+    def cached = source.getTimeSeriesUuid(modelUuid)
+    source.invalidate()
+    def reread = source.getTimeSeriesUuid(modelUuid)
+
+    then:
+    cached == Optional.empty()
+    reread == Optional.of(timeSeriesUuid)
+
+    cleanup:
+    connector.executeUpdate("DELETE FROM public.time_series_mapping WHERE asset = '" + modelUuid + "';")
+    source.invalidate()
+  }
 }
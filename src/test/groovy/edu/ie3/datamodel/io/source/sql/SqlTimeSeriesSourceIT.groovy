@@ -26,6 +26,8 @@ import spock.lang.Shared
 import spock.lang.Specification
 import tech.units.indriya.quantity.Quantities
 
+import java.time.Duration
+
 @Testcontainers
 class SqlTimeSeriesSourceIT extends Specification implements TestContainerHelper {
 
@@ -197,4 +199,134 @@ class SqlTimeSeriesSourceIT extends Specification implements TestContainerHelper
     "2020-01-01T00:15:00Z" | Optional.of(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:00:00Z"))
     "2020-01-03T00:00:00Z" | Optional.of(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:15:00Z"))
   }
+
+  def "A SqlTimeSeriesSource with a cache serves look-ups of a loaded window without further queries"() {
+    given:
+    def dataSource = new SqlDataSource(connector, schemaName, namingStrategy, new SqlTimeSeriesCache.Config(Duration.ofHours(1), Duration.ofHours(1), 100))
+    def metaInformation = new IndividualTimeSeriesMetaInformation(pTimeSeriesUuid, ColumnScheme.ACTIVE_POWER)
+    def source = SqlTimeSeriesSource.createSource(dataSource, metaInformation)
+    def cache = dataSource.timeSeriesCache.get()
+
+    when:
+    def value = source.getValue(TIME_00MIN)
+    def previous = source.getPreviousTimeBasedValue(TIME_15MIN)
+    def missing = source.getValue(TimeUtil.withDefaults.toZonedDateTime("2020-01-01T00:13:00Z"))
+
+    then:
+    value == Optional.of(P_VALUE_00MIN)
+    previous == Optional.of(new TimeBasedValue<>(TIME_00MIN, P_VALUE_00MIN))
+    missing.empty
+    cache.missCount == 0
+    cache.hitCount == 1
+    // the window of the values and the window ahead
+    cache.cachedWindowCount == 2
+    // two values, the empty window ahead and two time keys
+    cache.cachedValueCount == 5
+  }
+
+  def "A SqlTimeSeriesSource with a cache navigates time keys like an uncached one"() {
+    given:
+    def dataSource = new SqlDataSource(connector, schemaName, namingStrategy, new SqlTimeSeriesCache.Config(Duration.ofDays(1), Duration.ZERO, 100))
+    def metaInformation = new IndividualTimeSeriesMetaInformation(pTimeSeriesUuid, ColumnScheme.ACTIVE_POWER)
+    def source = SqlTimeSeriesSource.createSource(dataSource, metaInformation)
+
+    expect:
+    source.getTimeKeysAfter(time) == pSource.getTimeKeysAfter(time)
+    source.getLastTimeKeyBefore(time) == pSource.getLastTimeKeyBefore(time)
+    source.getPreviousTimeBasedValue(time) == pSource.getPreviousTimeBasedValue(time)
+    source.getValue(time) == pSource.getValue(time)
+
+    where:
+    time << [
+      TimeUtil.withDefaults.toZonedDateTime("2019-12-31T23:59:59Z"),
+      TIME_00MIN,
+      TIME_15MIN,
+      TimeUtil.withDefaults.toZonedDateTime("2020-01-03T00:00:00Z")
+    ]
+  }
+
+  def "A SqlTimeSeriesBulkSource loads many time series of different column schemes at once"() {
+    given:
+    def bulkSource = new SqlTimeSeriesBulkSource(connector, schemaName, namingStrategy)
+    def metaInformation = [
+      new IndividualTimeSeriesMetaInformation(UUID.fromString("2fcb3e53-b94a-4b96-bea4-c469e499f1a1"), ColumnScheme.ENERGY_PRICE),
+      new IndividualTimeSeriesMetaInformation(UUID.fromString("c8fe6547-fd85-4fdf-a169-e4da6ce5c3d0"), ColumnScheme.HEAT_DEMAND),
+      new IndividualTimeSeriesMetaInformation(pTimeSeriesUuid, ColumnScheme.ACTIVE_POWER),
+      new IndividualTimeSeriesMetaInformation(UUID.fromString("3fbfaa97-cff4-46d4-95ba-a95665e87c26"), ColumnScheme.APPARENT_POWER),
+      new IndividualTimeSeriesMetaInformation(UUID.randomUUID(), ColumnScheme.ACTIVE_POWER)
+    ]
+    def interval = new ClosedInterval<>(
+        TimeUtil.withDefaults.toZonedDateTime("2019-01-01T00:00:00Z"),
+        TimeUtil.withDefaults.toZonedDateTime("2021-01-01T00:00:00Z"))
+
+    when:
+    def actual = bulkSource.getTimeSeries(metaInformation, interval)
+
+    then:
+    actual.keySet() == metaInformation.collect { it.uuid }.toSet()
+    metaInformation.take(4).every { meta ->
+      actual.get(meta.uuid).entries == SqlTimeSeriesSource.createSource(connector, schemaName, namingStrategy, meta).timeSeries.entries
+    }
+    actual.get(metaInformation.last().uuid).entries.empty
+  }
+
+  def "A SqlTimeSeriesBulkSource only loads the values within the interval"() {
+    given:
+    def bulkSource = new SqlTimeSeriesBulkSource(connector, schemaName, namingStrategy)
+    def metaInformation = [
+      new IndividualTimeSeriesMetaInformation(pTimeSeriesUuid, ColumnScheme.ACTIVE_POWER)
+    ]
+
+    when:
+    def actual = bulkSource.getTimeSeries(metaInformation, new ClosedInterval<>(TIME_00MIN, TIME_00MIN))
+
+    then:
+    actual.get(pTimeSeriesUuid).entries == [
+      new TimeBasedValue<>(TIME_00MIN, P_VALUE_00MIN)
+    ] as Set
+  }
+
+  def "A SqlTimeSeriesBulkSource warms the cache of the time series sources sharing its data source"() {
+    given:
+    def dataSource = new SqlDataSource(connector, schemaName, namingStrategy, new SqlTimeSeriesCache.Config(Duration.ofHours(1), Duration.ZERO, 100))
+    def bulkSource = new SqlTimeSeriesBulkSource(dataSource)
+    def metaInformation = new IndividualTimeSeriesMetaInformation(pTimeSeriesUuid, ColumnScheme.ACTIVE_POWER)
+    def interval = new ClosedInterval<>(
+        TimeUtil.withDefaults.toZonedDateTime("2019-12-31T23:00:00Z"),
+        TimeUtil.withDefaults.toZonedDateTime("2020-01-01T02:00:00Z"))
+    def cache = dataSource.timeSeriesCache.get()
+
+    when:
+    bulkSource.warmCache([metaInformation], interval)
+    def source = SqlTimeSeriesSource.createSource(dataSource, metaInformation)
+    def values = [
+      source.getValue(TIME_00MIN),
+      source.getValue(TIME_15MIN)
+    ]
+
+    then:
+    // the windows starting at 23:00, 00:00 and 01:00 lie completely within the interval
+    cache.cachedWindowCount == 3
+    values == [
+      Optional.of(P_VALUE_00MIN),
+      Optional.of(P_VALUE_15MIN)
+    ]
+    cache.missCount == 0
+    cache.hitCount == 2
+    // the time keys of the interval are served from the warmed cache instead of being queried
+    !cache.getTimeKeys(pTimeSeriesUuid).get().complete
+    cache.getTimeKeys(pTimeSeriesUuid).get().times() as List == [TIME_00MIN, TIME_15MIN]
+  }
+
+  def "A SqlTimeSeriesBulkSource refuses to warm a data source without cache"() {
+    given:
+    def bulkSource = new SqlTimeSeriesBulkSource(connector, schemaName, namingStrategy)
+
+    when:
+    bulkSource.warmCache([], new ClosedInterval<>(TIME_00MIN, TIME_15MIN))
+
+    then:
+    def e = thrown(SourceException)
+    e.message == "The data source does not provide a cache."
+  }
 }
@@ -7,6 +7,7 @@ package edu.ie3.datamodel.io.source.sql
 
 import edu.ie3.datamodel.io.connectors.SqlConnector
 import edu.ie3.datamodel.io.factory.timeseries.CosmoTimeBasedWeatherValueFactory
+import edu.ie3.datamodel.io.source.WeatherCursor
 import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries
 import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue
 import edu.ie3.datamodel.models.value.WeatherValue
@@ -23,6 +24,8 @@ import org.testcontainers.utility.MountableFile
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.time.Duration
+
 @Testcontainers
 class SqlWeatherSourceCosmoIT extends Specification implements TestContainerHelper, WeatherSourceTestHelper {
 
@@ -139,6 +142,33 @@ class SqlWeatherSourceCosmoIT extends Specification implements TestContainerHelp
     equalsIgnoreUUID(coordinateToTimeSeries.get(CosmoWeatherTestData.COORDINATE_193188).entries, timeSeries193188.entries)
   }
 
+  def "A SqlWeatherSource provides a cursor, that prefetches the weather on a connection of its own"() {
+    given:
+    def coordinates = [
+      CosmoWeatherTestData.COORDINATE_193186,
+      CosmoWeatherTestData.COORDINATE_193187
+    ]
+    def cursor = source.getWeatherCursor(coordinates, CosmoWeatherTestData.TIME_15H, new WeatherCursor.Config(Duration.ofHours(1), 2))
+
+    when:
+    def at15h = cursor.getWeather(CosmoWeatherTestData.TIME_15H)
+    // the shared connection is used meanwhile
+    def single = source.getWeather(CosmoWeatherTestData.TIME_16H, CosmoWeatherTestData.COORDINATE_193186)
+    def at16h = cursor.getWeather(CosmoWeatherTestData.TIME_16H)
+    def at17h = cursor.getWeather(CosmoWeatherTestData.TIME_17H)
+
+    then:
+    at15h.keySet() == coordinates as Set
+    at15h.get(CosmoWeatherTestData.COORDINATE_193187).value == CosmoWeatherTestData.WEATHER_VALUE_193187_15H
+    single.get().value == CosmoWeatherTestData.WEATHER_VALUE_193186_16H
+    at16h.keySet() == coordinates as Set
+    at17h.keySet() == [CosmoWeatherTestData.COORDINATE_193186] as Set
+    at17h.get(CosmoWeatherTestData.COORDINATE_193186).value == CosmoWeatherTestData.WEATHER_VALUE_193186_17H
+
+    cleanup:
+    cursor.close()
+  }
+
   def "A SqlWeatherSource returns all time keys after a given time key correctly"() {
     given:
     def time = CosmoWeatherTestData.TIME_15H
@@ -129,4 +129,41 @@ class IndividualTimeSeriesTest extends Specification implements TimeSeriesTestDa
 
     timeSeries.getTimeKeysAfter(time.plusDays(1)) == []
   }
+
+  def "The individual time series provides its entries as sorted, unmodifiable view"() {
+    when:
+    def entries = individualIntTimeSeries.entries
+
+    then:
+    entries.collect { it.value.value } == [3, 4, 1]
+    entries.first().time == ZonedDateTime.of(1990, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"))
+    entries.last().time == ZonedDateTime.of(1990, 1, 1, 0, 30, 0, 0, ZoneId.of("UTC"))
+    entries.contains(new TimeBasedValue<>(ZonedDateTime.of(1990, 1, 1, 0, 15, 0, 0, ZoneId.of("UTC")), new IntValue(4)))
+    !entries.contains(new TimeBasedValue<>(ZonedDateTime.of(1990, 1, 1, 0, 15, 0, 0, ZoneId.of("UTC")), new IntValue(5)))
+
+    when:
+    entries.add(new TimeBasedValue<>(ZonedDateTime.of(1990, 1, 1, 0, 45, 0, 0, ZoneId.of("UTC")), new IntValue(5)))
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+
+  def "The individual time series can be sliced to a closed interval"() {
+    when:
+    def slice = individualIntTimeSeries.slice(
+        ZonedDateTime.of(1990, 1, 1, 0, lowerMinute, 0, 0, ZoneId.of("UTC")),
+        ZonedDateTime.of(1990, 1, 1, 0, upperMinute, 0, 0, ZoneId.of("UTC")))
+
+    then:
+    slice.uuid == individualIntTimeSeries.uuid
+    slice.entries.collect { it.value.value } == expectedValues
+    slice.getPreviousTimeBasedValue(ZonedDateTime.of(1990, 1, 1, 1, 0, 0, 0, ZoneId.of("UTC"))).map { it.value.value } == Optional.ofNullable(expectedValues.empty ? null : expectedValues.last())
+
+    where:
+    lowerMinute | upperMinute || expectedValues
+    0           | 30          || [3, 4, 1]
+    0           | 29          || [3, 4]
+    1           | 15          || [4]
+    16          | 29          || []
+  }
 }
@@ -7,6 +7,7 @@ package edu.ie3.datamodel.utils
 
 import edu.ie3.datamodel.exceptions.FailureException
 import edu.ie3.datamodel.exceptions.SourceException
+import edu.ie3.datamodel.exceptions.StreamScanException
 import edu.ie3.datamodel.exceptions.TryException
 import org.apache.commons.lang3.tuple.Pair
 import spock.lang.Specification
@@ -247,6 +248,116 @@ class TryTest extends Specification {
     "        exception Caused by: source exception"
   }
 
+  def "A lazy scan for exceptions passes on all successes"() {
+    given:
+    Stream<Try<String, Exception>> stream = Stream.of(
+    new Try.Success<>("one"),
+    new Try.Success<>("two"),
+    new Try.Success<>("three")
+    )
+
+    when:
+    def scanned = Try.scanStreamLazily(stream, "String", Exception::new).toList()
+
+    then:
+    scanned == ["one", "two", "three"]
+  }
+
+  def "A lazy scan for exceptions reports all failures after consuming the stream"() {
+    given:
+    def consumed = []
+    Stream<Try<String, Exception>> stream = Stream.of(
+    new Try.Success<>("one"),
+    new Try.Failure<>(new Exception("exception", new SourceException("source exception"))),
+    new Try.Success<>("two")
+    )
+
+    when:
+    Try.scanStreamLazily(stream, "String", Exception::new).forEach { consumed.add(it) }
+
+    then:
+    def ex = thrown(StreamScanException)
+    consumed == ["one", "two"]
+    ex.failure.message == "1 exception(s) occurred within \"String\" data: \n" +
+    "        exception Caused by: source exception"
+  }
+
+  def "A lazy scan for exceptions aborts after the maximal number of failures"() {
+    given:
+    def built = 0
+    Stream<Try<Integer, Exception>> stream = Stream.iterate(0, i -> i + 1).limit(100).map {
+      built++
+      it % 2 == 0 ? new Try.Failure<Integer, Exception>(new Exception("failure " + it)) : new Try.Success<Integer, Exception>(it)
+    }
+
+    when:
+    Try.scanStreamLazily(stream, "Integer", Exception::new, 2).toList()
+
+    then:
+    def ex = thrown(StreamScanException)
+    built == 3
+    ex.failure.message == "2 exception(s) occurred within \"Integer\" data: \n" +
+    "        failure 0\n" +
+    "        failure 2"
+  }
+
+  def "A lazily scanned stream closes its source and reports failures when being closed"() {
+    given:
+    def closed = false
+    Stream<Try<String, Exception>> stream = Stream.of(
+    new Try.Failure<String, Exception>(new Exception("exception")),
+    new Try.Success<String, Exception>("one"),
+    new Try.Success<String, Exception>("two")
+    ).onClose { closed = true }
+    def scanned = Try.scanStreamLazily(stream, "String", Exception::new)
+
+    when:
+    def first = scanned.findFirst()
+    scanned.close()
+
+    then:
+    def ex = thrown(StreamScanException)
+    first.get() == "one"
+    closed
+    ex.failure.message.startsWith("1 exception(s) occurred within \"String\" data:")
+  }
+
+  def "A lazily scanned stream closes its source, when the maximal number of failures is reached"() {
+    given:
+    def closed = false
+    Stream<Try<String, Exception>> stream = Stream.of(
+    new Try.Failure<String, Exception>(new Exception("exception")),
+    new Try.Success<String, Exception>("one")
+    ).onClose { closed = true }
+
+    when:
+    Try.scanStreamLazily(stream, "String", Exception::new, 1).toList()
+
+    then:
+    thrown(StreamScanException)
+    closed
+  }
+
+  def "A lazily scanned stream closes its source and keeps its failures, when the consumption is aborted"() {
+    given:
+    def closed = false
+    Stream<Try<String, Exception>> stream = Stream.of(
+    new Try.Failure<String, Exception>(new Exception("exception")),
+    new Try.Success<String, Exception>("one")
+    ).onClose { closed = true }
+
+    when:
+    Try.scanStreamLazily(stream, "String", Exception::new).forEach {
+      throw new IllegalStateException("aborted")
+    }
+
+    then:
+    def ex = thrown(IllegalStateException)
+    closed
+    ex.suppressed.length == 1
+    ex.suppressed[0] instanceof StreamScanException
+  }
+
   def "A scan for exceptions should work as expected when no failures are included"() {
     given:
     Set<Try<String, Exception>> set = Set.of(